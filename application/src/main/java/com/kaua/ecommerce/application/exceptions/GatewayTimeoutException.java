@@ -0,0 +1,22 @@
+package com.kaua.ecommerce.application.exceptions;
+
+import com.kaua.ecommerce.domain.exceptions.NoStackTraceException;
+
+import java.time.Duration;
+
+public class GatewayTimeoutException extends NoStackTraceException {
+
+    protected GatewayTimeoutException(final String aMessage) {
+        super(aMessage);
+    }
+
+    public static GatewayTimeoutException with(final String aGateway, final Duration aTimeout) {
+        return new GatewayTimeoutException("%s did not respond within %d ms"
+                .formatted(aGateway, aTimeout.toMillis()));
+    }
+
+    public static GatewayTimeoutException rejected(final String aGateway) {
+        return new GatewayTimeoutException("%s was not called, all the lookup workers are busy"
+                .formatted(aGateway));
+    }
+}
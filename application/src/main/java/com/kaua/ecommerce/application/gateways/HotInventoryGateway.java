@@ -0,0 +1,18 @@
+package com.kaua.ecommerce.application.gateways;
+
+import com.kaua.ecommerce.domain.inventory.Inventory;
+
+import java.util.Optional;
+
+public interface HotInventoryGateway {
+
+    /**
+     * The inventory of a sku whose stock is served from memory, empty when the sku is not hot.
+     */
+    Optional<Inventory> findBySku(String sku);
+
+    /**
+     * Takes the quantity from the in-memory stock of a hot sku, false when there is not enough.
+     */
+    boolean decreaseQuantityBySku(String sku, int quantity);
+}
@@ -5,6 +5,7 @@ import com.kaua.ecommerce.domain.pagination.Pagination;
 import com.kaua.ecommerce.domain.pagination.SearchQuery;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -14,10 +15,16 @@ public interface InventoryGateway {
 
     Inventory update(Inventory inventory);
 
+    Optional<Integer> decreaseQuantityBySku(String sku, int quantity);
+
+    Set<String> adjustQuantitiesBySkus(Map<String, Integer> deltasBySku);
+
     List<String> existsBySkus(List<String> skus);
 
     Optional<Inventory> findBySku(String sku);
 
+    List<Inventory> findBySkus(Set<String> skus);
+
     Set<Inventory> findByProductId(String productId);
 
     Pagination<Inventory> findAllByProductId(SearchQuery aQuery, String productId);
@@ -25,4 +32,6 @@ public interface InventoryGateway {
     void cleanByProductId(String productId);
 
     void deleteBySku(String sku);
+
+    void deleteBySkus(Set<String> skus);
 }
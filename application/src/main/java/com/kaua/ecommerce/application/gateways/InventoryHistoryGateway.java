@@ -0,0 +1,24 @@
+package com.kaua.ecommerce.application.gateways;
+
+import com.kaua.ecommerce.application.gateways.responses.InventorySnapshot;
+import com.kaua.ecommerce.domain.inventory.movement.InventoryMovement;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface InventoryHistoryGateway {
+
+    Optional<InventorySnapshot> findLastSnapshotBySkuAt(String sku, Instant at);
+
+    /**
+     * Sum of the movements of the sku created after {@code after} up to {@code until}, IN
+     * movements are positive and OUT and REMOVED are negative.
+     */
+    int sumMovementsBySkuBetween(String sku, Instant after, Instant until);
+
+    /**
+     * Movements of the sku created from {@code from} until before {@code to}, oldest first.
+     */
+    List<InventoryMovement> findMovementsBySkuBetween(String sku, Instant from, Instant to, int limit);
+}
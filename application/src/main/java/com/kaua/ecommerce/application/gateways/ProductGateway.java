@@ -4,7 +4,10 @@ import com.kaua.ecommerce.application.gateways.responses.ProductDetails;
 import com.kaua.ecommerce.domain.product.Product;
 import com.kaua.ecommerce.domain.product.ProductColor;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface ProductGateway {
 
@@ -12,10 +15,14 @@ public interface ProductGateway {
 
     Optional<Product> findById(String aProductID);
 
+    List<Product> findAllByIds(Set<String> aProductsIds);
+
     Optional<ProductColor> findColorByName(String aColorName);
 
     Optional<ProductDetails> findProductDetailsBySku(String aSku);
 
+    Map<String, ProductDetails> findProductDetailsBySkus(Set<String> aSkus);
+
     Product update(Product aProduct);
 
     void delete(String aProductID);
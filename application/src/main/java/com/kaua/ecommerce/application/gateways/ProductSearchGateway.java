@@ -0,0 +1,10 @@
+package com.kaua.ecommerce.application.gateways;
+
+import com.kaua.ecommerce.application.gateways.commands.ProductFacetedSearchInput;
+import com.kaua.ecommerce.application.gateways.responses.ProductFacetedSearch;
+import com.kaua.ecommerce.domain.product.Product;
+
+public interface ProductSearchGateway extends SearchGateway<Product> {
+
+    ProductFacetedSearch findAllWithFacets(ProductFacetedSearchInput aInput);
+}
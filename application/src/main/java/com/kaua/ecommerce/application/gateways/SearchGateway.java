@@ -4,12 +4,15 @@ import com.kaua.ecommerce.domain.AggregateRoot;
 import com.kaua.ecommerce.domain.pagination.Pagination;
 import com.kaua.ecommerce.domain.pagination.SearchQuery;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface SearchGateway<T extends AggregateRoot> {
 
     T save(T aggregateRoot);
 
+    List<T> saveAll(List<T> aggregateRoots);
+
     Pagination<T> findAll(SearchQuery aQuery);
 
     Optional<T> findById(String id);
@@ -0,0 +1,45 @@
+package com.kaua.ecommerce.application.gateways.commands;
+
+import com.kaua.ecommerce.domain.pagination.SearchQuery;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The search query narrowed by the selected facets, an empty set or a null price does not filter.
+ * Colors and sizes are stored upper case by the domain.
+ */
+public record ProductFacetedSearchInput(
+        SearchQuery query,
+        Set<String> categoryIds,
+        Set<String> colors,
+        Set<String> sizes,
+        BigDecimal minPrice,
+        BigDecimal maxPrice
+) {
+
+    public static ProductFacetedSearchInput with(
+            final SearchQuery query,
+            final Set<String> categoryIds,
+            final Set<String> colors,
+            final Set<String> sizes,
+            final BigDecimal minPrice,
+            final BigDecimal maxPrice
+    ) {
+        return new ProductFacetedSearchInput(
+                query,
+                categoryIds == null ? Set.of() : categoryIds,
+                upperCase(colors),
+                upperCase(sizes),
+                minPrice,
+                maxPrice
+        );
+    }
+
+    private static Set<String> upperCase(final Set<String> values) {
+        return values == null
+                ? Set.of()
+                : values.stream().map(String::toUpperCase).collect(Collectors.toSet());
+    }
+}
@@ -1,11 +1,12 @@
 package com.kaua.ecommerce.application.gateways.order;
 
 import java.math.BigDecimal;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 
 public interface OrderProductGateway {
 
-    Optional<OrderProductDetails> getProductDetailsBySku(String sku);
+    Map<String, OrderProductDetails> getProductDetailsBySkus(Set<String> skus);
 
     record OrderProductDetails(
             String sku,
@@ -0,0 +1,10 @@
+package com.kaua.ecommerce.application.gateways.responses;
+
+import java.time.Instant;
+
+public record InventorySnapshot(
+        String sku,
+        int quantity,
+        Instant takenAt
+) {
+}
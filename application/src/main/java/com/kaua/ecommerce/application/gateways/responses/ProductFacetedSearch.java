@@ -0,0 +1,21 @@
+package com.kaua.ecommerce.application.gateways.responses;
+
+import com.kaua.ecommerce.domain.pagination.Pagination;
+import com.kaua.ecommerce.domain.product.Product;
+
+import java.util.List;
+
+/**
+ * A page of products and, for each facet, how many products of the whole result have each value.
+ */
+public record ProductFacetedSearch(
+        Pagination<Product> products,
+        List<FacetCount> categories,
+        List<FacetCount> colors,
+        List<FacetCount> sizes,
+        List<FacetCount> prices
+) {
+
+    public record FacetCount(String value, long count) {
+    }
+}
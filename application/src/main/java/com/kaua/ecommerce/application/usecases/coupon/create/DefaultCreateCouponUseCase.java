@@ -6,7 +6,6 @@ import com.kaua.ecommerce.application.exceptions.TransactionFailureException;
 import com.kaua.ecommerce.application.gateways.CouponGateway;
 import com.kaua.ecommerce.application.gateways.CouponSlotGateway;
 import com.kaua.ecommerce.domain.coupon.Coupon;
-import com.kaua.ecommerce.domain.coupon.CouponSlot;
 import com.kaua.ecommerce.domain.coupon.CouponType;
 import com.kaua.ecommerce.domain.exceptions.DomainException;
 import com.kaua.ecommerce.domain.utils.CommonErrorMessage;
@@ -15,9 +14,6 @@ import com.kaua.ecommerce.domain.validation.Error;
 import com.kaua.ecommerce.domain.validation.handler.NotificationHandler;
 
 import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 public class DefaultCreateCouponUseCase extends CreateCouponUseCase {
 
@@ -67,11 +63,9 @@ public class DefaultCreateCouponUseCase extends CreateCouponUseCase {
                 ));
             }
 
-            final var aCouponSlots = createCouponSlots(input.maxUses(), aCoupon.getId().getValue());
-
             final var aTransactionResult = this.transactionManager.execute(() -> {
                 final var aResult = this.couponGateway.create(aCoupon);
-                this.couponSlotGateway.createInBatch(aCouponSlots);
+                this.couponSlotGateway.createSlots(aCoupon.getId().getValue(), input.maxUses());
                 return aResult;
             });
 
@@ -96,10 +90,4 @@ public class DefaultCreateCouponUseCase extends CreateCouponUseCase {
                 .orElseThrow(() -> DomainException
                         .with(new Error("type %s was not found".formatted(type))));
     }
-
-    private Set<CouponSlot> createCouponSlots(final int maxUses, final String aCouponId) {
-        return IntStream.range(0, maxUses)
-                .mapToObj(i -> CouponSlot.newCouponSlot(aCouponId))
-                .collect(Collectors.toSet());
-    }
 }
@@ -0,0 +1,6 @@
+package com.kaua.ecommerce.application.usecases.inventory.adjust;
+
+public enum AdjustInventoriesQuantityLineStatus {
+
+    APPLIED, REJECTED, NOT_APPLIED
+}
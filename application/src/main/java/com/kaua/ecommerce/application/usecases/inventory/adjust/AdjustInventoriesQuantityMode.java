@@ -0,0 +1,15 @@
+package com.kaua.ecommerce.application.usecases.inventory.adjust;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum AdjustInventoriesQuantityMode {
+
+    ALL_OR_NOTHING, BEST_EFFORT;
+
+    public static Optional<AdjustInventoriesQuantityMode> of(final String value) {
+        return Arrays.stream(AdjustInventoriesQuantityMode.values())
+                .filter(mode -> mode.name().equalsIgnoreCase(value))
+                .findFirst();
+    }
+}
@@ -0,0 +1,11 @@
+package com.kaua.ecommerce.application.usecases.inventory.adjust;
+
+import com.kaua.ecommerce.application.UseCase;
+import com.kaua.ecommerce.application.either.Either;
+import com.kaua.ecommerce.application.usecases.inventory.adjust.commands.AdjustInventoriesQuantityCommand;
+import com.kaua.ecommerce.application.usecases.inventory.adjust.outputs.AdjustInventoriesQuantityOutput;
+import com.kaua.ecommerce.domain.validation.handler.NotificationHandler;
+
+public abstract class AdjustInventoriesQuantityUseCase extends
+        UseCase<Either<NotificationHandler, AdjustInventoriesQuantityOutput>, AdjustInventoriesQuantityCommand> {
+}
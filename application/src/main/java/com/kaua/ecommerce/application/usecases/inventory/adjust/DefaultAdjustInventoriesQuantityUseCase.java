@@ -0,0 +1,175 @@
+package com.kaua.ecommerce.application.usecases.inventory.adjust;
+
+import com.kaua.ecommerce.application.adapters.TransactionManager;
+import com.kaua.ecommerce.application.either.Either;
+import com.kaua.ecommerce.application.exceptions.TransactionFailureException;
+import com.kaua.ecommerce.application.gateways.InventoryGateway;
+import com.kaua.ecommerce.application.gateways.InventoryMovementGateway;
+import com.kaua.ecommerce.application.usecases.inventory.adjust.commands.AdjustInventoriesQuantityCommand;
+import com.kaua.ecommerce.application.usecases.inventory.adjust.commands.AdjustInventoriesQuantityCommandItem;
+import com.kaua.ecommerce.application.usecases.inventory.adjust.outputs.AdjustInventoriesQuantityOutput;
+import com.kaua.ecommerce.application.usecases.inventory.adjust.outputs.AdjustInventoriesQuantityOutputLine;
+import com.kaua.ecommerce.domain.exceptions.NoStackTraceException;
+import com.kaua.ecommerce.domain.exceptions.NotFoundException;
+import com.kaua.ecommerce.domain.inventory.Inventory;
+import com.kaua.ecommerce.domain.inventory.movement.InventoryMovement;
+import com.kaua.ecommerce.domain.inventory.movement.InventoryMovementStatus;
+import com.kaua.ecommerce.domain.utils.CommonErrorMessage;
+import com.kaua.ecommerce.domain.validation.Error;
+import com.kaua.ecommerce.domain.validation.handler.NotificationHandler;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class DefaultAdjustInventoriesQuantityUseCase extends AdjustInventoriesQuantityUseCase {
+
+    private final InventoryGateway inventoryGateway;
+    private final InventoryMovementGateway inventoryMovementGateway;
+    private final TransactionManager transactionManager;
+
+    public DefaultAdjustInventoriesQuantityUseCase(
+            final InventoryGateway inventoryGateway,
+            final InventoryMovementGateway inventoryMovementGateway,
+            final TransactionManager transactionManager
+    ) {
+        this.inventoryGateway = Objects.requireNonNull(inventoryGateway);
+        this.inventoryMovementGateway = Objects.requireNonNull(inventoryMovementGateway);
+        this.transactionManager = Objects.requireNonNull(transactionManager);
+    }
+
+    @Override
+    public Either<NotificationHandler, AdjustInventoriesQuantityOutput> execute(AdjustInventoriesQuantityCommand input) {
+        final var aNotification = NotificationHandler.create();
+
+        if (input.mode() == null) {
+            aNotification.append(new Error(CommonErrorMessage.nullMessage("mode")));
+        }
+
+        if (input.items() == null || input.items().isEmpty()) {
+            aNotification.append(new Error("'items' should not be null or empty"));
+        }
+
+        if (aNotification.hasError()) {
+            return Either.left(aNotification);
+        }
+
+        final var aLinesErrors = validateLines(input.items());
+        final var aDeltasBySku = new LinkedHashMap<String, Integer>();
+        for (int i = 0; i < input.items().size(); i++) {
+            if (!aLinesErrors.containsKey(i)) {
+                aDeltasBySku.put(input.items().get(i).sku(), input.items().get(i).delta());
+            }
+        }
+
+        final var isAllOrNothing = input.mode() == AdjustInventoriesQuantityMode.ALL_OR_NOTHING;
+
+        if (aDeltasBySku.isEmpty() || (isAllOrNothing && !aLinesErrors.isEmpty())) {
+            return Either.right(present(input, aLinesErrors, null, false));
+        }
+
+        final var aRejectedAdjustment = new AtomicReference<Adjustment>();
+
+        final var aTransactionResult = this.transactionManager.execute(() -> {
+            final var aAppliedSkus = this.inventoryGateway.adjustQuantitiesBySkus(aDeltasBySku);
+            final var aInventories = this.inventoryGateway.findBySkus(aDeltasBySku.keySet())
+                    .stream()
+                    .collect(Collectors.toMap(Inventory::getSku, Function.identity()));
+            final var aAdjustment = new Adjustment(aAppliedSkus, aInventories);
+
+            if (isAllOrNothing && aAppliedSkus.size() != aDeltasBySku.size()) {
+                aRejectedAdjustment.set(aAdjustment);
+                throw new AdjustmentRejectedException();
+            }
+
+            if (!aAppliedSkus.isEmpty()) {
+                this.inventoryMovementGateway.createInBatch(aAppliedSkus.stream()
+                        .map(aSku -> newInventoryMovement(aInventories.get(aSku), aDeltasBySku.get(aSku)))
+                        .collect(Collectors.toSet()));
+            }
+
+            return aAdjustment;
+        });
+
+        if (aTransactionResult.isFailure()) {
+            if (aRejectedAdjustment.get() == null) {
+                throw TransactionFailureException.with(aTransactionResult.getErrorResult());
+            }
+            return Either.right(present(input, aLinesErrors, aRejectedAdjustment.get(), false));
+        }
+
+        return Either.right(present(input, aLinesErrors, aTransactionResult.getSuccessResult(), true));
+    }
+
+    private Map<Integer, String> validateLines(final List<AdjustInventoriesQuantityCommandItem> aItems) {
+        final var aErrors = new HashMap<Integer, String>();
+        final var aSkus = new HashSet<String>();
+
+        for (int i = 0; i < aItems.size(); i++) {
+            final var aItem = aItems.get(i);
+
+            if (aItem.sku() == null || aItem.sku().isBlank()) {
+                aErrors.put(i, CommonErrorMessage.nullOrBlank("sku"));
+            } else if (aItem.delta() == 0) {
+                aErrors.put(i, "'delta' should not be zero");
+            } else if (!aSkus.add(aItem.sku())) {
+                aErrors.put(i, "sku %s is duplicated".formatted(aItem.sku()));
+            }
+        }
+
+        return aErrors;
+    }
+
+    private InventoryMovement newInventoryMovement(final Inventory aInventory, final int aDelta) {
+        return InventoryMovement.newInventoryMovement(
+                aInventory.getId(),
+                aInventory.getSku(),
+                Math.abs(aDelta),
+                aDelta > 0 ? InventoryMovementStatus.IN : InventoryMovementStatus.OUT
+        );
+    }
+
+    private AdjustInventoriesQuantityOutput present(
+            final AdjustInventoriesQuantityCommand aCommand,
+            final Map<Integer, String> aLinesErrors,
+            final Adjustment aAdjustment,
+            final boolean isCommitted
+    ) {
+        final var aLines = new ArrayList<AdjustInventoriesQuantityOutputLine>(aCommand.items().size());
+
+        for (int i = 0; i < aCommand.items().size(); i++) {
+            final var aSku = aCommand.items().get(i).sku();
+            final var aDelta = aCommand.items().get(i).delta();
+
+            if (aLinesErrors.containsKey(i)) {
+                aLines.add(AdjustInventoriesQuantityOutputLine.rejected(aSku, aDelta, aLinesErrors.get(i)));
+            } else if (aAdjustment == null) {
+                aLines.add(AdjustInventoriesQuantityOutputLine.notApplied(aSku, aDelta));
+            } else if (!aAdjustment.inventories().containsKey(aSku)) {
+                aLines.add(AdjustInventoriesQuantityOutputLine.rejected(aSku, aDelta,
+                        NotFoundException.with(Inventory.class, aSku).get().getMessage()));
+            } else if (!aAdjustment.appliedSkus().contains(aSku)) {
+                aLines.add(AdjustInventoriesQuantityOutputLine.rejected(aSku, aDelta,
+                        CommonErrorMessage.greaterThan("quantity", -1)));
+            } else if (isCommitted) {
+                aLines.add(AdjustInventoriesQuantityOutputLine.applied(aSku, aDelta,
+                        aAdjustment.inventories().get(aSku).getQuantity()));
+            } else {
+                aLines.add(AdjustInventoriesQuantityOutputLine.notApplied(aSku, aDelta));
+            }
+        }
+
+        return AdjustInventoriesQuantityOutput.from(aCommand.mode(), aLines);
+    }
+
+    private record Adjustment(Set<String> appliedSkus, Map<String, Inventory> inventories) {
+    }
+
+    private static class AdjustmentRejectedException extends NoStackTraceException {
+
+        private AdjustmentRejectedException() {
+            super("Inventories adjustment has rejected lines, rolling back all of them");
+        }
+    }
+}
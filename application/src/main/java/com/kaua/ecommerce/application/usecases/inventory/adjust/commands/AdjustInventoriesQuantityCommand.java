@@ -0,0 +1,18 @@
+package com.kaua.ecommerce.application.usecases.inventory.adjust.commands;
+
+import com.kaua.ecommerce.application.usecases.inventory.adjust.AdjustInventoriesQuantityMode;
+
+import java.util.List;
+
+public record AdjustInventoriesQuantityCommand(
+        AdjustInventoriesQuantityMode mode,
+        List<AdjustInventoriesQuantityCommandItem> items
+) {
+
+    public static AdjustInventoriesQuantityCommand with(
+            final AdjustInventoriesQuantityMode mode,
+            final List<AdjustInventoriesQuantityCommandItem> items
+    ) {
+        return new AdjustInventoriesQuantityCommand(mode, items);
+    }
+}
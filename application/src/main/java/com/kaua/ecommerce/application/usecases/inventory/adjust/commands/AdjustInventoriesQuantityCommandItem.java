@@ -0,0 +1,11 @@
+package com.kaua.ecommerce.application.usecases.inventory.adjust.commands;
+
+public record AdjustInventoriesQuantityCommandItem(
+        String sku,
+        int delta
+) {
+
+    public static AdjustInventoriesQuantityCommandItem with(final String sku, final int delta) {
+        return new AdjustInventoriesQuantityCommandItem(sku, delta);
+    }
+}
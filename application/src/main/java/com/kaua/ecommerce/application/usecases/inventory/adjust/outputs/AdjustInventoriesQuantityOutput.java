@@ -0,0 +1,33 @@
+package com.kaua.ecommerce.application.usecases.inventory.adjust.outputs;
+
+import com.kaua.ecommerce.application.usecases.inventory.adjust.AdjustInventoriesQuantityLineStatus;
+import com.kaua.ecommerce.application.usecases.inventory.adjust.AdjustInventoriesQuantityMode;
+
+import java.util.List;
+
+public record AdjustInventoriesQuantityOutput(
+        AdjustInventoriesQuantityMode mode,
+        int appliedLines,
+        int rejectedLines,
+        List<AdjustInventoriesQuantityOutputLine> lines
+) {
+
+    public static AdjustInventoriesQuantityOutput from(
+            final AdjustInventoriesQuantityMode aMode,
+            final List<AdjustInventoriesQuantityOutputLine> aLines
+    ) {
+        return new AdjustInventoriesQuantityOutput(
+                aMode,
+                count(aLines, AdjustInventoriesQuantityLineStatus.APPLIED),
+                count(aLines, AdjustInventoriesQuantityLineStatus.REJECTED),
+                aLines
+        );
+    }
+
+    private static int count(
+            final List<AdjustInventoriesQuantityOutputLine> aLines,
+            final AdjustInventoriesQuantityLineStatus aStatus
+    ) {
+        return (int) aLines.stream().filter(it -> it.status() == aStatus).count();
+    }
+}
@@ -0,0 +1,24 @@
+package com.kaua.ecommerce.application.usecases.inventory.adjust.outputs;
+
+import com.kaua.ecommerce.application.usecases.inventory.adjust.AdjustInventoriesQuantityLineStatus;
+
+public record AdjustInventoriesQuantityOutputLine(
+        String sku,
+        int delta,
+        AdjustInventoriesQuantityLineStatus status,
+        Integer quantity,
+        String error
+) {
+
+    public static AdjustInventoriesQuantityOutputLine applied(final String sku, final int delta, final int quantity) {
+        return new AdjustInventoriesQuantityOutputLine(sku, delta, AdjustInventoriesQuantityLineStatus.APPLIED, quantity, null);
+    }
+
+    public static AdjustInventoriesQuantityOutputLine rejected(final String sku, final int delta, final String error) {
+        return new AdjustInventoriesQuantityOutputLine(sku, delta, AdjustInventoriesQuantityLineStatus.REJECTED, null, error);
+    }
+
+    public static AdjustInventoriesQuantityOutputLine notApplied(final String sku, final int delta) {
+        return new AdjustInventoriesQuantityOutputLine(sku, delta, AdjustInventoriesQuantityLineStatus.NOT_APPLIED, null, null);
+    }
+}
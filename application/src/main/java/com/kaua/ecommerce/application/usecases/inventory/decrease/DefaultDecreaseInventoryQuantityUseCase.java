@@ -43,28 +43,37 @@ public class DefaultDecreaseInventoryQuantityUseCase extends DecreaseInventoryQu
         final var aInventory = this.inventoryGateway.findBySku(input.sku())
                 .orElseThrow(NotFoundException.with(Inventory.class, input.sku()));
 
-        final var aInventoryDecreased = aInventory.decreaseQuantity(input.quantity());
-
         final var aInventoryMovement = InventoryMovement.newInventoryMovement(
-                aInventoryDecreased.getId(),
-                aInventoryDecreased.getSku(),
+                aInventory.getId(),
+                aInventory.getSku(),
                 input.quantity(),
                 InventoryMovementStatus.OUT
         );
 
-        aInventoryDecreased.validate(aNotification);
         aInventoryMovement.validate(aNotification);
 
+        if (aNotification.hasError()) {
+            return Either.left(aNotification);
+        }
+
+        // the stock is checked and decreased by the storage in a single statement,
+        // concurrent buyers of the same sku do not need to retry on a stale version
         final var aTransactionResult = this.transactionManager.execute(() -> {
-            final var aResult = this.inventoryGateway.update(aInventoryDecreased);
-            this.inventoryMovementGateway.create(aInventoryMovement);
-            return aResult;
+            final var aQuantityResult = this.inventoryGateway
+                    .decreaseQuantityBySku(input.sku(), input.quantity());
+            aQuantityResult.ifPresent(it -> this.inventoryMovementGateway.create(aInventoryMovement));
+            return aQuantityResult;
         });
 
         if (aTransactionResult.isFailure()) {
             throw TransactionFailureException.with(aTransactionResult.getErrorResult());
         }
 
-        return Either.right(DecreaseInventoryQuantityOutput.from(aInventoryDecreased));
+        if (aTransactionResult.getSuccessResult().isEmpty()) {
+            return Either.left(aNotification.append(
+                    new Error(CommonErrorMessage.greaterThan("quantity", -1))));
+        }
+
+        return Either.right(DecreaseInventoryQuantityOutput.from(aInventory));
     }
 }
@@ -0,0 +1,47 @@
+package com.kaua.ecommerce.application.usecases.inventory.decrease;
+
+import com.kaua.ecommerce.application.either.Either;
+import com.kaua.ecommerce.application.gateways.HotInventoryGateway;
+import com.kaua.ecommerce.domain.utils.CommonErrorMessage;
+import com.kaua.ecommerce.domain.validation.Error;
+import com.kaua.ecommerce.domain.validation.handler.NotificationHandler;
+
+import java.util.Objects;
+
+/**
+ * Serves the decreases of the hot skus from the {@link HotInventoryGateway}, the other skus
+ * go through the delegate use case.
+ */
+public class HotSkuDecreaseInventoryQuantityUseCase extends DecreaseInventoryQuantityUseCase {
+
+    private final HotInventoryGateway hotInventoryGateway;
+    private final DecreaseInventoryQuantityUseCase decreaseInventoryQuantityUseCase;
+
+    public HotSkuDecreaseInventoryQuantityUseCase(
+            final HotInventoryGateway hotInventoryGateway,
+            final DecreaseInventoryQuantityUseCase decreaseInventoryQuantityUseCase
+    ) {
+        this.hotInventoryGateway = Objects.requireNonNull(hotInventoryGateway);
+        this.decreaseInventoryQuantityUseCase = Objects.requireNonNull(decreaseInventoryQuantityUseCase);
+    }
+
+    @Override
+    public Either<NotificationHandler, DecreaseInventoryQuantityOutput> execute(DecreaseInventoryQuantityCommand input) {
+        if (input.quantity() <= 0) {
+            return this.decreaseInventoryQuantityUseCase.execute(input);
+        }
+
+        final var aInventory = this.hotInventoryGateway.findBySku(input.sku());
+
+        if (aInventory.isEmpty()) {
+            return this.decreaseInventoryQuantityUseCase.execute(input);
+        }
+
+        if (!this.hotInventoryGateway.decreaseQuantityBySku(input.sku(), input.quantity())) {
+            return Either.left(NotificationHandler.create().append(
+                    new Error(CommonErrorMessage.greaterThan("quantity", -1))));
+        }
+
+        return Either.right(DecreaseInventoryQuantityOutput.from(aInventory.get()));
+    }
+}
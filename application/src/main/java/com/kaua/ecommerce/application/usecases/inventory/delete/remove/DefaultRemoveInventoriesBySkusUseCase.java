@@ -0,0 +1,64 @@
+package com.kaua.ecommerce.application.usecases.inventory.delete.remove;
+
+import com.kaua.ecommerce.application.adapters.TransactionManager;
+import com.kaua.ecommerce.application.exceptions.TransactionFailureException;
+import com.kaua.ecommerce.application.gateways.InventoryGateway;
+import com.kaua.ecommerce.application.gateways.InventoryMovementGateway;
+import com.kaua.ecommerce.domain.inventory.Inventory;
+import com.kaua.ecommerce.domain.inventory.movement.InventoryMovement;
+import com.kaua.ecommerce.domain.inventory.movement.InventoryMovementStatus;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class DefaultRemoveInventoriesBySkusUseCase extends RemoveInventoriesBySkusUseCase {
+
+    private final InventoryGateway inventoryGateway;
+    private final InventoryMovementGateway inventoryMovementGateway;
+    private final TransactionManager transactionManager;
+
+    public DefaultRemoveInventoriesBySkusUseCase(
+            final InventoryGateway inventoryGateway,
+            final InventoryMovementGateway inventoryMovementGateway,
+            final TransactionManager transactionManager
+    ) {
+        this.inventoryGateway = Objects.requireNonNull(inventoryGateway);
+        this.inventoryMovementGateway = Objects.requireNonNull(inventoryMovementGateway);
+        this.transactionManager = Objects.requireNonNull(transactionManager);
+    }
+
+    @Override
+    public void execute(Set<String> skus) {
+        if (skus == null || skus.isEmpty()) {
+            return;
+        }
+
+        // one lookup, one delete and one batch of movements for all the skus
+        final var aTransactionResult = this.transactionManager.execute(() -> {
+            final var aInventories = this.inventoryGateway.findBySkus(skus);
+
+            if (aInventories.isEmpty()) {
+                return null;
+            }
+
+            final var aInventoriesMovement = aInventories.stream()
+                    .map(inventory -> InventoryMovement.newInventoryMovement(
+                            inventory.getId(),
+                            inventory.getSku(),
+                            inventory.getQuantity(),
+                            InventoryMovementStatus.REMOVED
+                    )).collect(Collectors.toSet());
+
+            this.inventoryGateway.deleteBySkus(aInventories.stream()
+                    .map(Inventory::getSku)
+                    .collect(Collectors.toSet()));
+            this.inventoryMovementGateway.createInBatch(aInventoriesMovement);
+            return null;
+        });
+
+        if (aTransactionResult.isFailure()) {
+            throw TransactionFailureException.with(aTransactionResult.getErrorResult());
+        }
+    }
+}
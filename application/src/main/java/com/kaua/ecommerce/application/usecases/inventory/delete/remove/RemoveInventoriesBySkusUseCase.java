@@ -0,0 +1,8 @@
+package com.kaua.ecommerce.application.usecases.inventory.delete.remove;
+
+import com.kaua.ecommerce.application.UnitUseCase;
+
+import java.util.Set;
+
+public abstract class RemoveInventoriesBySkusUseCase extends UnitUseCase<Set<String>> {
+}
@@ -1,5 +1,6 @@
 package com.kaua.ecommerce.application.usecases.inventory.retrieve.get;
 
+import com.kaua.ecommerce.application.gateways.CacheGateway;
 import com.kaua.ecommerce.application.gateways.InventoryGateway;
 import com.kaua.ecommerce.domain.exceptions.NotFoundException;
 import com.kaua.ecommerce.domain.inventory.Inventory;
@@ -9,15 +10,24 @@ import java.util.Objects;
 public class DefaultGetInventoryBySkuUseCase extends GetInventoryBySkuUseCase {
 
     private final InventoryGateway inventoryGateway;
+    private final CacheGateway<Inventory> inventoryCacheGateway;
 
-    public DefaultGetInventoryBySkuUseCase(final InventoryGateway inventoryGateway) {
+    public DefaultGetInventoryBySkuUseCase(
+            final InventoryGateway inventoryGateway,
+            final CacheGateway<Inventory> inventoryCacheGateway
+    ) {
         this.inventoryGateway = Objects.requireNonNull(inventoryGateway);
+        this.inventoryCacheGateway = Objects.requireNonNull(inventoryCacheGateway);
     }
 
     @Override
     public GetInventoryBySkuOutput execute(String aSku) {
-        return this.inventoryGateway.findBySku(aSku)
+        return this.inventoryCacheGateway.get(aSku)
                 .map(GetInventoryBySkuOutput::from)
-                .orElseThrow(NotFoundException.with(Inventory.class, aSku));
+                .orElseGet(() -> this.inventoryGateway.findBySku(aSku)
+                        .map(inventory -> {
+                            this.inventoryCacheGateway.save(inventory);
+                            return GetInventoryBySkuOutput.from(inventory);
+                        }).orElseThrow(NotFoundException.with(Inventory.class, aSku)));
     }
 }
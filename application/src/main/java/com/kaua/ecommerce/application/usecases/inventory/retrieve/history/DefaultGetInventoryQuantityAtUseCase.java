@@ -0,0 +1,30 @@
+package com.kaua.ecommerce.application.usecases.inventory.retrieve.history;
+
+import com.kaua.ecommerce.application.gateways.InventoryHistoryGateway;
+import com.kaua.ecommerce.application.gateways.responses.InventorySnapshot;
+
+import java.time.Instant;
+import java.util.Objects;
+
+public class DefaultGetInventoryQuantityAtUseCase extends GetInventoryQuantityAtUseCase {
+
+    private final InventoryHistoryGateway inventoryHistoryGateway;
+
+    public DefaultGetInventoryQuantityAtUseCase(final InventoryHistoryGateway inventoryHistoryGateway) {
+        this.inventoryHistoryGateway = Objects.requireNonNull(inventoryHistoryGateway);
+    }
+
+    @Override
+    public GetInventoryQuantityAtOutput execute(GetInventoryQuantityAtCommand input) {
+        // the nearest snapshot plus the movements after it, never the whole history
+        final var aSnapshot = this.inventoryHistoryGateway.findLastSnapshotBySkuAt(input.sku(), input.at());
+
+        final var aBaseQuantity = aSnapshot.map(InventorySnapshot::quantity).orElse(0);
+        final var aTailStart = aSnapshot.map(InventorySnapshot::takenAt).orElse(Instant.EPOCH);
+
+        final var aQuantity = aBaseQuantity + this.inventoryHistoryGateway
+                .sumMovementsBySkuBetween(input.sku(), aTailStart, input.at());
+
+        return GetInventoryQuantityAtOutput.from(input.sku(), aQuantity, input.at());
+    }
+}
@@ -0,0 +1,33 @@
+package com.kaua.ecommerce.application.usecases.inventory.retrieve.history;
+
+import com.kaua.ecommerce.application.gateways.InventoryHistoryGateway;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultListInventoryMovementsBetweenUseCase extends ListInventoryMovementsBetweenUseCase {
+
+    public static final int MAX_LIMIT = 1_000;
+
+    private final InventoryHistoryGateway inventoryHistoryGateway;
+
+    public DefaultListInventoryMovementsBetweenUseCase(final InventoryHistoryGateway inventoryHistoryGateway) {
+        this.inventoryHistoryGateway = Objects.requireNonNull(inventoryHistoryGateway);
+    }
+
+    @Override
+    public List<ListInventoryMovementsBetweenOutput> execute(ListInventoryMovementsBetweenCommand input) {
+        if (!input.from().isBefore(input.to()) || input.limit() <= 0) {
+            return Collections.emptyList();
+        }
+
+        final var aLimit = Math.min(input.limit(), MAX_LIMIT);
+
+        return this.inventoryHistoryGateway
+                .findMovementsBySkuBetween(input.sku(), input.from(), input.to(), aLimit)
+                .stream()
+                .map(ListInventoryMovementsBetweenOutput::from)
+                .toList();
+    }
+}
@@ -0,0 +1,13 @@
+package com.kaua.ecommerce.application.usecases.inventory.retrieve.history;
+
+import java.time.Instant;
+
+public record GetInventoryQuantityAtCommand(
+        String sku,
+        Instant at
+) {
+
+    public static GetInventoryQuantityAtCommand with(final String sku, final Instant at) {
+        return new GetInventoryQuantityAtCommand(sku, at);
+    }
+}
@@ -0,0 +1,14 @@
+package com.kaua.ecommerce.application.usecases.inventory.retrieve.history;
+
+import java.time.Instant;
+
+public record GetInventoryQuantityAtOutput(
+        String sku,
+        int quantity,
+        Instant at
+) {
+
+    public static GetInventoryQuantityAtOutput from(final String aSku, final int aQuantity, final Instant aAt) {
+        return new GetInventoryQuantityAtOutput(aSku, aQuantity, aAt);
+    }
+}
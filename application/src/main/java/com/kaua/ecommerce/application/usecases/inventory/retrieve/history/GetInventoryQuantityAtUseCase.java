@@ -0,0 +1,7 @@
+package com.kaua.ecommerce.application.usecases.inventory.retrieve.history;
+
+import com.kaua.ecommerce.application.UseCase;
+
+public abstract class GetInventoryQuantityAtUseCase extends
+        UseCase<GetInventoryQuantityAtOutput, GetInventoryQuantityAtCommand> {
+}
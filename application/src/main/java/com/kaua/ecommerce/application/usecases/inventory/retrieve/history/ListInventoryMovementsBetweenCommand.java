@@ -0,0 +1,20 @@
+package com.kaua.ecommerce.application.usecases.inventory.retrieve.history;
+
+import java.time.Instant;
+
+public record ListInventoryMovementsBetweenCommand(
+        String sku,
+        Instant from,
+        Instant to,
+        int limit
+) {
+
+    public static ListInventoryMovementsBetweenCommand with(
+            final String sku,
+            final Instant from,
+            final Instant to,
+            final int limit
+    ) {
+        return new ListInventoryMovementsBetweenCommand(sku, from, to, limit);
+    }
+}
@@ -0,0 +1,26 @@
+package com.kaua.ecommerce.application.usecases.inventory.retrieve.history;
+
+import com.kaua.ecommerce.domain.inventory.movement.InventoryMovement;
+
+import java.time.Instant;
+
+public record ListInventoryMovementsBetweenOutput(
+        String id,
+        String inventoryId,
+        String sku,
+        int quantity,
+        String movementType,
+        Instant createdAt
+) {
+
+    public static ListInventoryMovementsBetweenOutput from(final InventoryMovement aInventoryMovement) {
+        return new ListInventoryMovementsBetweenOutput(
+                aInventoryMovement.getId().getValue(),
+                aInventoryMovement.getInventoryId().getValue(),
+                aInventoryMovement.getSku(),
+                aInventoryMovement.getQuantity(),
+                aInventoryMovement.getStatus().name(),
+                aInventoryMovement.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,9 @@
+package com.kaua.ecommerce.application.usecases.inventory.retrieve.history;
+
+import com.kaua.ecommerce.application.UseCase;
+
+import java.util.List;
+
+public abstract class ListInventoryMovementsBetweenUseCase extends
+        UseCase<List<ListInventoryMovementsBetweenOutput>, ListInventoryMovementsBetweenCommand> {
+}
@@ -0,0 +1,192 @@
+package com.kaua.ecommerce.application.usecases.order.create;
+
+import com.kaua.ecommerce.application.adapters.TransactionManager;
+import com.kaua.ecommerce.application.exceptions.GatewayTimeoutException;
+import com.kaua.ecommerce.application.gateways.order.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+public class ConcurrentCreateOrderUseCase extends DefaultCreateOrderUseCase {
+
+    private final Executor executor;
+    private final CreateOrderLookupsTimeouts timeouts;
+
+    public ConcurrentCreateOrderUseCase(
+            final OrderGateway orderGateway,
+            final OrderCouponGateway orderCouponGateway,
+            final OrderCustomerGateway orderCustomerGateway,
+            final OrderDeliveryGateway orderDeliveryGateway,
+            final OrderPaymentGateway orderPaymentGateway,
+            final OrderProductGateway orderProductGateway,
+            final OrderFreightGateway orderFreightGateway,
+            final TransactionManager transactionManager,
+            final Executor executor,
+            final CreateOrderLookupsTimeouts timeouts
+    ) {
+        super(
+                orderGateway,
+                orderCouponGateway,
+                orderCustomerGateway,
+                orderDeliveryGateway,
+                orderPaymentGateway,
+                orderProductGateway,
+                orderFreightGateway,
+                transactionManager
+        );
+        this.executor = Objects.requireNonNull(executor);
+        this.timeouts = Objects.requireNonNull(timeouts);
+    }
+
+    @Override
+    protected CreateOrderLookups fetchOrderLookups(final CreateOrderCommand input) {
+        // customer and products details do not depend on each other, so both are fetched at the same time
+        final var aLookups = new LookupsGroup();
+        final var aCustomerFuture = aLookups.submit(
+                OrderCustomerGateway.class,
+                () -> findCustomer(input.customerId()),
+                this.timeouts.customer()
+        );
+        final var aProductsDetailsFuture = aLookups.submit(
+                OrderProductGateway.class,
+                () -> findProductsDetails(getSkus(input)),
+                this.timeouts.product()
+        );
+        aLookups.await();
+
+        final var aCustomer = aCustomerFuture.join();
+        final var aOrderProductDetails = requireAllProductsDetails(input, aProductsDetailsFuture.join());
+
+        // freight needs the customer zip code and the products dimensions
+        final var aFreightLookup = new LookupsGroup();
+        final var aFreightFuture = aFreightLookup.submit(
+                OrderFreightGateway.class,
+                () -> getCalculateFreight(aOrderProductDetails, aCustomer, input.freightType()),
+                this.timeouts.freight()
+        );
+        aFreightLookup.await();
+
+        return new CreateOrderLookups(aCustomer, aOrderProductDetails, aFreightFuture.join());
+    }
+
+    private final class LookupsGroup {
+
+        private final List<Lookup<?>> lookups = new CopyOnWriteArrayList<>();
+        private final AtomicReference<RuntimeException> firstFailure = new AtomicReference<>();
+
+        private <T> CompletableFuture<T> submit(
+                final Class<?> aGateway,
+                final Supplier<T> aLookup,
+                final Duration aTimeout
+        ) {
+            // the timeout starts before the lookup is handed to the executor, so it also covers
+            // the time in the queue and a lookup the executor runs in the calling thread
+            final var aResult = new CompletableFuture<T>()
+                    .orTimeout(aTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            final var aTask = new FutureTask<Void>(() -> {
+                try {
+                    aResult.complete(aLookup.get());
+                } catch (final Throwable t) {
+                    aResult.completeExceptionally(t);
+                }
+            }, null);
+            this.lookups.add(new Lookup<>(aGateway, aTimeout, aResult, aTask));
+
+            aResult.whenComplete((result, throwable) -> {
+                if (throwable != null) {
+                    fail(translate(throwable, aGateway, aTimeout));
+                }
+            });
+
+            if (this.firstFailure.get() != null) {
+                aResult.cancel(false);
+                return aResult;
+            }
+
+            try {
+                executor.execute(() -> {
+                    aTask.run();
+                    // the interruption of a cancelled lookup must not leak to the next work of the
+                    // thread, which is the request thread when the executor runs it in the caller
+                    if (aTask.isCancelled()) {
+                        Thread.interrupted();
+                    }
+                });
+            } catch (final RejectedExecutionException e) {
+                aResult.completeExceptionally(e);
+            }
+            return aResult;
+        }
+
+        private void fail(final RuntimeException aFailure) {
+            if (this.firstFailure.compareAndSet(null, aFailure)) {
+                // a queued lookup does not run anymore and a running one is interrupted, its result
+                // is discarded even if it ignores the interruption and keeps its worker until it returns
+                this.lookups.forEach(it -> {
+                    it.task().cancel(true);
+                    it.result().cancel(false);
+                });
+            }
+        }
+
+        private void await() {
+            try {
+                CompletableFuture.allOf(this.lookups.stream()
+                        .map(Lookup::result)
+                        .toArray(CompletableFuture[]::new)).join();
+            } catch (final CompletionException | CancellationException e) {
+                // the failures are translated below
+            }
+
+            // allOf may complete before the whenComplete of the failed lookup has recorded its failure
+            this.lookups.forEach(it -> {
+                if (it.result().isCompletedExceptionally()) {
+                    try {
+                        it.result().join();
+                    } catch (final CompletionException | CancellationException e) {
+                        fail(translate(e, it.gateway(), it.timeout()));
+                    }
+                }
+            });
+
+            final var aFailure = this.firstFailure.get();
+            if (aFailure != null) {
+                throw aFailure;
+            }
+        }
+
+        private RuntimeException translate(
+                final Throwable aThrowable,
+                final Class<?> aGateway,
+                final Duration aTimeout
+        ) {
+            var aCause = aThrowable;
+            while (aCause instanceof CompletionException && aCause.getCause() != null) {
+                aCause = aCause.getCause();
+            }
+
+            if (aCause instanceof TimeoutException) {
+                return GatewayTimeoutException.with(aGateway.getSimpleName(), aTimeout);
+            }
+            if (aCause instanceof RejectedExecutionException) {
+                return GatewayTimeoutException.rejected(aGateway.getSimpleName());
+            }
+            if (aCause instanceof RuntimeException aRuntimeException) {
+                return aRuntimeException;
+            }
+            return new CompletionException(aCause);
+        }
+    }
+
+    private record Lookup<T>(
+            Class<?> gateway,
+            Duration timeout,
+            CompletableFuture<T> result,
+            FutureTask<Void> task
+    ) {
+    }
+}
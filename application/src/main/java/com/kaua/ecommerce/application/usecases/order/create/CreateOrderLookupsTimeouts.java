@@ -0,0 +1,25 @@
+package com.kaua.ecommerce.application.usecases.order.create;
+
+import java.time.Duration;
+import java.util.Objects;
+
+public record CreateOrderLookupsTimeouts(
+        Duration customer,
+        Duration product,
+        Duration freight
+) {
+
+    public CreateOrderLookupsTimeouts {
+        Objects.requireNonNull(customer);
+        Objects.requireNonNull(product);
+        Objects.requireNonNull(freight);
+    }
+
+    public static CreateOrderLookupsTimeouts with(
+            final Duration customer,
+            final Duration product,
+            final Duration freight
+    ) {
+        return new CreateOrderLookupsTimeouts(customer, product, freight);
+    }
+}
@@ -12,8 +12,8 @@ import com.kaua.ecommerce.domain.order.*;
 import com.kaua.ecommerce.domain.validation.Error;
 import com.kaua.ecommerce.domain.validation.handler.NotificationHandler;
 
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -52,13 +52,10 @@ public class DefaultCreateOrderUseCase extends CreateOrderUseCase {
     public Either<NotificationHandler, CreateOrderOutput> execute(CreateOrderCommand input) {
         final var aNotification = NotificationHandler.create();
 
-        // In microservices, findByCustomerId call an external service and possible failure point
-        final var aCustomer = this.orderCustomerGateway.findByCustomerId(input.customerId())
-                .orElseThrow(NotFoundException.with(Customer.class, input.customerId()));
-
-        // In microservices, calculateFreight call an external service and possible failure point
-        final var aOrderProductDetails = getOrderProductsDetails(input);
-        final var aFreight = getCalculateFreight(aOrderProductDetails, aCustomer, input.freightType());
+        final var aLookups = fetchOrderLookups(input);
+        final var aCustomer = aLookups.customer();
+        final var aOrderProductDetails = aLookups.productsDetails();
+        final var aFreight = aLookups.freight();
 
         final var aOrderDelivery = createOrderDelivery(aFreight, aCustomer);
         final var aOrderPayment = createOrderPayment(input);
@@ -103,34 +100,61 @@ public class DefaultCreateOrderUseCase extends CreateOrderUseCase {
         return Either.right(CreateOrderOutput.from(aOrder));
     }
 
+    protected CreateOrderLookups fetchOrderLookups(final CreateOrderCommand input) {
+        // In microservices, findByCustomerId call an external service and possible failure point
+        final var aCustomer = findCustomer(input.customerId());
+
+        // In microservices, calculateFreight call an external service and possible failure point
+        final var aOrderProductDetails = getOrderProductsDetails(input);
+        final var aFreight = getCalculateFreight(aOrderProductDetails, aCustomer, input.freightType());
+
+        return new CreateOrderLookups(aCustomer, aOrderProductDetails, aFreight);
+    }
+
+    protected OrderCustomerGateway.OrderCustomerOutput findCustomer(final String aCustomerId) {
+        return this.orderCustomerGateway.findByCustomerId(aCustomerId)
+                .orElseThrow(NotFoundException.with(Customer.class, aCustomerId));
+    }
+
+    protected Map<String, OrderProductGateway.OrderProductDetails> findProductsDetails(final Set<String> aSkus) {
+        return this.orderProductGateway.getProductDetailsBySkus(aSkus);
+    }
+
     private OrderCouponApplyOutput applyCoupon(String aCouponCode, Order aOrder) {
         return this.orderCouponGateway.applyCoupon(aCouponCode, aOrder.getTotalAmount().floatValue());
     }
 
-    private Set<OrderProductGateway.OrderProductDetails> getOrderProductsDetails(CreateOrderCommand input) {
-        final var aResult = input.items().stream()
-                .map(it -> this.orderProductGateway.getProductDetailsBySku(it.sku()))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
+    private Map<String, OrderProductGateway.OrderProductDetails> getOrderProductsDetails(CreateOrderCommand input) {
+        return requireAllProductsDetails(input, findProductsDetails(getSkus(input)));
+    }
+
+    protected Set<String> getSkus(final CreateOrderCommand input) {
+        return input.items().stream()
+                .map(CreateOrderItemsCommand::sku)
                 .collect(Collectors.toSet());
+    }
+
+    protected Map<String, OrderProductGateway.OrderProductDetails> requireAllProductsDetails(
+            final CreateOrderCommand input,
+            final Map<String, OrderProductGateway.OrderProductDetails> aProductsDetails
+    ) {
+        final var aAllFound = input.items().stream()
+                .allMatch(it -> aProductsDetails.containsKey(it.sku()));
 
-        if (aResult.isEmpty() || aResult.size() != input.items().size()) {
+        if (aProductsDetails.isEmpty() || !aAllFound) {
             throw DomainException.with(new Error("No product details found"));
         }
 
-        return aResult;
+        return aProductsDetails;
     }
 
     private void addOrderItems(
             final CreateOrderCommand input,
-            final Set<OrderProductGateway.OrderProductDetails> aOrderProductDetails,
+            final Map<String, OrderProductGateway.OrderProductDetails> aOrderProductDetails,
             final Order aOrder
     ) {
         input.items().forEach(it -> {
-            final var aDetail = aOrderProductDetails.stream()
-                    .filter(product -> product.sku().equals(it.sku()))
-                    .findFirst()
-                    .get();
+            final var aDetail = aOrderProductDetails.get(it.sku());
 
             final var aOrderItem = OrderItem.create(
                     aOrder.getId().getValue(),
@@ -150,15 +174,15 @@ public class DefaultCreateOrderUseCase extends CreateOrderUseCase {
         aOrder.validate(aNotification);
     }
 
-    private OrderFreightGateway.OrderFreightDetails getCalculateFreight(
-            final Set<OrderProductGateway.OrderProductDetails> input,
+    protected OrderFreightGateway.OrderFreightDetails getCalculateFreight(
+            final Map<String, OrderProductGateway.OrderProductDetails> input,
             final OrderCustomerGateway.OrderCustomerOutput aCustomer,
             final String aFreightType
     ) {
         return this.orderFreightGateway.calculateFreight(new OrderFreightGateway.CalculateOrderFreightInput(
                 aCustomer.zipCode(),
                 aFreightType,
-                input.stream()
+                input.values().stream()
                         .map(it -> new OrderFreightGateway.CalculateOrderFreightItemsInput(
                                 it.weight(),
                                 it.width(),
@@ -190,4 +214,10 @@ public class DefaultCreateOrderUseCase extends CreateOrderUseCase {
                 aCustomer.zipCode()
         );
     }
+
+    protected record CreateOrderLookups(
+            OrderCustomerGateway.OrderCustomerOutput customer,
+            Map<String, OrderProductGateway.OrderProductDetails> productsDetails,
+            OrderFreightGateway.OrderFreightDetails freight
+    ) {}
 }
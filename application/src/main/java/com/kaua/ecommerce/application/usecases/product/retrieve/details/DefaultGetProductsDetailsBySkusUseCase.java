@@ -0,0 +1,26 @@
+package com.kaua.ecommerce.application.usecases.product.retrieve.details;
+
+import com.kaua.ecommerce.application.gateways.ProductGateway;
+import com.kaua.ecommerce.application.gateways.responses.ProductDetails;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+public class DefaultGetProductsDetailsBySkusUseCase extends GetProductsDetailsBySkusUseCase {
+
+    private final ProductGateway productGateway;
+
+    public DefaultGetProductsDetailsBySkusUseCase(final ProductGateway productGateway) {
+        this.productGateway = Objects.requireNonNull(productGateway);
+    }
+
+    @Override
+    public Map<String, ProductDetails> execute(Set<String> aSkus) {
+        if (aSkus == null || aSkus.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return this.productGateway.findProductDetailsBySkus(aSkus);
+    }
+}
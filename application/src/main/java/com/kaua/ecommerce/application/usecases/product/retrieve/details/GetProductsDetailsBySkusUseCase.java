@@ -0,0 +1,10 @@
+package com.kaua.ecommerce.application.usecases.product.retrieve.details;
+
+import com.kaua.ecommerce.application.UseCase;
+import com.kaua.ecommerce.application.gateways.responses.ProductDetails;
+
+import java.util.Map;
+import java.util.Set;
+
+public abstract class GetProductsDetailsBySkusUseCase extends UseCase<Map<String, ProductDetails>, Set<String>> {
+}
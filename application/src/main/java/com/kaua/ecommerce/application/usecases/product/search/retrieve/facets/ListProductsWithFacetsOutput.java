@@ -0,0 +1,26 @@
+package com.kaua.ecommerce.application.usecases.product.search.retrieve.facets;
+
+import com.kaua.ecommerce.application.gateways.responses.ProductFacetedSearch;
+import com.kaua.ecommerce.application.usecases.product.search.retrieve.list.ListProductsOutput;
+import com.kaua.ecommerce.domain.pagination.Pagination;
+
+import java.util.List;
+
+public record ListProductsWithFacetsOutput(
+        Pagination<ListProductsOutput> products,
+        List<ProductFacetedSearch.FacetCount> categories,
+        List<ProductFacetedSearch.FacetCount> colors,
+        List<ProductFacetedSearch.FacetCount> sizes,
+        List<ProductFacetedSearch.FacetCount> prices
+) {
+
+    public static ListProductsWithFacetsOutput from(final ProductFacetedSearch aSearch) {
+        return new ListProductsWithFacetsOutput(
+                aSearch.products().map(ListProductsOutput::from),
+                aSearch.categories(),
+                aSearch.colors(),
+                aSearch.sizes(),
+                aSearch.prices()
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package com.kaua.ecommerce.application.usecases.product.search.retrieve.facets;
+
+import com.kaua.ecommerce.application.UseCase;
+import com.kaua.ecommerce.application.gateways.ProductSearchGateway;
+import com.kaua.ecommerce.application.gateways.commands.ProductFacetedSearchInput;
+
+import java.util.Objects;
+
+public class ListProductsWithFacetsUseCase extends UseCase<ListProductsWithFacetsOutput, ProductFacetedSearchInput> {
+
+    private final ProductSearchGateway productSearchGateway;
+
+    public ListProductsWithFacetsUseCase(final ProductSearchGateway productSearchGateway) {
+        this.productSearchGateway = Objects.requireNonNull(productSearchGateway);
+    }
+
+    @Override
+    public ListProductsWithFacetsOutput execute(final ProductFacetedSearchInput aInput) {
+        return ListProductsWithFacetsOutput.from(this.productSearchGateway.findAllWithFacets(aInput));
+    }
+}
@@ -0,0 +1,40 @@
+package com.kaua.ecommerce.application.usecases.product.search.save;
+
+import com.kaua.ecommerce.application.UseCase;
+import com.kaua.ecommerce.application.gateways.SearchGateway;
+import com.kaua.ecommerce.domain.exceptions.DomainException;
+import com.kaua.ecommerce.domain.product.Product;
+import com.kaua.ecommerce.domain.validation.Error;
+import com.kaua.ecommerce.domain.validation.handler.NotificationHandler;
+
+import java.util.List;
+import java.util.Objects;
+
+public class SaveProductsUseCase extends UseCase<List<Product>, List<Product>> {
+
+    private final SearchGateway<Product> productSearchGateway;
+
+    public SaveProductsUseCase(final SearchGateway<Product> productSearchGateway) {
+        this.productSearchGateway = Objects.requireNonNull(productSearchGateway);
+    }
+
+    @Override
+    public List<Product> execute(List<Product> aProducts) {
+        if (aProducts == null || aProducts.stream().anyMatch(Objects::isNull)) {
+            throw DomainException.with(new Error("Product cannot be null"));
+        }
+
+        if (aProducts.isEmpty()) {
+            return aProducts;
+        }
+
+        final var aNotification = NotificationHandler.create();
+        aProducts.forEach(it -> it.validate(aNotification));
+
+        if (aNotification.hasError()) {
+            throw DomainException.with(aNotification.getErrors());
+        }
+
+        return this.productSearchGateway.saveAll(aProducts);
+    }
+}
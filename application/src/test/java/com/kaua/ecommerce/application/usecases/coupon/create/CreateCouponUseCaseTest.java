@@ -59,7 +59,7 @@ public class CreateCouponUseCaseTest extends UseCaseTest {
 
         Mockito.when(couponGateway.existsByCode(Mockito.any())).thenReturn(false);
         Mockito.when(couponGateway.create(Mockito.any())).then(returnsFirstArg());
-        Mockito.when(couponSlotGateway.createInBatch(Mockito.any())).then(returnsFirstArg());
+        Mockito.doNothing().when(couponSlotGateway).createSlots(Mockito.any(), Mockito.anyInt());
         Mockito.when(transactionManager.execute(Mockito.any())).thenAnswer(it -> {
             final var aSupplier = it.getArgument(0, Supplier.class);
             return TransactionResult.success(aSupplier.get());
@@ -80,7 +80,7 @@ public class CreateCouponUseCaseTest extends UseCaseTest {
                         && Objects.equals(aIsActive, aCmd.isActive())
                         && Objects.equals(aType, aCmd.getType().name())));
         Mockito.verify(couponSlotGateway, Mockito.times(1))
-                .createInBatch(argThat(aCmd -> Objects.equals(10, aCmd.size())));
+                .createSlots(Mockito.eq(aOutput.couponId()), Mockito.eq(aMaxUse));
     }
 
     @Test
@@ -124,7 +124,7 @@ public class CreateCouponUseCaseTest extends UseCaseTest {
                         && Objects.equals(aIsActive, aCmd.isActive())
                         && Objects.equals(aType, aCmd.getType().name())));
         Mockito.verify(couponSlotGateway, Mockito.times(0))
-                .createInBatch(Mockito.anySet());
+                .createSlots(Mockito.any(), Mockito.anyInt());
     }
 
     @Test
@@ -161,7 +161,7 @@ public class CreateCouponUseCaseTest extends UseCaseTest {
                 .existsByCode(Mockito.any());
         Mockito.verify(couponGateway, Mockito.times(0)).create(Mockito.any());
         Mockito.verify(couponSlotGateway, Mockito.times(0))
-                .createInBatch(Mockito.anySet());
+                .createSlots(Mockito.any(), Mockito.anyInt());
     }
 
     @Test
@@ -198,7 +198,7 @@ public class CreateCouponUseCaseTest extends UseCaseTest {
                 .existsByCode(Mockito.any());
         Mockito.verify(couponGateway, Mockito.times(0)).create(Mockito.any());
         Mockito.verify(couponSlotGateway, Mockito.times(0))
-                .createInBatch(Mockito.anySet());
+                .createSlots(Mockito.any(), Mockito.anyInt());
     }
 
     @Test
@@ -235,7 +235,7 @@ public class CreateCouponUseCaseTest extends UseCaseTest {
                 .existsByCode(Mockito.any());
         Mockito.verify(couponGateway, Mockito.times(0)).create(Mockito.any());
         Mockito.verify(couponSlotGateway, Mockito.times(0))
-                .createInBatch(Mockito.anySet());
+                .createSlots(Mockito.any(), Mockito.anyInt());
     }
 
     @Test
@@ -272,7 +272,7 @@ public class CreateCouponUseCaseTest extends UseCaseTest {
                 .existsByCode(Mockito.any());
         Mockito.verify(couponGateway, Mockito.times(0)).create(Mockito.any());
         Mockito.verify(couponSlotGateway, Mockito.times(0))
-                .createInBatch(Mockito.anySet());
+                .createSlots(Mockito.any(), Mockito.anyInt());
     }
 
     @Test
@@ -309,7 +309,7 @@ public class CreateCouponUseCaseTest extends UseCaseTest {
                 .existsByCode(Mockito.any());
         Mockito.verify(couponGateway, Mockito.times(0)).create(Mockito.any());
         Mockito.verify(couponSlotGateway, Mockito.times(0))
-                .createInBatch(Mockito.anySet());
+                .createSlots(Mockito.any(), Mockito.anyInt());
     }
 
     @Test
@@ -346,7 +346,7 @@ public class CreateCouponUseCaseTest extends UseCaseTest {
                 .existsByCode(Mockito.any());
         Mockito.verify(couponGateway, Mockito.times(0)).create(Mockito.any());
         Mockito.verify(couponSlotGateway, Mockito.times(0))
-                .createInBatch(Mockito.anySet());
+                .createSlots(Mockito.any(), Mockito.anyInt());
     }
 
     @Test
@@ -381,7 +381,7 @@ public class CreateCouponUseCaseTest extends UseCaseTest {
                 .existsByCode(Mockito.any());
         Mockito.verify(couponGateway, Mockito.times(0)).create(Mockito.any());
         Mockito.verify(couponSlotGateway, Mockito.times(0))
-                .createInBatch(Mockito.anySet());
+                .createSlots(Mockito.any(), Mockito.anyInt());
     }
 
     @Test
@@ -419,7 +419,7 @@ public class CreateCouponUseCaseTest extends UseCaseTest {
                 .existsByCode(Mockito.any());
         Mockito.verify(couponGateway, Mockito.times(0)).create(Mockito.any());
         Mockito.verify(couponSlotGateway, Mockito.times(0))
-                .createInBatch(Mockito.anySet());
+                .createSlots(Mockito.any(), Mockito.anyInt());
     }
 
     @Test
@@ -458,7 +458,7 @@ public class CreateCouponUseCaseTest extends UseCaseTest {
                 .existsByCode(Mockito.any());
         Mockito.verify(couponGateway, Mockito.times(0)).create(Mockito.any());
         Mockito.verify(couponSlotGateway, Mockito.times(0))
-                .createInBatch(Mockito.anySet());
+                .createSlots(Mockito.any(), Mockito.anyInt());
     }
 
     @Test
@@ -496,6 +496,6 @@ public class CreateCouponUseCaseTest extends UseCaseTest {
                 .existsByCode(Mockito.any());
         Mockito.verify(couponGateway, Mockito.times(0)).create(Mockito.any());
         Mockito.verify(couponSlotGateway, Mockito.times(0))
-                .createInBatch(Mockito.anySet());
+                .createSlots(Mockito.any(), Mockito.anyInt());
     }
 }
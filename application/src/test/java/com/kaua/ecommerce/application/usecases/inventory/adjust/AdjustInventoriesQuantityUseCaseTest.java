@@ -0,0 +1,217 @@
+package com.kaua.ecommerce.application.usecases.inventory.adjust;
+
+import com.kaua.ecommerce.application.UseCaseTest;
+import com.kaua.ecommerce.application.adapters.TransactionManager;
+import com.kaua.ecommerce.application.adapters.responses.TransactionResult;
+import com.kaua.ecommerce.application.exceptions.TransactionFailureException;
+import com.kaua.ecommerce.application.gateways.InventoryGateway;
+import com.kaua.ecommerce.application.gateways.InventoryMovementGateway;
+import com.kaua.ecommerce.application.usecases.inventory.adjust.commands.AdjustInventoriesQuantityCommand;
+import com.kaua.ecommerce.application.usecases.inventory.adjust.commands.AdjustInventoriesQuantityCommandItem;
+import com.kaua.ecommerce.domain.Fixture;
+import com.kaua.ecommerce.domain.inventory.Inventory;
+import com.kaua.ecommerce.domain.inventory.movement.InventoryMovementStatus;
+import com.kaua.ecommerce.domain.product.ProductID;
+import com.kaua.ecommerce.domain.utils.CommonErrorMessage;
+import com.kaua.ecommerce.domain.validation.Error;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.mockito.ArgumentMatchers.argThat;
+
+public class AdjustInventoriesQuantityUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private InventoryGateway inventoryGateway;
+
+    @Mock
+    private InventoryMovementGateway inventoryMovementGateway;
+
+    @Mock
+    private TransactionManager transactionManager;
+
+    @InjectMocks
+    private DefaultAdjustInventoriesQuantityUseCase adjustInventoriesQuantityUseCase;
+
+    @Test
+    void givenAValidCommandOnAllOrNothingMode_whenCallExecute_thenShouldApplyAllLinesAndCreateMovementsInBatch() {
+        final var aProductId = ProductID.unique().getValue();
+        final var aInventoryOne = Inventory.newInventory(aProductId, "sku-one", 15);
+        final var aInventoryTwo = Inventory.newInventory(aProductId, "sku-two", 7);
+
+        final var aCommand = AdjustInventoriesQuantityCommand.with(
+                AdjustInventoriesQuantityMode.ALL_OR_NOTHING,
+                List.of(
+                        AdjustInventoriesQuantityCommandItem.with("sku-one", 5),
+                        AdjustInventoriesQuantityCommandItem.with("sku-two", -3)
+                )
+        );
+
+        Mockito.when(inventoryGateway.adjustQuantitiesBySkus(Map.of("sku-one", 5, "sku-two", -3)))
+                .thenReturn(Set.of("sku-one", "sku-two"));
+        Mockito.when(inventoryGateway.findBySkus(Set.of("sku-one", "sku-two")))
+                .thenReturn(List.of(aInventoryOne, aInventoryTwo));
+        Mockito.when(inventoryMovementGateway.createInBatch(Mockito.anySet()))
+                .thenAnswer(it -> it.getArgument(0));
+        mockTransactionManager();
+
+        final var aOutput = this.adjustInventoriesQuantityUseCase.execute(aCommand).getRight();
+
+        Assertions.assertEquals(AdjustInventoriesQuantityMode.ALL_OR_NOTHING, aOutput.mode());
+        Assertions.assertEquals(2, aOutput.appliedLines());
+        Assertions.assertEquals(0, aOutput.rejectedLines());
+        Assertions.assertEquals(AdjustInventoriesQuantityLineStatus.APPLIED, aOutput.lines().get(0).status());
+        Assertions.assertEquals(15, aOutput.lines().get(0).quantity());
+        Assertions.assertEquals(AdjustInventoriesQuantityLineStatus.APPLIED, aOutput.lines().get(1).status());
+        Assertions.assertEquals(7, aOutput.lines().get(1).quantity());
+
+        Mockito.verify(inventoryMovementGateway, Mockito.times(1)).createInBatch(argThat(aMovements ->
+                aMovements.size() == 2
+                        && aMovements.stream().anyMatch(it -> Objects.equals(it.getSku(), "sku-one")
+                        && it.getQuantity() == 5
+                        && it.getStatus() == InventoryMovementStatus.IN)
+                        && aMovements.stream().anyMatch(it -> Objects.equals(it.getSku(), "sku-two")
+                        && it.getQuantity() == 3
+                        && it.getStatus() == InventoryMovementStatus.OUT)));
+    }
+
+    @Test
+    void givenALineWithoutStockOnAllOrNothingMode_whenCallExecute_thenShouldRollbackAllLines() {
+        final var aProductId = ProductID.unique().getValue();
+        final var aInventoryOne = Inventory.newInventory(aProductId, "sku-one", 15);
+        final var aInventoryTwo = Inventory.newInventory(aProductId, "sku-two", 1);
+
+        final var aCommand = AdjustInventoriesQuantityCommand.with(
+                AdjustInventoriesQuantityMode.ALL_OR_NOTHING,
+                List.of(
+                        AdjustInventoriesQuantityCommandItem.with("sku-one", 5),
+                        AdjustInventoriesQuantityCommandItem.with("sku-two", -3)
+                )
+        );
+
+        Mockito.when(inventoryGateway.adjustQuantitiesBySkus(Mockito.anyMap())).thenReturn(Set.of("sku-one"));
+        Mockito.when(inventoryGateway.findBySkus(Mockito.anySet())).thenReturn(List.of(aInventoryOne, aInventoryTwo));
+        mockTransactionManager();
+
+        final var aOutput = this.adjustInventoriesQuantityUseCase.execute(aCommand).getRight();
+
+        Assertions.assertEquals(0, aOutput.appliedLines());
+        Assertions.assertEquals(1, aOutput.rejectedLines());
+        Assertions.assertEquals(AdjustInventoriesQuantityLineStatus.NOT_APPLIED, aOutput.lines().get(0).status());
+        Assertions.assertEquals(AdjustInventoriesQuantityLineStatus.REJECTED, aOutput.lines().get(1).status());
+        Assertions.assertEquals(CommonErrorMessage.greaterThan("quantity", -1), aOutput.lines().get(1).error());
+
+        Mockito.verify(inventoryMovementGateway, Mockito.times(0)).createInBatch(Mockito.anySet());
+    }
+
+    @Test
+    void givenRejectedLinesOnBestEffortMode_whenCallExecute_thenShouldApplyOnlyTheValidLines() {
+        final var aProductId = ProductID.unique().getValue();
+        final var aInventoryOne = Inventory.newInventory(aProductId, "sku-one", 15);
+        final var aInventoryTwo = Inventory.newInventory(aProductId, "sku-two", 1);
+
+        final var aCommand = AdjustInventoriesQuantityCommand.with(
+                AdjustInventoriesQuantityMode.BEST_EFFORT,
+                List.of(
+                        AdjustInventoriesQuantityCommandItem.with("sku-one", 5),
+                        AdjustInventoriesQuantityCommandItem.with("sku-two", -3),
+                        AdjustInventoriesQuantityCommandItem.with("sku-three", 1),
+                        AdjustInventoriesQuantityCommandItem.with("sku-four", 0)
+                )
+        );
+
+        Mockito.when(inventoryGateway.adjustQuantitiesBySkus(Map.of("sku-one", 5, "sku-two", -3, "sku-three", 1)))
+                .thenReturn(Set.of("sku-one"));
+        Mockito.when(inventoryGateway.findBySkus(Set.of("sku-one", "sku-two", "sku-three")))
+                .thenReturn(List.of(aInventoryOne, aInventoryTwo));
+        Mockito.when(inventoryMovementGateway.createInBatch(Mockito.anySet()))
+                .thenAnswer(it -> it.getArgument(0));
+        mockTransactionManager();
+
+        final var aOutput = this.adjustInventoriesQuantityUseCase.execute(aCommand).getRight();
+
+        Assertions.assertEquals(1, aOutput.appliedLines());
+        Assertions.assertEquals(3, aOutput.rejectedLines());
+        Assertions.assertEquals(AdjustInventoriesQuantityLineStatus.APPLIED, aOutput.lines().get(0).status());
+        Assertions.assertEquals(CommonErrorMessage.greaterThan("quantity", -1), aOutput.lines().get(1).error());
+        Assertions.assertEquals(Fixture.notFoundMessage(Inventory.class, "sku-three"), aOutput.lines().get(2).error());
+        Assertions.assertEquals("'delta' should not be zero", aOutput.lines().get(3).error());
+
+        Mockito.verify(inventoryMovementGateway, Mockito.times(1)).createInBatch(argThat(aMovements ->
+                aMovements.size() == 1));
+    }
+
+    @Test
+    void givenAnInvalidLineOnAllOrNothingMode_whenCallExecute_thenShouldNotTouchTheInventories() {
+        final var aCommand = AdjustInventoriesQuantityCommand.with(
+                AdjustInventoriesQuantityMode.ALL_OR_NOTHING,
+                List.of(
+                        AdjustInventoriesQuantityCommandItem.with("sku-one", 5),
+                        AdjustInventoriesQuantityCommandItem.with("sku-one", 2),
+                        AdjustInventoriesQuantityCommandItem.with(" ", 2)
+                )
+        );
+
+        final var aOutput = this.adjustInventoriesQuantityUseCase.execute(aCommand).getRight();
+
+        Assertions.assertEquals(0, aOutput.appliedLines());
+        Assertions.assertEquals(2, aOutput.rejectedLines());
+        Assertions.assertEquals(AdjustInventoriesQuantityLineStatus.NOT_APPLIED, aOutput.lines().get(0).status());
+        Assertions.assertEquals("sku sku-one is duplicated", aOutput.lines().get(1).error());
+        Assertions.assertEquals(CommonErrorMessage.nullOrBlank("sku"), aOutput.lines().get(2).error());
+
+        Mockito.verify(transactionManager, Mockito.times(0)).execute(Mockito.any());
+        Mockito.verify(inventoryGateway, Mockito.times(0)).adjustQuantitiesBySkus(Mockito.anyMap());
+    }
+
+    @Test
+    void givenAnEmptyItemsAndNullMode_whenCallExecute_thenShouldReturnDomainException() {
+        final var aCommand = AdjustInventoriesQuantityCommand.with(null, List.of());
+
+        final var aOutput = this.adjustInventoriesQuantityUseCase.execute(aCommand).getLeft();
+
+        Assertions.assertEquals(2, aOutput.getErrors().size());
+        Assertions.assertEquals(CommonErrorMessage.nullMessage("mode"), aOutput.getErrors().get(0).message());
+        Assertions.assertEquals("'items' should not be null or empty", aOutput.getErrors().get(1).message());
+
+        Mockito.verify(transactionManager, Mockito.times(0)).execute(Mockito.any());
+    }
+
+    @Test
+    void givenAValidCommand_whenCallExecuteAndTransactionFails_thenShouldThrowTransactionFailureException() {
+        final var aCommand = AdjustInventoriesQuantityCommand.with(
+                AdjustInventoriesQuantityMode.BEST_EFFORT,
+                List.of(AdjustInventoriesQuantityCommandItem.with("sku-one", 5))
+        );
+
+        final var expectedErrorMessage = "Error on adjust inventories";
+
+        Mockito.when(transactionManager.execute(Mockito.any()))
+                .thenReturn(TransactionResult.failure(new Error(expectedErrorMessage)));
+
+        final var aOutput = Assertions.assertThrows(TransactionFailureException.class,
+                () -> this.adjustInventoriesQuantityUseCase.execute(aCommand));
+
+        Assertions.assertEquals(expectedErrorMessage, aOutput.getMessage());
+    }
+
+    private void mockTransactionManager() {
+        Mockito.when(transactionManager.execute(Mockito.any())).thenAnswer(it -> {
+            final var aSupplier = it.getArgument(0, Supplier.class);
+            try {
+                return TransactionResult.success(aSupplier.get());
+            } catch (final RuntimeException e) {
+                return TransactionResult.failure(new Error(e.getMessage()));
+            }
+        });
+    }
+}
@@ -9,6 +9,7 @@ import com.kaua.ecommerce.application.gateways.InventoryMovementGateway;
 import com.kaua.ecommerce.domain.Fixture;
 import com.kaua.ecommerce.domain.exceptions.NotFoundException;
 import com.kaua.ecommerce.domain.inventory.Inventory;
+import com.kaua.ecommerce.domain.inventory.movement.InventoryMovementStatus;
 import com.kaua.ecommerce.domain.utils.CommonErrorMessage;
 import com.kaua.ecommerce.domain.validation.Error;
 import org.junit.jupiter.api.Assertions;
@@ -46,12 +47,11 @@ public class DecreaseInventoryUseCaseTest extends UseCaseTest {
         final var aSku = aInventory.getSku();
         final var aQuantity = 5;
 
-        final var aInventoryUpdatedAt = aInventory.getUpdatedAt();
-
         final var aCommand = DecreaseInventoryQuantityCommand.with(aSku, aQuantity);
 
         Mockito.when(inventoryGateway.findBySku(aSku)).thenReturn(Optional.of(aInventory));
-        Mockito.when(inventoryGateway.update(Mockito.any())).thenAnswer(returnsFirstArg());
+        Mockito.when(inventoryGateway.decreaseQuantityBySku(aSku, aQuantity))
+                .thenReturn(Optional.of(aOldInventoryQuantity - aQuantity));
         Mockito.when(inventoryMovementGateway.create(Mockito.any())).thenAnswer(returnsFirstArg());
         Mockito.when(transactionManager.execute(Mockito.any())).thenAnswer(it -> {
             final var aSupplier = it.getArgument(0, Supplier.class);
@@ -66,10 +66,38 @@ public class DecreaseInventoryUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(aInventory.getProductId(), aOutput.productId());
 
         Mockito.verify(inventoryGateway, Mockito.times(1)).findBySku(aSku);
-        Mockito.verify(inventoryGateway, Mockito.times(1)).update(argThat(aCmd ->
-                Objects.equals(aCmd.getQuantity(), aOldInventoryQuantity - aQuantity)
-                        && aCmd.getUpdatedAt().isAfter(aInventoryUpdatedAt)));
-        Mockito.verify(inventoryMovementGateway, Mockito.times(1)).create(Mockito.any());
+        Mockito.verify(inventoryGateway, Mockito.times(1)).decreaseQuantityBySku(aSku, aQuantity);
+        Mockito.verify(inventoryGateway, Mockito.times(0)).update(Mockito.any());
+        Mockito.verify(inventoryMovementGateway, Mockito.times(1)).create(argThat(aMovement ->
+                Objects.equals(aMovement.getSku(), aSku)
+                        && Objects.equals(aMovement.getQuantity(), aQuantity)
+                        && Objects.equals(aMovement.getStatus(), InventoryMovementStatus.OUT)));
+    }
+
+    @Test
+    void givenAQuantityGreaterThanStock_whenCallExecuteDecrease_shouldReturnDomainExceptionWithoutMovement() {
+        final var aInventory = Fixture.Inventories.tshirtInventory();
+
+        final var aSku = aInventory.getSku();
+        final var aQuantity = aInventory.getQuantity() + 1;
+
+        final var expectedErrorMessage = CommonErrorMessage.greaterThan("quantity", -1);
+
+        final var aCommand = DecreaseInventoryQuantityCommand.with(aSku, aQuantity);
+
+        Mockito.when(inventoryGateway.findBySku(aSku)).thenReturn(Optional.of(aInventory));
+        Mockito.when(inventoryGateway.decreaseQuantityBySku(aSku, aQuantity)).thenReturn(Optional.empty());
+        Mockito.when(transactionManager.execute(Mockito.any())).thenAnswer(it -> {
+            final var aSupplier = it.getArgument(0, Supplier.class);
+            return TransactionResult.success(aSupplier.get());
+        });
+
+        final var aOutput = this.decreaseInventoryQuantityUseCase.execute(aCommand).getLeft();
+
+        Assertions.assertEquals(expectedErrorMessage, aOutput.getErrors().get(0).message());
+
+        Mockito.verify(inventoryGateway, Mockito.times(1)).decreaseQuantityBySku(aSku, aQuantity);
+        Mockito.verify(inventoryMovementGateway, Mockito.times(0)).create(Mockito.any());
     }
 
     @Test
@@ -135,7 +163,7 @@ public class DecreaseInventoryUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedErrorMessage, aOutput.getMessage());
 
         Mockito.verify(inventoryGateway, Mockito.times(1)).findBySku(aSku);
-        Mockito.verify(inventoryGateway, Mockito.times(0)).update(Mockito.any());
+        Mockito.verify(inventoryGateway, Mockito.times(0)).decreaseQuantityBySku(Mockito.any(), Mockito.anyInt());
         Mockito.verify(inventoryMovementGateway, Mockito.times(0)).create(Mockito.any());
     }
 }
@@ -0,0 +1,72 @@
+package com.kaua.ecommerce.application.usecases.inventory.decrease;
+
+import com.kaua.ecommerce.application.UseCaseTest;
+import com.kaua.ecommerce.application.either.Either;
+import com.kaua.ecommerce.application.gateways.HotInventoryGateway;
+import com.kaua.ecommerce.domain.Fixture;
+import com.kaua.ecommerce.domain.utils.CommonErrorMessage;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.Optional;
+
+public class HotSkuDecreaseInventoryUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private HotInventoryGateway hotInventoryGateway;
+
+    @Mock
+    private DecreaseInventoryQuantityUseCase decreaseInventoryQuantityUseCase;
+
+    @InjectMocks
+    private HotSkuDecreaseInventoryQuantityUseCase hotSkuDecreaseInventoryQuantityUseCase;
+
+    @Test
+    void givenAHotSku_whenCallExecuteDecrease_thenShouldDecreaseFromMemory() {
+        final var aInventory = Fixture.Inventories.tshirtInventory();
+        final var aSku = aInventory.getSku();
+        final var aCommand = DecreaseInventoryQuantityCommand.with(aSku, 5);
+
+        Mockito.when(hotInventoryGateway.findBySku(aSku)).thenReturn(Optional.of(aInventory));
+        Mockito.when(hotInventoryGateway.decreaseQuantityBySku(aSku, 5)).thenReturn(true);
+
+        final var aOutput = this.hotSkuDecreaseInventoryQuantityUseCase.execute(aCommand).getRight();
+
+        Assertions.assertEquals(aInventory.getId().getValue(), aOutput.inventoryId());
+        Assertions.assertEquals(aInventory.getProductId(), aOutput.productId());
+        Assertions.assertEquals(aSku, aOutput.sku());
+
+        Mockito.verify(decreaseInventoryQuantityUseCase, Mockito.never()).execute(Mockito.any());
+    }
+
+    @Test
+    void givenAHotSkuWithoutEnoughStock_whenCallExecuteDecrease_thenShouldReturnError() {
+        final var aInventory = Fixture.Inventories.tshirtInventory();
+        final var aSku = aInventory.getSku();
+        final var aCommand = DecreaseInventoryQuantityCommand.with(aSku, 5);
+        final var expectedErrorMessage = CommonErrorMessage.greaterThan("quantity", -1);
+
+        Mockito.when(hotInventoryGateway.findBySku(aSku)).thenReturn(Optional.of(aInventory));
+        Mockito.when(hotInventoryGateway.decreaseQuantityBySku(aSku, 5)).thenReturn(false);
+
+        final var aNotification = this.hotSkuDecreaseInventoryQuantityUseCase.execute(aCommand).getLeft();
+
+        Assertions.assertEquals(expectedErrorMessage, aNotification.getErrors().get(0).message());
+        Mockito.verify(decreaseInventoryQuantityUseCase, Mockito.never()).execute(Mockito.any());
+    }
+
+    @Test
+    void givenANotHotSku_whenCallExecuteDecrease_thenShouldDelegate() {
+        final var aCommand = DecreaseInventoryQuantityCommand.with("sku", 5);
+        final var aOutput = DecreaseInventoryQuantityOutput.from(Fixture.Inventories.tshirtInventory());
+
+        Mockito.when(hotInventoryGateway.findBySku("sku")).thenReturn(Optional.empty());
+        Mockito.when(decreaseInventoryQuantityUseCase.execute(aCommand)).thenReturn(Either.right(aOutput));
+
+        Assertions.assertEquals(aOutput, this.hotSkuDecreaseInventoryQuantityUseCase.execute(aCommand).getRight());
+        Mockito.verify(hotInventoryGateway, Mockito.never()).decreaseQuantityBySku(Mockito.any(), Mockito.anyInt());
+    }
+}
@@ -0,0 +1,106 @@
+package com.kaua.ecommerce.application.usecases.inventory.delete.remove;
+
+import com.kaua.ecommerce.application.UseCaseTest;
+import com.kaua.ecommerce.application.adapters.TransactionManager;
+import com.kaua.ecommerce.application.adapters.responses.TransactionResult;
+import com.kaua.ecommerce.application.exceptions.TransactionFailureException;
+import com.kaua.ecommerce.application.gateways.InventoryGateway;
+import com.kaua.ecommerce.application.gateways.InventoryMovementGateway;
+import com.kaua.ecommerce.domain.Fixture;
+import com.kaua.ecommerce.domain.inventory.Inventory;
+import com.kaua.ecommerce.domain.inventory.movement.InventoryMovementStatus;
+import com.kaua.ecommerce.domain.product.ProductID;
+import com.kaua.ecommerce.domain.validation.Error;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.argThat;
+
+public class RemoveInventoriesBySkusUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private InventoryGateway inventoryGateway;
+
+    @Mock
+    private InventoryMovementGateway inventoryMovementGateway;
+
+    @Mock
+    private TransactionManager transactionManager;
+
+    @InjectMocks
+    private DefaultRemoveInventoriesBySkusUseCase removeInventoriesBySkusUseCase;
+
+    @Test
+    void givenValidSkus_whenCallExecute_thenShouldDeleteAllInventoriesInOneBatch() {
+        final var aInventoryOne = Fixture.Inventories.tshirtInventory();
+        final var aInventoryTwo = Inventory.newInventory(ProductID.unique().getValue(), "sku-two", 7);
+        final var aSkus = Set.of(aInventoryOne.getSku(), aInventoryTwo.getSku(), "unknown-sku");
+
+        Mockito.when(this.inventoryGateway.findBySkus(aSkus)).thenReturn(List.of(aInventoryOne, aInventoryTwo));
+        Mockito.when(this.inventoryMovementGateway.createInBatch(Mockito.any())).thenAnswer(returnsFirstArg());
+        Mockito.when(this.transactionManager.execute(Mockito.any())).thenAnswer(it -> {
+            final var aSupplier = it.getArgument(0, Supplier.class);
+            return TransactionResult.success(aSupplier.get());
+        });
+
+        Assertions.assertDoesNotThrow(() -> this.removeInventoriesBySkusUseCase.execute(aSkus));
+
+        Mockito.verify(this.transactionManager, Mockito.times(1)).execute(Mockito.any());
+        Mockito.verify(this.inventoryGateway, Mockito.times(1))
+                .deleteBySkus(Set.of(aInventoryOne.getSku(), aInventoryTwo.getSku()));
+        Mockito.verify(this.inventoryMovementGateway, Mockito.times(1))
+                .createInBatch(argThat(aMovements -> aMovements.size() == 2
+                        && aMovements.stream().allMatch(it -> it.getStatus() == InventoryMovementStatus.REMOVED)
+                        && aMovements.stream().anyMatch(it -> it.getSku().equals(aInventoryTwo.getSku())
+                        && it.getQuantity() == 7)));
+        Mockito.verify(this.inventoryMovementGateway, Mockito.times(0)).create(Mockito.any());
+    }
+
+    @Test
+    void givenOnlyUnknownSkus_whenCallExecute_thenShouldNotDeleteAnything() {
+        final var aSkus = Set.of("unknown-sku");
+
+        Mockito.when(this.inventoryGateway.findBySkus(aSkus)).thenReturn(Collections.emptyList());
+        Mockito.when(this.transactionManager.execute(Mockito.any())).thenAnswer(it -> {
+            final var aSupplier = it.getArgument(0, Supplier.class);
+            return TransactionResult.success(aSupplier.get());
+        });
+
+        Assertions.assertDoesNotThrow(() -> this.removeInventoriesBySkusUseCase.execute(aSkus));
+
+        Mockito.verify(this.inventoryGateway, Mockito.times(0)).deleteBySkus(Mockito.any());
+        Mockito.verify(this.inventoryMovementGateway, Mockito.times(0)).createInBatch(Mockito.any());
+    }
+
+    @Test
+    void givenEmptySkus_whenCallExecute_thenShouldNotOpenATransaction() {
+        Assertions.assertDoesNotThrow(() -> this.removeInventoriesBySkusUseCase.execute(Set.of()));
+
+        Mockito.verifyNoInteractions(this.transactionManager, this.inventoryGateway, this.inventoryMovementGateway);
+    }
+
+    @Test
+    void givenValidSkus_whenCallExecuteButTransactionFails_thenShouldThrowTransactionFailureException() {
+        final var aSkus = Set.of(Fixture.Inventories.tshirtInventory().getSku());
+
+        final var expectedErrorMessage = "Error on delete inventories";
+
+        Mockito.when(this.transactionManager.execute(Mockito.any())).thenReturn(TransactionResult
+                .failure(new Error(expectedErrorMessage)));
+
+        final var aOutput = Assertions.assertThrows(
+                TransactionFailureException.class,
+                () -> this.removeInventoriesBySkusUseCase.execute(aSkus));
+
+        Assertions.assertEquals(expectedErrorMessage, aOutput.getMessage());
+    }
+}
@@ -1,6 +1,7 @@
 package com.kaua.ecommerce.application.usecases.inventory.retrieve.get;
 
 import com.kaua.ecommerce.application.UseCaseTest;
+import com.kaua.ecommerce.application.gateways.CacheGateway;
 import com.kaua.ecommerce.application.gateways.InventoryGateway;
 import com.kaua.ecommerce.domain.Fixture;
 import com.kaua.ecommerce.domain.exceptions.NotFoundException;
@@ -18,6 +19,9 @@ public class GetInventoryBySkuUseCaseTest extends UseCaseTest {
     @Mock
     private InventoryGateway inventoryGateway;
 
+    @Mock
+    private CacheGateway<Inventory> inventoryCacheGateway;
+
     @InjectMocks
     private DefaultGetInventoryBySkuUseCase getInventoryBySkuUseCase;
 
@@ -37,6 +41,25 @@ public class GetInventoryBySkuUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(aInventory.getCreatedAt(), aOutput.createdAt());
         Assertions.assertEquals(aInventory.getUpdatedAt(), aOutput.updatedAt());
         Assertions.assertEquals(aInventory.getVersion(), aOutput.version());
+
+        Mockito.verify(inventoryCacheGateway, Mockito.times(1)).save(aInventory);
+    }
+
+    @Test
+    void givenACachedSku_whenCallGetInventoryBySkuExecute_thenReturnInventoryWithoutDatabase() {
+        final var aInventory = Fixture.Inventories.tshirtInventory();
+        final var aSku = aInventory.getSku();
+
+        Mockito.when(inventoryCacheGateway.get(aSku)).thenReturn(Optional.of(aInventory));
+
+        final var aOutput = this.getInventoryBySkuUseCase.execute(aSku);
+
+        Assertions.assertEquals(aInventory.getId().getValue(), aOutput.id());
+        Assertions.assertEquals(aInventory.getQuantity(), aOutput.quantity());
+        Assertions.assertEquals(aInventory.getVersion(), aOutput.version());
+
+        Mockito.verifyNoInteractions(inventoryGateway);
+        Mockito.verify(inventoryCacheGateway, Mockito.times(0)).save(Mockito.any());
     }
 
     @Test
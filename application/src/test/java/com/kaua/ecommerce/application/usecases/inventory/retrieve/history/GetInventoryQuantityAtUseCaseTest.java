@@ -0,0 +1,58 @@
+package com.kaua.ecommerce.application.usecases.inventory.retrieve.history;
+
+import com.kaua.ecommerce.application.UseCaseTest;
+import com.kaua.ecommerce.application.gateways.InventoryHistoryGateway;
+import com.kaua.ecommerce.application.gateways.responses.InventorySnapshot;
+import com.kaua.ecommerce.domain.utils.InstantUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public class GetInventoryQuantityAtUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private InventoryHistoryGateway inventoryHistoryGateway;
+
+    @InjectMocks
+    private DefaultGetInventoryQuantityAtUseCase getInventoryQuantityAtUseCase;
+
+    @Test
+    void givenASnapshotBeforeTheInstant_whenCallExecute_thenReturnSnapshotPlusMovementsAfterIt() {
+        final var aSku = "sku-one";
+        final var aTakenAt = InstantUtils.parse("2024-01-01T00:00:00Z");
+        final var aAt = InstantUtils.parse("2024-01-10T10:00:00Z");
+
+        Mockito.when(inventoryHistoryGateway.findLastSnapshotBySkuAt(aSku, aAt))
+                .thenReturn(Optional.of(new InventorySnapshot(aSku, 30, aTakenAt)));
+        Mockito.when(inventoryHistoryGateway.sumMovementsBySkuBetween(aSku, aTakenAt, aAt))
+                .thenReturn(-5);
+
+        final var aOutput = this.getInventoryQuantityAtUseCase
+                .execute(GetInventoryQuantityAtCommand.with(aSku, aAt));
+
+        Assertions.assertEquals(aSku, aOutput.sku());
+        Assertions.assertEquals(25, aOutput.quantity());
+        Assertions.assertEquals(aAt, aOutput.at());
+    }
+
+    @Test
+    void givenNoSnapshotBeforeTheInstant_whenCallExecute_thenReturnSumOfAllMovements() {
+        final var aSku = "sku-one";
+        final var aAt = InstantUtils.parse("2024-01-10T10:00:00Z");
+
+        Mockito.when(inventoryHistoryGateway.findLastSnapshotBySkuAt(aSku, aAt))
+                .thenReturn(Optional.empty());
+        Mockito.when(inventoryHistoryGateway.sumMovementsBySkuBetween(aSku, Instant.EPOCH, aAt))
+                .thenReturn(12);
+
+        final var aOutput = this.getInventoryQuantityAtUseCase
+                .execute(GetInventoryQuantityAtCommand.with(aSku, aAt));
+
+        Assertions.assertEquals(12, aOutput.quantity());
+    }
+}
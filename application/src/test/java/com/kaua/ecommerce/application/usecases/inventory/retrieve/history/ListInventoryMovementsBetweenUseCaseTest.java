@@ -0,0 +1,66 @@
+package com.kaua.ecommerce.application.usecases.inventory.retrieve.history;
+
+import com.kaua.ecommerce.application.UseCaseTest;
+import com.kaua.ecommerce.application.gateways.InventoryHistoryGateway;
+import com.kaua.ecommerce.domain.Fixture;
+import com.kaua.ecommerce.domain.utils.InstantUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+public class ListInventoryMovementsBetweenUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private InventoryHistoryGateway inventoryHistoryGateway;
+
+    @InjectMocks
+    private DefaultListInventoryMovementsBetweenUseCase listInventoryMovementsBetweenUseCase;
+
+    @Test
+    void givenAValidWindow_whenCallExecute_thenReturnMovements() {
+        final var aMovement = Fixture.InventoriesMovements.out();
+        final var aFrom = InstantUtils.parse("2024-01-01T00:00:00Z");
+        final var aTo = InstantUtils.parse("2024-02-01T00:00:00Z");
+
+        Mockito.when(inventoryHistoryGateway.findMovementsBySkuBetween(aMovement.getSku(), aFrom, aTo, 10))
+                .thenReturn(List.of(aMovement));
+
+        final var aOutput = this.listInventoryMovementsBetweenUseCase
+                .execute(ListInventoryMovementsBetweenCommand.with(aMovement.getSku(), aFrom, aTo, 10));
+
+        Assertions.assertEquals(1, aOutput.size());
+        Assertions.assertEquals(aMovement.getId().getValue(), aOutput.get(0).id());
+        Assertions.assertEquals(aMovement.getStatus().name(), aOutput.get(0).movementType());
+    }
+
+    @Test
+    void givenALimitAboveTheMax_whenCallExecute_thenCapTheLimit() {
+        final var aFrom = InstantUtils.parse("2024-01-01T00:00:00Z");
+        final var aTo = InstantUtils.parse("2024-02-01T00:00:00Z");
+
+        Mockito.when(inventoryHistoryGateway.findMovementsBySkuBetween("sku", aFrom, aTo,
+                DefaultListInventoryMovementsBetweenUseCase.MAX_LIMIT)).thenReturn(List.of());
+
+        final var aOutput = this.listInventoryMovementsBetweenUseCase
+                .execute(ListInventoryMovementsBetweenCommand.with("sku", aFrom, aTo, 50_000));
+
+        Assertions.assertTrue(aOutput.isEmpty());
+        Mockito.verify(inventoryHistoryGateway, Mockito.times(1)).findMovementsBySkuBetween("sku", aFrom, aTo,
+                DefaultListInventoryMovementsBetweenUseCase.MAX_LIMIT);
+    }
+
+    @Test
+    void givenAnEmptyWindow_whenCallExecute_thenReturnEmptyWithoutQuerying() {
+        final var aAt = InstantUtils.parse("2024-01-01T00:00:00Z");
+
+        final var aOutput = this.listInventoryMovementsBetweenUseCase
+                .execute(ListInventoryMovementsBetweenCommand.with("sku", aAt, aAt, 10));
+
+        Assertions.assertTrue(aOutput.isEmpty());
+        Mockito.verifyNoInteractions(inventoryHistoryGateway);
+    }
+}
@@ -0,0 +1,374 @@
+package com.kaua.ecommerce.application.usecases.order.create;
+
+import com.kaua.ecommerce.application.UseCaseTest;
+import com.kaua.ecommerce.application.adapters.TransactionManager;
+import com.kaua.ecommerce.application.adapters.responses.TransactionResult;
+import com.kaua.ecommerce.application.exceptions.GatewayTimeoutException;
+import com.kaua.ecommerce.application.gateways.order.*;
+import com.kaua.ecommerce.domain.Fixture;
+import com.kaua.ecommerce.domain.customer.Customer;
+import com.kaua.ecommerce.domain.exceptions.DomainException;
+import com.kaua.ecommerce.domain.exceptions.NotFoundException;
+import com.kaua.ecommerce.domain.utils.IdUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.stubbing.Answer;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+
+public class ConcurrentCreateOrderUseCaseTest extends UseCaseTest {
+
+    private static final Duration LOOKUP_TIMEOUT = Duration.ofSeconds(1);
+
+    @Mock
+    private OrderGateway orderGateway;
+
+    @Mock
+    private OrderCustomerGateway orderCustomerGateway;
+
+    @Mock
+    private OrderCouponGateway orderCouponGateway;
+
+    @Mock
+    private OrderDeliveryGateway orderDeliveryGateway;
+
+    @Mock
+    private OrderPaymentGateway orderPaymentGateway;
+
+    @Mock
+    private OrderProductGateway orderProductGateway;
+
+    @Mock
+    private OrderFreightGateway orderFreightGateway;
+
+    @Mock
+    private TransactionManager transactionManager;
+
+    private ExecutorService executor;
+
+    private ConcurrentCreateOrderUseCase createOrderUseCase;
+
+    @BeforeEach
+    void setUp() {
+        this.executor = Executors.newFixedThreadPool(8);
+        this.createOrderUseCase = newConcurrentCreateOrderUseCase(
+                CreateOrderLookupsTimeouts.with(LOOKUP_TIMEOUT, LOOKUP_TIMEOUT, LOOKUP_TIMEOUT));
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    void givenAValidCommand_whenCallConcurrentCreateOrderUseCase_thenShouldCreateOrder() {
+        final var aCustomer = Fixture.Customers.customerWithAllParams;
+        final var aCommand = createOrderCommand(aCustomer.getAccountId(), "camiseta", "bola");
+
+        mockSuccessfulLookups(aCustomer, Duration.ZERO);
+        mockOrderPersistence();
+
+        final var aOutput = this.createOrderUseCase.execute(aCommand).getRight();
+
+        Assertions.assertNotNull(aOutput);
+        Assertions.assertNotNull(aOutput.orderId());
+        Assertions.assertNotNull(aOutput.orderCode());
+
+        Mockito.verify(orderCustomerGateway, Mockito.times(1)).findByCustomerId(aCustomer.getAccountId());
+        Mockito.verify(orderProductGateway, Mockito.times(1)).getProductDetailsBySkus(Set.of("camiseta", "bola"));
+        Mockito.verify(orderFreightGateway, Mockito.times(1)).calculateFreight(Mockito.any());
+        Mockito.verify(orderGateway, Mockito.times(1)).count();
+        Mockito.verify(orderGateway, Mockito.times(1)).create(Mockito.any());
+    }
+
+    @Test
+    void givenSlowGateways_whenCallConcurrentCreateOrderUseCase_thenP99ShouldBeLowerThanSequential() {
+        final var aCustomer = Fixture.Customers.customerWithAllParams;
+        final var aCommand = createOrderCommand(aCustomer.getAccountId(), "camiseta", "bola", "tenis");
+        final var aGatewayLatency = Duration.ofMillis(20);
+        final var aIterations = 20;
+
+        mockSuccessfulLookups(aCustomer, aGatewayLatency);
+        mockOrderPersistence();
+
+        final var aSequentialUseCase = new DefaultCreateOrderUseCase(
+                orderGateway,
+                orderCouponGateway,
+                orderCustomerGateway,
+                orderDeliveryGateway,
+                orderPaymentGateway,
+                orderProductGateway,
+                orderFreightGateway,
+                transactionManager
+        );
+
+        final var aSequentialP99 = p99(aIterations, () -> aSequentialUseCase.execute(aCommand).getRight());
+        final var aConcurrentP99 = p99(aIterations, () -> this.createOrderUseCase.execute(aCommand).getRight());
+
+        // sequential is the sum of customer + products + freight, concurrent is max(customer, products) + freight
+        Assertions.assertTrue(aSequentialP99 >= aGatewayLatency.toNanos() * 3);
+        Assertions.assertTrue(aConcurrentP99 < aSequentialP99,
+                "concurrent p99 %d ns should be lower than sequential p99 %d ns"
+                        .formatted(aConcurrentP99, aSequentialP99));
+    }
+
+    @Test
+    void givenASlowCustomerGateway_whenCallConcurrentCreateOrderUseCase_shouldThrowGatewayTimeoutException() {
+        final var aCustomer = Fixture.Customers.customerWithAllParams;
+        final var aCommand = createOrderCommand(aCustomer.getAccountId(), "camiseta");
+        final var aTimeout = Duration.ofMillis(50);
+
+        final var expectedErrorMessage = "OrderCustomerGateway did not respond within 50 ms";
+
+        this.createOrderUseCase = newConcurrentCreateOrderUseCase(
+                CreateOrderLookupsTimeouts.with(aTimeout, LOOKUP_TIMEOUT, LOOKUP_TIMEOUT));
+
+        Mockito.when(orderCustomerGateway.findByCustomerId(aCustomer.getAccountId()))
+                .thenAnswer(delayed(Duration.ofSeconds(2), createOrderCustomerOutput(aCustomer)));
+        Mockito.when(orderProductGateway.getProductDetailsBySkus(Mockito.anySet()))
+                .thenReturn(Map.of("camiseta", createOrderProductDetailsOutput("camiseta", BigDecimal.TEN)));
+
+        final var aException = Assertions.assertThrows(GatewayTimeoutException.class,
+                () -> this.createOrderUseCase.execute(aCommand));
+
+        Assertions.assertEquals(expectedErrorMessage, aException.getMessage());
+
+        Mockito.verify(orderFreightGateway, Mockito.times(0)).calculateFreight(Mockito.any());
+        Mockito.verify(orderGateway, Mockito.times(0)).create(Mockito.any());
+    }
+
+    @Test
+    void givenAnExecutorRunningLookupsOnTheCaller_whenCallConcurrentCreateOrderUseCase_shouldStillApplyTheTimeout() {
+        final var aCustomer = Fixture.Customers.customerWithAllParams;
+        final var aCommand = createOrderCommand(aCustomer.getAccountId(), "camiseta");
+        final var aTimeout = Duration.ofMillis(50);
+
+        final var expectedErrorMessage = "OrderCustomerGateway did not respond within 50 ms";
+
+        this.createOrderUseCase = newConcurrentCreateOrderUseCase(
+                Runnable::run,
+                CreateOrderLookupsTimeouts.with(aTimeout, LOOKUP_TIMEOUT, LOOKUP_TIMEOUT));
+
+        Mockito.when(orderCustomerGateway.findByCustomerId(aCustomer.getAccountId()))
+                .thenAnswer(delayed(Duration.ofMillis(200), createOrderCustomerOutput(aCustomer)));
+        // lenient because the products lookup is not started once the customer lookup timed out
+        Mockito.lenient().when(orderProductGateway.getProductDetailsBySkus(Mockito.anySet()))
+                .thenReturn(Map.of("camiseta", createOrderProductDetailsOutput("camiseta", BigDecimal.TEN)));
+
+        final var aException = Assertions.assertThrows(GatewayTimeoutException.class,
+                () -> this.createOrderUseCase.execute(aCommand));
+
+        Assertions.assertEquals(expectedErrorMessage, aException.getMessage());
+
+        Mockito.verify(orderGateway, Mockito.times(0)).create(Mockito.any());
+    }
+
+    @Test
+    void givenASaturatedExecutor_whenCallConcurrentCreateOrderUseCase_shouldThrowGatewayTimeoutException() {
+        final var aCustomer = Fixture.Customers.customerWithAllParams;
+        final var aCommand = createOrderCommand(aCustomer.getAccountId(), "camiseta");
+
+        final var expectedErrorMessage = "OrderCustomerGateway was not called, all the lookup workers are busy";
+
+        this.createOrderUseCase = newConcurrentCreateOrderUseCase(
+                aTask -> {
+                    throw new RejectedExecutionException();
+                },
+                CreateOrderLookupsTimeouts.with(LOOKUP_TIMEOUT, LOOKUP_TIMEOUT, LOOKUP_TIMEOUT));
+
+        final var aException = Assertions.assertThrows(GatewayTimeoutException.class,
+                () -> this.createOrderUseCase.execute(aCommand));
+
+        Assertions.assertEquals(expectedErrorMessage, aException.getMessage());
+
+        Mockito.verify(orderCustomerGateway, Mockito.times(0)).findByCustomerId(Mockito.any());
+        Mockito.verify(orderProductGateway, Mockito.times(0)).getProductDetailsBySkus(Mockito.anySet());
+    }
+
+    @Test
+    void givenInvalidCustomerId_whenCallConcurrentCreateOrderUseCase_shouldCancelProductsLookupsAndThrowNotFoundException() {
+        final var aCustomerId = "123";
+        final var aCommand = createOrderCommand(aCustomerId, "camiseta", "bola");
+
+        final var expectedErrorMessage = Fixture.notFoundMessage(Customer.class, aCustomerId);
+
+        Mockito.when(orderCustomerGateway.findByCustomerId(aCustomerId))
+                .thenReturn(Optional.empty());
+        // lenient because the products lookups may be cancelled before they even start
+        Mockito.lenient().when(orderProductGateway.getProductDetailsBySkus(Mockito.anySet()))
+                .thenAnswer(delayed(Duration.ofMillis(500), Map.of()));
+
+        final var aStartTime = System.nanoTime();
+        final var aException = Assertions.assertThrows(NotFoundException.class,
+                () -> this.createOrderUseCase.execute(aCommand));
+        final var aElapsed = Duration.ofNanos(System.nanoTime() - aStartTime);
+
+        Assertions.assertEquals(expectedErrorMessage, aException.getMessage());
+        Assertions.assertTrue(aElapsed.compareTo(Duration.ofMillis(500)) < 0,
+                "the use case should not wait for the cancelled products lookups");
+
+        Mockito.verify(orderFreightGateway, Mockito.times(0)).calculateFreight(Mockito.any());
+        Mockito.verify(orderGateway, Mockito.times(0)).create(Mockito.any());
+    }
+
+    @Test
+    void givenInvalidOneSku_whenCallConcurrentCreateOrderUseCase_shouldThrowDomainException() {
+        final var aCustomer = Fixture.Customers.customerWithAllParams;
+        final var aCommand = createOrderCommand(aCustomer.getAccountId(), "camiseta", "bola");
+
+        final var expectedErrorMessage = "No product details found";
+
+        Mockito.when(orderCustomerGateway.findByCustomerId(aCustomer.getAccountId()))
+                .thenReturn(createOrderCustomerOutput(aCustomer));
+        Mockito.when(orderProductGateway.getProductDetailsBySkus(Set.of("camiseta", "bola")))
+                .thenReturn(Map.of("camiseta", createOrderProductDetailsOutput("camiseta", BigDecimal.TEN)));
+
+        final var aException = Assertions.assertThrows(DomainException.class,
+                () -> this.createOrderUseCase.execute(aCommand));
+
+        Assertions.assertEquals(expectedErrorMessage, aException.getErrors().get(0).message());
+
+        Mockito.verify(orderFreightGateway, Mockito.times(0)).calculateFreight(Mockito.any());
+        Mockito.verify(orderGateway, Mockito.times(0)).create(Mockito.any());
+    }
+
+    private ConcurrentCreateOrderUseCase newConcurrentCreateOrderUseCase(final CreateOrderLookupsTimeouts aTimeouts) {
+        return newConcurrentCreateOrderUseCase(this.executor, aTimeouts);
+    }
+
+    private ConcurrentCreateOrderUseCase newConcurrentCreateOrderUseCase(
+            final Executor aExecutor,
+            final CreateOrderLookupsTimeouts aTimeouts
+    ) {
+        return new ConcurrentCreateOrderUseCase(
+                orderGateway,
+                orderCouponGateway,
+                orderCustomerGateway,
+                orderDeliveryGateway,
+                orderPaymentGateway,
+                orderProductGateway,
+                orderFreightGateway,
+                transactionManager,
+                aExecutor,
+                aTimeouts
+        );
+    }
+
+    private long p99(final int aIterations, final Runnable aAction) {
+        final var aLatencies = new ArrayList<Long>(aIterations);
+        for (int i = 0; i < aIterations; i++) {
+            final var aStartTime = System.nanoTime();
+            aAction.run();
+            aLatencies.add(System.nanoTime() - aStartTime);
+        }
+        aLatencies.sort(Long::compareTo);
+        return aLatencies.get((int) Math.ceil(aIterations * 0.99) - 1);
+    }
+
+    private void mockSuccessfulLookups(final Customer aCustomer, final Duration aLatency) {
+        Mockito.when(orderCustomerGateway.findByCustomerId(aCustomer.getAccountId()))
+                .thenAnswer(delayed(aLatency, createOrderCustomerOutput(aCustomer)));
+        Mockito.when(orderProductGateway.getProductDetailsBySkus(Mockito.anySet()))
+                .thenAnswer(it -> {
+                    Thread.sleep(aLatency.toMillis());
+                    final Set<String> aSkus = it.getArgument(0);
+                    return aSkus.stream().collect(Collectors.toMap(
+                            Function.identity(),
+                            sku -> createOrderProductDetailsOutput(sku, BigDecimal.valueOf(100.0))
+                    ));
+                });
+        Mockito.when(orderFreightGateway.calculateFreight(Mockito.any()))
+                .thenAnswer(delayed(aLatency, createOrderFreightDetails()));
+    }
+
+    private void mockOrderPersistence() {
+        Mockito.when(orderGateway.count())
+                .thenReturn(1L);
+        Mockito.when(orderGateway.createInBatch(Mockito.anySet()))
+                .thenAnswer(returnsFirstArg());
+        Mockito.when(orderDeliveryGateway.create(Mockito.any()))
+                .thenAnswer(returnsFirstArg());
+        Mockito.when(orderPaymentGateway.create(Mockito.any()))
+                .thenAnswer(returnsFirstArg());
+        Mockito.when(orderGateway.create(Mockito.any()))
+                .thenAnswer(returnsFirstArg());
+        Mockito.when(this.transactionManager.execute(Mockito.any()))
+                .thenAnswer(it -> TransactionResult.success(it.getArgument(0, Supplier.class).get()));
+    }
+
+    private static <T> Answer<T> delayed(final Duration aLatency, final T aResult) {
+        return it -> {
+            Thread.sleep(aLatency.toMillis());
+            return aResult;
+        };
+    }
+
+    private CreateOrderCommand createOrderCommand(final String aCustomerId, final String... aSkus) {
+        final var aItems = new HashSet<CreateOrderItemsCommand>();
+        for (final var aSku : aSkus) {
+            aItems.add(CreateOrderItemsCommand.with(IdUtils.generateWithoutDash(), aSku, 5));
+        }
+
+        return CreateOrderCommand.with(
+                aCustomerId,
+                null,
+                "SEDEX",
+                IdUtils.generateWithoutDash(),
+                0,
+                Set.copyOf(aItems)
+        );
+    }
+
+    private Optional<OrderCustomerGateway.OrderCustomerOutput> createOrderCustomerOutput(final Customer aCustomer) {
+        return Optional.of(
+                new OrderCustomerGateway.OrderCustomerOutput(
+                        aCustomer.getAccountId(),
+                        aCustomer.getAddress().get().getZipCode(),
+                        aCustomer.getAddress().get().getStreet(),
+                        aCustomer.getAddress().get().getNumber(),
+                        aCustomer.getAddress().get().getComplement(),
+                        aCustomer.getAddress().get().getDistrict(),
+                        aCustomer.getAddress().get().getCity(),
+                        aCustomer.getAddress().get().getState()
+                )
+        );
+    }
+
+    private OrderFreightGateway.OrderFreightDetails createOrderFreightDetails() {
+        return new OrderFreightGateway.OrderFreightDetails(
+                "PAC",
+                10.0f,
+                5
+        );
+    }
+
+    private OrderProductGateway.OrderProductDetails createOrderProductDetailsOutput(String sku, BigDecimal price) {
+        return new OrderProductGateway.OrderProductDetails(
+                sku,
+                price,
+                15.0,
+                30.0,
+                10.0,
+                0.5
+        );
+    }
+}
@@ -20,6 +20,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 
 import java.math.BigDecimal;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -91,9 +92,11 @@ public class CreateOrderUseCaseTest extends UseCaseTest {
 
         Mockito.when(orderCustomerGateway.findByCustomerId(aCustomerId))
                 .thenReturn(createOrderCustomerOutput(aCustomer));
-        Mockito.when(orderProductGateway.getProductDetailsBySku(Mockito.any()))
-                .thenReturn(Optional.of(createOrderProductDetailsOutput("camiseta", BigDecimal.valueOf(100.0))))
-                .thenReturn(Optional.of(createOrderProductDetailsOutput("bola", BigDecimal.valueOf(200.0))));
+        Mockito.when(orderProductGateway.getProductDetailsBySkus(Mockito.anySet()))
+                .thenReturn(Map.of(
+                        "camiseta", createOrderProductDetailsOutput("camiseta", BigDecimal.valueOf(100.0)),
+                        "bola", createOrderProductDetailsOutput("bola", BigDecimal.valueOf(200.0))
+                ));
         Mockito.when(orderFreightGateway.calculateFreight(Mockito.any()))
                 .thenReturn(createOrderFreightDetails());
         Mockito.when(orderCouponGateway.applyCoupon(Mockito.anyString(), Mockito.anyFloat()))
@@ -118,7 +121,7 @@ public class CreateOrderUseCaseTest extends UseCaseTest {
         Assertions.assertNotNull(aOutput.orderCode());
 
         Mockito.verify(orderCustomerGateway, Mockito.times(1)).findByCustomerId(aCustomerId);
-        Mockito.verify(orderProductGateway, Mockito.times(2)).getProductDetailsBySku(Mockito.any());
+        Mockito.verify(orderProductGateway, Mockito.times(1)).getProductDetailsBySkus(Set.of("camiseta", "bola"));
         Mockito.verify(orderFreightGateway, Mockito.times(1)).calculateFreight(Mockito.any());
         Mockito.verify(orderCouponGateway, Mockito.times(1)).applyCoupon(Mockito.anyString(), Mockito.anyFloat());
         Mockito.verify(orderGateway, Mockito.times(1)).count();
@@ -174,9 +177,11 @@ public class CreateOrderUseCaseTest extends UseCaseTest {
 
         Mockito.when(orderCustomerGateway.findByCustomerId(aCustomerId))
                 .thenReturn(createOrderCustomerOutput(aCustomer));
-        Mockito.when(orderProductGateway.getProductDetailsBySku(Mockito.any()))
-                .thenReturn(Optional.of(createOrderProductDetailsOutput("camiseta", BigDecimal.valueOf(100.0))))
-                .thenReturn(Optional.of(createOrderProductDetailsOutput("bola", BigDecimal.valueOf(200.0))));
+        Mockito.when(orderProductGateway.getProductDetailsBySkus(Mockito.anySet()))
+                .thenReturn(Map.of(
+                        "camiseta", createOrderProductDetailsOutput("camiseta", BigDecimal.valueOf(100.0)),
+                        "bola", createOrderProductDetailsOutput("bola", BigDecimal.valueOf(200.0))
+                ));
         Mockito.when(orderFreightGateway.calculateFreight(Mockito.any()))
                 .thenReturn(createOrderFreightDetails());
         Mockito.when(orderGateway.count())
@@ -199,7 +204,7 @@ public class CreateOrderUseCaseTest extends UseCaseTest {
         Assertions.assertNotNull(aOutput.orderCode());
 
         Mockito.verify(orderCustomerGateway, Mockito.times(1)).findByCustomerId(aCustomerId);
-        Mockito.verify(orderProductGateway, Mockito.times(2)).getProductDetailsBySku(Mockito.any());
+        Mockito.verify(orderProductGateway, Mockito.times(1)).getProductDetailsBySkus(Set.of("camiseta", "bola"));
         Mockito.verify(orderFreightGateway, Mockito.times(1)).calculateFreight(Mockito.any());
         Mockito.verify(orderCouponGateway, Mockito.times(0)).applyCoupon(Mockito.any(), Mockito.anyFloat());
         Mockito.verify(orderGateway, Mockito.times(1)).count();
@@ -255,9 +260,11 @@ public class CreateOrderUseCaseTest extends UseCaseTest {
 
         Mockito.when(orderCustomerGateway.findByCustomerId(aCustomerId))
                 .thenReturn(createOrderCustomerOutput(aCustomer));
-        Mockito.when(orderProductGateway.getProductDetailsBySku(Mockito.any()))
-                .thenReturn(Optional.of(createOrderProductDetailsOutput("camiseta", BigDecimal.valueOf(100.0))))
-                .thenReturn(Optional.of(createOrderProductDetailsOutput("bola", BigDecimal.valueOf(200.0))));
+        Mockito.when(orderProductGateway.getProductDetailsBySkus(Mockito.anySet()))
+                .thenReturn(Map.of(
+                        "camiseta", createOrderProductDetailsOutput("camiseta", BigDecimal.valueOf(100.0)),
+                        "bola", createOrderProductDetailsOutput("bola", BigDecimal.valueOf(200.0))
+                ));
         Mockito.when(orderFreightGateway.calculateFreight(Mockito.any()))
                 .thenReturn(createOrderFreightDetails());
         Mockito.when(orderGateway.count())
@@ -280,7 +287,7 @@ public class CreateOrderUseCaseTest extends UseCaseTest {
         Assertions.assertNotNull(aOutput.orderCode());
 
         Mockito.verify(orderCustomerGateway, Mockito.times(1)).findByCustomerId(aCustomerId);
-        Mockito.verify(orderProductGateway, Mockito.times(2)).getProductDetailsBySku(Mockito.any());
+        Mockito.verify(orderProductGateway, Mockito.times(1)).getProductDetailsBySkus(Set.of("camiseta", "bola"));
         Mockito.verify(orderFreightGateway, Mockito.times(1)).calculateFreight(Mockito.any());
         Mockito.verify(orderCouponGateway, Mockito.times(0)).applyCoupon(Mockito.any(), Mockito.anyFloat());
         Mockito.verify(orderGateway, Mockito.times(1)).count();
@@ -339,9 +346,11 @@ public class CreateOrderUseCaseTest extends UseCaseTest {
 
         Mockito.when(orderCustomerGateway.findByCustomerId(aCustomerId))
                 .thenReturn(createOrderCustomerOutput(aCustomer));
-        Mockito.when(orderProductGateway.getProductDetailsBySku(Mockito.any()))
-                .thenReturn(Optional.of(createOrderProductDetailsOutput("camiseta", BigDecimal.valueOf(100.0))))
-                .thenReturn(Optional.of(createOrderProductDetailsOutput("bola", BigDecimal.valueOf(200.0))));
+        Mockito.when(orderProductGateway.getProductDetailsBySkus(Mockito.anySet()))
+                .thenReturn(Map.of(
+                        "camiseta", createOrderProductDetailsOutput("camiseta", BigDecimal.valueOf(100.0)),
+                        "bola", createOrderProductDetailsOutput("bola", BigDecimal.valueOf(200.0))
+                ));
         Mockito.when(orderFreightGateway.calculateFreight(Mockito.any()))
                 .thenReturn(createOrderFreightDetails());
         Mockito.when(orderCouponGateway.applyCoupon(Mockito.anyString(), Mockito.anyFloat()))
@@ -358,7 +367,7 @@ public class CreateOrderUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedErrorMessage, aException.getMessage());
 
         Mockito.verify(orderCustomerGateway, Mockito.times(1)).findByCustomerId(aCustomerId);
-        Mockito.verify(orderProductGateway, Mockito.times(2)).getProductDetailsBySku(Mockito.any());
+        Mockito.verify(orderProductGateway, Mockito.times(1)).getProductDetailsBySkus(Set.of("camiseta", "bola"));
         Mockito.verify(orderFreightGateway, Mockito.times(1)).calculateFreight(Mockito.any());
         Mockito.verify(orderCouponGateway, Mockito.times(1)).applyCoupon(Mockito.any(), Mockito.anyFloat());
         Mockito.verify(orderGateway, Mockito.times(1)).count();
@@ -402,9 +411,11 @@ public class CreateOrderUseCaseTest extends UseCaseTest {
 
         Mockito.when(orderCustomerGateway.findByCustomerId(aCustomerId))
                 .thenReturn(createOrderCustomerOutput(aCustomer));
-        Mockito.when(orderProductGateway.getProductDetailsBySku(Mockito.any()))
-                .thenReturn(Optional.of(createOrderProductDetailsOutput("camiseta", BigDecimal.valueOf(100.0))))
-                .thenReturn(Optional.of(createOrderProductDetailsOutput("bola", BigDecimal.valueOf(200.0))));
+        Mockito.when(orderProductGateway.getProductDetailsBySkus(Mockito.anySet()))
+                .thenReturn(Map.of(
+                        "camiseta", createOrderProductDetailsOutput("camiseta", BigDecimal.valueOf(100.0)),
+                        "bola", createOrderProductDetailsOutput("bola", BigDecimal.valueOf(200.0))
+                ));
         Mockito.when(orderFreightGateway.calculateFreight(Mockito.any()))
                 .thenReturn(createOrderFreightDetails());
         Mockito.when(orderGateway.count())
@@ -419,7 +430,7 @@ public class CreateOrderUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(1, aOutput.getErrors().size());
 
         Mockito.verify(orderCustomerGateway, Mockito.times(1)).findByCustomerId(aCustomerId);
-        Mockito.verify(orderProductGateway, Mockito.times(2)).getProductDetailsBySku(Mockito.any());
+        Mockito.verify(orderProductGateway, Mockito.times(1)).getProductDetailsBySkus(Set.of("camiseta", "bola"));
         Mockito.verify(orderFreightGateway, Mockito.times(1)).calculateFreight(Mockito.any());
         Mockito.verify(orderCouponGateway, Mockito.times(1)).applyCoupon(Mockito.any(), Mockito.anyFloat());
         Mockito.verify(orderGateway, Mockito.times(1)).count();
@@ -471,7 +482,7 @@ public class CreateOrderUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(Fixture.notFoundMessage(Customer.class, aCustomerId), aException.getMessage());
 
         Mockito.verify(orderCustomerGateway, Mockito.times(1)).findByCustomerId(aCustomerId);
-        Mockito.verify(orderProductGateway, Mockito.times(0)).getProductDetailsBySku(Mockito.any());
+        Mockito.verify(orderProductGateway, Mockito.times(0)).getProductDetailsBySkus(Mockito.any());
         Mockito.verify(orderFreightGateway, Mockito.times(0)).calculateFreight(Mockito.any());
         Mockito.verify(orderCouponGateway, Mockito.times(0)).applyCoupon(Mockito.any(), Mockito.anyFloat());
         Mockito.verify(orderGateway, Mockito.times(0)).count();
@@ -518,9 +529,8 @@ public class CreateOrderUseCaseTest extends UseCaseTest {
 
         Mockito.when(orderCustomerGateway.findByCustomerId(aCustomerId))
                 .thenReturn(createOrderCustomerOutput(aCustomer));
-        Mockito.when(orderProductGateway.getProductDetailsBySku(Mockito.any()))
-                .thenReturn(Optional.empty())
-                .thenReturn(Optional.empty());
+        Mockito.when(orderProductGateway.getProductDetailsBySkus(Mockito.anySet()))
+                .thenReturn(Map.of());
 
         final var aException = Assertions.assertThrows(DomainException.class,
                 () -> this.createOrderUseCase.execute(aCommand));
@@ -529,7 +539,7 @@ public class CreateOrderUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedErrorMessage, aException.getErrors().get(0).message());
 
         Mockito.verify(orderCustomerGateway, Mockito.times(1)).findByCustomerId(aCustomerId);
-        Mockito.verify(orderProductGateway, Mockito.times(2)).getProductDetailsBySku(Mockito.any());
+        Mockito.verify(orderProductGateway, Mockito.times(1)).getProductDetailsBySkus(Set.of("camiseta", "bola"));
         Mockito.verify(orderFreightGateway, Mockito.times(0)).calculateFreight(Mockito.any());
         Mockito.verify(orderCouponGateway, Mockito.times(0)).applyCoupon(Mockito.any(), Mockito.anyFloat());
         Mockito.verify(orderGateway, Mockito.times(0)).count();
@@ -576,9 +586,8 @@ public class CreateOrderUseCaseTest extends UseCaseTest {
 
         Mockito.when(orderCustomerGateway.findByCustomerId(aCustomerId))
                 .thenReturn(createOrderCustomerOutput(aCustomer));
-        Mockito.when(orderProductGateway.getProductDetailsBySku(Mockito.any()))
-                .thenReturn(Optional.of(createOrderProductDetailsOutput("camiseta", BigDecimal.valueOf(100.0))))
-                .thenReturn(Optional.empty());
+        Mockito.when(orderProductGateway.getProductDetailsBySkus(Mockito.anySet()))
+                .thenReturn(Map.of("camiseta", createOrderProductDetailsOutput("camiseta", BigDecimal.valueOf(100.0))));
 
         final var aException = Assertions.assertThrows(DomainException.class,
                 () -> this.createOrderUseCase.execute(aCommand));
@@ -587,7 +596,7 @@ public class CreateOrderUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedErrorMessage, aException.getErrors().get(0).message());
 
         Mockito.verify(orderCustomerGateway, Mockito.times(1)).findByCustomerId(aCustomerId);
-        Mockito.verify(orderProductGateway, Mockito.times(2)).getProductDetailsBySku(Mockito.any());
+        Mockito.verify(orderProductGateway, Mockito.times(1)).getProductDetailsBySkus(Set.of("camiseta", "bola"));
         Mockito.verify(orderFreightGateway, Mockito.times(0)).calculateFreight(Mockito.any());
         Mockito.verify(orderCouponGateway, Mockito.times(0)).applyCoupon(Mockito.any(), Mockito.anyFloat());
         Mockito.verify(orderGateway, Mockito.times(0)).count();
@@ -0,0 +1,60 @@
+package com.kaua.ecommerce.application.usecases.product.retrieve.details;
+
+import com.kaua.ecommerce.application.UseCaseTest;
+import com.kaua.ecommerce.application.gateways.ProductGateway;
+import com.kaua.ecommerce.application.gateways.responses.ProductDetails;
+import com.kaua.ecommerce.domain.Fixture;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.Map;
+import java.util.Set;
+
+public class GetProductsDetailsBySkusUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private ProductGateway productGateway;
+
+    @InjectMocks
+    private DefaultGetProductsDetailsBySkusUseCase getProductsDetailsBySkusUseCase;
+
+    @Test
+    void givenValidSkus_whenCallExecute_thenShouldReturnProductsDetailsBySku() {
+        final var aProduct = Fixture.Products.tshirt();
+
+        final var aAttribute = aProduct.getAttributes().stream().findFirst().get();
+        final var aSku = aAttribute.getSku();
+        final var aInvalidSku = Fixture.createSku("invalid-sku");
+
+        final var aProductDetails = new ProductDetails(
+                aSku,
+                aProduct.getPrice(),
+                aAttribute.getSize().getWeight(),
+                aAttribute.getSize().getWidth(),
+                aAttribute.getSize().getHeight(),
+                aAttribute.getSize().getLength()
+        );
+
+        Mockito.when(this.productGateway.findProductDetailsBySkus(Mockito.anySet()))
+                .thenReturn(Map.of(aSku, aProductDetails));
+
+        final var aOutput = this.getProductsDetailsBySkusUseCase.execute(Set.of(aSku, aInvalidSku));
+
+        Assertions.assertEquals(1, aOutput.size());
+        Assertions.assertEquals(aProductDetails, aOutput.get(aSku));
+
+        Mockito.verify(productGateway, Mockito.times(1)).findProductDetailsBySkus(Set.of(aSku, aInvalidSku));
+    }
+
+    @Test
+    void givenAnEmptySkus_whenCallExecute_thenShouldReturnEmptyMapWithoutCallGateway() {
+        final var aOutput = this.getProductsDetailsBySkusUseCase.execute(Set.of());
+
+        Assertions.assertTrue(aOutput.isEmpty());
+
+        Mockito.verify(productGateway, Mockito.times(0)).findProductDetailsBySkus(Mockito.any());
+    }
+}
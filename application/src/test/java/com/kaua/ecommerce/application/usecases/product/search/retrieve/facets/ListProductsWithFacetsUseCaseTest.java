@@ -0,0 +1,61 @@
+package com.kaua.ecommerce.application.usecases.product.search.retrieve.facets;
+
+import com.kaua.ecommerce.application.UseCaseTest;
+import com.kaua.ecommerce.application.gateways.ProductSearchGateway;
+import com.kaua.ecommerce.application.gateways.commands.ProductFacetedSearchInput;
+import com.kaua.ecommerce.application.gateways.responses.ProductFacetedSearch;
+import com.kaua.ecommerce.application.usecases.product.search.retrieve.list.ListProductsOutput;
+import com.kaua.ecommerce.domain.Fixture;
+import com.kaua.ecommerce.domain.pagination.Pagination;
+import com.kaua.ecommerce.domain.pagination.SearchQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+public class ListProductsWithFacetsUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private ProductSearchGateway productSearchGateway;
+
+    @InjectMocks
+    private ListProductsWithFacetsUseCase useCase;
+
+    @Test
+    void givenAValidInput_whenCallListProductsWithFacets_shouldReturnProductsAndFacetCounts() {
+        final var aTshirt = Fixture.Products.tshirt();
+        final var aQuery = new SearchQuery(0, 10, "", "name", "asc");
+        final var aInput = ProductFacetedSearchInput.with(
+                aQuery,
+                Set.of(aTshirt.getCategoryId().getValue()),
+                Set.of("red"),
+                null,
+                BigDecimal.ZERO,
+                new BigDecimal("100.00")
+        );
+
+        final var aPagination = new Pagination<>(0, 10, 1, 1, List.of(aTshirt));
+        final var aCategories = List.of(new ProductFacetedSearch.FacetCount(aTshirt.getCategoryId().getValue(), 1));
+        final var aColors = List.of(new ProductFacetedSearch.FacetCount("RED", 1));
+        final var aSizes = List.of(new ProductFacetedSearch.FacetCount("M", 1));
+        final var aPrices = List.of(new ProductFacetedSearch.FacetCount("0.0-50.0", 1));
+
+        Mockito.when(this.productSearchGateway.findAllWithFacets(aInput))
+                .thenReturn(new ProductFacetedSearch(aPagination, aCategories, aColors, aSizes, aPrices));
+
+        final var actualResult = this.useCase.execute(aInput);
+
+        Assertions.assertEquals(Set.of("RED"), aInput.colors());
+        Assertions.assertEquals(Set.of(), aInput.sizes());
+        Assertions.assertEquals(aPagination.map(ListProductsOutput::from), actualResult.products());
+        Assertions.assertEquals(aCategories, actualResult.categories());
+        Assertions.assertEquals(aColors, actualResult.colors());
+        Assertions.assertEquals(aSizes, actualResult.sizes());
+        Assertions.assertEquals(aPrices, actualResult.prices());
+    }
+}
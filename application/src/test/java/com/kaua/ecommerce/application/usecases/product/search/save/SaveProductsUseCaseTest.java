@@ -0,0 +1,70 @@
+package com.kaua.ecommerce.application.usecases.product.search.save;
+
+import com.kaua.ecommerce.application.UseCaseTest;
+import com.kaua.ecommerce.application.gateways.SearchGateway;
+import com.kaua.ecommerce.domain.Fixture;
+import com.kaua.ecommerce.domain.category.CategoryID;
+import com.kaua.ecommerce.domain.exceptions.DomainException;
+import com.kaua.ecommerce.domain.product.Product;
+import com.kaua.ecommerce.domain.product.ProductAttributes;
+import com.kaua.ecommerce.domain.product.ProductColor;
+import com.kaua.ecommerce.domain.product.ProductSize;
+import com.kaua.ecommerce.domain.utils.CommonErrorMessage;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.eq;
+
+public class SaveProductsUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private SearchGateway<Product> productSearchGateway;
+
+    @InjectMocks
+    private SaveProductsUseCase useCase;
+
+    @Test
+    void givenValidProducts_whenCallSave_shouldPersistThemInOneCall() {
+        final var aProducts = List.of(Fixture.Products.book(), Fixture.Products.tshirt());
+
+        Mockito.when(productSearchGateway.saveAll(Mockito.any())).thenAnswer(returnsFirstArg());
+
+        final var actualResult = this.useCase.execute(aProducts);
+
+        Assertions.assertEquals(aProducts, actualResult);
+        Mockito.verify(productSearchGateway, Mockito.times(1)).saveAll(eq(aProducts));
+        Mockito.verify(productSearchGateway, Mockito.never()).save(Mockito.any());
+    }
+
+    @Test
+    void givenAnInvalidProductInTheList_whenCallSave_shouldThrowsDomainExceptionAndSaveNothing() {
+        final var aInvalidProduct = Product.newProduct(
+                " ",
+                "A good book",
+                BigDecimal.valueOf(10.0),
+                CategoryID.unique(),
+                Set.of(ProductAttributes.create(
+                        ProductColor.with("Red"),
+                        ProductSize.with("M", 10.0, 10.0, 10.0, 10.0),
+                        " "
+                ))
+        );
+        final var aProducts = List.of(Fixture.Products.book(), aInvalidProduct);
+
+        final var expectedErrorMessage = CommonErrorMessage.nullOrBlank("name");
+
+        final var actualError = Assertions.assertThrows(DomainException.class,
+                () -> this.useCase.execute(aProducts));
+
+        Assertions.assertEquals(expectedErrorMessage, actualError.getErrors().get(0).message());
+        Mockito.verify(productSearchGateway, Mockito.never()).saveAll(Mockito.any());
+    }
+}
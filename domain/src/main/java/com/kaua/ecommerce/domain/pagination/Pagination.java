@@ -3,14 +3,33 @@ package com.kaua.ecommerce.domain.pagination;
 import java.util.List;
 import java.util.function.Function;
 
+/**
+ * A page of items. With a cursor query, {@code nextCursor} continues after the last item and is
+ * null on the last page, {@code totalPages} and {@code totalItems} are -1 when the count was skipped.
+ * Cursor pages are not numbered, their {@code currentPage} is -1.
+ */
 public record Pagination<T>(
         int currentPage,
         int perPage,
         int totalPages,
         long totalItems,
-        List<T> items
+        List<T> items,
+        String nextCursor
 ) {
 
+    public static final int NOT_COUNTED = -1;
+    public static final int NOT_NUMBERED = -1;
+
+    public Pagination(
+            final int currentPage,
+            final int perPage,
+            final int totalPages,
+            final long totalItems,
+            final List<T> items
+    ) {
+        this(currentPage, perPage, totalPages, totalItems, items, null);
+    }
+
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         final List<R> aNewList = this.items.stream().map(mapper).toList();
 
@@ -19,7 +38,8 @@ public record Pagination<T>(
                 perPage(),
                 totalPages(),
                 totalItems(),
-                aNewList
+                aNewList,
+                nextCursor()
         );
     }
 }
@@ -1,17 +1,29 @@
 package com.kaua.ecommerce.domain.pagination;
 
-import java.util.Optional;
-
+/**
+ * A non null {@code cursor} asks for the keyset page after it instead of the {@code page} offset,
+ * an empty cursor is the first page. {@code skipTotal} leaves the total count out of the result.
+ */
 public record SearchQuery(
         int page,
         int perPage,
         String terms,
         String sort,
         String direction,
-        Period period
+        Period period,
+        String cursor,
+        boolean skipTotal
 ) {
 
     public SearchQuery(int page, int perPage, String terms, String sort, String direction) {
         this(page, perPage, terms, sort, direction, null);
     }
+
+    public SearchQuery(int page, int perPage, String terms, String sort, String direction, Period period) {
+        this(page, perPage, terms, sort, direction, period, null, false);
+    }
+
+    public boolean isCursorQuery() {
+        return cursor != null;
+    }
 }
@@ -27,6 +27,14 @@ public class Product extends AggregateRoot<ProductID> {
     private Instant createdAt;
     private Instant updatedAt;
 
+    // changes since the product was created or loaded, persisted instead of the whole graph
+    private final Set<ProductImage> addedImages = new HashSet<>();
+    private final Set<ProductImage> removedImages = new HashSet<>();
+    private final Set<ProductAttributes> addedAttributes = new HashSet<>();
+    private final Set<ProductAttributes> removedAttributes = new HashSet<>();
+    private boolean bannerImageChanged;
+    private ProductImage previousBannerImage;
+
     private Product(
             final ProductID aProductID,
             final String aName,
@@ -148,10 +156,17 @@ public class Product extends AggregateRoot<ProductID> {
         }
 
         this.images.add(aImage);
+        if (!this.removedImages.remove(aImage)) {
+            this.addedImages.add(aImage);
+        }
         this.updatedAt = InstantUtils.now();
     }
 
     public void changeBannerImage(final ProductImage aImage) {
+        if (!this.bannerImageChanged) {
+            this.previousBannerImage = this.bannerImage;
+            this.bannerImageChanged = true;
+        }
         this.bannerImage = aImage;
         this.updatedAt = InstantUtils.now();
     }
@@ -187,6 +202,9 @@ public class Product extends AggregateRoot<ProductID> {
 
         if (aResult.isPresent()) {
             this.images.remove(aResult.get());
+            if (!this.addedImages.remove(aResult.get())) {
+                this.removedImages.add(aResult.get());
+            }
             this.updatedAt = InstantUtils.now();
             return aResult.get();
         }
@@ -203,6 +221,9 @@ public class Product extends AggregateRoot<ProductID> {
         }
 
         this.attributes.add(aAttribute);
+        if (!this.removedAttributes.remove(aAttribute)) {
+            this.addedAttributes.add(aAttribute);
+        }
         this.updatedAt = InstantUtils.now();
     }
 
@@ -217,12 +238,26 @@ public class Product extends AggregateRoot<ProductID> {
 
         if (aResult.isPresent()) {
             this.attributes.remove(aResult.get());
+            if (!this.addedAttributes.remove(aResult.get())) {
+                this.removedAttributes.add(aResult.get());
+            }
             this.updatedAt = InstantUtils.now();
             return this;
         }
         return null;
     }
 
+    public ProductChanges getChanges() {
+        return new ProductChanges(
+                Set.copyOf(this.addedImages),
+                Set.copyOf(this.removedImages),
+                Set.copyOf(this.addedAttributes),
+                Set.copyOf(this.removedAttributes),
+                this.bannerImageChanged,
+                this.previousBannerImage
+        );
+    }
+
     @Override
     public void validate(ValidationHandler handler) {
         new ProductValidation(this, handler).validate();
@@ -0,0 +1,30 @@
+package com.kaua.ecommerce.domain.product;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * What changed in the images and attributes of a {@link Product} since it was created or
+ * loaded, so it can be persisted without rewriting the whole aggregate.
+ */
+public record ProductChanges(
+        Set<ProductImage> addedImages,
+        Set<ProductImage> removedImages,
+        Set<ProductAttributes> addedAttributes,
+        Set<ProductAttributes> removedAttributes,
+        boolean bannerImageChanged,
+        ProductImage previousBannerImage
+) {
+
+    public Optional<ProductImage> getPreviousBannerImage() {
+        return Optional.ofNullable(previousBannerImage);
+    }
+
+    public boolean hasChildrenChanges() {
+        return bannerImageChanged
+                || !addedImages.isEmpty()
+                || !removedImages.isEmpty()
+                || !addedAttributes.isEmpty()
+                || !removedAttributes.isEmpty();
+    }
+}
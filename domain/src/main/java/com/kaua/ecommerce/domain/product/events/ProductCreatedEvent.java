@@ -11,19 +11,23 @@ public record ProductCreatedEvent(
         String id,
         String aggregateName,
         String eventType,
-        Instant occurredOn
+        Instant occurredOn,
+        long version,
+        ProductSnapshot snapshot
 ) implements DomainEvent {
 
-    private ProductCreatedEvent(final String id) {
+    private ProductCreatedEvent(final Product aProduct) {
         this(
-                id,
+                aProduct.getId().getValue(),
                 Product.class.getSimpleName().toLowerCase(),
                 EventsTypes.PRODUCT_CREATED,
-                InstantUtils.now()
+                InstantUtils.now(),
+                aProduct.getVersion(),
+                ProductSnapshot.from(aProduct)
         );
     }
 
     public static ProductCreatedEvent from(final Product aProduct) {
-        return new ProductCreatedEvent(aProduct.getId().getValue());
+        return new ProductCreatedEvent(aProduct);
     }
 }
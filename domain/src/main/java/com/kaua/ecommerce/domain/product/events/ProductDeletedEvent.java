@@ -11,19 +11,21 @@ public record ProductDeletedEvent(
         String id,
         String aggregateName,
         String eventType,
-        Instant occurredOn
+        Instant occurredOn,
+        long version
 ) implements DomainEvent {
 
-    private ProductDeletedEvent(final String id) {
+    private ProductDeletedEvent(final String id, final long version) {
         this(
                 id,
                 Product.class.getSimpleName().toLowerCase(),
                 EventsTypes.PRODUCT_DELETED,
-                InstantUtils.now()
+                InstantUtils.now(),
+                version
         );
     }
 
     public static ProductDeletedEvent from(final Product aProduct) {
-        return new ProductDeletedEvent(aProduct.getId().getValue());
+        return new ProductDeletedEvent(aProduct.getId().getValue(), aProduct.getVersion());
     }
 }
@@ -0,0 +1,118 @@
+package com.kaua.ecommerce.domain.product.events;
+
+import com.kaua.ecommerce.domain.product.Product;
+import com.kaua.ecommerce.domain.product.ProductAttributes;
+import com.kaua.ecommerce.domain.product.ProductColor;
+import com.kaua.ecommerce.domain.product.ProductImage;
+import com.kaua.ecommerce.domain.product.ProductSize;
+import com.kaua.ecommerce.domain.product.ProductStatus;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The product as it was committed with the event, enough to index it without reading it back.
+ */
+public record ProductSnapshot(
+        String name,
+        String description,
+        BigDecimal price,
+        Image bannerImage,
+        Set<Image> images,
+        String categoryId,
+        Set<Attributes> attributes,
+        ProductStatus status,
+        Instant createdAt,
+        Instant updatedAt,
+        long version
+) implements Serializable {
+
+    public static ProductSnapshot from(final Product aProduct) {
+        return new ProductSnapshot(
+                aProduct.getName(),
+                aProduct.getDescription(),
+                aProduct.getPrice(),
+                aProduct.getBannerImage().map(Image::from).orElse(null),
+                aProduct.getImages().stream().map(Image::from).collect(Collectors.toSet()),
+                aProduct.getCategoryId().getValue(),
+                aProduct.getAttributes().stream().map(Attributes::from).collect(Collectors.toSet()),
+                aProduct.getStatus(),
+                aProduct.getCreatedAt(),
+                aProduct.getUpdatedAt(),
+                aProduct.getVersion()
+        );
+    }
+
+    public Product toProduct(final String aProductId) {
+        return Product.with(
+                aProductId,
+                name(),
+                description(),
+                price(),
+                bannerImage() == null ? null : bannerImage().toDomain(),
+                images() == null ? null : images().stream().map(Image::toDomain).collect(Collectors.toSet()),
+                categoryId(),
+                attributes() == null ? null : attributes().stream().map(Attributes::toDomain).collect(Collectors.toSet()),
+                status(),
+                createdAt(),
+                updatedAt(),
+                version()
+        );
+    }
+
+    public record Image(
+            String id,
+            String name,
+            String location,
+            String url
+    ) implements Serializable {
+
+        public static Image from(final ProductImage aImage) {
+            return new Image(aImage.getId(), aImage.getName(), aImage.getLocation(), aImage.getUrl());
+        }
+
+        public ProductImage toDomain() {
+            return ProductImage.with(id(), name(), location(), url());
+        }
+    }
+
+    public record Attributes(
+            String colorId,
+            String color,
+            String sizeId,
+            String size,
+            double weight,
+            double height,
+            double width,
+            double length,
+            String sku
+    ) implements Serializable {
+
+        public static Attributes from(final ProductAttributes aAttributes) {
+            final var aColor = aAttributes.getColor();
+            final var aSize = aAttributes.getSize();
+            return new Attributes(
+                    aColor.getId(),
+                    aColor.getColor(),
+                    aSize.getId(),
+                    aSize.getSize(),
+                    aSize.getWeight(),
+                    aSize.getHeight(),
+                    aSize.getWidth(),
+                    aSize.getLength(),
+                    aAttributes.getSku()
+            );
+        }
+
+        public ProductAttributes toDomain() {
+            return ProductAttributes.with(
+                    ProductColor.with(colorId(), color()),
+                    ProductSize.with(sizeId(), size(), weight(), height(), width(), length()),
+                    sku()
+            );
+        }
+    }
+}
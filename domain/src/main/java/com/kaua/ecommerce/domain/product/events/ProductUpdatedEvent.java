@@ -11,19 +11,23 @@ public record ProductUpdatedEvent(
         String id,
         String aggregateName,
         String eventType,
-        Instant occurredOn
+        Instant occurredOn,
+        long version,
+        ProductSnapshot snapshot
 ) implements DomainEvent {
 
-    private ProductUpdatedEvent(final String id) {
+    private ProductUpdatedEvent(final Product aProduct) {
         this(
-                id,
+                aProduct.getId().getValue(),
                 Product.class.getSimpleName().toLowerCase(),
                 EventsTypes.PRODUCT_UPDATED,
-                InstantUtils.now()
+                InstantUtils.now(),
+                aProduct.getVersion(),
+                ProductSnapshot.from(aProduct)
         );
     }
 
     public static ProductUpdatedEvent from(final Product aProduct) {
-        return new ProductUpdatedEvent(aProduct.getId().getValue());
+        return new ProductUpdatedEvent(aProduct);
     }
 }
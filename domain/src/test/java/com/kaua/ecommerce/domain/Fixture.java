@@ -3,7 +3,6 @@ package com.kaua.ecommerce.domain;
 import com.kaua.ecommerce.domain.category.Category;
 import com.kaua.ecommerce.domain.category.CategoryID;
 import com.kaua.ecommerce.domain.coupon.Coupon;
-import com.kaua.ecommerce.domain.coupon.CouponSlot;
 import com.kaua.ecommerce.domain.coupon.CouponType;
 import com.kaua.ecommerce.domain.customer.Cpf;
 import com.kaua.ecommerce.domain.customer.Customer;
@@ -361,12 +360,6 @@ public final class Fixture {
         public static Coupon limitedCouponDeactivated() {
             return Coupon.with(LIMITED_COUPON_DEACTIVATED);
         }
-
-        public static CouponSlot generateValidCouponSlot(final Coupon aCoupon) {
-            return CouponSlot.newCouponSlot(
-                    aCoupon.getId().getValue()
-            );
-        }
     }
 
     public static final class Freights {
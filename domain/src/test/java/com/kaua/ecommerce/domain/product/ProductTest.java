@@ -440,6 +440,45 @@ public class ProductTest extends UnitTest {
         Assertions.assertEquals(aProduct.getId().getValue(), aProductUpdated.id());
     }
 
+    @Test
+    void givenAProductUpdatedEvent_whenCallSnapshotToProduct_shouldRebuildTheIndexedProduct() {
+        final var aAttributes = ProductAttributes.with(
+                ProductColor.with("1", "RED"),
+                ProductSize.with("1", "M", 0.5, 0.6, 0.7, 0.8),
+                "sku-snapshot"
+        );
+        final var aProduct = Product.newProduct(
+                "Product Name",
+                "Product Description",
+                BigDecimal.valueOf(10.0),
+                CategoryID.from("1"),
+                Set.of(aAttributes));
+        aProduct.addImage(ProductImage.with("image", "location", "url"));
+        aProduct.changeBannerImage(ProductImage.with("banner", "banner-location", "banner-url"));
+
+        final var aProductUpdated = ProductUpdatedEvent.from(aProduct);
+        final var actualProduct = aProductUpdated.snapshot().toProduct(aProductUpdated.id());
+
+        Assertions.assertEquals(aProduct.getVersion(), aProductUpdated.version());
+        Assertions.assertEquals(aProduct.getId(), actualProduct.getId());
+        Assertions.assertEquals(aProduct.getName(), actualProduct.getName());
+        Assertions.assertEquals(aProduct.getDescription(), actualProduct.getDescription());
+        Assertions.assertEquals(aProduct.getPrice(), actualProduct.getPrice());
+        Assertions.assertEquals(aProduct.getBannerImage(), actualProduct.getBannerImage());
+        Assertions.assertEquals(aProduct.getImages(), actualProduct.getImages());
+        Assertions.assertEquals(aProduct.getCategoryId(), actualProduct.getCategoryId());
+        Assertions.assertEquals(aProduct.getStatus(), actualProduct.getStatus());
+        Assertions.assertEquals(aProduct.getCreatedAt(), actualProduct.getCreatedAt());
+        Assertions.assertEquals(aProduct.getUpdatedAt(), actualProduct.getUpdatedAt());
+        Assertions.assertEquals(aProduct.getVersion(), actualProduct.getVersion());
+
+        final var actualAttributes = actualProduct.getAttributes().stream().findFirst().get();
+        Assertions.assertEquals(aAttributes.getSku(), actualAttributes.getSku());
+        Assertions.assertEquals(aAttributes.getColor().getColor(), actualAttributes.getColor().getColor());
+        Assertions.assertEquals(aAttributes.getSize().getId(), actualAttributes.getSize().getId());
+        Assertions.assertEquals(aAttributes.getSize().getLength(), actualAttributes.getSize().getLength());
+    }
+
     @Test
     void givenAValidProduct_whenCallProductDeletedEventFrom_shouldReturnProductDeletedEvent() {
         final var aName = "Product Name";
@@ -642,4 +681,45 @@ public class ProductTest extends UnitTest {
         Assertions.assertNull(aResult);
         Assertions.assertEquals(aProductUpdatedAtBefore, aProductUpdatedAtAfter);
     }
+
+    @Test
+    void givenALoadedProduct_whenChangeImagesAndAttributes_shouldTrackOnlyTheChanges() {
+        final var aProduct = Fixture.Products.tshirt();
+        final var aPersistedAttributes = aProduct.getAttributes().iterator().next();
+        final var aGalleryImage = Fixture.Products.productImage(ProductImageType.GALLERY);
+        final var aBannerImage = Fixture.Products.productImage(ProductImageType.BANNER);
+        final var aAttributes = Fixture.Products.productAttributes(aProduct.getName());
+
+        Assertions.assertFalse(aProduct.getChanges().hasChildrenChanges());
+
+        aProduct.addImage(aGalleryImage);
+        aProduct.changeBannerImage(aBannerImage);
+        aProduct.addAttribute(aAttributes);
+        aProduct.removeAttribute(aPersistedAttributes.getSku());
+
+        final var aChanges = aProduct.getChanges();
+
+        Assertions.assertTrue(aChanges.hasChildrenChanges());
+        Assertions.assertEquals(Set.of(aGalleryImage), aChanges.addedImages());
+        Assertions.assertTrue(aChanges.removedImages().isEmpty());
+        Assertions.assertEquals(Set.of(aAttributes), aChanges.addedAttributes());
+        Assertions.assertEquals(Set.of(aPersistedAttributes), aChanges.removedAttributes());
+        Assertions.assertTrue(aChanges.bannerImageChanged());
+        Assertions.assertTrue(aChanges.getPreviousBannerImage().isEmpty());
+    }
+
+    @Test
+    void givenAnImageAddedAndRemoved_whenCallGetChanges_shouldNotTrackIt() {
+        final var aProduct = Fixture.Products.tshirt();
+        final var aGalleryImage = Fixture.Products.productImage(ProductImageType.GALLERY);
+
+        aProduct.addImage(aGalleryImage);
+        aProduct.removeImage(aGalleryImage.getLocation());
+
+        final var aChanges = aProduct.getChanges();
+
+        Assertions.assertTrue(aChanges.addedImages().isEmpty());
+        Assertions.assertTrue(aChanges.removedImages().isEmpty());
+        Assertions.assertFalse(aChanges.hasChildrenChanges());
+    }
 }
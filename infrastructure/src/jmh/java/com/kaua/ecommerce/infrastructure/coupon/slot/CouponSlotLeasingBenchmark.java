@@ -0,0 +1,126 @@
+package com.kaua.ecommerce.infrastructure.coupon.slot;
+
+import com.kaua.ecommerce.application.gateways.CouponSlotGateway;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Apply coupon throughput for a single hot coupon code. Every node is a leasing gateway sharing
+ * one leaser that holds a lock for a database round trip, as the coupon row lock does, so
+ * with a block of 1 all the nodes and threads are serialized on the row like without leasing.
+ *
+ * <pre>./gradlew :infrastructure:jmh -Pjmh.includes=CouponSlotLeasingBenchmark</pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class CouponSlotLeasingBenchmark {
+
+    private static final String COUPON_ID = "hot-coupon";
+    private static final long ROUND_TRIP_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    @Param({"1", "2", "4"})
+    public int nodes;
+
+    @Param({"1", "100"})
+    public int blockSize;
+
+    private CouponSlotLeasingGateway[] gateways;
+    private final AtomicInteger threads = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var aLeaser = new RowLockCouponSlotLeaser();
+        this.gateways = new CouponSlotLeasingGateway[this.nodes];
+        for (int i = 0; i < this.nodes; i++) {
+            this.gateways[i] = new CouponSlotLeasingGateway(
+                    new NoopCouponSlotGateway(),
+                    aLeaser,
+                    this.blockSize,
+                    60_000
+            );
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (final var aGateway : this.gateways) {
+            aGateway.destroy();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Node {
+
+        private CouponSlotLeasingGateway gateway;
+
+        @Setup(Level.Trial)
+        public void setUp(final CouponSlotLeasingBenchmark aBenchmark) {
+            final var aIndex = aBenchmark.threads.getAndIncrement() % aBenchmark.nodes;
+            this.gateway = aBenchmark.gateways[aIndex];
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean applyWith1Thread(final Node aNode) {
+        return aNode.gateway.deleteFirstSlotByCouponId(COUPON_ID);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean applyWith8Threads(final Node aNode) {
+        return aNode.gateway.deleteFirstSlotByCouponId(COUPON_ID);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public boolean applyWith32Threads(final Node aNode) {
+        return aNode.gateway.deleteFirstSlotByCouponId(COUPON_ID);
+    }
+
+    private static class RowLockCouponSlotLeaser implements CouponSlotLeaser {
+
+        private final ReentrantLock rowLock = new ReentrantLock();
+
+        @Override
+        public int lease(final String aCouponId, final int aSize) {
+            this.rowLock.lock();
+            try {
+                LockSupport.parkNanos(ROUND_TRIP_NANOS);
+                return aSize;
+            } finally {
+                this.rowLock.unlock();
+            }
+        }
+
+        @Override
+        public void release(final String aCouponId, final int aQuantity) {
+        }
+    }
+
+    private static class NoopCouponSlotGateway implements CouponSlotGateway {
+
+        @Override
+        public void createSlots(final String couponId, final int quantity) {
+        }
+
+        @Override
+        public boolean existsByCouponId(final String couponId) {
+            return true;
+        }
+
+        @Override
+        public void deleteAllByCouponId(final String couponId) {
+        }
+
+        @Override
+        public boolean deleteFirstSlotByCouponId(final String couponId) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.kaua.ecommerce.infrastructure.inventory.hot;
+
+import com.kaua.ecommerce.application.adapters.TransactionManager;
+import com.kaua.ecommerce.application.adapters.responses.TransactionResult;
+import com.kaua.ecommerce.application.gateways.InventoryGateway;
+import com.kaua.ecommerce.application.gateways.InventoryMovementGateway;
+import com.kaua.ecommerce.application.usecases.inventory.decrease.DecreaseInventoryQuantityCommand;
+import com.kaua.ecommerce.application.usecases.inventory.decrease.DecreaseInventoryQuantityUseCase;
+import com.kaua.ecommerce.application.usecases.inventory.decrease.DefaultDecreaseInventoryQuantityUseCase;
+import com.kaua.ecommerce.application.usecases.inventory.decrease.HotSkuDecreaseInventoryQuantityUseCase;
+import com.kaua.ecommerce.domain.inventory.Inventory;
+import com.kaua.ecommerce.domain.inventory.movement.InventoryMovement;
+import com.kaua.ecommerce.domain.pagination.Pagination;
+import com.kaua.ecommerce.domain.pagination.SearchQuery;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Decrease throughput of a single hot sku, through {@link DefaultDecreaseInventoryQuantityUseCase}
+ * and through the in-memory hot sku stock. The inventory gateway holds a lock for a database
+ * round trip on every decrease, as the inventory row lock does until the commit.
+ *
+ * <pre>./gradlew :infrastructure:jmh -Pjmh.includes=HotSkuDecreaseBenchmark</pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class HotSkuDecreaseBenchmark {
+
+    private static final String SKU = "hot-sku";
+    private static final long ROUND_TRIP_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+    private static final DecreaseInventoryQuantityCommand COMMAND = DecreaseInventoryQuantityCommand.with(SKU, 1);
+
+    @Param({"default", "hot"})
+    public String mode;
+
+    private DecreaseInventoryQuantityUseCase useCase;
+    private HotSkuInventoryGateway hotSkuInventoryGateway;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var aInventoryGateway = new RowLockInventoryGateway();
+        final var aMovementGateway = new NoopInventoryMovementGateway();
+        final var aTransactionManager = new DirectTransactionManager();
+        final var aDefault = new DefaultDecreaseInventoryQuantityUseCase(
+                aInventoryGateway,
+                aMovementGateway,
+                aTransactionManager
+        );
+
+        if ("hot".equals(this.mode)) {
+            this.hotSkuInventoryGateway = new HotSkuInventoryGateway(
+                    aInventoryGateway,
+                    aMovementGateway,
+                    aTransactionManager,
+                    Set.of(SKU),
+                    0,
+                    500
+            );
+            // loads the stock before the first measurement
+            this.hotSkuInventoryGateway.flush();
+            this.useCase = new HotSkuDecreaseInventoryQuantityUseCase(this.hotSkuInventoryGateway, aDefault);
+        } else {
+            this.useCase = aDefault;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (this.hotSkuInventoryGateway != null) {
+            this.hotSkuInventoryGateway.destroy();
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object decreaseWith1Thread() {
+        return this.useCase.execute(COMMAND);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object decreaseWith8Threads() {
+        return this.useCase.execute(COMMAND);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public Object decreaseWith32Threads() {
+        return this.useCase.execute(COMMAND);
+    }
+
+    private static class RowLockInventoryGateway implements InventoryGateway {
+
+        private final Inventory inventory = Inventory.newInventory("product-id", SKU, Integer.MAX_VALUE);
+        private final ReentrantLock rowLock = new ReentrantLock();
+
+        @Override
+        public Optional<Inventory> findBySku(final String sku) {
+            return Optional.of(this.inventory);
+        }
+
+        @Override
+        public Optional<Integer> decreaseQuantityBySku(final String sku, final int quantity) {
+            this.rowLock.lock();
+            try {
+                LockSupport.parkNanos(ROUND_TRIP_NANOS);
+                return Optional.of(this.inventory.getQuantity());
+            } finally {
+                this.rowLock.unlock();
+            }
+        }
+
+        @Override
+        public Set<String> adjustQuantitiesBySkus(final Map<String, Integer> deltasBySku) {
+            return deltasBySku.keySet();
+        }
+
+        @Override
+        public Set<Inventory> createInBatch(final Set<Inventory> inventories) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Inventory update(final Inventory inventory) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<String> existsBySkus(final List<String> skus) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Inventory> findBySkus(final Set<String> skus) {
+            return skus.contains(SKU) ? List.of(this.inventory) : List.of();
+        }
+
+        @Override
+        public Set<Inventory> findByProductId(final String productId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Pagination<Inventory> findAllByProductId(final SearchQuery aQuery, final String productId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void cleanByProductId(final String productId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteBySku(final String sku) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteBySkus(final Set<String> skus) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class NoopInventoryMovementGateway implements InventoryMovementGateway {
+
+        @Override
+        public Set<InventoryMovement> createInBatch(final Set<InventoryMovement> inventoryMovement) {
+            return inventoryMovement;
+        }
+
+        @Override
+        public InventoryMovement create(final InventoryMovement inventoryMovement) {
+            return inventoryMovement;
+        }
+
+        @Override
+        public Optional<InventoryMovement> findBySkuAndCreatedAtDescAndStatusRemoved(final String sku) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void deleteById(final String id) {
+        }
+    }
+
+    private static class DirectTransactionManager implements TransactionManager {
+
+        @Override
+        public <T> TransactionResult<T> execute(final Supplier<T> action) {
+            return TransactionResult.success(action.get());
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.kaua.ecommerce.infrastructure.product;
+
+import com.kaua.ecommerce.domain.category.CategoryID;
+import com.kaua.ecommerce.domain.product.Product;
+import com.kaua.ecommerce.domain.product.ProductAttributes;
+import com.kaua.ecommerce.domain.product.ProductColor;
+import com.kaua.ecommerce.domain.product.ProductSize;
+import com.kaua.ecommerce.infrastructure.initializer.ProductElasticsearchInitializer;
+import com.kaua.ecommerce.infrastructure.product.persistence.elasticsearch.ProductElasticsearchEntity;
+import com.kaua.ecommerce.infrastructure.search.SearchIndexAliases;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchClients;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Search latency over a seeded product index, with the former wildcard criteria query on the
+ * mapping derived from {@link ProductElasticsearchEntity} and with the multi_match query of
+ * {@link ProductElasticsearchGateway} on the edge n-gram mapping. Needs a running Elasticsearch,
+ * e.g. the one of the docker compose file.
+ *
+ * <pre>./gradlew :infrastructure:jmh -Pjmh.includes=ProductSearchBenchmark</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ProductSearchBenchmark {
+
+    private static final String HOST = System.getProperty("elasticsearch.host",
+            System.getenv().getOrDefault("ELASTICSEARCH_HOST", "http://localhost:9200"));
+    private static final String USERNAME = System.getProperty("elasticsearch.username", "elastic");
+    private static final String PASSWORD = System.getProperty("elasticsearch.password", "elastic");
+
+    private static final int BULK_SIZE = 1_000;
+    private static final Pageable PAGE = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "name.keyword"));
+
+    private static final List<String> NOUNS = List.of(
+            "Camiseta", "Livro", "Headphone", "Notebook", "Cadeira", "Mochila", "Tenis", "Relogio",
+            "Caneca", "Teclado", "Monitor", "Jaqueta", "Bermuda", "Luminaria", "Garrafa", "Carregador"
+    );
+    private static final List<String> ADJECTIVES = List.of(
+            "Basica", "Premium", "Esportiva", "Classica", "Infantil", "Gamer", "Compacta", "Termica",
+            "Algodao", "Couro", "Bluetooth", "Ergonomica", "Slim", "Resistente", "Portatil", "Digital"
+    );
+    private static final List<String> TERMS = List.of("cam", "livro", "head", "ergo", "algod", "portatil");
+
+    @Param({"wildcard", "ngram"})
+    public String mode;
+
+    @Param({"10000", "100000"})
+    public int documents;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    private ElasticsearchOperations elasticsearchOperations;
+    private IndexCoordinates index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.elasticsearchOperations = new ElasticsearchTemplate(ElasticsearchClients.createImperative(
+                ClientConfiguration.builder()
+                        .connectedTo(HOST.replaceFirst("^https?://", ""))
+                        .withBasicAuth(USERNAME, PASSWORD)
+                        .build()
+        ));
+        this.index = IndexCoordinates.of("products_benchmark_" + this.mode);
+
+        final var aIndexOps = this.elasticsearchOperations.indexOps(this.index);
+        if (aIndexOps.exists()) {
+            aIndexOps.delete();
+        }
+
+        if ("ngram".equals(this.mode)) {
+            final var aInitializer = new ProductElasticsearchInitializer(
+                    this.elasticsearchOperations,
+                    new SearchIndexAliases(this.elasticsearchOperations)
+            );
+            aIndexOps.create(aInitializer.settings(), aInitializer.mapping());
+        } else {
+            final var aEntityOps = this.elasticsearchOperations.indexOps(ProductElasticsearchEntity.class);
+            aIndexOps.create(aEntityOps.createSettings(), aEntityOps.createMapping());
+        }
+
+        seed();
+        aIndexOps.refresh();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.elasticsearchOperations.indexOps(this.index).delete();
+    }
+
+    @Benchmark
+    public Object search() {
+        final var aTerms = TERMS.get(Math.floorMod(this.next.getAndIncrement(), TERMS.size()));
+
+        final Query query = "ngram".equals(this.mode)
+                ? ProductElasticsearchGateway.termsQuery(aTerms)
+                : wildcardQuery(aTerms);
+        query.setPageable(PAGE);
+
+        return this.elasticsearchOperations.search(query, ProductElasticsearchEntity.class, this.index);
+    }
+
+    // the query of the gateway before the edge n-gram mapping
+    private static Query wildcardQuery(final String aTerms) {
+        final var aCriteria = Criteria.where("name").contains(aTerms)
+                .or("category_id").is(aTerms)
+                .or("description").contains(aTerms);
+
+        return new CriteriaQuery(aCriteria);
+    }
+
+    private void seed() {
+        final var aRandom = new Random(42);
+        final var aBulk = new ArrayList<ProductElasticsearchEntity>(BULK_SIZE);
+
+        for (int i = 0; i < this.documents; i++) {
+            final var aName = NOUNS.get(aRandom.nextInt(NOUNS.size()))
+                    + " " + ADJECTIVES.get(aRandom.nextInt(ADJECTIVES.size()))
+                    + " " + i;
+            final var aDescription = aName + " " + ADJECTIVES.get(aRandom.nextInt(ADJECTIVES.size()))
+                    + " de " + NOUNS.get(aRandom.nextInt(NOUNS.size()));
+
+            aBulk.add(ProductElasticsearchEntity.toEntity(Product.newProduct(
+                    aName,
+                    aDescription,
+                    BigDecimal.valueOf(aRandom.nextInt(100_000), 2),
+                    CategoryID.from(String.valueOf(aRandom.nextInt(50))),
+                    Set.of(ProductAttributes.create(
+                            ProductColor.with("Black"),
+                            ProductSize.with("M", 1.0, 1.0, 1.0, 1.0),
+                            aName
+                    ))
+            )));
+
+            if (aBulk.size() == BULK_SIZE) {
+                this.elasticsearchOperations.save(aBulk, this.index);
+                aBulk.clear();
+            }
+        }
+
+        if (!aBulk.isEmpty()) {
+            this.elasticsearchOperations.save(aBulk, this.index);
+        }
+    }
+}
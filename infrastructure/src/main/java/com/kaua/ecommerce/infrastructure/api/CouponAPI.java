@@ -43,7 +43,9 @@ public interface CouponAPI {
             @RequestParam(name = "sort", required = false, defaultValue = "code") final String sort,
             @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
             @RequestParam(name = "startDate", required = false, defaultValue = "") final String startDate,
-            @RequestParam(name = "endDate", required = false, defaultValue = "") final String endDate
+            @RequestParam(name = "endDate", required = false, defaultValue = "") final String endDate,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "skipTotal", required = false, defaultValue = "false") final boolean skipTotal
     );
 
 
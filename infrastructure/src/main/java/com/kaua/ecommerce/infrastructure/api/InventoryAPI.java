@@ -11,6 +11,8 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Tag(name = "Inventory")
 @RequestMapping(value = "v1/inventories")
 public interface InventoryAPI {
@@ -42,7 +44,9 @@ public interface InventoryAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "sku") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "skipTotal", required = false, defaultValue = "false") final boolean skipTotal
     );
 
     @GetMapping(
@@ -57,6 +61,36 @@ public interface InventoryAPI {
     })
     GetInventoryResponse getInventoryBySku(@PathVariable String sku);
 
+    @GetMapping(
+            value = "{sku}/quantity",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Get the quantity of a sku at a point in time, now when at is not given")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Quantity computed successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    GetInventoryQuantityAtResponse getInventoryQuantityAt(
+            @PathVariable String sku,
+            @RequestParam(name = "at", required = false) final String at
+    );
+
+    @GetMapping(
+            value = "{sku}/movements",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "List the movements of a sku created from the start until before the end, oldest first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    List<ListInventoryMovementsResponse> listInventoryMovementsBetween(
+            @PathVariable String sku,
+            @RequestParam(name = "from") final String from,
+            @RequestParam(name = "to") final String to,
+            @RequestParam(name = "limit", required = false, defaultValue = "100") final int limit
+    );
+
     @PostMapping(
             value = "/rollback/{productId}/{sku}",
             produces = MediaType.APPLICATION_JSON_VALUE
@@ -93,6 +127,19 @@ public interface InventoryAPI {
     })
     ResponseEntity<?> decreaseInventoryQuantityBySku(@PathVariable String sku, @RequestBody DecreaseInventoryQuantityInput body);
 
+    @PatchMapping(
+            value = "/adjust",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Increase or decrease the quantity of many skus in a single transaction")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Adjusted, the result of each line is returned"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown or a line was rejected on all or nothing mode"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<?> adjustInventoriesQuantity(@RequestBody AdjustInventoriesQuantityInput body);
+
 
     @DeleteMapping(value = "{productId}")
     @Operation(summary = "Delete a inventories by it's identifier")
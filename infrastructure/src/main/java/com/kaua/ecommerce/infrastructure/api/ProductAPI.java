@@ -14,7 +14,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Set;
 
 @Tag(name = "Product")
 @RequestMapping(value = "v1/products")
@@ -45,7 +47,32 @@ public interface ProductAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "skipTotal", required = false, defaultValue = "false") final boolean skipTotal,
+            @RequestParam(name = "pointInTime", required = false, defaultValue = "false") final boolean pointInTime
+    );
+
+    @GetMapping(
+            value = "facets",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Get products filtered by facets, with the counts of each facet value")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Found successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ListProductsWithFacetsResponse listProductsWithFacets(
+            @RequestParam(name = "search", required = false, defaultValue = "") final String search,
+            @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
+            @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
+            @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "categoryId", required = false) final Set<String> categoryIds,
+            @RequestParam(name = "color", required = false) final Set<String> colors,
+            @RequestParam(name = "size", required = false) final Set<String> sizes,
+            @RequestParam(name = "minPrice", required = false) final BigDecimal minPrice,
+            @RequestParam(name = "maxPrice", required = false) final BigDecimal maxPrice
     );
 
     @GetMapping(
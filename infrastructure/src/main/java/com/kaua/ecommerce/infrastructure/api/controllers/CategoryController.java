@@ -17,6 +17,7 @@ import com.kaua.ecommerce.infrastructure.api.CategoryAPI;
 import com.kaua.ecommerce.infrastructure.category.models.*;
 import com.kaua.ecommerce.infrastructure.category.presenter.CategoryApiPresenter;
 import com.kaua.ecommerce.infrastructure.utils.LogControllerResult;
+import com.kaua.ecommerce.infrastructure.utils.SearchAfterPaginationUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -64,8 +65,18 @@ public class CategoryController implements CategoryAPI {
     }
 
     @Override
-    public Pagination<ListCategoriesResponse> listCategories(String search, int page, int perPage, String sort, String direction) {
-        final var aQuery = new SearchQuery(page, perPage, search, sort, direction);
+    public Pagination<ListCategoriesResponse> listCategories(
+            String search,
+            int page,
+            int perPage,
+            String sort,
+            String direction,
+            String cursor,
+            boolean skipTotal,
+            boolean pointInTime
+    ) {
+        final var aCursor = SearchAfterPaginationUtils.withPointInTime(cursor, pointInTime);
+        final var aQuery = new SearchQuery(page, perPage, search, sort, direction, null, aCursor, skipTotal);
         return this.listCategoriesUseCase.execute(aQuery)
                 .map(CategoryApiPresenter::present);
     }
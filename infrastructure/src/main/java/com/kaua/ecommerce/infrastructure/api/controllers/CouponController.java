@@ -96,10 +96,12 @@ public class CouponController implements CouponAPI {
             final String sort,
             final String direction,
             final String startDate,
-            final String endDate
+            final String endDate,
+            final String cursor,
+            final boolean skipTotal
     ) {
         final var aPeriod = new Period(startDate, endDate);
-        final var aQuery = new SearchQuery(page, perPage, search, sort, direction, aPeriod);
+        final var aQuery = new SearchQuery(page, perPage, search, sort, direction, aPeriod, cursor, skipTotal);
         return this.listCouponsUseCase.execute(aQuery)
                 .map(CouponApiPresenter::present);
     }
@@ -1,5 +1,6 @@
 package com.kaua.ecommerce.infrastructure.api.controllers;
 
+import com.kaua.ecommerce.application.exceptions.GatewayTimeoutException;
 import com.kaua.ecommerce.application.exceptions.TransactionFailureException;
 import com.kaua.ecommerce.domain.exceptions.DomainException;
 import com.kaua.ecommerce.domain.exceptions.NotFoundException;
@@ -38,4 +39,10 @@ public class GlobalExceptionHandler {
         log.error("An error occurred while processing the transaction", exception);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiError.from("An error occurred while processing the transaction"));
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(GatewayTimeoutException.class)
+    public ResponseEntity<ApiError> handleGatewayTimeoutException(final GatewayTimeoutException exception) {
+        log.warn("A gateway did not respond in time", exception);
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(ApiError.from(exception.getMessage()));
+    }
+}
@@ -1,5 +1,7 @@
 package com.kaua.ecommerce.infrastructure.api.controllers;
 
+import com.kaua.ecommerce.application.usecases.inventory.adjust.AdjustInventoriesQuantityMode;
+import com.kaua.ecommerce.application.usecases.inventory.adjust.AdjustInventoriesQuantityUseCase;
 import com.kaua.ecommerce.application.usecases.inventory.create.CreateInventoryUseCase;
 import com.kaua.ecommerce.application.usecases.inventory.create.commands.CreateInventoryCommand;
 import com.kaua.ecommerce.application.usecases.inventory.decrease.DecreaseInventoryQuantityCommand;
@@ -9,6 +11,10 @@ import com.kaua.ecommerce.application.usecases.inventory.delete.remove.RemoveInv
 import com.kaua.ecommerce.application.usecases.inventory.increase.IncreaseInventoryQuantityCommand;
 import com.kaua.ecommerce.application.usecases.inventory.increase.IncreaseInventoryQuantityUseCase;
 import com.kaua.ecommerce.application.usecases.inventory.retrieve.get.GetInventoryBySkuUseCase;
+import com.kaua.ecommerce.application.usecases.inventory.retrieve.history.GetInventoryQuantityAtCommand;
+import com.kaua.ecommerce.application.usecases.inventory.retrieve.history.GetInventoryQuantityAtUseCase;
+import com.kaua.ecommerce.application.usecases.inventory.retrieve.history.ListInventoryMovementsBetweenCommand;
+import com.kaua.ecommerce.application.usecases.inventory.retrieve.history.ListInventoryMovementsBetweenUseCase;
 import com.kaua.ecommerce.application.usecases.inventory.retrieve.list.ListInventoriesByProductIdCommand;
 import com.kaua.ecommerce.application.usecases.inventory.retrieve.list.ListInventoriesByProductIdUseCase;
 import com.kaua.ecommerce.application.usecases.inventory.rollback.RollbackInventoryBySkuCommand;
@@ -16,6 +22,7 @@ import com.kaua.ecommerce.application.usecases.inventory.rollback.RollbackInvent
 import com.kaua.ecommerce.domain.inventory.Inventory;
 import com.kaua.ecommerce.domain.pagination.Pagination;
 import com.kaua.ecommerce.domain.pagination.SearchQuery;
+import com.kaua.ecommerce.domain.utils.InstantUtils;
 import com.kaua.ecommerce.infrastructure.api.InventoryAPI;
 import com.kaua.ecommerce.infrastructure.inventory.models.*;
 import com.kaua.ecommerce.infrastructure.inventory.presenter.InventoryApiPresenter;
@@ -26,6 +33,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 public class InventoryController implements InventoryAPI {
 
@@ -37,8 +46,11 @@ public class InventoryController implements InventoryAPI {
     private final RollbackInventoryBySkuUseCase rollbackInventoryBySkuUseCase;
     private final IncreaseInventoryQuantityUseCase increaseInventoryQuantityUseCase;
     private final DecreaseInventoryQuantityUseCase decreaseInventoryQuantityUseCase;
+    private final AdjustInventoriesQuantityUseCase adjustInventoriesQuantityUseCase;
     private final ListInventoriesByProductIdUseCase listInventoriesByProductIdUseCase;
     private final GetInventoryBySkuUseCase getInventoryBySkuUseCase;
+    private final GetInventoryQuantityAtUseCase getInventoryQuantityAtUseCase;
+    private final ListInventoryMovementsBetweenUseCase listInventoryMovementsBetweenUseCase;
 
     public InventoryController(
             final CreateInventoryUseCase createInventoryUseCase,
@@ -47,8 +59,11 @@ public class InventoryController implements InventoryAPI {
             final RollbackInventoryBySkuUseCase rollbackInventoryBySkuUseCase,
             final IncreaseInventoryQuantityUseCase increaseInventoryQuantityUseCase,
             final DecreaseInventoryQuantityUseCase decreaseInventoryQuantityUseCase,
+            final AdjustInventoriesQuantityUseCase adjustInventoriesQuantityUseCase,
             final ListInventoriesByProductIdUseCase listInventoriesByProductIdUseCase,
-            final GetInventoryBySkuUseCase getInventoryBySkuUseCase
+            final GetInventoryBySkuUseCase getInventoryBySkuUseCase,
+            final GetInventoryQuantityAtUseCase getInventoryQuantityAtUseCase,
+            final ListInventoryMovementsBetweenUseCase listInventoryMovementsBetweenUseCase
     ) {
         this.createInventoryUseCase = createInventoryUseCase;
         this.cleanInventoriesByProductIdUseCase = cleanInventoriesByProductIdUseCase;
@@ -56,8 +71,11 @@ public class InventoryController implements InventoryAPI {
         this.rollbackInventoryBySkuUseCase = rollbackInventoryBySkuUseCase;
         this.increaseInventoryQuantityUseCase = increaseInventoryQuantityUseCase;
         this.decreaseInventoryQuantityUseCase = decreaseInventoryQuantityUseCase;
+        this.adjustInventoriesQuantityUseCase = adjustInventoriesQuantityUseCase;
         this.listInventoriesByProductIdUseCase = listInventoriesByProductIdUseCase;
         this.getInventoryBySkuUseCase = getInventoryBySkuUseCase;
+        this.getInventoryQuantityAtUseCase = getInventoryQuantityAtUseCase;
+        this.listInventoryMovementsBetweenUseCase = listInventoryMovementsBetweenUseCase;
     }
 
     @Override
@@ -86,9 +104,11 @@ public class InventoryController implements InventoryAPI {
             int page,
             int perPage,
             String sort,
-            String direction
+            String direction,
+            String cursor,
+            boolean skipTotal
     ) {
-        final var aQuery = new SearchQuery(page, perPage, search, sort, direction);
+        final var aQuery = new SearchQuery(page, perPage, search, sort, direction, null, cursor, skipTotal);
         final var aCommand = ListInventoriesByProductIdCommand.with(productId, aQuery);
         return this.listInventoriesByProductIdUseCase.execute(aCommand)
                 .map(InventoryApiPresenter::present);
@@ -99,6 +119,26 @@ public class InventoryController implements InventoryAPI {
         return InventoryApiPresenter.present(this.getInventoryBySkuUseCase.execute(sku));
     }
 
+    @Override
+    public GetInventoryQuantityAtResponse getInventoryQuantityAt(String sku, String at) {
+        final var aAt = at == null || at.isBlank() ? InstantUtils.now() : InstantUtils.parse(at);
+        return InventoryApiPresenter.present(this.getInventoryQuantityAtUseCase
+                .execute(GetInventoryQuantityAtCommand.with(sku, aAt)));
+    }
+
+    @Override
+    public List<ListInventoryMovementsResponse> listInventoryMovementsBetween(String sku, String from, String to, int limit) {
+        return this.listInventoryMovementsBetweenUseCase.execute(ListInventoryMovementsBetweenCommand.with(
+                        sku,
+                        InstantUtils.parse(from),
+                        InstantUtils.parse(to),
+                        limit
+                ))
+                .stream()
+                .map(InventoryApiPresenter::present)
+                .toList();
+    }
+
     @Override
     public void rollbackInventoryBySkuAndProductId(String productId, String sku) {
         this.rollbackInventoryBySkuUseCase.execute(RollbackInventoryBySkuCommand.with(productId, sku));
@@ -146,6 +186,27 @@ public class InventoryController implements InventoryAPI {
                 : ResponseEntity.ok(aResult.getRight());
     }
 
+    @Override
+    public ResponseEntity<?> adjustInventoriesQuantity(AdjustInventoriesQuantityInput body) {
+        final var aResult = this.adjustInventoriesQuantityUseCase.execute(body.toCommand());
+
+        LogControllerResult.logResult(
+                log,
+                Inventory.class,
+                "adjustInventoriesQuantity",
+                aResult
+        );
+
+        if (aResult.isLeft()) {
+            return ResponseEntity.unprocessableEntity().body(aResult.getLeft());
+        }
+
+        final var aOutput = aResult.getRight();
+        return aOutput.mode() == AdjustInventoriesQuantityMode.ALL_OR_NOTHING && aOutput.rejectedLines() > 0
+                ? ResponseEntity.unprocessableEntity().body(aOutput)
+                : ResponseEntity.ok(aOutput);
+    }
+
     @Override
     public void deleteInventoriesByProductId(String productId) {
         this.cleanInventoriesByProductIdUseCase.execute(productId);
@@ -1,5 +1,6 @@
 package com.kaua.ecommerce.infrastructure.api.controllers;
 
+import com.kaua.ecommerce.application.gateways.commands.ProductFacetedSearchInput;
 import com.kaua.ecommerce.application.gateways.responses.ProductDetails;
 import com.kaua.ecommerce.application.usecases.product.attributes.add.AddProductAttributesCommand;
 import com.kaua.ecommerce.application.usecases.product.attributes.add.AddProductAttributesUseCase;
@@ -13,6 +14,7 @@ import com.kaua.ecommerce.application.usecases.product.media.upload.UploadProduc
 import com.kaua.ecommerce.application.usecases.product.media.upload.UploadProductImageUseCase;
 import com.kaua.ecommerce.application.usecases.product.retrieve.details.GetProductDetailsBySkuUseCase;
 import com.kaua.ecommerce.application.usecases.product.retrieve.get.GetProductByIdUseCase;
+import com.kaua.ecommerce.application.usecases.product.search.retrieve.facets.ListProductsWithFacetsUseCase;
 import com.kaua.ecommerce.application.usecases.product.search.retrieve.list.ListProductsUseCase;
 import com.kaua.ecommerce.application.usecases.product.update.UpdateProductCommand;
 import com.kaua.ecommerce.application.usecases.product.update.UpdateProductUseCase;
@@ -30,6 +32,7 @@ import com.kaua.ecommerce.infrastructure.product.models.*;
 import com.kaua.ecommerce.infrastructure.product.presenter.ProductApiPresenter;
 import com.kaua.ecommerce.infrastructure.utils.LogControllerResult;
 import com.kaua.ecommerce.infrastructure.utils.ResourceOf;
+import com.kaua.ecommerce.infrastructure.utils.SearchAfterPaginationUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -37,7 +40,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 public class ProductController implements ProductAPI {
@@ -51,6 +56,7 @@ public class ProductController implements ProductAPI {
     private final UpdateProductStatusUseCase updateProductStatusUseCase;
     private final GetProductByIdUseCase getProductByIdUseCase;
     private final ListProductsUseCase listProductsUseCase;
+    private final ListProductsWithFacetsUseCase listProductsWithFacetsUseCase;
     private final RemoveProductImageUseCase removeProductImageUseCase;
     private final AddProductAttributesUseCase addProductAttributesUseCase;
     private final RemoveProductAttributesUseCase removeProductAttributesUseCase;
@@ -64,6 +70,7 @@ public class ProductController implements ProductAPI {
             final UpdateProductStatusUseCase updateProductStatusUseCase,
             final GetProductByIdUseCase getProductByIdUseCase,
             final ListProductsUseCase listProductsUseCase,
+            final ListProductsWithFacetsUseCase listProductsWithFacetsUseCase,
             final RemoveProductImageUseCase removeProductImageUseCase,
             final AddProductAttributesUseCase addProductAttributesUseCase,
             final RemoveProductAttributesUseCase removeProductAttributesUseCase,
@@ -76,6 +83,7 @@ public class ProductController implements ProductAPI {
         this.updateProductStatusUseCase = updateProductStatusUseCase;
         this.getProductByIdUseCase = getProductByIdUseCase;
         this.listProductsUseCase = listProductsUseCase;
+        this.listProductsWithFacetsUseCase = listProductsWithFacetsUseCase;
         this.removeProductImageUseCase = removeProductImageUseCase;
         this.addProductAttributesUseCase = addProductAttributesUseCase;
         this.removeProductAttributesUseCase = removeProductAttributesUseCase;
@@ -100,12 +108,40 @@ public class ProductController implements ProductAPI {
     }
 
     @Override
-    public Pagination<ListProductsResponse> listProducts(String search, int page, int perPage, String sort, String direction) {
-        final var aQuery = new SearchQuery(page, perPage, search, sort, direction);
+    public Pagination<ListProductsResponse> listProducts(
+            String search,
+            int page,
+            int perPage,
+            String sort,
+            String direction,
+            String cursor,
+            boolean skipTotal,
+            boolean pointInTime
+    ) {
+        final var aCursor = SearchAfterPaginationUtils.withPointInTime(cursor, pointInTime);
+        final var aQuery = new SearchQuery(page, perPage, search, sort, direction, null, aCursor, skipTotal);
         return this.listProductsUseCase.execute(aQuery)
                 .map(ProductApiPresenter::present);
     }
 
+    @Override
+    public ListProductsWithFacetsResponse listProductsWithFacets(
+            String search,
+            int page,
+            int perPage,
+            String sort,
+            String direction,
+            Set<String> categoryIds,
+            Set<String> colors,
+            Set<String> sizes,
+            BigDecimal minPrice,
+            BigDecimal maxPrice
+    ) {
+        final var aQuery = new SearchQuery(page, perPage, search, sort, direction);
+        final var aInput = ProductFacetedSearchInput.with(aQuery, categoryIds, colors, sizes, minPrice, maxPrice);
+        return ProductApiPresenter.present(this.listProductsWithFacetsUseCase.execute(aInput));
+    }
+
     @Override
     public GetProductResponse getProductById(String id) {
         return ProductApiPresenter.present(this.getProductByIdUseCase.execute(id));
@@ -6,19 +6,24 @@ import com.kaua.ecommerce.domain.pagination.Pagination;
 import com.kaua.ecommerce.domain.pagination.SearchQuery;
 import com.kaua.ecommerce.infrastructure.category.persistence.CategoryElasticsearchEntity;
 import com.kaua.ecommerce.infrastructure.category.persistence.CategoryElasticsearchEntityRepository;
+import com.kaua.ecommerce.infrastructure.utils.SearchAfterPaginationUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHit;
-import org.springframework.data.elasticsearch.core.SearchOperations;
+import org.springframework.data.elasticsearch.core.query.BaseQuery;
 import org.springframework.data.elasticsearch.core.query.Criteria;
 import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
-import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -31,14 +36,17 @@ public class CategoryElasticsearchGateway implements SearchGateway<Category> {
     private static final String KEYWORD = ".keyword";
 
     private final CategoryElasticsearchEntityRepository categoryElasticsearchEntityRepository;
-    private final SearchOperations searchOperations;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final Duration pointInTimeKeepAlive;
 
     public CategoryElasticsearchGateway(
             final CategoryElasticsearchEntityRepository categoryElasticsearchEntityRepository,
-            final SearchOperations searchOperations
+            final ElasticsearchOperations elasticsearchOperations,
+            @Value("${search.point-in-time.keep-alive:60000}") final long pointInTimeKeepAliveMillis
     ) {
         this.categoryElasticsearchEntityRepository = Objects.requireNonNull(categoryElasticsearchEntityRepository);
-        this.searchOperations = Objects.requireNonNull(searchOperations);
+        this.elasticsearchOperations = Objects.requireNonNull(elasticsearchOperations);
+        this.pointInTimeKeepAlive = Duration.ofMillis(pointInTimeKeepAliveMillis);
     }
 
     @Transactional
@@ -49,26 +57,42 @@ public class CategoryElasticsearchGateway implements SearchGateway<Category> {
         return aCategory;
     }
 
+    @Override
+    public List<Category> saveAll(List<Category> aggregateRoots) {
+        this.categoryElasticsearchEntityRepository.saveAll(aggregateRoots.stream()
+                .map(CategoryElasticsearchEntity::toEntity)
+                .toList());
+        log.info("inserted or updated {} categories in elasticsearch", aggregateRoots.size());
+        return aggregateRoots;
+    }
+
     @Override
     public Pagination<Category> findAll(SearchQuery aQuery) {
         final var aTerms = aQuery.terms();
         final var aCurrentPage = aQuery.page();
         final var aPerPage = aQuery.perPage();
 
-        final var aSort = Sort.by(Sort.Direction.fromString(aQuery.direction()), buildSort(aQuery.sort()));
-        final var aPage = PageRequest.of(aCurrentPage, aPerPage, aSort);
-
-        final Query query;
-        if (StringUtils.isNotEmpty(aTerms)) {
-            final var aCriteria = Criteria.where("name").contains(aTerms)
-                    .or("description").contains(aTerms);
-
-            query = new CriteriaQuery(aCriteria, aPage);
-        } else {
-            query = Query.findAll().setPageable(aPage);
+        final var aOrder = new Sort.Order(Sort.Direction.fromString(aQuery.direction()), buildSort(aQuery.sort()));
+
+        final BaseQuery query = StringUtils.isNotEmpty(aTerms)
+                ? new CriteriaQuery(Criteria.where("name").contains(aTerms).or("description").contains(aTerms))
+                : NativeQuery.builder().withQuery(q -> q.matchAll(m -> m)).build();
+
+        if (aQuery.isCursorQuery()) {
+            return SearchAfterPaginationUtils.find(
+                    this.elasticsearchOperations,
+                    query,
+                    aOrder,
+                    CategoryElasticsearchEntity.class,
+                    aQuery,
+                    this.pointInTimeKeepAlive,
+                    CategoryElasticsearchEntity::toDomain
+            );
         }
 
-        final var aResult = this.searchOperations.search(query, CategoryElasticsearchEntity.class);
+        query.setPageable(PageRequest.of(aCurrentPage, aPerPage, Sort.by(aOrder)));
+
+        final var aResult = this.elasticsearchOperations.search(query, CategoryElasticsearchEntity.class);
 
         final var aTotal = aResult.getTotalHits();
         final var aTotalPages = (int) Math.ceil((double) aTotal / aPerPage);
@@ -137,7 +161,7 @@ public class CategoryElasticsearchGateway implements SearchGateway<Category> {
 
     private Optional<Category> findCategoryByCriteria(Criteria criteria) {
         CriteriaQuery query = new CriteriaQuery(criteria);
-        Optional<CategoryElasticsearchEntity> result = this.searchOperations.search(query, CategoryElasticsearchEntity.class)
+        Optional<CategoryElasticsearchEntity> result = this.elasticsearchOperations.search(query, CategoryElasticsearchEntity.class)
                 .stream()
                 .map(SearchHit::getContent)
                 .findFirst();
@@ -0,0 +1,92 @@
+package com.kaua.ecommerce.infrastructure.category;
+
+import com.kaua.ecommerce.domain.category.Category;
+import com.kaua.ecommerce.infrastructure.category.persistence.CategoryElasticsearchEntity;
+import com.kaua.ecommerce.infrastructure.category.persistence.CategoryJpaEntity;
+import com.kaua.ecommerce.infrastructure.category.persistence.CategoryJpaEntityRepository;
+import com.kaua.ecommerce.infrastructure.search.reindex.SearchReindexSource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The categories index holds the root categories with their sub categories nested, so a root
+ * category is the unit of the reindex.
+ */
+@Component
+public class CategorySearchReindexSource implements SearchReindexSource<Category, CategoryElasticsearchEntity> {
+
+    private final CategoryJpaEntityRepository categoryRepository;
+    private final CategoryElasticsearchInitializer categoryElasticsearchInitializer;
+
+    public CategorySearchReindexSource(
+            final CategoryJpaEntityRepository categoryRepository,
+            final CategoryElasticsearchInitializer categoryElasticsearchInitializer
+    ) {
+        this.categoryRepository = Objects.requireNonNull(categoryRepository);
+        this.categoryElasticsearchInitializer = Objects.requireNonNull(categoryElasticsearchInitializer);
+    }
+
+    @Override
+    public String alias() {
+        return CategoryElasticsearchEntity.INDEX_NAME;
+    }
+
+    @Override
+    public Map<String, Object> settings() {
+        return new HashMap<>();
+    }
+
+    @Override
+    public Document mapping() {
+        return this.categoryElasticsearchInitializer.mapping();
+    }
+
+    @Override
+    public long count() {
+        return this.categoryRepository.countRootCategories();
+    }
+
+    @Override
+    public List<String> findIdsAfter(final String aAfterId, final int aSize) {
+        return this.categoryRepository.findRootCategoriesIdsAfter(aAfterId, PageRequest.ofSize(aSize));
+    }
+
+    // a change of a sub category does not touch its root, the few root categories are all read again
+    @Override
+    public List<String> findIdsUpdatedSince(final Instant aSince, final String aAfterId, final int aSize) {
+        return findIdsAfter(aAfterId, aSize);
+    }
+
+    // the sub categories of the sub categories are lazy, they are read before the transaction ends
+    @Transactional(readOnly = true)
+    @Override
+    public List<Category> findAllByIds(final Collection<String> aIds) {
+        return this.categoryRepository.findAllWithSubCategoriesByIdIn(aIds).stream()
+                .map(CategoryJpaEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public String idOf(final Category aCategory) {
+        return aCategory.getId().getValue();
+    }
+
+    @Override
+    public boolean isSearchable(final Category aCategory) {
+        return true;
+    }
+
+    @Override
+    public CategoryElasticsearchEntity toDocument(final Category aCategory) {
+        return CategoryElasticsearchEntity.toEntity(aCategory);
+    }
+}
@@ -2,7 +2,6 @@ package com.kaua.ecommerce.infrastructure.category.persistence;
 
 import com.kaua.ecommerce.domain.category.Category;
 import com.kaua.ecommerce.domain.category.CategoryID;
-import com.kaua.ecommerce.infrastructure.initializer.CategoryElasticsearchInitializer;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.elasticsearch.annotations.*;
 
@@ -11,9 +10,11 @@ import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-@Document(indexName = CategoryElasticsearchInitializer.INDEX_NAME, createIndex = false)
+@Document(indexName = CategoryElasticsearchEntity.INDEX_NAME, createIndex = false)
 public class CategoryElasticsearchEntity {
 
+    public static final String INDEX_NAME = "categories";
+
     @Id
     private String id;
 
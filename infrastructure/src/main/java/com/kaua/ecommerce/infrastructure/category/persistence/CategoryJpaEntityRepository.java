@@ -1,9 +1,12 @@
 package com.kaua.ecommerce.infrastructure.category.persistence;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.lang.NonNull;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CategoryJpaEntityRepository extends JpaRepository<CategoryJpaEntity, String> {
@@ -14,4 +17,13 @@ public interface CategoryJpaEntityRepository extends JpaRepository<CategoryJpaEn
     @NonNull
     @Query("SELECT c FROM CategoryJpaEntity c LEFT JOIN FETCH c.subCategories WHERE c.id = :id")
     Optional<CategoryJpaEntity> findById(@NonNull String id);
+
+    @Query("SELECT COUNT(c) FROM CategoryJpaEntity c WHERE c.parentId IS NULL")
+    long countRootCategories();
+
+    @Query("SELECT c.id FROM CategoryJpaEntity c WHERE c.parentId IS NULL AND c.id > :afterId ORDER BY c.id")
+    List<String> findRootCategoriesIdsAfter(String afterId, Pageable pageable);
+
+    @Query("SELECT c FROM CategoryJpaEntity c LEFT JOIN FETCH c.subCategories WHERE c.id IN :ids")
+    List<CategoryJpaEntity> findAllWithSubCategoriesByIdIn(Collection<String> ids);
 }
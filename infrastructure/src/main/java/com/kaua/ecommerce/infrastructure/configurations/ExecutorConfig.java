@@ -0,0 +1,38 @@
+package com.kaua.ecommerce.infrastructure.configurations;
+
+import com.kaua.ecommerce.infrastructure.configurations.properties.order.CreateOrderProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class ExecutorConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService createOrderLookupsExecutor(final CreateOrderProperties properties) {
+        final var aThreadCount = new AtomicInteger();
+        final var aPoolSize = properties.getLookupsPoolSize();
+
+        // when the pool and the queue are full the lookup is rejected and the order answered with
+        // a gateway timeout, running it in the request thread would hold the request past the
+        // lookup timeouts
+        return new ThreadPoolExecutor(
+                aPoolSize,
+                aPoolSize,
+                60,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(aPoolSize * 4),
+                runnable -> {
+                    final var aThread = new Thread(runnable, "order-lookups-" + aThreadCount.incrementAndGet());
+                    aThread.setDaemon(true);
+                    return aThread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+}
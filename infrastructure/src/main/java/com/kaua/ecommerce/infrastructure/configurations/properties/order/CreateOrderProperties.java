@@ -0,0 +1,76 @@
+package com.kaua.ecommerce.infrastructure.configurations.properties.order;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "order.create")
+public class CreateOrderProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CreateOrderProperties.class);
+
+    private boolean concurrentLookups;
+    private int lookupsPoolSize;
+    private long customerTimeout;
+    private long productTimeout;
+    private long freightTimeout;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "CreateOrderProperties{" +
+                "concurrentLookups=" + concurrentLookups +
+                ", lookupsPoolSize=" + lookupsPoolSize +
+                ", customerTimeout=" + customerTimeout +
+                ", productTimeout=" + productTimeout +
+                ", freightTimeout=" + freightTimeout +
+                '}';
+    }
+
+    public boolean isConcurrentLookups() {
+        return concurrentLookups;
+    }
+
+    public void setConcurrentLookups(boolean concurrentLookups) {
+        this.concurrentLookups = concurrentLookups;
+    }
+
+    public int getLookupsPoolSize() {
+        return lookupsPoolSize;
+    }
+
+    public void setLookupsPoolSize(int lookupsPoolSize) {
+        this.lookupsPoolSize = lookupsPoolSize;
+    }
+
+    public long getCustomerTimeout() {
+        return customerTimeout;
+    }
+
+    public void setCustomerTimeout(long customerTimeout) {
+        this.customerTimeout = customerTimeout;
+    }
+
+    public long getProductTimeout() {
+        return productTimeout;
+    }
+
+    public void setProductTimeout(long productTimeout) {
+        this.productTimeout = productTimeout;
+    }
+
+    public long getFreightTimeout() {
+        return freightTimeout;
+    }
+
+    public void setFreightTimeout(long freightTimeout) {
+        this.freightTimeout = freightTimeout;
+    }
+}
@@ -1,24 +1,37 @@
 package com.kaua.ecommerce.infrastructure.configurations.usecases;
 
 import com.kaua.ecommerce.application.adapters.TransactionManager;
+import com.kaua.ecommerce.application.gateways.CacheGateway;
+import com.kaua.ecommerce.application.gateways.HotInventoryGateway;
 import com.kaua.ecommerce.application.gateways.InventoryGateway;
+import com.kaua.ecommerce.application.gateways.InventoryHistoryGateway;
 import com.kaua.ecommerce.application.gateways.InventoryMovementGateway;
+import com.kaua.ecommerce.application.usecases.inventory.adjust.AdjustInventoriesQuantityUseCase;
+import com.kaua.ecommerce.application.usecases.inventory.adjust.DefaultAdjustInventoriesQuantityUseCase;
 import com.kaua.ecommerce.application.usecases.inventory.create.CreateInventoryUseCase;
 import com.kaua.ecommerce.application.usecases.inventory.create.DefaultCreateInventoryUseCase;
 import com.kaua.ecommerce.application.usecases.inventory.decrease.DecreaseInventoryQuantityUseCase;
 import com.kaua.ecommerce.application.usecases.inventory.decrease.DefaultDecreaseInventoryQuantityUseCase;
+import com.kaua.ecommerce.application.usecases.inventory.decrease.HotSkuDecreaseInventoryQuantityUseCase;
 import com.kaua.ecommerce.application.usecases.inventory.delete.clean.CleanInventoriesByProductIdUseCase;
 import com.kaua.ecommerce.application.usecases.inventory.delete.clean.DefaultCleanInventoriesByProductIdUseCase;
+import com.kaua.ecommerce.application.usecases.inventory.delete.remove.DefaultRemoveInventoriesBySkusUseCase;
 import com.kaua.ecommerce.application.usecases.inventory.delete.remove.DefaultRemoveInventoryBySkuUseCase;
+import com.kaua.ecommerce.application.usecases.inventory.delete.remove.RemoveInventoriesBySkusUseCase;
 import com.kaua.ecommerce.application.usecases.inventory.delete.remove.RemoveInventoryBySkuUseCase;
 import com.kaua.ecommerce.application.usecases.inventory.increase.DefaultIncreaseInventoryQuantityUseCase;
 import com.kaua.ecommerce.application.usecases.inventory.increase.IncreaseInventoryQuantityUseCase;
 import com.kaua.ecommerce.application.usecases.inventory.retrieve.get.DefaultGetInventoryBySkuUseCase;
 import com.kaua.ecommerce.application.usecases.inventory.retrieve.get.GetInventoryBySkuUseCase;
+import com.kaua.ecommerce.application.usecases.inventory.retrieve.history.DefaultGetInventoryQuantityAtUseCase;
+import com.kaua.ecommerce.application.usecases.inventory.retrieve.history.DefaultListInventoryMovementsBetweenUseCase;
+import com.kaua.ecommerce.application.usecases.inventory.retrieve.history.GetInventoryQuantityAtUseCase;
+import com.kaua.ecommerce.application.usecases.inventory.retrieve.history.ListInventoryMovementsBetweenUseCase;
 import com.kaua.ecommerce.application.usecases.inventory.retrieve.list.DefaultListInventoriesByProductIdUseCase;
 import com.kaua.ecommerce.application.usecases.inventory.retrieve.list.ListInventoriesByProductIdUseCase;
 import com.kaua.ecommerce.application.usecases.inventory.rollback.DefaultRollbackInventoryBySkuUseCase;
 import com.kaua.ecommerce.application.usecases.inventory.rollback.RollbackInventoryBySkuUseCase;
+import com.kaua.ecommerce.domain.inventory.Inventory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -29,15 +42,24 @@ public class InventoryUseCaseConfig {
 
     private final InventoryGateway inventoryGateway;
     private final InventoryMovementGateway inventoryMovementGateway;
+    private final HotInventoryGateway hotInventoryGateway;
+    private final InventoryHistoryGateway inventoryHistoryGateway;
+    private final CacheGateway<Inventory> inventoryCacheGateway;
     private final TransactionManager transactionManager;
 
     public InventoryUseCaseConfig(
             final InventoryGateway inventoryGateway,
             final InventoryMovementGateway inventoryMovementGateway,
+            final HotInventoryGateway hotInventoryGateway,
+            final InventoryHistoryGateway inventoryHistoryGateway,
+            final CacheGateway<Inventory> inventoryCacheGateway,
             final TransactionManager transactionManager
     ) {
         this.inventoryGateway = Objects.requireNonNull(inventoryGateway);
         this.inventoryMovementGateway = Objects.requireNonNull(inventoryMovementGateway);
+        this.hotInventoryGateway = Objects.requireNonNull(hotInventoryGateway);
+        this.inventoryHistoryGateway = Objects.requireNonNull(inventoryHistoryGateway);
+        this.inventoryCacheGateway = Objects.requireNonNull(inventoryCacheGateway);
         this.transactionManager = Objects.requireNonNull(transactionManager);
     }
 
@@ -58,7 +80,15 @@ public class InventoryUseCaseConfig {
 
     @Bean
     public DecreaseInventoryQuantityUseCase decreaseInventoryQuantityUseCase() {
-        return new DefaultDecreaseInventoryQuantityUseCase(inventoryGateway, inventoryMovementGateway, transactionManager);
+        return new HotSkuDecreaseInventoryQuantityUseCase(
+                hotInventoryGateway,
+                new DefaultDecreaseInventoryQuantityUseCase(inventoryGateway, inventoryMovementGateway, transactionManager)
+        );
+    }
+
+    @Bean
+    public AdjustInventoriesQuantityUseCase adjustInventoriesQuantityUseCase() {
+        return new DefaultAdjustInventoriesQuantityUseCase(inventoryGateway, inventoryMovementGateway, transactionManager);
     }
 
     @Bean
@@ -66,6 +96,11 @@ public class InventoryUseCaseConfig {
         return new DefaultRemoveInventoryBySkuUseCase(inventoryGateway, inventoryMovementGateway, transactionManager);
     }
 
+    @Bean
+    public RemoveInventoriesBySkusUseCase removeInventoriesBySkusUseCase() {
+        return new DefaultRemoveInventoriesBySkusUseCase(inventoryGateway, inventoryMovementGateway, transactionManager);
+    }
+
     @Bean
     public RollbackInventoryBySkuUseCase rollbackBySkuUseCase() {
         return new DefaultRollbackInventoryBySkuUseCase(inventoryGateway, inventoryMovementGateway, transactionManager);
@@ -78,6 +113,16 @@ public class InventoryUseCaseConfig {
 
     @Bean
     public GetInventoryBySkuUseCase getInventoryBySkuUseCase() {
-        return new DefaultGetInventoryBySkuUseCase(inventoryGateway);
+        return new DefaultGetInventoryBySkuUseCase(inventoryGateway, inventoryCacheGateway);
+    }
+
+    @Bean
+    public GetInventoryQuantityAtUseCase getInventoryQuantityAtUseCase() {
+        return new DefaultGetInventoryQuantityAtUseCase(inventoryHistoryGateway);
+    }
+
+    @Bean
+    public ListInventoryMovementsBetweenUseCase listInventoryMovementsBetweenUseCase() {
+        return new DefaultListInventoryMovementsBetweenUseCase(inventoryHistoryGateway);
     }
 }
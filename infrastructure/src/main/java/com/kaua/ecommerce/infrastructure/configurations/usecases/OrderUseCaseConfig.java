@@ -2,12 +2,18 @@ package com.kaua.ecommerce.infrastructure.configurations.usecases;
 
 import com.kaua.ecommerce.application.adapters.TransactionManager;
 import com.kaua.ecommerce.application.gateways.order.*;
+import com.kaua.ecommerce.application.usecases.order.create.ConcurrentCreateOrderUseCase;
+import com.kaua.ecommerce.application.usecases.order.create.CreateOrderLookupsTimeouts;
 import com.kaua.ecommerce.application.usecases.order.create.CreateOrderUseCase;
 import com.kaua.ecommerce.application.usecases.order.create.DefaultCreateOrderUseCase;
+import com.kaua.ecommerce.infrastructure.configurations.properties.order.CreateOrderProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 
 @Configuration
 public class OrderUseCaseConfig {
@@ -20,6 +26,8 @@ public class OrderUseCaseConfig {
     private final OrderProductGateway orderProductGateway;
     private final OrderFreightGateway orderFreightGateway;
     private final TransactionManager transactionManager;
+    private final CreateOrderProperties createOrderProperties;
+    private final ExecutorService createOrderLookupsExecutor;
 
     public OrderUseCaseConfig(
             final OrderGateway orderGateway,
@@ -29,7 +37,9 @@ public class OrderUseCaseConfig {
             final OrderPaymentGateway orderPaymentGateway,
             final OrderProductGateway orderProductGateway,
             final OrderFreightGateway orderFreightGateway,
-            final TransactionManager transactionManager
+            final TransactionManager transactionManager,
+            final CreateOrderProperties createOrderProperties,
+            @Qualifier("createOrderLookupsExecutor") final ExecutorService createOrderLookupsExecutor
     ) {
         this.orderGateway = Objects.requireNonNull(orderGateway);
         this.orderCouponGateway = Objects.requireNonNull(orderCouponGateway);
@@ -39,10 +49,31 @@ public class OrderUseCaseConfig {
         this.orderProductGateway = Objects.requireNonNull(orderProductGateway);
         this.orderFreightGateway = Objects.requireNonNull(orderFreightGateway);
         this.transactionManager = Objects.requireNonNull(transactionManager);
+        this.createOrderProperties = Objects.requireNonNull(createOrderProperties);
+        this.createOrderLookupsExecutor = Objects.requireNonNull(createOrderLookupsExecutor);
     }
 
     @Bean
     public CreateOrderUseCase createOrderUseCase() {
+        if (createOrderProperties.isConcurrentLookups()) {
+            return new ConcurrentCreateOrderUseCase(
+                    orderGateway,
+                    orderCouponGateway,
+                    orderCustomerGateway,
+                    orderDeliveryGateway,
+                    orderPaymentGateway,
+                    orderProductGateway,
+                    orderFreightGateway,
+                    transactionManager,
+                    createOrderLookupsExecutor,
+                    CreateOrderLookupsTimeouts.with(
+                            Duration.ofMillis(createOrderProperties.getCustomerTimeout()),
+                            Duration.ofMillis(createOrderProperties.getProductTimeout()),
+                            Duration.ofMillis(createOrderProperties.getFreightTimeout())
+                    )
+            );
+        }
+
         return new DefaultCreateOrderUseCase(
                 orderGateway,
                 orderCouponGateway,
@@ -16,16 +16,19 @@ import com.kaua.ecommerce.application.usecases.product.media.upload.DefaultUploa
 import com.kaua.ecommerce.application.usecases.product.media.upload.UploadProductImageUseCase;
 import com.kaua.ecommerce.application.usecases.product.retrieve.details.DefaultGetProductDetailsBySkuUseCase;
 import com.kaua.ecommerce.application.usecases.product.retrieve.details.GetProductDetailsBySkuUseCase;
+import com.kaua.ecommerce.application.usecases.product.retrieve.details.DefaultGetProductsDetailsBySkusUseCase;
+import com.kaua.ecommerce.application.usecases.product.retrieve.details.GetProductsDetailsBySkusUseCase;
 import com.kaua.ecommerce.application.usecases.product.retrieve.get.DefaultGetProductByIdUseCase;
 import com.kaua.ecommerce.application.usecases.product.retrieve.get.GetProductByIdUseCase;
 import com.kaua.ecommerce.application.usecases.product.search.remove.RemoveProductUseCase;
+import com.kaua.ecommerce.application.usecases.product.search.retrieve.facets.ListProductsWithFacetsUseCase;
 import com.kaua.ecommerce.application.usecases.product.search.retrieve.list.ListProductsUseCase;
 import com.kaua.ecommerce.application.usecases.product.search.save.SaveProductUseCase;
+import com.kaua.ecommerce.application.usecases.product.search.save.SaveProductsUseCase;
 import com.kaua.ecommerce.application.usecases.product.update.DefaultUpdateProductUseCase;
 import com.kaua.ecommerce.application.usecases.product.update.UpdateProductUseCase;
 import com.kaua.ecommerce.application.usecases.product.update.status.DefaultUpdateProductStatusUseCase;
 import com.kaua.ecommerce.application.usecases.product.update.status.UpdateProductStatusUseCase;
-import com.kaua.ecommerce.domain.product.Product;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -37,7 +40,7 @@ public class ProductUseCaseConfig {
     private final ProductGateway productGateway;
     private final CategoryGateway categoryGateway;
     private final MediaResourceGateway mediaResourceGateway;
-    private final SearchGateway<Product> productSearchGateway;
+    private final ProductSearchGateway productSearchGateway;
     private final TransactionManager transactionManager;
     private final EventPublisher eventPublisher;
 
@@ -47,7 +50,7 @@ public class ProductUseCaseConfig {
             final ProductGateway productGateway,
             final CategoryGateway categoryGateway,
             final MediaResourceGateway mediaResourceGateway,
-            final SearchGateway<Product> productSearchGateway,
+            final ProductSearchGateway productSearchGateway,
             final TransactionManager transactionManager,
             final EventPublisher eventPublisher,
             final ProductInventoryGateway productInventoryGateway
@@ -107,6 +110,11 @@ public class ProductUseCaseConfig {
         return new DefaultGetProductDetailsBySkuUseCase(productGateway);
     }
 
+    @Bean
+    public GetProductsDetailsBySkusUseCase getProductsDetailsBySkusUseCase() {
+        return new DefaultGetProductsDetailsBySkusUseCase(productGateway);
+    }
+
     @Bean
     public AddProductAttributesUseCase addProductAttributesUseCase() {
         return new DefaultAddProductAttributesUseCase(productGateway, transactionManager, eventPublisher, productInventoryGateway);
@@ -122,6 +130,11 @@ public class ProductUseCaseConfig {
         return new SaveProductUseCase(productSearchGateway);
     }
 
+    @Bean
+    public SaveProductsUseCase saveProductsUseCase() {
+        return new SaveProductsUseCase(productSearchGateway);
+    }
+
     @Bean
     public RemoveProductUseCase removeProductUseCase() {
         return new RemoveProductUseCase(
@@ -136,4 +149,9 @@ public class ProductUseCaseConfig {
     public ListProductsUseCase listProductsUseCase() {
         return new ListProductsUseCase(productSearchGateway);
     }
+
+    @Bean
+    public ListProductsWithFacetsUseCase listProductsWithFacetsUseCase() {
+        return new ListProductsWithFacetsUseCase(productSearchGateway);
+    }
 }
@@ -9,7 +9,10 @@ import com.kaua.ecommerce.domain.pagination.SearchQuery;
 import com.kaua.ecommerce.domain.utils.InstantUtils;
 import com.kaua.ecommerce.infrastructure.coupon.persistence.CouponJpaEntity;
 import com.kaua.ecommerce.infrastructure.coupon.persistence.CouponJpaEntityRepository;
+import com.kaua.ecommerce.infrastructure.persistence.TextSearchSpecifications;
+import com.kaua.ecommerce.infrastructure.utils.KeysetPaginationUtils;
 import com.kaua.ecommerce.infrastructure.utils.SpecificationUtils;
+import jakarta.persistence.EntityManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
@@ -28,9 +31,17 @@ public class CouponMySQLGateway implements CouponGateway {
     private static final Logger log = LoggerFactory.getLogger(CouponMySQLGateway.class);
 
     private final CouponJpaEntityRepository couponJpaEntityRepository;
-
-    public CouponMySQLGateway(final CouponJpaEntityRepository couponJpaEntityRepository) {
+    private final EntityManager entityManager;
+    private final TextSearchSpecifications textSearchSpecifications;
+
+    public CouponMySQLGateway(
+            final CouponJpaEntityRepository couponJpaEntityRepository,
+            final EntityManager entityManager,
+            final TextSearchSpecifications textSearchSpecifications
+    ) {
         this.couponJpaEntityRepository = Objects.requireNonNull(couponJpaEntityRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.textSearchSpecifications = Objects.requireNonNull(textSearchSpecifications);
     }
 
     @Override
@@ -70,6 +81,7 @@ public class CouponMySQLGateway implements CouponGateway {
                 .map(CouponJpaEntity::toDomain);
     }
 
+    @Transactional(readOnly = true)
     @Override
     public Pagination<Coupon> findAll(SearchQuery aQuery) {
         final var aPageRequest = PageRequest.of(
@@ -90,6 +102,16 @@ public class CouponMySQLGateway implements CouponGateway {
         final var aSpecification = Specification.where(aSpecificationBetween)
                 .and(aSpecificationTerms);
 
+        if (aQuery.isCursorQuery() || aQuery.skipTotal()) {
+            return KeysetPaginationUtils.find(
+                    this.entityManager,
+                    CouponJpaEntity.class,
+                    aSpecification,
+                    aQuery,
+                    CouponJpaEntity::toDomain
+            );
+        }
+
         final var aPage = this.couponJpaEntityRepository.findAll(aSpecification, aPageRequest);
 
         return new Pagination<>(
@@ -110,7 +132,7 @@ public class CouponMySQLGateway implements CouponGateway {
     }
 
     private Specification<CouponJpaEntity> assembleSpecification(final String terms) {
-        final Specification<CouponJpaEntity> codeLike = SpecificationUtils.like("code", terms);
+        final Specification<CouponJpaEntity> codeLike = this.textSearchSpecifications.contains("code", terms);
 
         final var aCouponType = CouponType.of(terms).orElse(null);
         final Specification<CouponJpaEntity> typeLike = SpecificationUtils.whereEqual("type", aCouponType);
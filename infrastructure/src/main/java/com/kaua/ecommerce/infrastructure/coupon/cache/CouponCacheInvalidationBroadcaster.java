@@ -0,0 +1,10 @@
+package com.kaua.ecommerce.infrastructure.coupon.cache;
+
+import java.util.function.Consumer;
+
+public interface CouponCacheInvalidationBroadcaster {
+
+    void publish(String aCouponId);
+
+    void subscribe(Consumer<String> aListener);
+}
@@ -0,0 +1,143 @@
+package com.kaua.ecommerce.infrastructure.coupon.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kaua.ecommerce.application.gateways.CouponGateway;
+import com.kaua.ecommerce.domain.coupon.Coupon;
+import com.kaua.ecommerce.domain.pagination.Pagination;
+import com.kaua.ecommerce.domain.pagination.SearchQuery;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process cache of the coupons by code in front of {@link CouponGateway}, bounded by size and
+ * TTL with the W-TinyLFU eviction of Caffeine. Writes invalidate the coupon by id, as the code
+ * may have changed, on this node right away and after the commit, and on the other nodes
+ * through the {@link CouponCacheInvalidationBroadcaster}.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "coupon.near-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CouponNearCacheGateway implements CouponGateway, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(CouponNearCacheGateway.class);
+
+    public static final String CACHE_NAME = "coupons-by-code";
+
+    private final CouponGateway couponGateway;
+    private final CouponCacheInvalidationBroadcaster broadcaster;
+    private final Cache<String, Coupon> cache;
+
+    // bumped on every invalidation, a load that overlaps one is not cached
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public CouponNearCacheGateway(
+            @Qualifier("couponMySQLGateway") final CouponGateway couponGateway,
+            final CouponCacheInvalidationBroadcaster broadcaster,
+            @Value("${coupon.near-cache.maximum-size:10000}") final long maximumSize,
+            @Value("${coupon.near-cache.ttl:60000}") final long ttlMillis
+    ) {
+        this.couponGateway = Objects.requireNonNull(couponGateway);
+        this.broadcaster = Objects.requireNonNull(broadcaster);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+        this.broadcaster.subscribe(this::invalidateLocally);
+    }
+
+    @Override
+    public Coupon create(final Coupon coupon) {
+        return this.couponGateway.create(coupon);
+    }
+
+    @Override
+    public boolean existsByCode(final String code) {
+        return this.couponGateway.existsByCode(code);
+    }
+
+    @Override
+    public Coupon update(final Coupon coupon) {
+        final var aResult = this.couponGateway.update(coupon);
+        invalidate(coupon.getId().getValue());
+        return aResult;
+    }
+
+    @Override
+    public Optional<Coupon> findById(final String id) {
+        return this.couponGateway.findById(id);
+    }
+
+    @Override
+    public Optional<Coupon> findByCode(final String code) {
+        final var aCached = this.cache.getIfPresent(code);
+        if (aCached != null) {
+            return Optional.of(aCached);
+        }
+
+        final var aInvalidations = this.invalidations.get();
+        final var aResult = this.couponGateway.findByCode(code);
+
+        aResult.ifPresent(aCoupon -> {
+            this.cache.put(code, aCoupon);
+            if (this.invalidations.get() != aInvalidations) {
+                this.cache.invalidate(code);
+            }
+        });
+        return aResult;
+    }
+
+    @Override
+    public Pagination<Coupon> findAll(final SearchQuery aQuery) {
+        return this.couponGateway.findAll(aQuery);
+    }
+
+    @Override
+    public void deleteById(final String id) {
+        this.couponGateway.deleteById(id);
+        invalidate(id);
+    }
+
+    private void invalidate(final String aCouponId) {
+        invalidateLocally(aCouponId);
+        this.broadcaster.publish(aCouponId);
+
+        // a read between the write and the commit would cache the old coupon again
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateLocally(aCouponId);
+                    broadcaster.publish(aCouponId);
+                }
+            });
+        }
+    }
+
+    public void invalidateLocally(final String aCouponId) {
+        this.invalidations.incrementAndGet();
+        this.cache.asMap().values().removeIf(aCoupon -> aCoupon.getId().getValue().equals(aCouponId));
+        log.debug("invalidated cached coupon with id: {}", aCouponId);
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, this.cache, CACHE_NAME);
+    }
+}
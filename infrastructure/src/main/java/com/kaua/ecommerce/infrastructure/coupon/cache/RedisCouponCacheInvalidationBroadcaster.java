@@ -0,0 +1,90 @@
+package com.kaua.ecommerce.infrastructure.coupon.cache;
+
+import com.kaua.ecommerce.domain.utils.IdUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Fire and forget invalidations over Redis pub/sub. A node that misses a message keeps the
+ * stale coupon until the entry expires, so the cache TTL bounds the staleness.
+ */
+@Component
+@ConditionalOnProperty(name = "coupon.near-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisCouponCacheInvalidationBroadcaster implements CouponCacheInvalidationBroadcaster,
+        MessageListener, InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisCouponCacheInvalidationBroadcaster.class);
+
+    public static final String COUPON_INVALIDATIONS_CHANNEL = "coupons:near-cache:invalidations";
+
+    private static final String SEPARATOR = ":";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final String nodeId = IdUtils.generateWithoutDash();
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    public RedisCouponCacheInvalidationBroadcaster(
+            final StringRedisTemplate redisTemplate,
+            final RedisConnectionFactory redisConnectionFactory
+    ) {
+        this.redisTemplate = Objects.requireNonNull(redisTemplate);
+        this.listenerContainer = new RedisMessageListenerContainer();
+        this.listenerContainer.setConnectionFactory(Objects.requireNonNull(redisConnectionFactory));
+        this.listenerContainer.addMessageListener(this, new ChannelTopic(COUPON_INVALIDATIONS_CHANNEL));
+    }
+
+    @Override
+    public void publish(final String aCouponId) {
+        try {
+            this.redisTemplate.convertAndSend(COUPON_INVALIDATIONS_CHANNEL, this.nodeId + SEPARATOR + aCouponId);
+        } catch (final RuntimeException e) {
+            log.warn("failed to broadcast coupon cache invalidation with coupon id: {}", aCouponId, e);
+        }
+    }
+
+    @Override
+    public void subscribe(final Consumer<String> aListener) {
+        this.listeners.add(Objects.requireNonNull(aListener));
+    }
+
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        final var aBody = new String(message.getBody(), StandardCharsets.UTF_8);
+        final var aSeparatorIndex = aBody.indexOf(SEPARATOR);
+        if (aSeparatorIndex < 0 || aBody.substring(0, aSeparatorIndex).equals(this.nodeId)) {
+            return;
+        }
+
+        final var aCouponId = aBody.substring(aSeparatorIndex + 1);
+        this.listeners.forEach(it -> it.accept(aCouponId));
+        log.debug("received coupon cache invalidation with coupon id: {}", aCouponId);
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        this.listenerContainer.afterPropertiesSet();
+        this.listenerContainer.start();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        this.listenerContainer.destroy();
+    }
+}
@@ -4,6 +4,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -14,4 +17,31 @@ public interface CouponJpaEntityRepository extends JpaRepository<CouponJpaEntity
     Optional<CouponJpaEntity> findByCode(String code);
 
     Page<CouponJpaEntity> findAll(Specification<CouponJpaEntity> whereClause, Pageable pageable);
+
+    // remaining_uses is not mapped in the entity, so the coupon updates never overwrite the counter
+
+    @Query(value = "SELECT c.remaining_uses FROM coupons c WHERE c.id = :couponId", nativeQuery = true)
+    Optional<Integer> findRemainingUsesById(@Param("couponId") String couponId);
+
+    @Query(value = "SELECT c.remaining_uses FROM coupons c WHERE c.id = :couponId FOR UPDATE", nativeQuery = true)
+    Optional<Integer> findRemainingUsesByIdForUpdate(@Param("couponId") String couponId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE coupons SET remaining_uses = :quantity WHERE id = :couponId", nativeQuery = true)
+    int updateRemainingUsesById(@Param("couponId") String couponId, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query(value = "UPDATE coupons SET remaining_uses = remaining_uses - :quantity " +
+            "WHERE id = :couponId AND remaining_uses >= :quantity", nativeQuery = true)
+    int decreaseRemainingUsesById(@Param("couponId") String couponId, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query(value = "UPDATE coupons SET remaining_uses = GREATEST(remaining_uses - :quantity, 0) " +
+            "WHERE id = :couponId", nativeQuery = true)
+    int decreaseRemainingUsesToZeroById(@Param("couponId") String couponId, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query(value = "UPDATE coupons SET remaining_uses = remaining_uses + :quantity WHERE id = :couponId",
+            nativeQuery = true)
+    int increaseRemainingUsesById(@Param("couponId") String couponId, @Param("quantity") int quantity);
 }
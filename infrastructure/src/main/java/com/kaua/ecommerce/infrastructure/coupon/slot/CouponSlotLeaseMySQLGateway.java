@@ -0,0 +1,45 @@
+package com.kaua.ecommerce.infrastructure.coupon.slot;
+
+import com.kaua.ecommerce.infrastructure.coupon.persistence.CouponJpaEntityRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+
+@Component
+public class CouponSlotLeaseMySQLGateway implements CouponSlotLeaser {
+
+    private static final Logger log = LoggerFactory.getLogger(CouponSlotLeaseMySQLGateway.class);
+
+    private final CouponJpaEntityRepository couponJpaEntityRepository;
+
+    public CouponSlotLeaseMySQLGateway(final CouponJpaEntityRepository couponJpaEntityRepository) {
+        this.couponJpaEntityRepository = Objects.requireNonNull(couponJpaEntityRepository);
+    }
+
+    // the select locks the coupon row until the commit, so the decrement below can not fail
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Override
+    public int lease(final String aCouponId, final int aSize) {
+        final var aRemaining = this.couponJpaEntityRepository.findRemainingUsesByIdForUpdate(aCouponId)
+                .orElse(0);
+        final var aGranted = Math.min(aRemaining, aSize);
+
+        if (aGranted > 0) {
+            this.couponJpaEntityRepository.decreaseRemainingUsesById(aCouponId, aGranted);
+        }
+
+        log.debug("leased {} coupon slots with coupon id: {}", aGranted, aCouponId);
+        return aGranted;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Override
+    public void release(final String aCouponId, final int aQuantity) {
+        this.couponJpaEntityRepository.increaseRemainingUsesById(aCouponId, aQuantity);
+        log.debug("released {} coupon slots with coupon id: {}", aQuantity, aCouponId);
+    }
+}
@@ -0,0 +1,13 @@
+package com.kaua.ecommerce.infrastructure.coupon.slot;
+
+public interface CouponSlotLeaser {
+
+    /**
+     * Takes up to {@code aSize} uses of the coupon from the durable counter.
+     *
+     * @return the uses granted, zero when the coupon has no uses left
+     */
+    int lease(String aCouponId, int aSize);
+
+    void release(String aCouponId, int aQuantity);
+}
@@ -0,0 +1,221 @@
+package com.kaua.ecommerce.infrastructure.coupon.slot;
+
+import com.kaua.ecommerce.application.gateways.CouponSlotGateway;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Leases blocks of uses of the limited coupons from the durable counter and serves them from
+ * memory, so a hot coupon costs one database round trip per block instead of one per use.
+ * Leftovers are returned on shutdown and when a lease is not refilled within the timeout;
+ * the uses leased by a node that crashes are lost, so a coupon may undersell but never
+ * oversell. Other nodes do not see the uses leased here, {@link #existsByCouponId} is only
+ * as accurate as the leases allow.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "coupon.slots.store", havingValue = "leasing")
+public class CouponSlotLeasingGateway implements CouponSlotGateway, MeterBinder, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CouponSlotLeasingGateway.class);
+
+    private final CouponSlotGateway couponSlotGateway;
+    private final CouponSlotLeaser leaser;
+    private final int blockSize;
+    private final long leaseTimeoutNanos;
+    private final ScheduledExecutorService releaseExecutor;
+
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+
+    private final AtomicLong leasedBlocks = new AtomicLong();
+    private final AtomicLong releasedUses = new AtomicLong();
+
+    public CouponSlotLeasingGateway(
+            @Qualifier("couponSlotMySQLGateway") final CouponSlotGateway couponSlotGateway,
+            final CouponSlotLeaser leaser,
+            @Value("${coupon.slots.lease.block-size:100}") final int blockSize,
+            @Value("${coupon.slots.lease.timeout:30000}") final long leaseTimeoutMillis
+    ) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("blockSize must be greater than 0");
+        }
+        this.couponSlotGateway = Objects.requireNonNull(couponSlotGateway);
+        this.leaser = Objects.requireNonNull(leaser);
+        this.blockSize = blockSize;
+        this.leaseTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(leaseTimeoutMillis);
+        this.releaseExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var aThread = new Thread(runnable, "coupon-slots-lease-release");
+            aThread.setDaemon(true);
+            return aThread;
+        });
+        final var aCheckInterval = Math.max(1, leaseTimeoutMillis / 2);
+        this.releaseExecutor.scheduleWithFixedDelay(
+                this::releaseExpiredLeases,
+                aCheckInterval,
+                aCheckInterval,
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    @Override
+    public void createSlots(String couponId, int quantity) {
+        this.couponSlotGateway.createSlots(couponId, quantity);
+    }
+
+    @Override
+    public boolean existsByCouponId(String couponId) {
+        final var aLease = this.leases.get(couponId);
+        return (aLease != null && aLease.remaining.get() > 0) || this.couponSlotGateway.existsByCouponId(couponId);
+    }
+
+    @Override
+    public void deleteAllByCouponId(String couponId) {
+        final var aLease = this.leases.remove(couponId);
+        if (aLease != null) {
+            aLease.close();
+        }
+        this.couponSlotGateway.deleteAllByCouponId(couponId);
+    }
+
+    @Override
+    public boolean deleteFirstSlotByCouponId(String couponId) {
+        while (true) {
+            final var aLease = this.leases.computeIfAbsent(couponId, Lease::new);
+
+            if (aLease.tryTake()) {
+                return true;
+            }
+
+            if (!refill(aLease)) {
+                return false;
+            }
+        }
+    }
+
+    private boolean refill(final Lease aLease) {
+        synchronized (aLease) {
+            // closed by a release, the caller retries with a new lease
+            if (aLease.closed || aLease.remaining.get() > 0) {
+                return true;
+            }
+
+            final var aGranted = this.leaser.lease(aLease.couponId, this.blockSize);
+            if (aGranted <= 0) {
+                return false;
+            }
+
+            this.leasedBlocks.incrementAndGet();
+            aLease.leasedAtNanos = System.nanoTime();
+            aLease.remaining.addAndGet(aGranted);
+            log.debug("leased {} coupon slots with coupon id: {}", aGranted, aLease.couponId);
+            return true;
+        }
+    }
+
+    public void releaseExpiredLeases() {
+        final var aNow = System.nanoTime();
+        this.leases.values().forEach(aLease -> {
+            if (aNow - aLease.leasedAtNanos >= this.leaseTimeoutNanos) {
+                release(aLease);
+            }
+        });
+    }
+
+    private void release(final Lease aLease) {
+        this.leases.remove(aLease.couponId, aLease);
+        final var aLeftover = aLease.close();
+        if (aLeftover <= 0) {
+            return;
+        }
+
+        try {
+            this.leaser.release(aLease.couponId, aLeftover);
+            this.releasedUses.addAndGet(aLeftover);
+            log.info("released {} coupon slots with coupon id: {}", aLeftover, aLease.couponId);
+        } catch (final RuntimeException e) {
+            log.warn("failed to release {} coupon slots with coupon id: {}", aLeftover, aLease.couponId, e);
+        }
+    }
+
+    public long leasedUses() {
+        return this.leases.values().stream()
+                .mapToLong(it -> Math.max(0, it.remaining.get()))
+                .sum();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("coupons.slots.leases", this.leasedBlocks, AtomicLong::doubleValue)
+                .description("Blocks of coupon uses leased from the database")
+                .register(registry);
+        FunctionCounter.builder("coupons.slots.released", this.releasedUses, AtomicLong::doubleValue)
+                .description("Leased coupon uses returned to the database")
+                .register(registry);
+        Gauge.builder("coupons.slots.leased", this, CouponSlotLeasingGateway::leasedUses)
+                .description("Coupon uses leased by this node and not used yet")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        this.releaseExecutor.shutdownNow();
+        this.leases.values().forEach(this::release);
+    }
+
+    public long getLeasedBlocks() {
+        return leasedBlocks.get();
+    }
+
+    public long getReleasedUses() {
+        return releasedUses.get();
+    }
+
+    private static final class Lease {
+
+        private final String couponId;
+        private final AtomicInteger remaining = new AtomicInteger();
+        private volatile long leasedAtNanos = System.nanoTime();
+        private volatile boolean closed;
+
+        private Lease(final String couponId) {
+            this.couponId = couponId;
+        }
+
+        private boolean tryTake() {
+            while (true) {
+                final var aRemaining = this.remaining.get();
+                if (aRemaining <= 0) {
+                    return false;
+                }
+                if (this.remaining.compareAndSet(aRemaining, aRemaining - 1)) {
+                    return true;
+                }
+            }
+        }
+
+        // takes the leftover at once, a concurrent tryTake either got its use before or sees zero
+        private synchronized int close() {
+            this.closed = true;
+            return this.remaining.getAndSet(0);
+        }
+    }
+}
@@ -1,49 +1,45 @@
 package com.kaua.ecommerce.infrastructure.coupon.slot;
 
 import com.kaua.ecommerce.application.gateways.CouponSlotGateway;
-import com.kaua.ecommerce.domain.coupon.CouponSlot;
-import com.kaua.ecommerce.infrastructure.coupon.slot.persistence.CouponSlotJpaEntity;
-import com.kaua.ecommerce.infrastructure.coupon.slot.persistence.CouponSlotJpaEntityRepository;
+import com.kaua.ecommerce.infrastructure.coupon.persistence.CouponJpaEntityRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Objects;
-import java.util.Set;
 
+/**
+ * The slots of a limited coupon are the remaining_uses counter of the coupon row, creating a
+ * coupon costs the same for any number of uses and applying it is a guarded decrement.
+ */
 @Component
 public class CouponSlotMySQLGateway implements CouponSlotGateway {
 
     private static final Logger log = LoggerFactory.getLogger(CouponSlotMySQLGateway.class);
 
-    private final CouponSlotJpaEntityRepository couponSlotJpaEntityRepository;
+    private final CouponJpaEntityRepository couponJpaEntityRepository;
 
-    public CouponSlotMySQLGateway(final CouponSlotJpaEntityRepository couponSlotJpaEntityRepository) {
-        this.couponSlotJpaEntityRepository = Objects.requireNonNull(couponSlotJpaEntityRepository);
+    public CouponSlotMySQLGateway(final CouponJpaEntityRepository couponJpaEntityRepository) {
+        this.couponJpaEntityRepository = Objects.requireNonNull(couponJpaEntityRepository);
     }
 
+    @Transactional
     @Override
-    public Set<CouponSlot> createInBatch(Set<CouponSlot> couponSlots) {
-        final var aCouponSlotJpaEntities = couponSlots.stream()
-                .map(CouponSlotJpaEntity::toEntity)
-                .toList();
-
-        final var aResult = this.couponSlotJpaEntityRepository.saveAll(aCouponSlotJpaEntities);
-
-        log.info("inserted coupon slots: {}", aResult.size());
-        return couponSlots;
+    public void createSlots(String couponId, int quantity) {
+        this.couponJpaEntityRepository.updateRemainingUsesById(couponId, quantity);
+        log.info("created {} coupon slots with coupon id: {}", quantity, couponId);
     }
 
     @Override
     public boolean existsByCouponId(String couponId) {
-        return this.couponSlotJpaEntityRepository.existsByCouponId(couponId);
+        return countByCouponId(couponId) > 0;
     }
 
+    @Transactional
     @Override
     public void deleteAllByCouponId(String couponId) {
-        if (this.couponSlotJpaEntityRepository.existsByCouponId(couponId)) {
-            this.couponSlotJpaEntityRepository.deleteAllByCouponId(couponId);
+        if (this.couponJpaEntityRepository.updateRemainingUsesById(couponId, 0) == 1) {
             log.info("deleted coupon slots with coupon id: {}", couponId);
         }
     }
@@ -51,11 +47,22 @@ public class CouponSlotMySQLGateway implements CouponSlotGateway {
     @Transactional
     @Override
     public boolean deleteFirstSlotByCouponId(String couponId) {
-        final var aResult = this.couponSlotJpaEntityRepository.deleteFirstSlotByCouponId(couponId);
+        final var aResult = this.couponJpaEntityRepository.decreaseRemainingUsesById(couponId, 1);
         if (aResult == 1) {
             log.info("deleted first coupon slot with coupon id: {}", couponId);
             return true;
         }
         return false;
     }
+
+    public long countByCouponId(final String couponId) {
+        return this.couponJpaEntityRepository.findRemainingUsesById(couponId).orElse(0);
+    }
+
+    @Transactional
+    public int deleteSlotsByCouponId(final String couponId, final int quantity) {
+        final var aResult = this.couponJpaEntityRepository.decreaseRemainingUsesToZeroById(couponId, quantity);
+        log.info("deleted {} coupon slots with coupon id: {}", quantity, couponId);
+        return aResult;
+    }
 }
@@ -0,0 +1,235 @@
+package com.kaua.ecommerce.infrastructure.coupon.slot;
+
+import com.kaua.ecommerce.application.gateways.CouponSlotGateway;
+import com.kaua.ecommerce.domain.utils.IdUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the remaining uses of the limited coupons in a Redis counter, decremented by a script
+ * that never goes below zero, so applying a coupon does not lock a MySQL row. MySQL stays the
+ * durable source: the uses consumed in Redis are kept as pending and discounted from the
+ * MySQL counter in background. A missing counter is rebuilt from the MySQL counter minus
+ * the pending uses, rebuilds and reconciliations of a coupon are serialized by a Redis lock.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "coupon.slots.store", havingValue = "redis")
+public class CouponSlotRedisGateway implements CouponSlotGateway, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CouponSlotRedisGateway.class);
+
+    public static final String COUPON_SLOTS_PREFIX = "coupon-slots:";
+
+    private static final long COUNTER_MISSING = -1;
+    private static final Duration LOCK_TIMEOUT = Duration.ofSeconds(30);
+    private static final int LOCK_ATTEMPTS = 50;
+    private static final long LOCK_RETRY_MILLIS = 20;
+
+    private static final RedisScript<Long> CONSUME_SCRIPT = new DefaultRedisScript<>("""
+            local remaining = redis.call('GET', KEYS[1])
+            if not remaining then
+                return -1
+            end
+            if tonumber(remaining) <= 0 then
+                return 0
+            end
+            redis.call('DECR', KEYS[1])
+            redis.call('INCR', KEYS[2])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                local pending = tonumber(redis.call('GET', KEYS[2]) or '0')
+                redis.call('SET', KEYS[1], math.max(tonumber(ARGV[1]) - pending, 0))
+            end
+            return tonumber(redis.call('GET', KEYS[1]))
+            """, Long.class);
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final CouponSlotMySQLGateway couponSlotMySQLGateway;
+    private final StringRedisTemplate redisTemplate;
+    private final ScheduledExecutorService reconcileExecutor;
+
+    private final Set<String> pendingCouponsIds = ConcurrentHashMap.newKeySet();
+
+    public CouponSlotRedisGateway(
+            final CouponSlotMySQLGateway couponSlotMySQLGateway,
+            final StringRedisTemplate redisTemplate,
+            @Value("${coupon.slots.reconcile-interval:1000}") final long reconcileIntervalMillis
+    ) {
+        this.couponSlotMySQLGateway = Objects.requireNonNull(couponSlotMySQLGateway);
+        this.redisTemplate = Objects.requireNonNull(redisTemplate);
+        this.reconcileExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var aThread = new Thread(runnable, "coupon-slots-reconcile");
+            aThread.setDaemon(true);
+            return aThread;
+        });
+        this.reconcileExecutor.scheduleWithFixedDelay(
+                this::reconcile,
+                reconcileIntervalMillis,
+                reconcileIntervalMillis,
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    @Override
+    public void createSlots(String couponId, int quantity) {
+        // the counter is loaded from MySQL on the first use, after the slots are committed
+        this.couponSlotMySQLGateway.createSlots(couponId, quantity);
+    }
+
+    @Override
+    public boolean existsByCouponId(String couponId) {
+        final var aRemaining = this.redisTemplate.opsForValue().get(remainingKey(couponId));
+        return (aRemaining == null ? load(couponId) : Long.parseLong(aRemaining)) > 0;
+    }
+
+    @Override
+    public void deleteAllByCouponId(String couponId) {
+        this.couponSlotMySQLGateway.deleteAllByCouponId(couponId);
+        this.pendingCouponsIds.remove(couponId);
+        this.redisTemplate.delete(List.of(remainingKey(couponId), pendingKey(couponId)));
+        log.info("deleted coupon slots counter with coupon id: {}", couponId);
+    }
+
+    @Override
+    public boolean deleteFirstSlotByCouponId(String couponId) {
+        final var aKeys = List.of(remainingKey(couponId), pendingKey(couponId));
+
+        var aResult = this.redisTemplate.execute(CONSUME_SCRIPT, aKeys);
+        if (aResult != null && aResult == COUNTER_MISSING) {
+            load(couponId);
+            aResult = this.redisTemplate.execute(CONSUME_SCRIPT, aKeys);
+        }
+
+        if (aResult != null && aResult == 1) {
+            this.pendingCouponsIds.add(couponId);
+            log.debug("consumed coupon slot with coupon id: {}", couponId);
+            return true;
+        }
+        return false;
+    }
+
+    public void reconcile() {
+        for (final var aCouponId : this.pendingCouponsIds) {
+            // removed before reading the pending uses, a use consumed meanwhile adds it back
+            this.pendingCouponsIds.remove(aCouponId);
+            try {
+                reconcile(aCouponId);
+            } catch (final RuntimeException e) {
+                this.pendingCouponsIds.add(aCouponId);
+                log.warn("failed to reconcile coupon slots with coupon id: {}", aCouponId, e);
+            }
+        }
+    }
+
+    private void reconcile(final String aCouponId) {
+        final var aLockToken = lock(aCouponId);
+        if (aLockToken == null) {
+            this.pendingCouponsIds.add(aCouponId);
+            return;
+        }
+
+        try {
+            final var aPending = this.redisTemplate.opsForValue().get(pendingKey(aCouponId));
+            final var aQuantity = aPending == null ? 0 : Integer.parseInt(aPending);
+            if (aQuantity <= 0) {
+                return;
+            }
+
+            // MySQL is decreased before the pending uses are released, so a counter rebuilt
+            // in between can only be lower than the real value
+            this.couponSlotMySQLGateway.deleteSlotsByCouponId(aCouponId, aQuantity);
+            this.redisTemplate.opsForValue().decrement(pendingKey(aCouponId), aQuantity);
+            log.info("reconciled {} coupon slots uses with coupon id: {}", aQuantity, aCouponId);
+        } finally {
+            unlock(aCouponId, aLockToken);
+        }
+    }
+
+    private long load(final String aCouponId) {
+        final var aLockToken = lock(aCouponId);
+        if (aLockToken == null) {
+            log.warn("could not load coupon slots counter with coupon id: {}, lock is busy", aCouponId);
+            return 0;
+        }
+
+        try {
+            final var aSlots = this.couponSlotMySQLGateway.countByCouponId(aCouponId);
+            final var aRemaining = this.redisTemplate.execute(
+                    LOAD_SCRIPT,
+                    List.of(remainingKey(aCouponId), pendingKey(aCouponId)),
+                    String.valueOf(aSlots)
+            );
+            log.info("loaded coupon slots counter with coupon id: {}, remaining: {}", aCouponId, aRemaining);
+            return aRemaining == null ? 0 : aRemaining;
+        } finally {
+            unlock(aCouponId, aLockToken);
+        }
+    }
+
+    private String lock(final String aCouponId) {
+        final var aToken = IdUtils.generate();
+        for (int i = 0; i < LOCK_ATTEMPTS; i++) {
+            if (Boolean.TRUE.equals(this.redisTemplate.opsForValue()
+                    .setIfAbsent(lockKey(aCouponId), aToken, LOCK_TIMEOUT))) {
+                return aToken;
+            }
+            try {
+                Thread.sleep(LOCK_RETRY_MILLIS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private void unlock(final String aCouponId, final String aToken) {
+        this.redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey(aCouponId)), aToken);
+    }
+
+    @Override
+    public void destroy() {
+        this.reconcileExecutor.shutdown();
+        reconcile();
+    }
+
+    // the hash tag keeps the keys of a coupon in the same cluster slot, as the scripts need
+    public static String remainingKey(final String aCouponId) {
+        return COUPON_SLOTS_PREFIX + "{" + aCouponId + "}:remaining";
+    }
+
+    public static String pendingKey(final String aCouponId) {
+        return COUPON_SLOTS_PREFIX + "{" + aCouponId + "}:pending";
+    }
+
+    private static String lockKey(final String aCouponId) {
+        return COUPON_SLOTS_PREFIX + "{" + aCouponId + "}:lock";
+    }
+}
@@ -0,0 +1,165 @@
+package com.kaua.ecommerce.infrastructure.initializer;
+
+import com.kaua.ecommerce.infrastructure.product.persistence.elasticsearch.ProductElasticsearchEntity;
+import com.kaua.ecommerce.infrastructure.search.SearchIndexAliases;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Component
+public class ProductElasticsearchInitializer implements CommandLineRunner {
+
+    private static final String AUTOCOMPLETE_FILTER = "autocomplete_filter";
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final SearchIndexAliases searchIndexAliases;
+
+    public ProductElasticsearchInitializer(
+            final ElasticsearchOperations elasticsearchOperations,
+            final SearchIndexAliases searchIndexAliases
+    ) {
+        this.elasticsearchOperations = Objects.requireNonNull(elasticsearchOperations);
+        this.searchIndexAliases = Objects.requireNonNull(searchIndexAliases);
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        if (isElasticsearchRunning()) {
+            this.searchIndexAliases.createAliasedIndexIfAbsent(
+                    ProductElasticsearchEntity.INDEX_NAME,
+                    settings(),
+                    mapping()
+            );
+        }
+    }
+
+    /**
+     * The name and description are indexed with edge n-grams of each token in the autocomplete
+     * sub field, so a partial term is a plain term lookup instead of a wildcard scan over the
+     * terms dictionary. The search analyzer does not split the query in n-grams.
+     */
+    public Map<String, Object> settings() {
+        final var filters = Map.<String, Object>of(AUTOCOMPLETE_FILTER, Map.of(
+                "type", "edge_ngram",
+                "min_gram", 2,
+                "max_gram", 20
+        ));
+
+        final var analyzers = Map.<String, Object>of(
+                ProductElasticsearchEntity.AUTOCOMPLETE_ANALYZER, Map.of(
+                        "type", "custom",
+                        "tokenizer", "standard",
+                        "filter", List.of("lowercase", "asciifolding", AUTOCOMPLETE_FILTER)
+                ),
+                ProductElasticsearchEntity.AUTOCOMPLETE_SEARCH_ANALYZER, Map.of(
+                        "type", "custom",
+                        "tokenizer", "standard",
+                        "filter", List.of("lowercase", "asciifolding")
+                )
+        );
+
+        final var settings = new HashMap<String, Object>();
+        settings.put("analysis", Map.of("filter", filters, "analyzer", analyzers));
+        return settings;
+    }
+
+    public Document mapping() {
+        final var mappings = Document.create();
+
+        Map<String, Object> properties = new HashMap<>();
+
+        properties.put("id", Map.of("type", "keyword"));
+        properties.put("name", Map.of(
+                "type", "text",
+                "fields", Map.of(
+                        "keyword", Map.of("type", "keyword"),
+                        ProductElasticsearchEntity.AUTOCOMPLETE_FIELD, autocomplete()
+                )
+        ));
+        properties.put("description", Map.of(
+                "type", "text",
+                "fields", Map.of(
+                        ProductElasticsearchEntity.AUTOCOMPLETE_FIELD, autocomplete()
+                )
+        ));
+        properties.put("price", Map.of("type", "double"));
+        properties.put("banner_image", Map.of("type", "nested", "properties", images()));
+        properties.put("images", Map.of("type", "nested", "properties", images()));
+        properties.put("category_id", Map.of(
+                "type", "text",
+                "fields", Map.of(
+                        "keyword", Map.of("type", "keyword")
+                )
+        ));
+        properties.put("attributes", Map.of("type", "nested", "properties", attributes()));
+        properties.put("status", Map.of(
+                "type", "text",
+                "fields", Map.of(
+                        "keyword", Map.of("type", "keyword")
+                )
+        ));
+        properties.put("created_at", Map.of("type", "date"));
+        properties.put("updated_at", Map.of("type", "date"));
+
+        mappings.put("properties", properties);
+        return mappings;
+    }
+
+    private Map<String, Object> autocomplete() {
+        return Map.of(
+                "type", "text",
+                "analyzer", ProductElasticsearchEntity.AUTOCOMPLETE_ANALYZER,
+                "search_analyzer", ProductElasticsearchEntity.AUTOCOMPLETE_SEARCH_ANALYZER
+        );
+    }
+
+    private Map<String, Object> images() {
+        Map<String, Object> properties = new HashMap<>();
+
+        properties.put("id", Map.of("type", "keyword"));
+        properties.put("name", Map.of("type", "text"));
+        properties.put("location", Map.of("type", "text"));
+        properties.put("url", Map.of("type", "text"));
+        return properties;
+    }
+
+    private Map<String, Object> attributes() {
+        Map<String, Object> properties = new HashMap<>();
+
+        properties.put("color", Map.of("type", "nested", "properties", Map.of(
+                "id", Map.of("type", "keyword"),
+                "color", Map.of(
+                        "type", "text",
+                        "fields", Map.of("keyword", Map.of("type", "keyword"))
+                )
+        )));
+        properties.put("size", Map.of("type", "nested", "properties", Map.of(
+                "id", Map.of("type", "keyword"),
+                "size", Map.of(
+                        "type", "text",
+                        "fields", Map.of("keyword", Map.of("type", "keyword"))
+                ),
+                "weight", Map.of("type", "double"),
+                "height", Map.of("type", "double"),
+                "width", Map.of("type", "double"),
+                "length", Map.of("type", "double")
+        )));
+        properties.put("sku", Map.of("type", "text"));
+        return properties;
+    }
+
+    private boolean isElasticsearchRunning() {
+        try {
+            this.elasticsearchOperations.cluster().health();
+            return true;
+        } catch (final Exception e) {
+            return false;
+        }
+    }
+}
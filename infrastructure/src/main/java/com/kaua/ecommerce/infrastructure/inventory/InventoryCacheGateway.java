@@ -0,0 +1,174 @@
+package com.kaua.ecommerce.infrastructure.inventory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kaua.ecommerce.application.gateways.CacheGateway;
+import com.kaua.ecommerce.domain.inventory.Inventory;
+import com.kaua.ecommerce.infrastructure.inventory.persistence.InventoryCacheEntity;
+import com.kaua.ecommerce.infrastructure.inventory.persistence.InventoryCacheEntityRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.convert.RedisConverter;
+import org.springframework.data.redis.core.convert.RedisData;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Inventories by sku in an in-process cache in front of Redis. An entry is only replaced by an
+ * inventory with the same or a higher version, so a slow reader can not put back a quantity
+ * older than the one written after a commit. In Redis the version check and the write run in
+ * one script, in the hash layout of the repository. The local entries expire fast, which bounds how
+ * long a node serves a quantity changed by another node. Redis errors are treated as misses,
+ * the cache never fails a read or a write of the stock.
+ */
+@Component
+public class InventoryCacheGateway implements CacheGateway<Inventory>, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(InventoryCacheGateway.class);
+
+    public static final String CACHE_NAME = "inventories-by-sku";
+
+    private static final RedisScript<Long> SAVE_IF_NOT_OLDER_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], 'version')
+            if current and tonumber(current) > tonumber(ARGV[1]) then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], unpack(ARGV, 4))
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            redis.call('SADD', KEYS[2], ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final InventoryCacheEntityRepository inventoryCacheEntityRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisConverter redisConverter;
+    private final long timeToLiveSeconds;
+    private final Cache<String, Inventory> localCache;
+
+    private final AtomicLong remoteHits = new AtomicLong();
+    private final AtomicLong remoteMisses = new AtomicLong();
+
+    public InventoryCacheGateway(
+            final InventoryCacheEntityRepository inventoryCacheEntityRepository,
+            final StringRedisTemplate redisTemplate,
+            final RedisConverter redisConverter,
+            @Value("${inventory.cache.ttl:3600000}") final long ttlMillis,
+            @Value("${inventory.cache.local.maximum-size:10000}") final long localMaximumSize,
+            @Value("${inventory.cache.local.ttl:1000}") final long localTtlMillis
+    ) {
+        this.inventoryCacheEntityRepository = Objects.requireNonNull(inventoryCacheEntityRepository);
+        this.redisTemplate = Objects.requireNonNull(redisTemplate);
+        this.redisConverter = Objects.requireNonNull(redisConverter);
+        this.timeToLiveSeconds = Math.max(1, Duration.ofMillis(ttlMillis).toSeconds());
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(Duration.ofMillis(localTtlMillis))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void save(Inventory aggregateRoot) {
+        final var aSku = aggregateRoot.getSku();
+        putLocally(aggregateRoot);
+
+        try {
+            final var aData = new RedisData();
+            this.redisConverter.write(InventoryCacheEntity.toEntity(aggregateRoot, this.timeToLiveSeconds), aData);
+
+            final var aArgs = new ArrayList<String>();
+            aArgs.add(String.valueOf(aggregateRoot.getVersion()));
+            aArgs.add(String.valueOf(aData.getTimeToLive()));
+            aArgs.add(aData.getId());
+            aData.getBucket().rawMap().forEach((aField, aValue) -> {
+                aArgs.add(aField);
+                aArgs.add(new String(aValue, StandardCharsets.UTF_8));
+            });
+
+            final var aSaved = this.redisTemplate.execute(
+                    SAVE_IF_NOT_OLDER_SCRIPT,
+                    List.of(aData.getKeyspace() + ":" + aData.getId(), aData.getKeyspace()),
+                    aArgs.toArray()
+            );
+            if (aSaved == null || aSaved == 0) {
+                log.debug("inventory sku {} not cached, version {} is older than the cached one",
+                        aSku, aggregateRoot.getVersion());
+                return;
+            }
+            log.debug("inserted inventory in cache: {}", aggregateRoot);
+        } catch (final RuntimeException e) {
+            log.warn("failed to cache inventory with sku: {}", aSku, e);
+        }
+    }
+
+    @Override
+    public Optional<Inventory> get(String sku) {
+        final var aLocal = this.localCache.getIfPresent(sku);
+        if (aLocal != null) {
+            return Optional.of(aLocal);
+        }
+
+        try {
+            final var aCached = this.inventoryCacheEntityRepository.findById(sku)
+                    .map(InventoryCacheEntity::toDomain);
+
+            if (aCached.isEmpty()) {
+                this.remoteMisses.incrementAndGet();
+                return aCached;
+            }
+
+            this.remoteHits.incrementAndGet();
+            return Optional.of(putLocally(aCached.get()));
+        } catch (final RuntimeException e) {
+            log.warn("failed to read cached inventory with sku: {}", sku, e);
+            this.remoteMisses.incrementAndGet();
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void delete(String sku) {
+        this.localCache.invalidate(sku);
+
+        try {
+            this.inventoryCacheEntityRepository.deleteById(sku);
+            log.debug("deleted inventory in cache with sku: {}", sku);
+        } catch (final RuntimeException e) {
+            log.warn("failed to delete cached inventory with sku: {}", sku, e);
+        }
+    }
+
+    private Inventory putLocally(final Inventory aInventory) {
+        return this.localCache.asMap().merge(aInventory.getSku(), aInventory, (aCurrent, aNew) ->
+                aNew.getVersion() >= aCurrent.getVersion() ? aNew : aCurrent);
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, this.localCache, CACHE_NAME);
+        FunctionCounter.builder("inventories.cache.remote.gets", this.remoteHits, AtomicLong::doubleValue)
+                .tag("result", "hit")
+                .description("Local cache misses answered by Redis")
+                .register(registry);
+        FunctionCounter.builder("inventories.cache.remote.gets", this.remoteMisses, AtomicLong::doubleValue)
+                .tag("result", "miss")
+                .description("Local cache misses that went to the database")
+                .register(registry);
+    }
+}
@@ -4,21 +4,25 @@ import com.kaua.ecommerce.application.gateways.InventoryGateway;
 import com.kaua.ecommerce.domain.inventory.Inventory;
 import com.kaua.ecommerce.domain.pagination.Pagination;
 import com.kaua.ecommerce.domain.pagination.SearchQuery;
+import com.kaua.ecommerce.domain.utils.InstantUtils;
 import com.kaua.ecommerce.infrastructure.inventory.persistence.InventoryJpaEntity;
 import com.kaua.ecommerce.infrastructure.inventory.persistence.InventoryJpaEntityRepository;
+import com.kaua.ecommerce.infrastructure.persistence.TextSearchSpecifications;
+import com.kaua.ecommerce.infrastructure.utils.KeysetPaginationUtils;
 import com.kaua.ecommerce.infrastructure.utils.SpecificationUtils;
+import jakarta.persistence.EntityManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.Set;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Component
@@ -26,10 +30,28 @@ public class InventoryMySQLGateway implements InventoryGateway {
 
     private static final Logger log = LoggerFactory.getLogger(InventoryMySQLGateway.class);
 
-    private final InventoryJpaEntityRepository inventoryJpaEntityRepository;
+    private static final String ADJUST_QUANTITY_SQL = "UPDATE inventories " +
+            "SET quantity = quantity + ?, updated_at = ?, version = version + 1 " +
+            "WHERE sku = ? AND quantity + ? >= 0";
+    private static final String ADJUSTED_SKUS_SQL = "SELECT sku FROM inventories " +
+            "WHERE sku IN (%s) AND updated_at = ?";
+    private static final int ADJUST_QUANTITY_BATCH_SIZE = 50;
 
-    public InventoryMySQLGateway(final InventoryJpaEntityRepository inventoryJpaEntityRepository) {
+    private final InventoryJpaEntityRepository inventoryJpaEntityRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final TextSearchSpecifications textSearchSpecifications;
+
+    public InventoryMySQLGateway(
+            final InventoryJpaEntityRepository inventoryJpaEntityRepository,
+            final JdbcTemplate jdbcTemplate,
+            final EntityManager entityManager,
+            final TextSearchSpecifications textSearchSpecifications
+    ) {
         this.inventoryJpaEntityRepository = Objects.requireNonNull(inventoryJpaEntityRepository);
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.textSearchSpecifications = Objects.requireNonNull(textSearchSpecifications);
     }
 
     @Transactional
@@ -45,12 +67,87 @@ public class InventoryMySQLGateway implements InventoryGateway {
 
     @Override
     public Inventory update(Inventory inventory) {
-        final var aResult = this.inventoryJpaEntityRepository.save(InventoryJpaEntity.toEntity(inventory))
-                .toDomain();
+        final var aEntity = InventoryJpaEntity.toEntity(inventory);
+        aEntity.markPersisted();
+
+        final var aResult = this.inventoryJpaEntityRepository.save(aEntity).toDomain();
         log.info("updated inventory: {}", aResult);
         return aResult;
     }
 
+    @Transactional
+    @Override
+    public Optional<Integer> decreaseQuantityBySku(String sku, int quantity) {
+        final var aUpdated = this.inventoryJpaEntityRepository
+                .decreaseQuantityBySku(sku, quantity, InstantUtils.now());
+
+        if (aUpdated == 0) {
+            log.info("inventory not decreased, sku {} not found or quantity lower than {}", sku, quantity);
+            return Optional.empty();
+        }
+
+        // the updated row stays locked until the end of the transaction, so this is the quantity we left
+        final var aQuantity = this.inventoryJpaEntityRepository.findQuantityBySku(sku);
+        log.info("decreased inventory sku {} by {}, new quantity: {}", sku, quantity, aQuantity.orElse(null));
+        return aQuantity;
+    }
+
+    @Transactional
+    @Override
+    public Set<String> adjustQuantitiesBySkus(Map<String, Integer> deltasBySku) {
+        // same lock order for every caller, so two bulk adjustments over the same skus do not deadlock
+        final var aDeltas = List.copyOf(new TreeMap<>(deltasBySku).entrySet());
+        final var aUpdatedAt = Timestamp.from(InstantUtils.now());
+
+        this.entityManager.flush();
+
+        final var aUpdatedCounts = this.jdbcTemplate.batchUpdate(
+                ADJUST_QUANTITY_SQL,
+                aDeltas,
+                ADJUST_QUANTITY_BATCH_SIZE,
+                (aStatement, aDelta) -> {
+                    aStatement.setInt(1, aDelta.getValue());
+                    aStatement.setTimestamp(2, aUpdatedAt);
+                    aStatement.setString(3, aDelta.getKey());
+                    aStatement.setInt(4, aDelta.getValue());
+                }
+        );
+
+        // the managed inventories, if any, still have the quantities from before the batch
+        this.entityManager.clear();
+
+        final var aAppliedSkus = new HashSet<String>();
+        var aIndex = 0;
+        var aUnknownCounts = false;
+        for (final var aBatch : aUpdatedCounts) {
+            for (final var aCount : aBatch) {
+                if (aCount > 0) {
+                    aAppliedSkus.add(aDeltas.get(aIndex).getKey());
+                }
+                aUnknownCounts |= aCount == Statement.SUCCESS_NO_INFO;
+                aIndex++;
+            }
+        }
+
+        // rewritten batches do not report which rows matched the guard, the rows updated by this
+        // batch carry its updated_at and are still locked by this transaction
+        if (aUnknownCounts) {
+            aAppliedSkus.clear();
+            aAppliedSkus.addAll(findSkusUpdatedAt(aDeltas.stream().map(Map.Entry::getKey).toList(), aUpdatedAt));
+        }
+
+        log.info("adjusted inventories quantity: {} of {} skus", aAppliedSkus.size(), aDeltas.size());
+        return aAppliedSkus;
+    }
+
+    private List<String> findSkusUpdatedAt(final List<String> aSkus, final Timestamp aUpdatedAt) {
+        final var aPlaceholders = String.join(", ", Collections.nCopies(aSkus.size(), "?"));
+        final var aArgs = new ArrayList<Object>(aSkus);
+        aArgs.add(aUpdatedAt);
+
+        return this.jdbcTemplate.queryForList(ADJUSTED_SKUS_SQL.formatted(aPlaceholders), String.class, aArgs.toArray());
+    }
+
     @Override
     public List<String> existsBySkus(List<String> skus) {
         return this.inventoryJpaEntityRepository.existsBySkus(skus);
@@ -63,6 +160,19 @@ public class InventoryMySQLGateway implements InventoryGateway {
                 .map(InventoryJpaEntity::toDomain);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public List<Inventory> findBySkus(Set<String> skus) {
+        if (skus == null || skus.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return this.inventoryJpaEntityRepository.findAllBySkuIn(skus)
+                .stream()
+                .map(InventoryJpaEntity::toDomain)
+                .toList();
+    }
+
     @Transactional(readOnly = true)
     @Override
     public Set<Inventory> findByProductId(String productId) {
@@ -88,6 +198,16 @@ public class InventoryMySQLGateway implements InventoryGateway {
         final var aSpecification = Specification.where(assembleWhereEqual(productId))
                 .and(aSpecificationLike);
 
+        if (aQuery.isCursorQuery() || aQuery.skipTotal()) {
+            return KeysetPaginationUtils.find(
+                    this.entityManager,
+                    InventoryJpaEntity.class,
+                    aSpecification,
+                    aQuery,
+                    InventoryJpaEntity::toDomain
+            );
+        }
+
         final var aPageResult = this.inventoryJpaEntityRepository.findAll(
                 aSpecification,
                 aPage
@@ -114,8 +234,19 @@ public class InventoryMySQLGateway implements InventoryGateway {
         log.info("deleted inventory by sku: {}", sku);
     }
 
+    @Transactional
+    @Override
+    public void deleteBySkus(Set<String> skus) {
+        if (skus == null || skus.isEmpty()) {
+            return;
+        }
+
+        final var aDeleted = this.inventoryJpaEntityRepository.deleteAllBySkus(skus);
+        log.info("deleted {} inventories by skus: {}", aDeleted, skus);
+    }
+
     private Specification<InventoryJpaEntity> assembleSpecificationLike(final String terms) {
-        return SpecificationUtils.like("sku", terms);
+        return this.textSearchSpecifications.contains("sku", terms);
     }
 
     private Specification<InventoryJpaEntity> assembleWhereEqual(final String aProductId) {
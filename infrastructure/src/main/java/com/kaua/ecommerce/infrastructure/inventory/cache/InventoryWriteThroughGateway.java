@@ -0,0 +1,157 @@
+package com.kaua.ecommerce.infrastructure.inventory.cache;
+
+import com.kaua.ecommerce.application.gateways.CacheGateway;
+import com.kaua.ecommerce.application.gateways.InventoryGateway;
+import com.kaua.ecommerce.domain.inventory.Inventory;
+import com.kaua.ecommerce.domain.pagination.Pagination;
+import com.kaua.ecommerce.domain.pagination.SearchQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the inventories cache coherent with every stock write. Once the write is committed the
+ * touched skus are read back and cached with their new version, or evicted when they are gone,
+ * so the cache follows the database and not what the caller thinks it wrote. The reads still go
+ * to MySQL here, only the availability reads use the cache, the stock changes never decide on a
+ * cached quantity.
+ */
+@Primary
+@Component
+public class InventoryWriteThroughGateway implements InventoryGateway {
+
+    private static final Logger log = LoggerFactory.getLogger(InventoryWriteThroughGateway.class);
+
+    private final InventoryGateway inventoryGateway;
+    private final CacheGateway<Inventory> inventoryCacheGateway;
+
+    public InventoryWriteThroughGateway(
+            @Qualifier("inventoryMySQLGateway") final InventoryGateway inventoryGateway,
+            final CacheGateway<Inventory> inventoryCacheGateway
+    ) {
+        this.inventoryGateway = Objects.requireNonNull(inventoryGateway);
+        this.inventoryCacheGateway = Objects.requireNonNull(inventoryCacheGateway);
+    }
+
+    @Override
+    public Set<Inventory> createInBatch(Set<Inventory> inventories) {
+        final var aResult = this.inventoryGateway.createInBatch(inventories);
+        refreshAfterCommit(inventories.stream().map(Inventory::getSku).collect(Collectors.toSet()));
+        return aResult;
+    }
+
+    @Override
+    public Inventory update(Inventory inventory) {
+        final var aResult = this.inventoryGateway.update(inventory);
+        refreshAfterCommit(Set.of(inventory.getSku()));
+        return aResult;
+    }
+
+    @Override
+    public Optional<Integer> decreaseQuantityBySku(String sku, int quantity) {
+        final var aResult = this.inventoryGateway.decreaseQuantityBySku(sku, quantity);
+        if (aResult.isPresent()) {
+            refreshAfterCommit(Set.of(sku));
+        }
+        return aResult;
+    }
+
+    @Override
+    public Set<String> adjustQuantitiesBySkus(Map<String, Integer> deltasBySku) {
+        final var aResult = this.inventoryGateway.adjustQuantitiesBySkus(deltasBySku);
+        refreshAfterCommit(aResult);
+        return aResult;
+    }
+
+    @Override
+    public List<String> existsBySkus(List<String> skus) {
+        return this.inventoryGateway.existsBySkus(skus);
+    }
+
+    @Override
+    public Optional<Inventory> findBySku(String sku) {
+        return this.inventoryGateway.findBySku(sku);
+    }
+
+    @Override
+    public List<Inventory> findBySkus(Set<String> skus) {
+        return this.inventoryGateway.findBySkus(skus);
+    }
+
+    @Override
+    public Set<Inventory> findByProductId(String productId) {
+        return this.inventoryGateway.findByProductId(productId);
+    }
+
+    @Override
+    public Pagination<Inventory> findAllByProductId(SearchQuery aQuery, String productId) {
+        return this.inventoryGateway.findAllByProductId(aQuery, productId);
+    }
+
+    @Override
+    public void cleanByProductId(String productId) {
+        final var aSkus = this.inventoryGateway.findByProductId(productId).stream()
+                .map(Inventory::getSku)
+                .collect(Collectors.toSet());
+        this.inventoryGateway.cleanByProductId(productId);
+        refreshAfterCommit(aSkus);
+    }
+
+    @Override
+    public void deleteBySku(String sku) {
+        this.inventoryGateway.deleteBySku(sku);
+        refreshAfterCommit(Set.of(sku));
+    }
+
+    @Override
+    public void deleteBySkus(Set<String> skus) {
+        this.inventoryGateway.deleteBySkus(skus);
+        refreshAfterCommit(skus);
+    }
+
+    private void refreshAfterCommit(final Set<String> aSkus) {
+        if (aSkus == null || aSkus.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh(aSkus);
+            return;
+        }
+
+        // a rolled back write must leave the cache as it was
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refresh(aSkus);
+            }
+        });
+    }
+
+    private void refresh(final Set<String> aSkus) {
+        try {
+            final var aMissing = new HashSet<>(aSkus);
+            this.inventoryGateway.findBySkus(aSkus).forEach(aInventory -> {
+                this.inventoryCacheGateway.save(aInventory);
+                aMissing.remove(aInventory.getSku());
+            });
+            aMissing.forEach(this.inventoryCacheGateway::delete);
+        } catch (final RuntimeException e) {
+            // the write is committed, evict so the next read loads it again
+            log.warn("failed to refresh cached inventories with skus: {}", aSkus, e);
+            aSkus.forEach(this.inventoryCacheGateway::delete);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.kaua.ecommerce.infrastructure.inventory.history;
+
+import com.kaua.ecommerce.application.gateways.InventoryHistoryGateway;
+import com.kaua.ecommerce.application.gateways.responses.InventorySnapshot;
+import com.kaua.ecommerce.domain.inventory.movement.InventoryMovement;
+import com.kaua.ecommerce.domain.inventory.movement.InventoryMovementStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Reads the stock history from the snapshots and the movements. The movements older than the
+ * retention live in the archive table, every movement query reads both tables through their
+ * (sku, created_at) indexes, so the cost follows the requested window and not the history.
+ */
+@Component
+public class InventoryHistoryMySQLGateway implements InventoryHistoryGateway {
+
+    private static final Logger log = LoggerFactory.getLogger(InventoryHistoryMySQLGateway.class);
+
+    private static final String MOVEMENTS_TABLE = "inventories_movements";
+    private static final String ARCHIVE_TABLE = "inventories_movements_archive";
+    private static final String SIGNED_QUANTITY = "CASE movement_type WHEN 'IN' THEN quantity ELSE -quantity END";
+
+    private static final String LAST_SNAPSHOT_SQL = "SELECT sku, quantity, taken_at FROM inventories_snapshots " +
+            "WHERE sku = ? AND taken_at <= ? ORDER BY taken_at DESC LIMIT 1";
+    private static final String SUM_MOVEMENTS_SQL = "SELECT COALESCE(SUM(" + SIGNED_QUANTITY + "), 0) FROM %s " +
+            "WHERE sku = ? AND created_at > ? AND created_at <= ?";
+    private static final String MOVEMENTS_BETWEEN_SQL = "SELECT id, inventory_id, sku, quantity, movement_type, " +
+            "created_at, updated_at FROM %s WHERE sku = ? AND created_at >= ? AND created_at < ? " +
+            "ORDER BY created_at LIMIT ?";
+
+    private static final String SKUS_PAGE_SQL = "SELECT sku FROM inventories WHERE sku > ? ORDER BY sku LIMIT ?";
+    private static final String LAST_SNAPSHOTS_SQL = "SELECT s.sku, s.quantity, s.taken_at FROM inventories_snapshots s " +
+            "JOIN (SELECT sku, MAX(taken_at) AS taken_at FROM inventories_snapshots WHERE sku IN (%1$s) GROUP BY sku) l " +
+            "ON l.sku = s.sku AND l.taken_at = s.taken_at";
+    private static final String SUM_MOVEMENTS_SINCE_LAST_SNAPSHOTS_SQL = "SELECT m.sku, " +
+            "SUM(CASE m.movement_type WHEN 'IN' THEN m.quantity ELSE -m.quantity END) AS delta FROM %2$s m " +
+            "LEFT JOIN (SELECT sku, MAX(taken_at) AS taken_at FROM inventories_snapshots WHERE sku IN (%1$s) GROUP BY sku) s " +
+            "ON s.sku = m.sku " +
+            "WHERE m.sku IN (%1$s) AND m.created_at <= ? AND (s.taken_at IS NULL OR m.created_at > s.taken_at) " +
+            "GROUP BY m.sku";
+    private static final String INSERT_SNAPSHOT_SQL = "INSERT INTO inventories_snapshots (sku, quantity, taken_at) " +
+            "VALUES (?, ?, ?)";
+
+    private static final RowMapper<InventorySnapshot> SNAPSHOT_MAPPER = (aResultSet, aRow) -> new InventorySnapshot(
+            aResultSet.getString("sku"),
+            aResultSet.getInt("quantity"),
+            aResultSet.getTimestamp("taken_at").toInstant()
+    );
+
+    private static final RowMapper<InventoryMovement> MOVEMENT_MAPPER = (aResultSet, aRow) -> InventoryMovement.with(
+            aResultSet.getString("id"),
+            aResultSet.getString("inventory_id"),
+            aResultSet.getString("sku"),
+            aResultSet.getInt("quantity"),
+            InventoryMovementStatus.valueOf(aResultSet.getString("movement_type")),
+            aResultSet.getTimestamp("created_at").toInstant(),
+            aResultSet.getTimestamp("updated_at").toInstant()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public InventoryHistoryMySQLGateway(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<InventorySnapshot> findLastSnapshotBySkuAt(String sku, Instant at) {
+        return this.jdbcTemplate.query(LAST_SNAPSHOT_SQL, SNAPSHOT_MAPPER, sku, Timestamp.from(at))
+                .stream()
+                .findFirst();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public int sumMovementsBySkuBetween(String sku, Instant after, Instant until) {
+        return Stream.of(MOVEMENTS_TABLE, ARCHIVE_TABLE)
+                .mapToInt(aTable -> Objects.requireNonNull(this.jdbcTemplate.queryForObject(
+                        SUM_MOVEMENTS_SQL.formatted(aTable),
+                        Integer.class,
+                        sku,
+                        Timestamp.from(after),
+                        Timestamp.from(until)
+                )))
+                .sum();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<InventoryMovement> findMovementsBySkuBetween(String sku, Instant from, Instant to, int limit) {
+        final var aMovements = new ArrayList<InventoryMovement>();
+        for (final var aTable : List.of(ARCHIVE_TABLE, MOVEMENTS_TABLE)) {
+            aMovements.addAll(this.jdbcTemplate.query(
+                    MOVEMENTS_BETWEEN_SQL.formatted(aTable),
+                    MOVEMENT_MAPPER,
+                    sku,
+                    Timestamp.from(from),
+                    Timestamp.from(to),
+                    limit
+            ));
+        }
+
+        return aMovements.stream()
+                .sorted(Comparator.comparing(InventoryMovement::getCreatedAt))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Takes the snapshot at {@code at} of the next {@code limit} skus after {@code afterSku}
+     * that had movements since their last snapshot, returns the skus of the page.
+     */
+    @Transactional
+    public List<String> takeSnapshots(final String afterSku, final Instant at, final int limit) {
+        final var aSkus = this.jdbcTemplate.queryForList(SKUS_PAGE_SQL, String.class, afterSku, limit);
+        if (aSkus.isEmpty()) {
+            return aSkus;
+        }
+
+        final var aPlaceholders = String.join(", ", Collections.nCopies(aSkus.size(), "?"));
+
+        final var aQuantities = new HashMap<String, Integer>();
+        this.jdbcTemplate.query(LAST_SNAPSHOTS_SQL.formatted(aPlaceholders), SNAPSHOT_MAPPER, aSkus.toArray())
+                .forEach(it -> aQuantities.put(it.sku(), it.quantity()));
+
+        final var aDeltas = new HashMap<String, Integer>();
+        for (final var aTable : List.of(MOVEMENTS_TABLE, ARCHIVE_TABLE)) {
+            final var aArgs = new ArrayList<Object>(aSkus.size() * 2 + 1);
+            aArgs.addAll(aSkus);
+            aArgs.addAll(aSkus);
+            aArgs.add(Timestamp.from(at));
+
+            this.jdbcTemplate.query(
+                    SUM_MOVEMENTS_SINCE_LAST_SNAPSHOTS_SQL.formatted(aPlaceholders, aTable),
+                    aResultSet -> {
+                        aDeltas.merge(aResultSet.getString("sku"), aResultSet.getInt("delta"), Integer::sum);
+                    },
+                    aArgs.toArray()
+            );
+        }
+
+        if (!aDeltas.isEmpty()) {
+            final var aSnapshots = aDeltas.entrySet().stream()
+                    .map(it -> Map.entry(it.getKey(), aQuantities.getOrDefault(it.getKey(), 0) + it.getValue()))
+                    .toList();
+            final var aTakenAt = Timestamp.from(at);
+
+            this.jdbcTemplate.batchUpdate(INSERT_SNAPSHOT_SQL, aSnapshots, aSnapshots.size(), (aStatement, aSnapshot) -> {
+                aStatement.setString(1, aSnapshot.getKey());
+                aStatement.setInt(2, aSnapshot.getValue());
+                aStatement.setTimestamp(3, aTakenAt);
+            });
+            log.info("took {} inventory snapshots at {}", aSnapshots.size(), at);
+        }
+
+        return aSkus;
+    }
+}
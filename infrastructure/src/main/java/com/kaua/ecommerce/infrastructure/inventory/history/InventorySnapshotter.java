@@ -0,0 +1,96 @@
+package com.kaua.ecommerce.infrastructure.inventory.history;
+
+import com.kaua.ecommerce.domain.utils.InstantUtils;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Takes the periodic inventory snapshots, page by page of skus. A snapshot is taken a little
+ * in the past, the movements committed a little after they were created, as the ones of the
+ * hot skus flush, must be in before the snapshot covering them is taken.
+ */
+@Component
+public class InventorySnapshotter implements MeterBinder, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(InventorySnapshotter.class);
+
+    private final InventoryHistoryMySQLGateway inventoryHistoryGateway;
+    private final Duration lag;
+    private final int pageSize;
+    private final ScheduledExecutorService snapshotExecutor;
+
+    private final AtomicLong snapshotRuns = new AtomicLong();
+
+    public InventorySnapshotter(
+            final InventoryHistoryMySQLGateway inventoryHistoryGateway,
+            @Value("${inventory.snapshots.lag:60000}") final long lagMillis,
+            @Value("${inventory.snapshots.page-size:500}") final int pageSize,
+            @Value("${inventory.snapshots.interval:3600000}") final long intervalMillis
+    ) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be greater than 0");
+        }
+        this.inventoryHistoryGateway = Objects.requireNonNull(inventoryHistoryGateway);
+        this.lag = Duration.ofMillis(lagMillis);
+        this.pageSize = pageSize;
+        this.snapshotExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var aThread = new Thread(runnable, "inventory-snapshots");
+            aThread.setDaemon(true);
+            return aThread;
+        });
+        this.snapshotExecutor.scheduleWithFixedDelay(
+                this::takeSnapshotsSafely,
+                intervalMillis,
+                intervalMillis,
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    public void takeSnapshots() {
+        final var aAt = InstantUtils.now().minus(this.lag);
+        var aAfterSku = "";
+
+        while (!Thread.currentThread().isInterrupted()) {
+            final var aSkus = this.inventoryHistoryGateway.takeSnapshots(aAfterSku, aAt, this.pageSize);
+            if (aSkus.size() < this.pageSize) {
+                break;
+            }
+            aAfterSku = aSkus.get(aSkus.size() - 1);
+        }
+
+        this.snapshotRuns.incrementAndGet();
+    }
+
+    private void takeSnapshotsSafely() {
+        try {
+            takeSnapshots();
+        } catch (final RuntimeException e) {
+            log.warn("failed to take inventory snapshots", e);
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("inventories.snapshots.runs", this.snapshotRuns, AtomicLong::doubleValue)
+                .description("Inventory snapshot runs completed")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        this.snapshotExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,284 @@
+package com.kaua.ecommerce.infrastructure.inventory.hot;
+
+import com.kaua.ecommerce.application.adapters.TransactionManager;
+import com.kaua.ecommerce.application.gateways.HotInventoryGateway;
+import com.kaua.ecommerce.application.gateways.InventoryGateway;
+import com.kaua.ecommerce.application.gateways.InventoryMovementGateway;
+import com.kaua.ecommerce.domain.inventory.Inventory;
+import com.kaua.ecommerce.domain.inventory.movement.InventoryMovement;
+import com.kaua.ecommerce.domain.inventory.movement.InventoryMovementStatus;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Opt-in in-memory stock of the skus listed in {@code inventory.hot-skus.skus}. The stock is
+ * preloaded from the current quantity of the inventories table and sold from striped counters
+ * without a transaction per sale. Every flush interval the net quantity sold of each sku is
+ * decreased from the table with the guarded decrease, together with one OUT movement per sku in
+ * the same transaction, and the quantity read back brings in what other nodes or other paths
+ * changed meanwhile.
+ * <p>
+ * Nodes serving the same hot sku sell against their own view of the stock, which may be one
+ * flush interval old, so together they can sell more than there is. The table never goes below
+ * zero, the quantity that could not be decreased is logged and counted as oversold. The sales
+ * of a node that crashes before its next flush are not decreased from the table.
+ */
+@Component
+public class HotSkuInventoryGateway implements HotInventoryGateway, MeterBinder, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(HotSkuInventoryGateway.class);
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5_000;
+
+    private final InventoryGateway inventoryGateway;
+    private final InventoryMovementGateway inventoryMovementGateway;
+    private final TransactionManager transactionManager;
+    private final Set<String> hotSkus;
+    private final int stripes;
+    private final ScheduledExecutorService flushExecutor;
+
+    private final Map<String, HotSkuStock> stocks = new ConcurrentHashMap<>();
+
+    private final AtomicLong soldQuantity = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong flushedQuantity = new AtomicLong();
+    private final AtomicLong oversoldQuantity = new AtomicLong();
+
+    public HotSkuInventoryGateway(
+            final InventoryGateway inventoryGateway,
+            final InventoryMovementGateway inventoryMovementGateway,
+            final TransactionManager transactionManager,
+            @Value("${inventory.hot-skus.skus:}") final Set<String> hotSkus,
+            @Value("${inventory.hot-skus.stripes:0}") final int stripes,
+            @Value("${inventory.hot-skus.flush-interval:500}") final long flushIntervalMillis
+    ) {
+        this.inventoryGateway = Objects.requireNonNull(inventoryGateway);
+        this.inventoryMovementGateway = Objects.requireNonNull(inventoryMovementGateway);
+        this.transactionManager = Objects.requireNonNull(transactionManager);
+        this.hotSkus = Set.copyOf(Objects.requireNonNull(hotSkus));
+        this.stripes = stripes > 0 ? stripes : Runtime.getRuntime().availableProcessors();
+        this.flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var aThread = new Thread(runnable, "inventory-hot-skus-flush");
+            aThread.setDaemon(true);
+            return aThread;
+        });
+
+        if (!this.hotSkus.isEmpty()) {
+            // the first run preloads the stocks, until then the hot skus are served by the database
+            this.flushExecutor.scheduleWithFixedDelay(
+                    this::flushSafely,
+                    flushIntervalMillis,
+                    flushIntervalMillis,
+                    TimeUnit.MILLISECONDS
+            );
+        }
+    }
+
+    @Override
+    public Optional<Inventory> findBySku(final String sku) {
+        return Optional.ofNullable(this.stocks.get(sku)).map(HotSkuStock::inventory);
+    }
+
+    @Override
+    public boolean decreaseQuantityBySku(final String sku, final int quantity) {
+        final var aStock = this.stocks.get(sku);
+        if (aStock == null || !aStock.take(quantity)) {
+            return false;
+        }
+
+        this.soldQuantity.addAndGet(quantity);
+        return true;
+    }
+
+    public synchronized void flush() {
+        load();
+
+        final var aDeltas = new HashMap<String, Long>();
+        this.stocks.forEach((aSku, aStock) -> {
+            final var aDelta = aStock.takeUnflushed();
+            if (aDelta > 0) {
+                aDeltas.put(aSku, aDelta);
+            }
+        });
+
+        Map<String, Integer> aWritten = Map.of();
+        if (!aDeltas.isEmpty()) {
+            final var aResult = this.transactionManager.execute(() -> write(aDeltas));
+
+            if (aResult.isFailure()) {
+                aDeltas.forEach((aSku, aDelta) -> this.stocks.get(aSku).restoreUnflushed(aDelta));
+                log.warn("failed to flush hot inventory skus: {}, error: {}",
+                        aDeltas, aResult.getErrorResult().message());
+                return;
+            }
+
+            aWritten = aResult.getSuccessResult();
+            aWritten.forEach((aSku, aQuantity) -> {
+                final var aOversold = aDeltas.get(aSku) - aQuantity;
+                if (aOversold > 0) {
+                    this.oversoldQuantity.addAndGet(aOversold);
+                    log.error("hot inventory sku {} oversold by {}, the table had only {}", aSku, aOversold, aQuantity);
+                }
+                this.flushedQuantity.addAndGet(aQuantity);
+            });
+            this.flushes.incrementAndGet();
+        }
+
+        sync(aWritten);
+    }
+
+    // the net delta of each sku and its movement, in one transaction
+    private Map<String, Integer> write(final Map<String, Long> aDeltas) {
+        final var aWritten = new HashMap<String, Integer>();
+        final var aMovements = new LinkedHashSet<InventoryMovement>();
+
+        aDeltas.forEach((aSku, aDelta) -> {
+            final var aQuantity = Math.toIntExact(aDelta);
+            var aDecreased = aQuantity;
+
+            if (this.inventoryGateway.decreaseQuantityBySku(aSku, aQuantity).isEmpty()) {
+                // other nodes sold the same units, the table keeps what is left and not less than zero
+                final var aLeft = this.inventoryGateway.findBySku(aSku).map(Inventory::getQuantity).orElse(0);
+                aDecreased = aLeft > 0 && this.inventoryGateway.decreaseQuantityBySku(aSku, aLeft).isPresent()
+                        ? aLeft
+                        : 0;
+            }
+
+            aWritten.put(aSku, aDecreased);
+            if (aDecreased > 0) {
+                aMovements.add(InventoryMovement.newInventoryMovement(
+                        this.stocks.get(aSku).inventory().getId(),
+                        aSku,
+                        aDecreased,
+                        InventoryMovementStatus.OUT
+                ));
+            }
+        });
+
+        if (!aMovements.isEmpty()) {
+            this.inventoryMovementGateway.createInBatch(aMovements);
+        }
+        return aWritten;
+    }
+
+    private void load() {
+        final var aMissing = new HashSet<>(this.hotSkus);
+        aMissing.removeAll(this.stocks.keySet());
+
+        if (aMissing.isEmpty()) {
+            return;
+        }
+
+        // the hot skus not in the table yet are looked up again on the next flush
+        this.inventoryGateway.findBySkus(aMissing).forEach(aInventory -> {
+            this.stocks.put(aInventory.getSku(), new HotSkuStock(aInventory, this.stripes));
+            log.info("loaded hot inventory sku {} with quantity {}", aInventory.getSku(), aInventory.getQuantity());
+        });
+    }
+
+    private void sync(final Map<String, Integer> aWritten) {
+        if (this.stocks.isEmpty()) {
+            return;
+        }
+
+        final var aQuantities = new HashMap<String, Integer>();
+        this.inventoryGateway.findBySkus(Set.copyOf(this.stocks.keySet()))
+                .forEach(aInventory -> aQuantities.put(aInventory.getSku(), aInventory.getQuantity()));
+
+        this.stocks.forEach((aSku, aStock) -> {
+            final var aQuantity = aQuantities.get(aSku);
+            if (aQuantity == null) {
+                this.stocks.remove(aSku);
+                log.warn("hot inventory sku {} no longer exists, it is served by the database", aSku);
+                return;
+            }
+            aStock.sync(aWritten.getOrDefault(aSku, 0), aQuantity);
+        });
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (final RuntimeException e) {
+            log.warn("failed to flush hot inventory skus", e);
+        }
+    }
+
+    public long availableQuantity() {
+        return this.stocks.values().stream().mapToLong(HotSkuStock::available).sum();
+    }
+
+    public long unflushedQuantity() {
+        return this.stocks.values().stream().mapToLong(HotSkuStock::unflushed).sum();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("inventories.hot.sold", this.soldQuantity, AtomicLong::doubleValue)
+                .description("Quantity of the hot skus sold from memory")
+                .register(registry);
+        FunctionCounter.builder("inventories.hot.flushes", this.flushes, AtomicLong::doubleValue)
+                .description("Flushes of the hot skus sales to the database")
+                .register(registry);
+        FunctionCounter.builder("inventories.hot.flushed", this.flushedQuantity, AtomicLong::doubleValue)
+                .description("Quantity of the hot skus decreased from the database by the flushes")
+                .register(registry);
+        FunctionCounter.builder("inventories.hot.oversold", this.oversoldQuantity, AtomicLong::doubleValue)
+                .description("Quantity of the hot skus sold that the database did not have")
+                .register(registry);
+        Gauge.builder("inventories.hot.available", this, HotSkuInventoryGateway::availableQuantity)
+                .description("Stock of the hot skus sellable by this node")
+                .register(registry);
+        Gauge.builder("inventories.hot.unflushed", this, HotSkuInventoryGateway::unflushedQuantity)
+                .description("Quantity of the hot skus sold and waiting for the next flush")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        this.flushExecutor.shutdown();
+        try {
+            this.flushExecutor.awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        flushSafely();
+    }
+
+    public long getSoldQuantity() {
+        return soldQuantity.get();
+    }
+
+    public long getFlushes() {
+        return flushes.get();
+    }
+
+    public long getFlushedQuantity() {
+        return flushedQuantity.get();
+    }
+
+    public long getOversoldQuantity() {
+        return oversoldQuantity.get();
+    }
+}
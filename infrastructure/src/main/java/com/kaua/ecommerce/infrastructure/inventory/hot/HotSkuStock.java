@@ -0,0 +1,132 @@
+package com.kaua.ecommerce.infrastructure.inventory.hot;
+
+import com.kaua.ecommerce.domain.inventory.Inventory;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory stock of a hot sku, split in stripes so concurrent buyers decrease different
+ * counters. A stripe never goes below zero, when the stripe of a buyer does not have enough
+ * the stripes are gathered and spread again under the lock of the stock. The quantity sold
+ * since the last flush is kept apart, it is the net delta the flush writes to the database.
+ */
+final class HotSkuStock {
+
+    // one stripe per cache line, so the stripes do not share a line
+    private static final int STRIDE = 8;
+
+    private final Inventory inventory;
+    private final int stripes;
+    private final AtomicLongArray quantities;
+    private final LongAdder unflushed = new LongAdder();
+
+    // the quantity of the database row as last seen by the flush, only used by the flush thread
+    private long databaseQuantity;
+
+    HotSkuStock(final Inventory inventory, final int stripes) {
+        this.inventory = inventory;
+        this.stripes = stripes;
+        this.quantities = new AtomicLongArray(stripes * STRIDE);
+        this.databaseQuantity = inventory.getQuantity();
+        spread(inventory.getQuantity());
+    }
+
+    Inventory inventory() {
+        return this.inventory;
+    }
+
+    boolean take(final int aQuantity) {
+        if (tryTake(aQuantity) || gatherAndTake(aQuantity)) {
+            this.unflushed.add(aQuantity);
+            return true;
+        }
+        return false;
+    }
+
+    long takeUnflushed() {
+        return this.unflushed.sumThenReset();
+    }
+
+    // a flush that failed gives its delta back for the next one
+    void restoreUnflushed(final long aQuantity) {
+        this.unflushed.add(aQuantity);
+    }
+
+    long unflushed() {
+        return this.unflushed.sum();
+    }
+
+    /**
+     * Applies to the in-memory stock what changed in the database other than the flushed
+     * delta, e.g. the sales of other nodes or an increase, given the quantity read after the
+     * flush.
+     */
+    void sync(final long aFlushedQuantity, final long aDatabaseQuantity) {
+        final var aExternalChange = aDatabaseQuantity - (this.databaseQuantity - aFlushedQuantity);
+        this.databaseQuantity = aDatabaseQuantity;
+        if (aExternalChange != 0) {
+            adjust(aExternalChange);
+        }
+    }
+
+    long available() {
+        var aTotal = 0L;
+        for (int i = 0; i < this.stripes; i++) {
+            aTotal += this.quantities.get(i * STRIDE);
+        }
+        return aTotal;
+    }
+
+    private boolean tryTake(final int aQuantity) {
+        final var aStart = (int) (Thread.currentThread().getId() % this.stripes);
+
+        for (int i = 0; i < this.stripes; i++) {
+            final var aIndex = ((aStart + i) % this.stripes) * STRIDE;
+            while (true) {
+                final var aCurrent = this.quantities.get(aIndex);
+                if (aCurrent < aQuantity) {
+                    break;
+                }
+                if (this.quantities.compareAndSet(aIndex, aCurrent, aCurrent - aQuantity)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // the quantity may be spread over many stripes with none of them having enough alone
+    private synchronized boolean gatherAndTake(final int aQuantity) {
+        final var aTotal = drain();
+        if (aTotal < aQuantity) {
+            spread(aTotal);
+            return false;
+        }
+        spread(aTotal - aQuantity);
+        return true;
+    }
+
+    private synchronized void adjust(final long aDelta) {
+        spread(Math.max(0, drain() + aDelta));
+    }
+
+    private long drain() {
+        var aTotal = 0L;
+        for (int i = 0; i < this.stripes; i++) {
+            aTotal += this.quantities.getAndSet(i * STRIDE, 0);
+        }
+        return aTotal;
+    }
+
+    private void spread(final long aQuantity) {
+        final var aShare = aQuantity / this.stripes;
+        final var aRemainder = aQuantity % this.stripes;
+        for (int i = 0; i < this.stripes; i++) {
+            final var aStripeQuantity = aShare + (i < aRemainder ? 1 : 0);
+            if (aStripeQuantity > 0) {
+                this.quantities.addAndGet(i * STRIDE, aStripeQuantity);
+            }
+        }
+    }
+}
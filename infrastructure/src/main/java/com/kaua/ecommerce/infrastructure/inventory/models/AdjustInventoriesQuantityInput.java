@@ -0,0 +1,25 @@
+package com.kaua.ecommerce.infrastructure.inventory.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kaua.ecommerce.application.usecases.inventory.adjust.AdjustInventoriesQuantityMode;
+import com.kaua.ecommerce.application.usecases.inventory.adjust.commands.AdjustInventoriesQuantityCommand;
+import com.kaua.ecommerce.application.usecases.inventory.adjust.commands.AdjustInventoriesQuantityCommandItem;
+
+import java.util.List;
+
+public record AdjustInventoriesQuantityInput(
+        @JsonProperty("mode") String mode,
+        @JsonProperty("items") List<AdjustInventoriesQuantityInputItem> items
+) {
+
+    public AdjustInventoriesQuantityCommand toCommand() {
+        return AdjustInventoriesQuantityCommand.with(
+                AdjustInventoriesQuantityMode.of(mode).orElse(null),
+                items == null
+                        ? null
+                        : items.stream()
+                        .map(it -> AdjustInventoriesQuantityCommandItem.with(it.sku(), it.delta()))
+                        .toList()
+        );
+    }
+}
@@ -0,0 +1,9 @@
+package com.kaua.ecommerce.infrastructure.inventory.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record AdjustInventoriesQuantityInputItem(
+        @JsonProperty("sku") String sku,
+        @JsonProperty("delta") int delta
+) {
+}
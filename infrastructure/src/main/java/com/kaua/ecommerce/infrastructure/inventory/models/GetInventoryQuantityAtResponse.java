@@ -0,0 +1,12 @@
+package com.kaua.ecommerce.infrastructure.inventory.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+
+public record GetInventoryQuantityAtResponse(
+        @JsonProperty("sku") String sku,
+        @JsonProperty("quantity") int quantity,
+        @JsonProperty("at") Instant at
+) {
+}
@@ -0,0 +1,15 @@
+package com.kaua.ecommerce.infrastructure.inventory.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+
+public record ListInventoryMovementsResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("inventory_id") String inventoryId,
+        @JsonProperty("sku") String sku,
+        @JsonProperty("quantity") int quantity,
+        @JsonProperty("movement_type") String movementType,
+        @JsonProperty("created_at") Instant createdAt
+) {
+}
@@ -0,0 +1,88 @@
+package com.kaua.ecommerce.infrastructure.inventory.movement;
+
+import com.kaua.ecommerce.application.gateways.InventoryMovementGateway;
+import com.kaua.ecommerce.domain.inventory.movement.InventoryMovement;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Writes the movements of a stock change in the same transaction as the stock change. The
+ * movements created during the transaction are buffered and inserted together right before its
+ * commit, so a stock change is never committed without its movements and a rolled back one
+ * leaves none behind. A transaction with a single stock change still pays one INSERT for its
+ * movement. Movements created outside of a transaction are inserted right away.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "inventory.movements.transaction-batch.enabled", havingValue = "true", matchIfMissing = true)
+public class TransactionalInventoryMovementGateway implements InventoryMovementGateway {
+
+    private final InventoryMovementGateway inventoryMovementGateway;
+
+    public TransactionalInventoryMovementGateway(
+            @Qualifier("inventoryMovementMySQLGateway") final InventoryMovementGateway inventoryMovementGateway
+    ) {
+        this.inventoryMovementGateway = Objects.requireNonNull(inventoryMovementGateway);
+    }
+
+    @Override
+    public Set<InventoryMovement> createInBatch(Set<InventoryMovement> inventoryMovement) {
+        return this.inventoryMovementGateway.createInBatch(inventoryMovement);
+    }
+
+    @Override
+    public InventoryMovement create(InventoryMovement inventoryMovement) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return this.inventoryMovementGateway.create(inventoryMovement);
+        }
+
+        transactionMovements().add(inventoryMovement);
+        return inventoryMovement;
+    }
+
+    @Override
+    public Optional<InventoryMovement> findBySkuAndCreatedAtDescAndStatusRemoved(String sku) {
+        return this.inventoryMovementGateway.findBySkuAndCreatedAtDescAndStatusRemoved(sku);
+    }
+
+    @Override
+    public void deleteById(String id) {
+        this.inventoryMovementGateway.deleteById(id);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<InventoryMovement> transactionMovements() {
+        final var aBound = (Set<InventoryMovement>) TransactionSynchronizationManager.getResource(this);
+        if (aBound != null) {
+            return aBound;
+        }
+
+        final var aMovements = new LinkedHashSet<InventoryMovement>();
+        TransactionSynchronizationManager.bindResource(this, aMovements);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(final boolean readOnly) {
+                // still inside the stock transaction, a failed insert rolls the stock change back
+                if (!aMovements.isEmpty()) {
+                    inventoryMovementGateway.createInBatch(new LinkedHashSet<>(aMovements));
+                    aMovements.clear();
+                }
+            }
+
+            @Override
+            public void afterCompletion(final int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TransactionalInventoryMovementGateway.this);
+            }
+        });
+        return aMovements;
+    }
+}
@@ -0,0 +1,68 @@
+package com.kaua.ecommerce.infrastructure.inventory.movement.archive;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+@Component
+public class InventoryMovementArchiveMySQLGateway {
+
+    private static final Logger log = LoggerFactory.getLogger(InventoryMovementArchiveMySQLGateway.class);
+
+    private static final String COLUMNS = "id, inventory_id, sku, quantity, movement_type, created_at, updated_at";
+
+    private static final String SELECT_EXPIRED_IDS_SQL = "SELECT id FROM inventories_movements " +
+            "WHERE created_at < ? ORDER BY created_at LIMIT ?";
+    private static final String ARCHIVE_SQL = "INSERT INTO inventories_movements_archive (" + COLUMNS + ") " +
+            "SELECT " + COLUMNS + " FROM inventories_movements WHERE id IN (%s)";
+    private static final String DELETE_SQL = "DELETE FROM inventories_movements WHERE id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public InventoryMovementArchiveMySQLGateway(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+    }
+
+    /**
+     * Moves up to {@code limit} of the oldest movements created before {@code before} to the
+     * archive table, returns how many were moved.
+     */
+    @Transactional
+    public int archiveBefore(final Instant before, final int limit) {
+        final var aIds = this.jdbcTemplate.queryForList(
+                SELECT_EXPIRED_IDS_SQL,
+                String.class,
+                Timestamp.from(before),
+                limit
+        );
+
+        if (aIds.isEmpty()) {
+            return 0;
+        }
+
+        final var aPlaceholders = String.join(", ", Collections.nCopies(aIds.size(), "?"));
+        final var aArgs = aIds.toArray();
+
+        this.jdbcTemplate.update(ARCHIVE_SQL.formatted(aPlaceholders), aArgs);
+        final var aDeleted = this.jdbcTemplate.update(DELETE_SQL.formatted(aPlaceholders), aArgs);
+
+        log.info("archived {} inventory movements created before {}", aDeleted, before);
+        return aDeleted;
+    }
+
+    public List<String> findArchivedIdsBySku(final String sku) {
+        return this.jdbcTemplate.queryForList(
+                "SELECT id FROM inventories_movements_archive WHERE sku = ? ORDER BY created_at",
+                String.class,
+                sku
+        );
+    }
+}
@@ -0,0 +1,98 @@
+package com.kaua.ecommerce.infrastructure.inventory.movement.archive;
+
+import com.kaua.ecommerce.domain.utils.InstantUtils;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rolls the inventory movements older than the retention over to the archive table, in small
+ * transactions so the live table is never locked for long. The live table only keeps the
+ * recent history the stock operations read.
+ */
+@Component
+public class InventoryMovementArchiver implements MeterBinder, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(InventoryMovementArchiver.class);
+
+    private final InventoryMovementArchiveMySQLGateway archiveGateway;
+    private final Duration retention;
+    private final int chunkSize;
+    private final ScheduledExecutorService archiveExecutor;
+
+    private final AtomicLong archivedMovements = new AtomicLong();
+
+    public InventoryMovementArchiver(
+            final InventoryMovementArchiveMySQLGateway archiveGateway,
+            @Value("${inventory.movements.archive.retention-days:180}") final long retentionDays,
+            @Value("${inventory.movements.archive.chunk-size:1000}") final int chunkSize,
+            @Value("${inventory.movements.archive.interval:3600000}") final long intervalMillis
+    ) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be greater than 0");
+        }
+        this.archiveGateway = Objects.requireNonNull(archiveGateway);
+        this.retention = Duration.ofDays(retentionDays);
+        this.chunkSize = chunkSize;
+        this.archiveExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var aThread = new Thread(runnable, "inventory-movements-archive");
+            aThread.setDaemon(true);
+            return aThread;
+        });
+        this.archiveExecutor.scheduleWithFixedDelay(
+                this::archiveExpiredSafely,
+                intervalMillis,
+                intervalMillis,
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    public long archiveExpired() {
+        final var aBefore = InstantUtils.now().minus(this.retention);
+        var aTotal = 0L;
+
+        int aArchived;
+        do {
+            aArchived = this.archiveGateway.archiveBefore(aBefore, this.chunkSize);
+            aTotal += aArchived;
+        } while (aArchived == this.chunkSize && !Thread.currentThread().isInterrupted());
+
+        this.archivedMovements.addAndGet(aTotal);
+        return aTotal;
+    }
+
+    private void archiveExpiredSafely() {
+        try {
+            final var aArchived = archiveExpired();
+            if (aArchived > 0) {
+                log.info("archived {} inventory movements older than {} days", aArchived, this.retention.toDays());
+            }
+        } catch (final RuntimeException e) {
+            log.warn("failed to archive inventory movements", e);
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("inventories.movements.archived", this.archivedMovements, AtomicLong::doubleValue)
+                .description("Inventory movements moved to the archive table")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        this.archiveExecutor.shutdownNow();
+    }
+}
@@ -2,13 +2,14 @@ package com.kaua.ecommerce.infrastructure.inventory.movement.persistence;
 
 import com.kaua.ecommerce.domain.inventory.movement.InventoryMovement;
 import com.kaua.ecommerce.domain.inventory.movement.InventoryMovementStatus;
+import com.kaua.ecommerce.infrastructure.persistence.AssignedIdJpaEntity;
 import jakarta.persistence.*;
 
 import java.time.Instant;
 
 @Entity
 @Table(name = "inventories_movements")
-public class InventoryMovementJpaEntity {
+public class InventoryMovementJpaEntity extends AssignedIdJpaEntity {
 
     @Id
     private String id;
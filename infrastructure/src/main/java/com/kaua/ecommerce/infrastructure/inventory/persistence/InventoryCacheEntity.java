@@ -0,0 +1,104 @@
+package com.kaua.ecommerce.infrastructure.inventory.persistence;
+
+import com.kaua.ecommerce.domain.inventory.Inventory;
+import jakarta.persistence.Id;
+import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.TimeToLive;
+
+import java.time.Instant;
+
+@RedisHash(value = "inventory")
+public class InventoryCacheEntity {
+
+    @Id
+    private String id;
+
+    private String inventoryId;
+    private String productId;
+    private int quantity;
+    private Instant createdAt;
+    private Instant updatedAt;
+    private long version;
+
+    @TimeToLive
+    private Long timeToLive;
+
+    public InventoryCacheEntity() {}
+
+    private InventoryCacheEntity(
+            final String id,
+            final String inventoryId,
+            final String productId,
+            final int quantity,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final long version,
+            final Long timeToLive
+    ) {
+        this.id = id;
+        this.inventoryId = inventoryId;
+        this.productId = productId;
+        this.quantity = quantity;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+        this.timeToLive = timeToLive;
+    }
+
+    public static InventoryCacheEntity toEntity(final Inventory aInventory, final long aTimeToLiveSeconds) {
+        return new InventoryCacheEntity(
+                aInventory.getSku(),
+                aInventory.getId().getValue(),
+                aInventory.getProductId(),
+                aInventory.getQuantity(),
+                aInventory.getCreatedAt(),
+                aInventory.getUpdatedAt(),
+                aInventory.getVersion(),
+                aTimeToLiveSeconds
+        );
+    }
+
+    public Inventory toDomain() {
+        return Inventory.with(
+                getInventoryId(),
+                getProductId(),
+                getSku(),
+                getQuantity(),
+                getCreatedAt(),
+                getUpdatedAt(),
+                getVersion()
+        );
+    }
+
+    public String getSku() {
+        return id;
+    }
+
+    public String getInventoryId() {
+        return inventoryId;
+    }
+
+    public String getProductId() {
+        return productId;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Long getTimeToLive() {
+        return timeToLive;
+    }
+}
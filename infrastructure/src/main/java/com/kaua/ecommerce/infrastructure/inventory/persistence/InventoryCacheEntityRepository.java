@@ -0,0 +1,6 @@
+package com.kaua.ecommerce.infrastructure.inventory.persistence;
+
+import org.springframework.data.repository.CrudRepository;
+
+public interface InventoryCacheEntityRepository extends CrudRepository<InventoryCacheEntity, String> {
+}
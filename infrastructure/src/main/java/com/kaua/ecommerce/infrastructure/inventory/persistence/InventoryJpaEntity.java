@@ -1,13 +1,14 @@
 package com.kaua.ecommerce.infrastructure.inventory.persistence;
 
 import com.kaua.ecommerce.domain.inventory.Inventory;
+import com.kaua.ecommerce.infrastructure.persistence.AssignedIdJpaEntity;
 import jakarta.persistence.*;
 
 import java.time.Instant;
 
 @Entity
 @Table(name = "inventories")
-public class InventoryJpaEntity {
+public class InventoryJpaEntity extends AssignedIdJpaEntity {
 
     @Id
     private String id;
@@ -4,8 +4,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +19,17 @@ public interface InventoryJpaEntityRepository extends JpaRepository<InventoryJpa
 
     Optional<InventoryJpaEntity> findBySku(String sku);
 
+    List<InventoryJpaEntity> findAllBySkuIn(Collection<String> skus);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE InventoryJpaEntity i SET i.quantity = i.quantity - :quantity, " +
+            "i.updatedAt = :updatedAt, i.version = i.version + 1 " +
+            "WHERE i.sku = :sku AND i.quantity >= :quantity")
+    int decreaseQuantityBySku(String sku, int quantity, Instant updatedAt);
+
+    @Query(value = "SELECT i.quantity FROM InventoryJpaEntity i WHERE i.sku = :sku")
+    Optional<Integer> findQuantityBySku(String sku);
+
     List<InventoryJpaEntity> findByProductId(String productId);
 
     Page<InventoryJpaEntity> findAll(Specification<InventoryJpaEntity> whereClause, Pageable pageable);
@@ -23,4 +37,8 @@ public interface InventoryJpaEntityRepository extends JpaRepository<InventoryJpa
     void deleteAllByProductId(String productId);
 
     void deleteBySku(String sku);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM InventoryJpaEntity i WHERE i.sku IN :skus")
+    int deleteAllBySkus(Collection<String> skus);
 }
@@ -1,9 +1,13 @@
 package com.kaua.ecommerce.infrastructure.inventory.presenter;
 
 import com.kaua.ecommerce.application.usecases.inventory.retrieve.get.GetInventoryBySkuOutput;
+import com.kaua.ecommerce.application.usecases.inventory.retrieve.history.GetInventoryQuantityAtOutput;
+import com.kaua.ecommerce.application.usecases.inventory.retrieve.history.ListInventoryMovementsBetweenOutput;
 import com.kaua.ecommerce.application.usecases.inventory.retrieve.list.ListInventoriesByProductIdOutput;
+import com.kaua.ecommerce.infrastructure.inventory.models.GetInventoryQuantityAtResponse;
 import com.kaua.ecommerce.infrastructure.inventory.models.GetInventoryResponse;
 import com.kaua.ecommerce.infrastructure.inventory.models.ListInventoriesResponse;
+import com.kaua.ecommerce.infrastructure.inventory.models.ListInventoryMovementsResponse;
 
 public final class InventoryApiPresenter {
 
@@ -32,4 +36,23 @@ public final class InventoryApiPresenter {
                 aOutput.version()
         );
     }
+
+    public static GetInventoryQuantityAtResponse present(final GetInventoryQuantityAtOutput aOutput) {
+        return new GetInventoryQuantityAtResponse(
+                aOutput.sku(),
+                aOutput.quantity(),
+                aOutput.at()
+        );
+    }
+
+    public static ListInventoryMovementsResponse present(final ListInventoryMovementsBetweenOutput aOutput) {
+        return new ListInventoryMovementsResponse(
+                aOutput.id(),
+                aOutput.inventoryId(),
+                aOutput.sku(),
+                aOutput.quantity(),
+                aOutput.movementType(),
+                aOutput.createdAt()
+        );
+    }
 }
@@ -1,7 +1,7 @@
 package com.kaua.ecommerce.infrastructure.listeners;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.kaua.ecommerce.application.usecases.inventory.delete.remove.RemoveInventoryBySkuUseCase;
+import com.kaua.ecommerce.application.usecases.inventory.delete.remove.RemoveInventoriesBySkusUseCase;
 import com.kaua.ecommerce.domain.event.EventsTypes;
 import com.kaua.ecommerce.domain.inventory.events.InventoryCreatedRollbackBySkusEvent;
 import com.kaua.ecommerce.domain.utils.InstantUtils;
@@ -24,6 +24,7 @@ import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 import java.util.Objects;
+import java.util.Set;
 
 @Component
 public class InventoryEventListener {
@@ -36,14 +37,14 @@ public class InventoryEventListener {
     private static final String INVENTORY_TOPIC = "inventory-topic";
     private static final String INVENTORY_DLT_INVALID = "inventory-dlt-invalid";
 
-    private final RemoveInventoryBySkuUseCase removeInventoryBySkuUseCase;
+    private final RemoveInventoriesBySkusUseCase removeInventoriesBySkusUseCase;
     private final KafkaTemplate<String, Object> kafkaTemplate;
 
     public InventoryEventListener(
-            final RemoveInventoryBySkuUseCase removeInventoryBySkuUseCase,
+            final RemoveInventoriesBySkusUseCase removeInventoriesBySkusUseCase,
             final KafkaTemplate<String, Object> kafkaTemplate
     ) {
-        this.removeInventoryBySkuUseCase = removeInventoryBySkuUseCase;
+        this.removeInventoriesBySkusUseCase = removeInventoriesBySkusUseCase;
         this.kafkaTemplate = Objects.requireNonNull(kafkaTemplate);
     }
 
@@ -89,8 +90,7 @@ public class InventoryEventListener {
                 final var aInventoryCreatedRollbackBySkus = Json.readValue(
                         aOutBoxEvent.getData(), InventoryCreatedRollbackBySkusEvent.class);
 
-                final var aSkus = aInventoryCreatedRollbackBySkus.skus();
-                aSkus.forEach(this.removeInventoryBySkuUseCase::execute);
+                this.removeInventoriesBySkusUseCase.execute(Set.copyOf(aInventoryCreatedRollbackBySkus.skus()));
 
                 LOG.info(EVENT_RECEIVED_MESSAGE, "created rollback by skus", aInventoryCreatedRollbackBySkus);
 
@@ -0,0 +1,274 @@
+package com.kaua.ecommerce.infrastructure.listeners;
+
+import com.kaua.ecommerce.application.gateways.ProductGateway;
+import com.kaua.ecommerce.application.usecases.product.search.remove.RemoveProductUseCase;
+import com.kaua.ecommerce.application.usecases.product.search.save.SaveProductUseCase;
+import com.kaua.ecommerce.application.usecases.product.search.save.SaveProductsUseCase;
+import com.kaua.ecommerce.domain.event.DomainEvent;
+import com.kaua.ecommerce.domain.event.EventsTypes;
+import com.kaua.ecommerce.domain.product.Product;
+import com.kaua.ecommerce.domain.product.events.ProductCreatedEvent;
+import com.kaua.ecommerce.domain.product.events.ProductDeletedEvent;
+import com.kaua.ecommerce.domain.product.events.ProductSnapshot;
+import com.kaua.ecommerce.domain.product.events.ProductUpdatedEvent;
+import com.kaua.ecommerce.domain.utils.InstantUtils;
+import com.kaua.ecommerce.infrastructure.configurations.json.Json;
+import com.kaua.ecommerce.infrastructure.product.ProductDetailsCacheGateway;
+import com.kaua.ecommerce.infrastructure.service.EventValidationService;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Reads a whole poll of the product topic, keeps only the latest event of each product, loads
+ * the products without a usable snapshot with one query and indexes them with one bulk request.
+ * What fails for a single product is forwarded to the first retry topic of
+ * {@link ProductEventListener}, which keeps handling the retries and the DLT record by record.
+ */
+@Component
+@ConditionalOnProperty(name = "kafka.consumers.products.batch.enabled", havingValue = "true")
+public class ProductBatchEventListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ProductBatchEventListener.class);
+
+    private static final String PRODUCT_RETRY_TOPIC = "product-topic-retry-0";
+    private static final String PRODUCT_DLT_INVALID = "product-dlt-invalid";
+
+    private final ProductGateway productGateway;
+    private final SaveProductsUseCase saveProductsUseCase;
+    private final SaveProductUseCase saveProductUseCase;
+    private final RemoveProductUseCase removeProductUseCase;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final EventValidationService eventValidationService;
+    private final ProductDetailsCacheGateway productDetailsCacheGateway;
+    private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+    private final String productListenerId;
+    private final boolean useEventState;
+
+    public ProductBatchEventListener(
+            final ProductGateway productGateway,
+            final SaveProductsUseCase saveProductsUseCase,
+            final SaveProductUseCase saveProductUseCase,
+            final RemoveProductUseCase removeProductUseCase,
+            final KafkaTemplate<String, Object> kafkaTemplate,
+            final EventValidationService eventValidationService,
+            final ProductDetailsCacheGateway productDetailsCacheGateway,
+            final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry,
+            @Value("${kafka.consumers.products.id}") final String productListenerId,
+            @Value("${kafka.consumers.products.use-event-state:true}") final boolean useEventState
+    ) {
+        this.productGateway = Objects.requireNonNull(productGateway);
+        this.saveProductsUseCase = Objects.requireNonNull(saveProductsUseCase);
+        this.saveProductUseCase = Objects.requireNonNull(saveProductUseCase);
+        this.removeProductUseCase = Objects.requireNonNull(removeProductUseCase);
+        this.kafkaTemplate = Objects.requireNonNull(kafkaTemplate);
+        this.eventValidationService = Objects.requireNonNull(eventValidationService);
+        this.productDetailsCacheGateway = Objects.requireNonNull(productDetailsCacheGateway);
+        this.kafkaListenerEndpointRegistry = Objects.requireNonNull(kafkaListenerEndpointRegistry);
+        this.productListenerId = Objects.requireNonNull(productListenerId);
+        this.useEventState = useEventState;
+    }
+
+    @KafkaListener(
+            concurrency = "${kafka.consumers.products.concurrency}",
+            containerFactory = "kafkaBatchListenerFactory",
+            topics = "${kafka.consumers.products.topics}",
+            groupId = "${kafka.consumers.products.group-id}",
+            id = "${kafka.consumers.products.id}-batch",
+            properties = {
+                    "auto.offset.reset=${kafka.consumers.products.auto-offset-reset}",
+                    "max.poll.records=${kafka.consumers.products.batch.max-poll-records}"
+            }
+    )
+    public void onMessages(final List<ConsumerRecord<String, String>> records, final Acknowledgment ack) {
+        LOG.info("Batch of {} product messages received from Kafka", records.size());
+
+        final var aLatestEvents = coalesce(records);
+
+        // the invalidation only raises the cached version, the latest event carries the highest one
+        aLatestEvents.values().forEach(it -> this.productDetailsCacheGateway.invalidate(it.id(), it.event().version()));
+
+        final var aUpserts = new LinkedHashMap<String, ProductEvent>();
+        final var aDeletes = new ArrayList<ProductEvent>();
+
+        aLatestEvents.values().forEach(it -> {
+            if (this.eventValidationService.isInvalid(it.event(), it.id())) {
+                this.kafkaTemplate.send(PRODUCT_DLT_INVALID, it.payload());
+                LOG.error("Product event is old, sent to DLT: {} and now: {}, payload: {}",
+                        it.event().occurredOn(), InstantUtils.now(), it.payload());
+            } else if (EventsTypes.PRODUCT_DELETED.equals(it.type())) {
+                aDeletes.add(it);
+            } else {
+                aUpserts.put(it.id(), it);
+            }
+        });
+
+        aDeletes.forEach(this::remove);
+        index(aUpserts);
+
+        ack.acknowledge();
+        LOG.info("Batch of {} product messages processed, {} indexed and {} removed",
+                records.size(), aUpserts.size(), aDeletes.size());
+    }
+
+    // the retries run on the record listener, its main container stays stopped while this one reads the topic
+    @EventListener(ApplicationReadyEvent.class)
+    public void startRetryContainers() {
+        this.kafkaListenerEndpointRegistry.getListenerContainers().stream()
+                .filter(it -> it.getListenerId() != null
+                        && it.getListenerId().startsWith(this.productListenerId + "-retry"))
+                .filter(it -> !it.isRunning())
+                .forEach(MessageListenerContainer::start);
+    }
+
+    private Map<String, ProductEvent> coalesce(final List<ConsumerRecord<String, String>> records) {
+        final var aLatestEvents = new LinkedHashMap<String, ProductEvent>();
+
+        for (final var aRecord : records) {
+            try {
+                final var aEvent = parse(aRecord.value());
+                if (aEvent != null) {
+                    aLatestEvents.merge(aEvent.id(), aEvent, (current, next) ->
+                            next.event().version() >= current.event().version() ? next : current);
+                }
+            } catch (final Exception e) {
+                LOG.error("Product message could not be read [partition:{}] [offset:{}]",
+                        aRecord.partition(), aRecord.offset(), e);
+                forwardToRetry(aRecord.value());
+            }
+        }
+
+        return aLatestEvents;
+    }
+
+    private ProductEvent parse(final String aPayload) {
+        final var aOutBoxEvent = Json.readValue(aPayload, ProductEventListener.PRODUCT_MESSAGE).payload().after();
+
+        return switch (aOutBoxEvent.getEventType()) {
+            case EventsTypes.PRODUCT_CREATED -> {
+                final var aEvent = Json.readValue(aOutBoxEvent.getData(), ProductCreatedEvent.class);
+                yield new ProductEvent(aEvent.id(), aOutBoxEvent.getEventType(), aEvent, aEvent.snapshot(), aPayload);
+            }
+            case EventsTypes.PRODUCT_UPDATED -> {
+                final var aEvent = Json.readValue(aOutBoxEvent.getData(), ProductUpdatedEvent.class);
+                yield new ProductEvent(aEvent.id(), aOutBoxEvent.getEventType(), aEvent, aEvent.snapshot(), aPayload);
+            }
+            case EventsTypes.PRODUCT_DELETED -> {
+                final var aEvent = Json.readValue(aOutBoxEvent.getData(), ProductDeletedEvent.class);
+                yield new ProductEvent(aEvent.id(), aOutBoxEvent.getEventType(), aEvent, null, aPayload);
+            }
+            default -> {
+                LOG.warn("Event type not supported: {}", aOutBoxEvent.getEventType());
+                yield null;
+            }
+        };
+    }
+
+    private void remove(final ProductEvent aEvent) {
+        try {
+            this.removeProductUseCase.execute(aEvent.id());
+            this.eventValidationService.invalidate(aEvent.event().aggregateName(), aEvent.id());
+            LOG.info("Product deleted received from Kafka: {}", aEvent.id());
+        } catch (final Exception e) {
+            LOG.error("Product {} could not be removed from the index", aEvent.id(), e);
+            forwardToRetry(aEvent.payload());
+        }
+    }
+
+    private void index(final Map<String, ProductEvent> aUpserts) {
+        if (aUpserts.isEmpty()) {
+            return;
+        }
+
+        final var aProducts = loadProducts(aUpserts);
+        if (aProducts.isEmpty()) {
+            return;
+        }
+
+        try {
+            this.saveProductsUseCase.execute(aProducts);
+        } catch (final BulkFailureException e) {
+            LOG.error("Bulk index of products failed for {} of {} products",
+                    e.getFailedDocuments().size(), aProducts.size());
+            e.getFailedDocuments().keySet().stream()
+                    .map(aUpserts::get)
+                    .filter(Objects::nonNull)
+                    .forEach(it -> forwardToRetry(it.payload()));
+        } catch (final Exception e) {
+            // an invalid product rejects the whole list, index them one by one to isolate it
+            LOG.warn("Bulk index of {} products failed, indexing them one by one", aProducts.size(), e);
+            aProducts.forEach(it -> indexOne(it, aUpserts.get(it.getId().getValue())));
+        }
+    }
+
+    private List<Product> loadProducts(final Map<String, ProductEvent> aUpserts) {
+        final var aProducts = new ArrayList<Product>(aUpserts.size());
+        final var aIdsToLoad = new HashSet<String>();
+
+        aUpserts.values().forEach(it -> {
+            // events written before the snapshot existed, or with a snapshot older than the event, are read back from MySQL
+            if (this.useEventState && it.snapshot() != null && it.snapshot().version() >= it.event().version()) {
+                aProducts.add(it.snapshot().toProduct(it.id()));
+            } else {
+                aIdsToLoad.add(it.id());
+            }
+        });
+
+        if (aIdsToLoad.isEmpty()) {
+            return aProducts;
+        }
+
+        try {
+            final var aLoaded = this.productGateway.findAllByIds(aIdsToLoad);
+            aLoaded.forEach(it -> aIdsToLoad.remove(it.getId().getValue()));
+            aProducts.addAll(aLoaded);
+            aIdsToLoad.forEach(it -> LOG.debug("Product not found in database: {}", it));
+        } catch (final Exception e) {
+            LOG.error("Products {} could not be loaded from database", aIdsToLoad, e);
+            aIdsToLoad.forEach(it -> forwardToRetry(aUpserts.get(it).payload()));
+        }
+
+        return aProducts;
+    }
+
+    private void indexOne(final Product aProduct, final ProductEvent aEvent) {
+        try {
+            this.saveProductUseCase.execute(aProduct);
+        } catch (final Exception e) {
+            LOG.error("Product {} could not be indexed", aEvent.id(), e);
+            forwardToRetry(aEvent.payload());
+        }
+    }
+
+    private void forwardToRetry(final String aPayload) {
+        this.kafkaTemplate.send(PRODUCT_RETRY_TOPIC, aPayload);
+        LOG.warn("Product event sent to retry topic: {}, payload: {}", PRODUCT_RETRY_TOPIC, aPayload);
+    }
+
+    private record ProductEvent(
+            String id,
+            String type,
+            DomainEvent event,
+            ProductSnapshot snapshot,
+            String payload
+    ) {
+    }
+}
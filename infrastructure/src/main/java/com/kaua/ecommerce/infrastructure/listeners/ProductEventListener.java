@@ -6,17 +6,21 @@ import com.kaua.ecommerce.application.usecases.product.search.remove.RemoveProdu
 import com.kaua.ecommerce.application.usecases.product.search.save.SaveProductUseCase;
 import com.kaua.ecommerce.domain.event.DomainEvent;
 import com.kaua.ecommerce.domain.event.EventsTypes;
+import com.kaua.ecommerce.domain.product.Product;
 import com.kaua.ecommerce.domain.product.events.ProductCreatedEvent;
 import com.kaua.ecommerce.domain.product.events.ProductDeletedEvent;
+import com.kaua.ecommerce.domain.product.events.ProductSnapshot;
 import com.kaua.ecommerce.domain.product.events.ProductUpdatedEvent;
 import com.kaua.ecommerce.domain.utils.InstantUtils;
 import com.kaua.ecommerce.infrastructure.configurations.json.Json;
 import com.kaua.ecommerce.infrastructure.listeners.models.MessageValue;
 import com.kaua.ecommerce.infrastructure.outbox.OutboxEventEntity;
+import com.kaua.ecommerce.infrastructure.product.ProductDetailsCacheGateway;
 import com.kaua.ecommerce.infrastructure.service.EventValidationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.annotation.RetryableTopic;
@@ -29,6 +33,7 @@ import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
 import java.util.Objects;
+import java.util.Optional;
 
 @Component
 public class ProductEventListener {
@@ -47,19 +52,25 @@ public class ProductEventListener {
     private final RemoveProductUseCase removeProductUseCase;
     private final KafkaTemplate<String, Object> kafkaTemplate;
     private final EventValidationService eventValidationService;
+    private final ProductDetailsCacheGateway productDetailsCacheGateway;
+    private final boolean useEventState;
 
     public ProductEventListener(
             final ProductGateway productGateway,
             final SaveProductUseCase saveProductUseCase,
             final RemoveProductUseCase removeProductUseCase,
             final KafkaTemplate<String, Object> kafkaTemplate,
-            final EventValidationService eventValidationService
+            final EventValidationService eventValidationService,
+            final ProductDetailsCacheGateway productDetailsCacheGateway,
+            @Value("${kafka.consumers.products.use-event-state:true}") final boolean useEventState
     ) {
         this.productGateway = Objects.requireNonNull(productGateway);
         this.saveProductUseCase = Objects.requireNonNull(saveProductUseCase);
         this.removeProductUseCase = Objects.requireNonNull(removeProductUseCase);
         this.kafkaTemplate = Objects.requireNonNull(kafkaTemplate);
         this.eventValidationService = Objects.requireNonNull(eventValidationService);
+        this.productDetailsCacheGateway = Objects.requireNonNull(productDetailsCacheGateway);
+        this.useEventState = useEventState;
     }
 
     @KafkaListener(
@@ -68,6 +79,8 @@ public class ProductEventListener {
             topics = "${kafka.consumers.products.topics}",
             groupId = "${kafka.consumers.products.group-id}",
             id = "${kafka.consumers.products.id}",
+            // in batch mode ProductBatchEventListener reads the main topic, this one only the retries
+            autoStartup = "#{!${kafka.consumers.products.batch.enabled:false}}",
             properties = {
                     "auto.offset.reset=${kafka.consumers.products.auto-offset-reset}"
             }
@@ -100,6 +113,7 @@ public class ProductEventListener {
                         ack,
                         "created",
                         aProductCreated,
+                        aProductCreated.snapshot(),
                         payload
                 );
             }
@@ -112,12 +126,14 @@ public class ProductEventListener {
                         ack,
                         "updated",
                         aProductUpdated,
+                        aProductUpdated.snapshot(),
                         payload
                 );
             }
             case EventsTypes.PRODUCT_DELETED -> {
                 final var aProductUpdated = Json.readValue(aOutBoxEvent.getData(), ProductDeletedEvent.class);
                 final var aProductId = aProductUpdated.id();
+                this.productDetailsCacheGateway.invalidate(aProductId, aProductUpdated.version());
 
                 if (this.eventValidationService.isInvalid(aProductUpdated, aProductId)) {
                     this.kafkaTemplate.send(PRODUCT_DLT_INVALID, payload);
@@ -159,8 +175,12 @@ public class ProductEventListener {
             final Acknowledgment ack,
             final String type,
             final T aDomainEvent,
+            final ProductSnapshot aSnapshot,
             final String aPayload
     ) {
+        // the invalidation only raises the cached version, an old or repeated event is harmless
+        this.productDetailsCacheGateway.invalidate(aId, aDomainEvent.version());
+
         if (this.eventValidationService.isInvalid(aDomainEvent, aId)) {
             this.kafkaTemplate.send(PRODUCT_DLT_INVALID, aPayload);
             ack.acknowledge();
@@ -169,11 +189,23 @@ public class ProductEventListener {
             return;
         }
 
-        this.productGateway.findById(aId)
+        productOf(aId, aDomainEvent, aSnapshot)
                 .ifPresentOrElse(aProduct -> {
                     this.saveProductUseCase.execute(aProduct);
                     ack.acknowledge();
                     LOG.info(EVENT_RECEIVED_MESSAGE, type, aId);
                 }, () -> LOG.debug(NOT_FOUND_MESSAGE, aId));
     }
+
+    // events written before the snapshot existed, or with a snapshot older than the event, are read back from MySQL
+    private Optional<Product> productOf(
+            final String aId,
+            final DomainEvent aDomainEvent,
+            final ProductSnapshot aSnapshot
+    ) {
+        if (this.useEventState && aSnapshot != null && aSnapshot.version() >= aDomainEvent.version()) {
+            return Optional.of(aSnapshot.toProduct(aId));
+        }
+        return this.productGateway.findById(aId);
+    }
 }
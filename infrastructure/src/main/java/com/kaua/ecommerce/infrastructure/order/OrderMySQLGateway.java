@@ -3,6 +3,7 @@ package com.kaua.ecommerce.infrastructure.order;
 import com.kaua.ecommerce.application.gateways.order.OrderGateway;
 import com.kaua.ecommerce.domain.order.Order;
 import com.kaua.ecommerce.domain.order.OrderItem;
+import com.kaua.ecommerce.infrastructure.order.code.OrderCodeAllocator;
 import com.kaua.ecommerce.infrastructure.order.persistence.OrderItemJpaEntity;
 import com.kaua.ecommerce.infrastructure.order.persistence.OrderItemJpaEntityRepository;
 import com.kaua.ecommerce.infrastructure.order.persistence.OrderJpaEntity;
@@ -21,13 +22,16 @@ public class OrderMySQLGateway implements OrderGateway {
 
     private final OrderJpaEntityRepository orderJpaEntityRepository;
     private final OrderItemJpaEntityRepository orderItemJpaEntityRepository;
+    private final OrderCodeAllocator orderCodeAllocator;
 
     public OrderMySQLGateway(
             final OrderJpaEntityRepository orderJpaEntityRepository,
-            final OrderItemJpaEntityRepository orderItemJpaEntityRepository
+            final OrderItemJpaEntityRepository orderItemJpaEntityRepository,
+            final OrderCodeAllocator orderCodeAllocator
     ) {
         this.orderJpaEntityRepository = Objects.requireNonNull(orderJpaEntityRepository);
         this.orderItemJpaEntityRepository = Objects.requireNonNull(orderItemJpaEntityRepository);
+        this.orderCodeAllocator = Objects.requireNonNull(orderCodeAllocator);
     }
 
     @Override
@@ -39,7 +43,7 @@ public class OrderMySQLGateway implements OrderGateway {
 
     @Override
     public long count() {
-        return this.orderJpaEntityRepository.getNextSequence();
+        return this.orderCodeAllocator.next();
     }
 
     @Override
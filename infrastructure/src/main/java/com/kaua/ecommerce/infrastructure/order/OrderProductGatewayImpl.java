@@ -1,17 +1,34 @@
 package com.kaua.ecommerce.infrastructure.order;
 
 import com.kaua.ecommerce.application.gateways.order.OrderProductGateway;
+import com.kaua.ecommerce.application.usecases.product.retrieve.details.GetProductsDetailsBySkusUseCase;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Component
 public class OrderProductGatewayImpl implements OrderProductGateway {
 
-    // TODO: Implement the method getProductDetailsBySku
+    private final GetProductsDetailsBySkusUseCase getProductsDetailsBySkusUseCase;
+
+    public OrderProductGatewayImpl(final GetProductsDetailsBySkusUseCase getProductsDetailsBySkusUseCase) {
+        this.getProductsDetailsBySkusUseCase = Objects.requireNonNull(getProductsDetailsBySkusUseCase);
+    }
 
     @Override
-    public Optional<OrderProductDetails> getProductDetailsBySku(String sku) {
-        return Optional.empty();
+    public Map<String, OrderProductDetails> getProductDetailsBySkus(Set<String> skus) {
+        return this.getProductsDetailsBySkusUseCase.execute(skus).values().stream()
+                .map(it -> new OrderProductDetails(
+                        it.sku(),
+                        it.price(),
+                        it.weight(),
+                        it.width(),
+                        it.height(),
+                        it.length()
+                ))
+                .collect(Collectors.toMap(OrderProductDetails::sku, it -> it));
     }
 }
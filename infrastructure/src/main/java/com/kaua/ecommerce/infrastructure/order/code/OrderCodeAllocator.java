@@ -0,0 +1,203 @@
+package com.kaua.ecommerce.infrastructure.order.code;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hi/lo allocator of order code sequences. Ranges of codes are leased from the database
+ * and served from memory, the next range is leased in background when the current one
+ * is reaching the end. Codes of a range not used before a restart are lost, so the
+ * sequences are unique but may have gaps.
+ */
+@Component
+public class OrderCodeAllocator implements MeterBinder, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderCodeAllocator.class);
+
+    private final OrderCodeLeaser leaser;
+    private final int blockSize;
+    private final int refillThreshold;
+    private final ExecutorService refillExecutor;
+
+    private final AtomicReference<LeasedRange> current = new AtomicReference<>(LeasedRange.EMPTY);
+    private final AtomicReference<CompletableFuture<OrderCodeRange>> prefetched = new AtomicReference<>();
+
+    private final AtomicLong asyncLeases = new AtomicLong();
+    private final AtomicLong syncLeases = new AtomicLong();
+    private final AtomicLong failedLeases = new AtomicLong();
+    private final AtomicLong leasesTimeNanos = new AtomicLong();
+
+    public OrderCodeAllocator(
+            final OrderCodeLeaser leaser,
+            @Value("${order.code.block-size:100}") final int blockSize,
+            @Value("${order.code.refill-threshold:20}") final int refillThreshold
+    ) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("blockSize must be greater than 0");
+        }
+        this.leaser = Objects.requireNonNull(leaser);
+        this.blockSize = blockSize;
+        this.refillThreshold = Math.max(1, Math.min(refillThreshold, blockSize));
+        this.refillExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            final var aThread = new Thread(runnable, "order-code-lease");
+            aThread.setDaemon(true);
+            return aThread;
+        });
+    }
+
+    public long next() {
+        while (true) {
+            final var aRange = this.current.get();
+            final var aValue = aRange.cursor.getAndIncrement();
+
+            if (aValue < aRange.end) {
+                // each value is handed out once, so only one caller sees the threshold
+                if (aRange.end - aValue == this.refillThreshold) {
+                    prefetch();
+                }
+                return aValue;
+            }
+
+            advance(aRange);
+        }
+    }
+
+    public long remaining() {
+        final var aRange = this.current.get();
+        return Math.max(0, aRange.end - aRange.cursor.get());
+    }
+
+    private void prefetch() {
+        final var aFuture = new CompletableFuture<OrderCodeRange>();
+        if (!this.prefetched.compareAndSet(null, aFuture)) {
+            return;
+        }
+
+        try {
+            this.refillExecutor.execute(() -> {
+                try {
+                    final var aRange = lease();
+                    this.asyncLeases.incrementAndGet();
+                    aFuture.complete(aRange);
+                } catch (final Throwable t) {
+                    log.warn("failed to lease order codes in background, next range will be leased on demand", t);
+                    aFuture.completeExceptionally(t);
+                }
+            });
+        } catch (final RuntimeException e) {
+            aFuture.completeExceptionally(e);
+        }
+    }
+
+    private synchronized void advance(final LeasedRange aExhausted) {
+        if (this.current.get() != aExhausted) {
+            return;
+        }
+
+        OrderCodeRange aNextRange = null;
+
+        final var aPrefetched = this.prefetched.getAndSet(null);
+        if (aPrefetched != null) {
+            try {
+                aNextRange = aPrefetched.join();
+            } catch (final CompletionException e) {
+                // already logged and counted by the background lease
+            }
+        }
+
+        if (aNextRange == null) {
+            aNextRange = lease();
+            this.syncLeases.incrementAndGet();
+        }
+
+        this.current.set(new LeasedRange(aNextRange.start(), aNextRange.end()));
+    }
+
+    private OrderCodeRange lease() {
+        final var aStartTime = System.nanoTime();
+        try {
+            final var aRange = this.leaser.lease(this.blockSize);
+            log.info("leased order codes from {} to {}", aRange.start(), aRange.end());
+            return aRange;
+        } catch (final RuntimeException e) {
+            this.failedLeases.incrementAndGet();
+            throw e;
+        } finally {
+            this.leasesTimeNanos.addAndGet(System.nanoTime() - aStartTime);
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("orders.code.leases", this.asyncLeases, AtomicLong::doubleValue)
+                .description("Order code ranges leased from the database")
+                .tag("mode", "async")
+                .register(registry);
+        FunctionCounter.builder("orders.code.leases", this.syncLeases, AtomicLong::doubleValue)
+                .description("Order code ranges leased from the database")
+                .tag("mode", "sync")
+                .register(registry);
+        FunctionCounter.builder("orders.code.leases.failures", this.failedLeases, AtomicLong::doubleValue)
+                .description("Order code leases that failed")
+                .register(registry);
+        FunctionTimer.builder(
+                        "orders.code.leases.time",
+                        this,
+                        it -> it.asyncLeases.get() + it.syncLeases.get() + it.failedLeases.get(),
+                        it -> it.leasesTimeNanos.get(),
+                        TimeUnit.NANOSECONDS
+                )
+                .description("Time spent leasing order code ranges")
+                .register(registry);
+        Gauge.builder("orders.code.remaining", this, OrderCodeAllocator::remaining)
+                .description("Order codes left in the current leased range")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        this.refillExecutor.shutdownNow();
+    }
+
+    public long getAsyncLeases() {
+        return asyncLeases.get();
+    }
+
+    public long getSyncLeases() {
+        return syncLeases.get();
+    }
+
+    public long getFailedLeases() {
+        return failedLeases.get();
+    }
+
+    private static final class LeasedRange {
+
+        private static final LeasedRange EMPTY = new LeasedRange(0, 0);
+
+        private final AtomicLong cursor;
+        private final long end;
+
+        private LeasedRange(final long start, final long end) {
+            this.cursor = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.kaua.ecommerce.infrastructure.order.code;
+
+import com.kaua.ecommerce.infrastructure.order.persistence.OrderCodeLeaseJpaEntityRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+
+@Component
+public class OrderCodeLeaseMySQLGateway implements OrderCodeLeaser {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderCodeLeaseMySQLGateway.class);
+
+    private static final String ORDER_CODE_LEASE_NAME = "order_code";
+
+    private final OrderCodeLeaseJpaEntityRepository orderCodeLeaseJpaEntityRepository;
+
+    public OrderCodeLeaseMySQLGateway(final OrderCodeLeaseJpaEntityRepository orderCodeLeaseJpaEntityRepository) {
+        this.orderCodeLeaseJpaEntityRepository = Objects.requireNonNull(orderCodeLeaseJpaEntityRepository);
+    }
+
+    // the update locks the lease row until the commit, so the read below sees only this lease
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Override
+    public OrderCodeRange lease(final int aSize) {
+        final var aUpdated = this.orderCodeLeaseJpaEntityRepository.incrementNextValue(ORDER_CODE_LEASE_NAME, aSize);
+
+        if (aUpdated != 1) {
+            throw new IllegalStateException("Order code lease row %s was not found".formatted(ORDER_CODE_LEASE_NAME));
+        }
+
+        final var aEnd = this.orderCodeLeaseJpaEntityRepository.findNextValueByName(ORDER_CODE_LEASE_NAME);
+        final var aRange = OrderCodeRange.with(aEnd - aSize, aEnd);
+
+        log.debug("leased order codes: {}", aRange);
+        return aRange;
+    }
+}
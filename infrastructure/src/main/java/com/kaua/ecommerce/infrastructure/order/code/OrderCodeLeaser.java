@@ -0,0 +1,6 @@
+package com.kaua.ecommerce.infrastructure.order.code;
+
+public interface OrderCodeLeaser {
+
+    OrderCodeRange lease(int aSize);
+}
@@ -0,0 +1,18 @@
+package com.kaua.ecommerce.infrastructure.order.code;
+
+public record OrderCodeRange(long start, long end) {
+
+    public OrderCodeRange {
+        if (start > end) {
+            throw new IllegalArgumentException("start must be lower or equal than end");
+        }
+    }
+
+    public static OrderCodeRange with(final long start, final long end) {
+        return new OrderCodeRange(start, end);
+    }
+
+    public long size() {
+        return end - start;
+    }
+}
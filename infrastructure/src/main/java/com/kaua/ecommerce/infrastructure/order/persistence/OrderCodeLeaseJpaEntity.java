@@ -0,0 +1,28 @@
+package com.kaua.ecommerce.infrastructure.order.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Table(name = "orders_codes_leases")
+@Entity
+public class OrderCodeLeaseJpaEntity {
+
+    @Id
+    private String name;
+
+    @Column(name = "next_value", nullable = false)
+    private long nextValue;
+
+    public OrderCodeLeaseJpaEntity() {
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getNextValue() {
+        return nextValue;
+    }
+}
@@ -0,0 +1,16 @@
+package com.kaua.ecommerce.infrastructure.order.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OrderCodeLeaseJpaEntityRepository extends JpaRepository<OrderCodeLeaseJpaEntity, String> {
+
+    @Modifying
+    @Query("UPDATE OrderCodeLeaseJpaEntity l SET l.nextValue = l.nextValue + :size WHERE l.name = :name")
+    int incrementNextValue(@Param("name") String name, @Param("size") long size);
+
+    @Query("SELECT l.nextValue FROM OrderCodeLeaseJpaEntity l WHERE l.name = :name")
+    long findNextValueByName(@Param("name") String name);
+}
@@ -1,6 +1,7 @@
 package com.kaua.ecommerce.infrastructure.order.persistence;
 
 import com.kaua.ecommerce.domain.order.OrderDelivery;
+import com.kaua.ecommerce.infrastructure.persistence.AssignedIdJpaEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
@@ -10,7 +11,7 @@ import java.util.Optional;
 
 @Table(name = "orders_deliveries")
 @Entity
-public class OrderDeliveryJpaEntity {
+public class OrderDeliveryJpaEntity extends AssignedIdJpaEntity {
 
     @Id
     private String id;
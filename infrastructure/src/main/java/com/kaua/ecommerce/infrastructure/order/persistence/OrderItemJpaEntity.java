@@ -1,6 +1,7 @@
 package com.kaua.ecommerce.infrastructure.order.persistence;
 
 import com.kaua.ecommerce.domain.order.OrderItem;
+import com.kaua.ecommerce.infrastructure.persistence.AssignedIdJpaEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
@@ -10,7 +11,7 @@ import java.math.BigDecimal;
 
 @Table(name = "orders_items")
 @Entity
-public class OrderItemJpaEntity {
+public class OrderItemJpaEntity extends AssignedIdJpaEntity {
 
     @Id
     private String id;
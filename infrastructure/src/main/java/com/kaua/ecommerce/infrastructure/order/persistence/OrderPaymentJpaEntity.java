@@ -1,6 +1,7 @@
 package com.kaua.ecommerce.infrastructure.order.persistence;
 
 import com.kaua.ecommerce.domain.order.OrderPayment;
+import com.kaua.ecommerce.infrastructure.persistence.AssignedIdJpaEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
@@ -8,7 +9,7 @@ import jakarta.persistence.Table;
 
 @Table(name = "orders_payments")
 @Entity
-public class OrderPaymentJpaEntity {
+public class OrderPaymentJpaEntity extends AssignedIdJpaEntity {
 
     @Id
     private String id;
@@ -1,9 +1,11 @@
 package com.kaua.ecommerce.infrastructure.outbox;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.kaua.ecommerce.domain.event.DomainEvent;
 import com.kaua.ecommerce.domain.utils.IdUtils;
 import com.kaua.ecommerce.infrastructure.configurations.json.Json;
+import com.kaua.ecommerce.infrastructure.persistence.AssignedIdJpaEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
@@ -13,7 +15,7 @@ import java.time.Instant;
 
 @Entity
 @Table(name = "outbox")
-public class OutboxEventEntity {
+public class OutboxEventEntity extends AssignedIdJpaEntity {
 
     @Id
     @Column(name = "event_id", nullable = false)
@@ -63,6 +65,12 @@ public class OutboxEventEntity {
         );
     }
 
+    @JsonIgnore
+    @Override
+    public String getId() {
+        return eventId;
+    }
+
     public String getEventId() {
         return eventId;
     }
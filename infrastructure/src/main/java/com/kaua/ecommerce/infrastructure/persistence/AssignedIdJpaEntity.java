@@ -0,0 +1,33 @@
+package com.kaua.ecommerce.infrastructure.persistence;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Base of the entities whose ids are generated by the application. Spring Data can not tell
+ * a new entity from a detached one by the id, so without this every save is a merge and
+ * issues a SELECT before the INSERT. Instances are new until they are persisted or loaded,
+ * gateways updating from a fresh instance must call {@link #markPersisted()} first.
+ */
+@MappedSuperclass
+public abstract class AssignedIdJpaEntity implements Persistable<String> {
+
+    @Transient
+    private boolean persisted;
+
+    @JsonIgnore
+    @Override
+    public boolean isNew() {
+        return !this.persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    public void markPersisted() {
+        this.persisted = true;
+    }
+}
@@ -0,0 +1,26 @@
+package com.kaua.ecommerce.infrastructure.persistence;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers {@code match_against(column, terms)} for the criteria queries, rendered as the MySQL
+ * boolean mode full-text search. It is only called by {@link TextSearchSpecifications} when the
+ * database is MySQL.
+ */
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contributeFunctions(final FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                MATCH_AGAINST,
+                "match(?1) against(?2 in boolean mode)",
+                functionContributions.getTypeConfiguration()
+                        .getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.DOUBLE)
+        );
+    }
+}
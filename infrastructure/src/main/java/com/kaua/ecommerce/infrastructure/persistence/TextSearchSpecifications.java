@@ -0,0 +1,98 @@
+package com.kaua.ecommerce.infrastructure.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.Objects;
+
+/**
+ * Builds the term search of the list gateways with a strategy that can use an index:
+ * <ul>
+ *     <li>{@link #contains} uses the ngram FULLTEXT index of the column, terms shorter than
+ *     the ngram token size can not be matched by it and fall back to a prefix match;</li>
+ *     <li>{@link #startsWith} is a {@code LIKE 'term%'} on the B-tree index of the column, the
+ *     column collation is case insensitive so it is not wrapped in {@code UPPER}.</li>
+ * </ul>
+ * On other databases, like the H2 of the tests, both keep the {@code UPPER(column) LIKE} scan.
+ */
+@Component
+public class TextSearchSpecifications {
+
+    private static final Logger log = LoggerFactory.getLogger(TextSearchSpecifications.class);
+
+    // innodb_ft_min_token_size does not apply to the ngram parser, ngram_token_size does
+    private static final int NGRAM_TOKEN_SIZE = 2;
+    // not a backslash, MySQL would read it as the escape of the closing quote of the literal
+    private static final char LIKE_ESCAPE = '!';
+
+    private final boolean indexed;
+
+    public TextSearchSpecifications(final DataSource dataSource) {
+        this.indexed = isMySQL(Objects.requireNonNull(dataSource));
+    }
+
+    public <T> Specification<T> contains(final String property, final String terms) {
+        final var aTerms = terms.trim();
+        if (!this.indexed) {
+            return (root, query, cb) -> cb.like(
+                    cb.upper(root.get(property)),
+                    "%" + escapeLike(aTerms.toUpperCase()) + "%",
+                    LIKE_ESCAPE
+            );
+        }
+        final var aPhraseTerms = aTerms.replace("\"", "");
+        if (aPhraseTerms.length() < NGRAM_TOKEN_SIZE) {
+            return startsWith(property, aTerms);
+        }
+
+        // a quoted phrase of ngrams matches the terms as a substring of the column
+        final var aPhrase = "\"" + aPhraseTerms + "\"";
+        return (root, query, cb) -> cb.greaterThan(
+                cb.function(FullTextFunctionContributor.MATCH_AGAINST, Double.class, root.get(property), cb.literal(aPhrase)),
+                0.0
+        );
+    }
+
+    public <T> Specification<T> startsWith(final String property, final String terms) {
+        final var aTerms = terms.trim();
+        if (!this.indexed) {
+            return (root, query, cb) -> cb.like(
+                    cb.upper(root.get(property)),
+                    escapeLike(aTerms.toUpperCase()) + "%",
+                    LIKE_ESCAPE
+            );
+        }
+        return (root, query, cb) -> cb.like(root.get(property), escapeLike(aTerms) + "%", LIKE_ESCAPE);
+    }
+
+    public boolean isIndexed() {
+        return indexed;
+    }
+
+    private static String escapeLike(final String aTerms) {
+        return aTerms
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+    }
+
+    private static boolean isMySQL(final DataSource aDataSource) {
+        try {
+            final String aProductName = JdbcUtils.extractDatabaseMetaData(
+                    aDataSource,
+                    DatabaseMetaData::getDatabaseProductName
+            );
+            return DatabaseDriver.fromProductName(aProductName) == DatabaseDriver.MYSQL;
+        } catch (final MetaDataAccessException e) {
+            log.warn("could not detect the database, term searches will not use the text indexes", e);
+            return false;
+        }
+    }
+}
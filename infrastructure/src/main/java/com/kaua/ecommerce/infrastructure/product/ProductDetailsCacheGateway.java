@@ -0,0 +1,234 @@
+package com.kaua.ecommerce.infrastructure.product;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kaua.ecommerce.infrastructure.product.persistence.ProductDetailsCacheEntity;
+import com.kaua.ecommerce.infrastructure.product.persistence.ProductDetailsCacheEntityRepository;
+import com.kaua.ecommerce.infrastructure.product.persistence.VersionedProductDetails;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Product details by sku in an in-process cache in front of Redis. The product events do not
+ * carry the skus, so an invalidation does not delete entries: it raises the minimum version
+ * of the product, and any entry of an older version is a miss from then on. The minimum only
+ * goes up, an invalidation delivered late or twice can not make an older price valid again,
+ * and a slow reader that loaded the old row can not put it back. The local entries expire
+ * fast, which bounds how long a node serves details invalidated on another node. Redis errors
+ * are treated as misses, the cache never fails a read.
+ */
+@Component
+public class ProductDetailsCacheGateway implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductDetailsCacheGateway.class);
+
+    public static final String CACHE_NAME = "product-details-by-sku";
+    public static final String MIN_VERSION_PREFIX = "product-details-min-version:";
+
+    private static final long NO_MIN_VERSION = -1;
+
+    private static final RedisScript<Long> RAISE_MIN_VERSION_SCRIPT = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('GET', KEYS[1]) or '-1')
+            if tonumber(ARGV[1]) > current then
+                redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final ProductDetailsCacheEntityRepository productDetailsCacheEntityRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final long timeToLiveSeconds;
+    private final long minVersionTimeToLiveMillis;
+    private final Cache<String, VersionedProductDetails> localCache;
+    private final Cache<String, Long> localMinVersions;
+
+    private final AtomicLong remoteHits = new AtomicLong();
+    private final AtomicLong remoteMisses = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ProductDetailsCacheGateway(
+            final ProductDetailsCacheEntityRepository productDetailsCacheEntityRepository,
+            final StringRedisTemplate redisTemplate,
+            @Value("${product.details.cache.ttl:3600000}") final long ttlMillis,
+            @Value("${product.details.cache.local.maximum-size:10000}") final long localMaximumSize,
+            @Value("${product.details.cache.local.ttl:1000}") final long localTtlMillis
+    ) {
+        this.productDetailsCacheEntityRepository = Objects.requireNonNull(productDetailsCacheEntityRepository);
+        this.redisTemplate = Objects.requireNonNull(redisTemplate);
+        this.timeToLiveSeconds = Math.max(1, Duration.ofMillis(ttlMillis).toSeconds());
+        // outlives every entry written before it, even the ones written by a slow reader
+        this.minVersionTimeToLiveMillis = Duration.ofSeconds(this.timeToLiveSeconds).multipliedBy(2).toMillis();
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(Duration.ofMillis(localTtlMillis))
+                .recordStats()
+                .build();
+        this.localMinVersions = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(Duration.ofMillis(this.minVersionTimeToLiveMillis))
+                .build();
+    }
+
+    public Map<String, VersionedProductDetails> getAll(final Set<String> aSkus) {
+        final var aResult = new HashMap<String, VersionedProductDetails>(aSkus.size());
+        final var aMissing = new HashSet<String>();
+
+        aSkus.forEach(aSku -> {
+            final var aLocal = this.localCache.getIfPresent(aSku);
+            if (aLocal != null && aLocal.version() >= localMinVersion(aLocal.productId())) {
+                aResult.put(aSku, aLocal);
+            } else {
+                aMissing.add(aSku);
+            }
+        });
+
+        if (aMissing.isEmpty()) {
+            return aResult;
+        }
+
+        try {
+            final var aCached = new HashMap<String, VersionedProductDetails>(aMissing.size());
+            this.productDetailsCacheEntityRepository.findAllById(aMissing).forEach(it -> {
+                if (it != null) {
+                    aCached.put(it.getSku(), it.toDomain());
+                }
+            });
+
+            final var aMinVersions = remoteMinVersions(aCached.values().stream()
+                    .map(VersionedProductDetails::productId)
+                    .toList());
+
+            aCached.values().forEach(aDetails -> {
+                if (aDetails.version() >= aMinVersions.getOrDefault(aDetails.productId(), NO_MIN_VERSION)) {
+                    aResult.put(aDetails.sku(), putLocally(aDetails));
+                }
+            });
+
+            final var aHits = aResult.size() - (aSkus.size() - aMissing.size());
+            this.remoteHits.addAndGet(aHits);
+            this.remoteMisses.addAndGet(aMissing.size() - aHits);
+        } catch (final RuntimeException e) {
+            log.warn("failed to read cached product details with skus: {}", aMissing, e);
+            this.remoteMisses.addAndGet(aMissing.size());
+        }
+
+        return aResult;
+    }
+
+    public void saveAll(final Collection<VersionedProductDetails> aDetails) {
+        if (aDetails.isEmpty()) {
+            return;
+        }
+
+        try {
+            final var aMinVersions = remoteMinVersions(aDetails.stream()
+                    .map(VersionedProductDetails::productId)
+                    .toList());
+
+            final var aCurrent = aDetails.stream()
+                    .filter(it -> it.version() >= aMinVersions.getOrDefault(it.productId(), NO_MIN_VERSION))
+                    .toList();
+
+            aCurrent.forEach(this::putLocally);
+            this.productDetailsCacheEntityRepository.saveAll(aCurrent.stream()
+                    .map(it -> ProductDetailsCacheEntity.toEntity(it, this.timeToLiveSeconds))
+                    .toList());
+            log.debug("inserted {} product details in cache", aCurrent.size());
+        } catch (final RuntimeException e) {
+            log.warn("failed to cache product details with skus: {}",
+                    aDetails.stream().map(VersionedProductDetails::sku).toList(), e);
+        }
+    }
+
+    /**
+     * Makes every cached sku of the product older than {@code aVersion} a miss, in this node
+     * right away and in the others once their local entries expire.
+     */
+    public void invalidate(final String aProductId, final long aVersion) {
+        raiseLocalMinVersion(aProductId, aVersion);
+        this.invalidations.incrementAndGet();
+
+        try {
+            this.redisTemplate.execute(
+                    RAISE_MIN_VERSION_SCRIPT,
+                    List.of(MIN_VERSION_PREFIX + aProductId),
+                    String.valueOf(aVersion),
+                    String.valueOf(this.minVersionTimeToLiveMillis)
+            );
+            log.debug("invalidated cached product details with product id: {} and version: {}",
+                    aProductId, aVersion);
+        } catch (final RuntimeException e) {
+            log.warn("failed to invalidate cached product details with product id: {}", aProductId, e);
+        }
+    }
+
+    private Map<String, Long> remoteMinVersions(final Collection<String> aProductsIds) {
+        final var aIds = List.copyOf(new HashSet<>(aProductsIds));
+        final var aResult = new HashMap<String, Long>(aIds.size());
+        if (aIds.isEmpty()) {
+            return aResult;
+        }
+
+        final var aValues = this.redisTemplate.opsForValue()
+                .multiGet(aIds.stream().map(it -> MIN_VERSION_PREFIX + it).toList());
+
+        for (int i = 0; i < aIds.size(); i++) {
+            final var aValue = aValues == null ? null : aValues.get(i);
+            final var aMinVersion = aValue == null
+                    ? NO_MIN_VERSION
+                    : raiseLocalMinVersion(aIds.get(i), Long.parseLong(aValue));
+            aResult.put(aIds.get(i), Math.max(aMinVersion, localMinVersion(aIds.get(i))));
+        }
+        return aResult;
+    }
+
+    private long localMinVersion(final String aProductId) {
+        final var aMinVersion = this.localMinVersions.getIfPresent(aProductId);
+        return aMinVersion == null ? NO_MIN_VERSION : aMinVersion;
+    }
+
+    private long raiseLocalMinVersion(final String aProductId, final long aVersion) {
+        return this.localMinVersions.asMap().merge(aProductId, aVersion, Math::max);
+    }
+
+    private VersionedProductDetails putLocally(final VersionedProductDetails aDetails) {
+        return this.localCache.asMap().merge(aDetails.sku(), aDetails, (aCurrent, aNew) ->
+                aNew.version() >= aCurrent.version() ? aNew : aCurrent);
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, this.localCache, CACHE_NAME);
+        FunctionCounter.builder("products.details.cache.remote.gets", this.remoteHits, AtomicLong::doubleValue)
+                .tag("result", "hit")
+                .description("Local cache misses answered by Redis")
+                .register(registry);
+        FunctionCounter.builder("products.details.cache.remote.gets", this.remoteMisses, AtomicLong::doubleValue)
+                .tag("result", "miss")
+                .description("Local cache misses that went to the database")
+                .register(registry);
+        FunctionCounter.builder("products.details.cache.invalidations", this.invalidations, AtomicLong::doubleValue)
+                .description("Product events that invalidated the cached product details")
+                .register(registry);
+    }
+}
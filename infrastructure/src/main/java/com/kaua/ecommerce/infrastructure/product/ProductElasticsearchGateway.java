@@ -1,45 +1,85 @@
 package com.kaua.ecommerce.infrastructure.product;
 
-import com.kaua.ecommerce.application.gateways.SearchGateway;
+import com.kaua.ecommerce.application.gateways.ProductSearchGateway;
+import com.kaua.ecommerce.application.gateways.commands.ProductFacetedSearchInput;
+import com.kaua.ecommerce.application.gateways.responses.ProductFacetedSearch;
 import com.kaua.ecommerce.domain.pagination.Pagination;
 import com.kaua.ecommerce.domain.pagination.SearchQuery;
 import com.kaua.ecommerce.domain.product.Product;
 import com.kaua.ecommerce.infrastructure.product.persistence.elasticsearch.ProductElasticsearchEntity;
 import com.kaua.ecommerce.infrastructure.product.persistence.elasticsearch.ProductElasticsearchEntityRepository;
+import com.kaua.ecommerce.infrastructure.utils.SearchAfterPaginationUtils;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.aggregations.AggregationRange;
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
+import co.elastic.clients.json.JsonData;
+import co.elastic.clients.util.NamedValue;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHit;
-import org.springframework.data.elasticsearch.core.SearchOperations;
-import org.springframework.data.elasticsearch.core.query.Criteria;
-import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
-import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
 @Component
-public class ProductElasticsearchGateway implements SearchGateway<Product> {
+public class ProductElasticsearchGateway implements ProductSearchGateway {
 
     private static final Logger log = LoggerFactory.getLogger(ProductElasticsearchGateway.class);
 
     private static final String NAME_PROP = "name";
     private static final String CATEGORY_ID_PROP = "category_id";
+    private static final String DESCRIPTION_PROP = "description";
     private static final String KEYWORD = ".keyword";
+    private static final String AUTOCOMPLETE = "." + ProductElasticsearchEntity.AUTOCOMPLETE_FIELD;
+
+    private static final String PRICE_PROP = "price";
+    private static final String ATTRIBUTES_PATH = "attributes";
+    private static final String COLOR_PATH = "attributes.color";
+    private static final String COLOR_PROP = "attributes.color.color" + KEYWORD;
+    private static final String SIZE_PATH = "attributes.size";
+    private static final String SIZE_PROP = "attributes.size.size" + KEYWORD;
+
+    private static final String CATEGORIES_FACET = "categories";
+    private static final String COLORS_FACET = "colors";
+    private static final String SIZES_FACET = "sizes";
+    private static final String PRICES_FACET = "prices";
+    private static final String VALUES_AGG = "values";
+    private static final String PRODUCTS_AGG = "products";
+    private static final int FACET_SIZE = 50;
+    private static final List<String> PRICE_BANDS = List.of("50", "100", "200", "500");
 
     private final ProductElasticsearchEntityRepository productElasticsearchEntityRepository;
-    private final SearchOperations searchOperations;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final Duration pointInTimeKeepAlive;
 
     public ProductElasticsearchGateway(
             final ProductElasticsearchEntityRepository productElasticsearchEntityRepository,
-            final SearchOperations searchOperations
+            final ElasticsearchOperations elasticsearchOperations,
+            @Value("${search.point-in-time.keep-alive:60000}") final long pointInTimeKeepAliveMillis
     ) {
         this.productElasticsearchEntityRepository = Objects.requireNonNull(productElasticsearchEntityRepository);
-        this.searchOperations = Objects.requireNonNull(searchOperations);
+        this.elasticsearchOperations = Objects.requireNonNull(elasticsearchOperations);
+        this.pointInTimeKeepAlive = Duration.ofMillis(pointInTimeKeepAliveMillis);
     }
 
     @Transactional
@@ -50,27 +90,42 @@ public class ProductElasticsearchGateway implements SearchGateway<Product> {
         return aggregateRoot;
     }
 
+    @Override
+    public List<Product> saveAll(List<Product> aggregateRoots) {
+        this.productElasticsearchEntityRepository.saveAll(aggregateRoots.stream()
+                .map(ProductElasticsearchEntity::toEntity)
+                .toList());
+        log.info("inserted or updated {} products in elasticsearch", aggregateRoots.size());
+        return aggregateRoots;
+    }
+
     @Override
     public Pagination<Product> findAll(SearchQuery aQuery) {
         final var aTerms = aQuery.terms();
         final var aCurrentPage = aQuery.page();
         final var aPerPage = aQuery.perPage();
 
-        final var aSort = Sort.by(Sort.Direction.fromString(aQuery.direction()), buildSort(aQuery.sort()));
-        final var aPage = PageRequest.of(aCurrentPage, aPerPage, aSort);
+        final var aOrder = new Sort.Order(Sort.Direction.fromString(aQuery.direction()), buildSort(aQuery.sort()));
 
-        final Query query;
-        if (StringUtils.isNotEmpty(aTerms)) {
-            final var aCriteria = Criteria.where(NAME_PROP).contains(aTerms)
-                    .or(CATEGORY_ID_PROP).is(aTerms)
-                    .or("description").contains(aTerms);
+        final var query = StringUtils.isNotEmpty(aTerms)
+                ? termsQuery(aTerms)
+                : matchAllQuery();
 
-            query = new CriteriaQuery(aCriteria, aPage);
-        } else {
-            query = Query.findAll().setPageable(aPage);
+        if (aQuery.isCursorQuery()) {
+            return SearchAfterPaginationUtils.find(
+                    this.elasticsearchOperations,
+                    query,
+                    aOrder,
+                    ProductElasticsearchEntity.class,
+                    aQuery,
+                    this.pointInTimeKeepAlive,
+                    ProductElasticsearchEntity::toDomain
+            );
         }
 
-        final var aResult = this.searchOperations.search(query, ProductElasticsearchEntity.class);
+        query.setPageable(PageRequest.of(aCurrentPage, aPerPage, Sort.by(aOrder)));
+
+        final var aResult = this.elasticsearchOperations.search(query, ProductElasticsearchEntity.class);
 
         final var aTotal = aResult.getTotalHits();
         final var aTotalPages = (int) Math.ceil((double) aTotal / aPerPage);
@@ -83,6 +138,51 @@ public class ProductElasticsearchGateway implements SearchGateway<Product> {
         return new Pagination<>(aCurrentPage, aPerPage, aTotalPages, aTotal, aProducts);
     }
 
+    /**
+     * One request returns the page and the facet counts. The selected facets are filter clauses,
+     * cached by Elasticsearch and not scored, so the counts are over the filtered result. Colors
+     * and sizes are nested attributes, their buckets count products through reverse_nested.
+     */
+    @Override
+    public ProductFacetedSearch findAllWithFacets(final ProductFacetedSearchInput aInput) {
+        final var aQuery = aInput.query();
+        final var aPerPage = aQuery.perPage();
+        final var aSort = Sort.by(Sort.Direction.fromString(aQuery.direction()), buildSort(aQuery.sort()));
+
+        final var aSearch = NativeQuery.builder()
+                .withQuery(q -> q.bool(b -> b
+                        .must(StringUtils.isNotEmpty(aQuery.terms())
+                                ? termsClause(aQuery.terms())
+                                : Query.of(m -> m.matchAll(a -> a)))
+                        .filter(facetFilters(aInput))))
+                .withAggregation(CATEGORIES_FACET, Aggregation.of(a -> a
+                        .terms(t -> t.field(CATEGORY_ID_PROP + KEYWORD).size(FACET_SIZE))))
+                .withAggregation(COLORS_FACET, nestedTermsAggregation(COLOR_PATH, COLOR_PROP))
+                .withAggregation(SIZES_FACET, nestedTermsAggregation(SIZE_PATH, SIZE_PROP))
+                .withAggregation(PRICES_FACET, Aggregation.of(a -> a
+                        .range(r -> r.field(PRICE_PROP).ranges(priceRanges()))))
+                .withPageable(PageRequest.of(aQuery.page(), aPerPage, aSort))
+                .build();
+
+        final var aResult = this.elasticsearchOperations.search(aSearch, ProductElasticsearchEntity.class);
+
+        final var aTotal = aResult.getTotalHits();
+        final var aTotalPages = (int) Math.ceil((double) aTotal / aPerPage);
+
+        final var aProducts = aResult.stream()
+                .map(SearchHit::getContent)
+                .map(ProductElasticsearchEntity::toDomain)
+                .toList();
+
+        return new ProductFacetedSearch(
+                new Pagination<>(aQuery.page(), aPerPage, aTotalPages, aTotal, aProducts),
+                termsFacet(aggregate(aResult, CATEGORIES_FACET)),
+                nestedTermsFacet(aggregate(aResult, COLORS_FACET)),
+                nestedTermsFacet(aggregate(aResult, SIZES_FACET)),
+                rangeFacet(aggregate(aResult, PRICES_FACET))
+        );
+    }
+
     @Override
     public Optional<Product> findById(String id) {
         throw new UnsupportedOperationException("Not implemented yet");
@@ -100,6 +200,136 @@ public class ProductElasticsearchGateway implements SearchGateway<Product> {
         log.info("deleted product from elasticsearch: {}", id);
     }
 
+    /**
+     * Matches the terms against the edge n-grams of the name and description, a whole word match
+     * on the analyzed fields scores above a prefix match, or the exact category id.
+     */
+    static NativeQuery termsQuery(final String aTerms) {
+        return NativeQuery.builder()
+                .withQuery(termsClause(aTerms))
+                .build();
+    }
+
+    private static Query termsClause(final String aTerms) {
+        return Query.of(q -> q.bool(b -> b
+                        .should(s -> s.multiMatch(m -> m
+                                .query(aTerms)
+                                .fields(
+                                        NAME_PROP + "^3",
+                                        NAME_PROP + AUTOCOMPLETE + "^2",
+                                        DESCRIPTION_PROP,
+                                        DESCRIPTION_PROP + AUTOCOMPLETE
+                                )
+                                .type(TextQueryType.BestFields)
+                                .operator(Operator.And)))
+                        .should(s -> s.term(t -> t
+                                .field(CATEGORY_ID_PROP + KEYWORD)
+                                .value(aTerms)))));
+    }
+
+    private static NativeQuery matchAllQuery() {
+        return NativeQuery.builder()
+                .withQuery(q -> q.matchAll(m -> m))
+                .build();
+    }
+
+    private static List<Query> facetFilters(final ProductFacetedSearchInput aInput) {
+        final var aFilters = new ArrayList<Query>();
+
+        if (!aInput.categoryIds().isEmpty()) {
+            aFilters.add(termsFilter(CATEGORY_ID_PROP + KEYWORD, aInput.categoryIds()));
+        }
+        if (!aInput.colors().isEmpty()) {
+            aFilters.add(nestedFilter(COLOR_PATH, termsFilter(COLOR_PROP, aInput.colors())));
+        }
+        if (!aInput.sizes().isEmpty()) {
+            aFilters.add(nestedFilter(SIZE_PATH, termsFilter(SIZE_PROP, aInput.sizes())));
+        }
+        if (aInput.minPrice() != null || aInput.maxPrice() != null) {
+            aFilters.add(priceFilter(aInput.minPrice(), aInput.maxPrice()));
+        }
+        return aFilters;
+    }
+
+    private static Query termsFilter(final String aField, final Collection<String> aValues) {
+        final var aFieldValues = aValues.stream().map(FieldValue::of).toList();
+        return Query.of(q -> q.terms(t -> t.field(aField).terms(v -> v.value(aFieldValues))));
+    }
+
+    // color and size are nested in the nested attributes
+    private static Query nestedFilter(final String aPath, final Query aQuery) {
+        return Query.of(q -> q.nested(n -> n
+                .path(ATTRIBUTES_PATH)
+                .query(a -> a.nested(inner -> inner.path(aPath).query(aQuery)))));
+    }
+
+    private static Query priceFilter(final BigDecimal aMin, final BigDecimal aMax) {
+        return Query.of(q -> q.range(r -> {
+            r.field(PRICE_PROP);
+            if (aMin != null) {
+                r.gte(JsonData.of(aMin.doubleValue()));
+            }
+            if (aMax != null) {
+                r.lte(JsonData.of(aMax.doubleValue()));
+            }
+            return r;
+        }));
+    }
+
+    private static Aggregation nestedTermsAggregation(final String aPath, final String aField) {
+        return Aggregation.of(a -> a
+                .nested(n -> n.path(aPath))
+                .aggregations(VALUES_AGG, Aggregation.of(v -> v
+                        // by products, not by nested attributes, one product may repeat a color in many sizes
+                        .terms(t -> t
+                                .field(aField)
+                                .size(FACET_SIZE)
+                                .order(List.of(
+                                        NamedValue.of(PRODUCTS_AGG + ">_count", SortOrder.Desc),
+                                        NamedValue.of("_key", SortOrder.Asc)
+                                )))
+                        .aggregations(PRODUCTS_AGG, Aggregation.of(r -> r.reverseNested(rn -> rn))))));
+    }
+
+    private static List<AggregationRange> priceRanges() {
+        final var aRanges = new ArrayList<AggregationRange>();
+        String aFrom = null;
+        for (final var aTo : PRICE_BANDS) {
+            final var aRangeFrom = aFrom;
+            aRanges.add(AggregationRange.of(r -> r.from(aRangeFrom).to(aTo)));
+            aFrom = aTo;
+        }
+        final var aLast = aFrom;
+        aRanges.add(AggregationRange.of(r -> r.from(aLast)));
+        return aRanges;
+    }
+
+    private static Aggregate aggregate(final SearchHits<?> aResult, final String aName) {
+        final var aAggregations = (ElasticsearchAggregations) aResult.getAggregations();
+        return Objects.requireNonNull(aAggregations).aggregationsAsMap().get(aName).aggregation().getAggregate();
+    }
+
+    private static List<ProductFacetedSearch.FacetCount> termsFacet(final Aggregate aAggregate) {
+        return aAggregate.sterms().buckets().array().stream()
+                .map(it -> new ProductFacetedSearch.FacetCount(it.key().stringValue(), it.docCount()))
+                .toList();
+    }
+
+    private static List<ProductFacetedSearch.FacetCount> nestedTermsFacet(final Aggregate aAggregate) {
+        return aAggregate.nested().aggregations().get(VALUES_AGG).sterms().buckets().array().stream()
+                .map(it -> new ProductFacetedSearch.FacetCount(
+                        it.key().stringValue(),
+                        it.aggregations().get(PRODUCTS_AGG).reverseNested().docCount()
+                ))
+                .toList();
+    }
+
+    private static List<ProductFacetedSearch.FacetCount> rangeFacet(final Aggregate aAggregate) {
+        return aAggregate.range().buckets().array().stream()
+                .map(it -> new ProductFacetedSearch.FacetCount(it.key(), it.docCount()))
+                .toList();
+    }
+
     private String buildSort(final String aSort) {
         if (aSort.equals(NAME_PROP) || aSort.equals(CATEGORY_ID_PROP)) {
             return aSort.concat(KEYWORD);
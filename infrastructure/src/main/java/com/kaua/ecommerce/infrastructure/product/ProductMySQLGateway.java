@@ -3,33 +3,63 @@ package com.kaua.ecommerce.infrastructure.product;
 import com.kaua.ecommerce.application.gateways.ProductGateway;
 import com.kaua.ecommerce.application.gateways.responses.ProductDetails;
 import com.kaua.ecommerce.domain.product.Product;
+import com.kaua.ecommerce.domain.product.ProductAttributes;
 import com.kaua.ecommerce.domain.product.ProductColor;
+import com.kaua.ecommerce.domain.product.ProductImage;
 import com.kaua.ecommerce.infrastructure.product.persistence.ProductColorJpaEntity;
 import com.kaua.ecommerce.infrastructure.product.persistence.ProductColorJpaEntityRepository;
 import com.kaua.ecommerce.infrastructure.product.persistence.ProductJpaEntity;
 import com.kaua.ecommerce.infrastructure.product.persistence.ProductJpaEntityRepository;
+import com.kaua.ecommerce.infrastructure.product.persistence.VersionedProductDetails;
+import jakarta.persistence.EntityManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Objects;
-import java.util.Optional;
+import java.util.*;
 
 @Component
 public class ProductMySQLGateway implements ProductGateway {
 
     private static final Logger log = LoggerFactory.getLogger(ProductMySQLGateway.class);
 
+    // keeps the IN list of very large carts and event batches below the database parameters limit
+    private static final int IN_LIST_CHUNK_SIZE = 500;
+
+    private static final String UPDATE_PRODUCT_SQL = "UPDATE products SET name = ?1, description = ?2, price = ?3, " +
+            "category_id = ?4, status = ?5, banner_image_id = ?6, updated_at = ?7, version = version + 1 " +
+            "WHERE id = ?8 AND version = ?9";
+    private static final String INSERT_IMAGE_SQL = "INSERT INTO products_images (id, name, location, url) " +
+            "VALUES (?1, ?2, ?3, ?4)";
+    private static final String INSERT_IMAGE_RELATION_SQL = "INSERT INTO products_images_relations " +
+            "(product_id, image_id) VALUES (?1, ?2)";
+    private static final String DELETE_IMAGE_RELATION_SQL = "DELETE FROM products_images_relations " +
+            "WHERE product_id = ?1 AND image_id = ?2";
+    private static final String DELETE_IMAGE_SQL = "DELETE FROM products_images WHERE id = ?1";
+    private static final String INSERT_COLOR_IF_ABSENT_SQL = "INSERT INTO products_colors (id, color) " +
+            "SELECT ?1, ?2 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM products_colors WHERE id = ?1)";
+    private static final String INSERT_SIZE_SQL = "INSERT INTO products_sizes " +
+            "(id, size_name, weight, height, width, p_length) VALUES (?1, ?2, ?3, ?4, ?5, ?6)";
+    private static final String INSERT_ATTRIBUTES_SQL = "INSERT INTO products_attributes " +
+            "(product_id, color_id, size_id, sku) VALUES (?1, ?2, ?3, ?4)";
+    private static final String DELETE_ATTRIBUTES_SQL = "DELETE FROM products_attributes " +
+            "WHERE product_id = ?1 AND sku = ?2";
+    private static final String DELETE_SIZE_SQL = "DELETE FROM products_sizes WHERE id = ?1";
+
     private final ProductJpaEntityRepository productEntityRepository;
     private final ProductColorJpaEntityRepository productColorEntityRepository;
+    private final EntityManager entityManager;
 
     public ProductMySQLGateway(
             final ProductJpaEntityRepository productEntityRepository,
-            final ProductColorJpaEntityRepository productColorEntityRepository
+            final ProductColorJpaEntityRepository productColorEntityRepository,
+            final EntityManager entityManager
     ) {
         this.productEntityRepository = Objects.requireNonNull(productEntityRepository);
         this.productColorEntityRepository = Objects.requireNonNull(productColorEntityRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
     }
 
     @Override
@@ -58,9 +88,125 @@ public class ProductMySQLGateway implements ProductGateway {
         return this.productEntityRepository.findFirstProductDetailsBySku(aSku);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, ProductDetails> findProductDetailsBySkus(Set<String> aSkus) {
+        final var aResult = new HashMap<String, ProductDetails>(aSkus.size());
+        final var aSkusList = List.copyOf(aSkus);
+
+        for (int i = 0; i < aSkusList.size(); i += IN_LIST_CHUNK_SIZE) {
+            final var aChunk = aSkusList.subList(i, Math.min(i + IN_LIST_CHUNK_SIZE, aSkusList.size()));
+            this.productEntityRepository.findProductDetailsBySkus(aChunk)
+                    .forEach(it -> aResult.putIfAbsent(it.sku(), it));
+        }
+
+        return aResult;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<Product> findAllByIds(Set<String> aProductsIds) {
+        final var aResult = new ArrayList<Product>(aProductsIds.size());
+        final var aIdsList = List.copyOf(aProductsIds);
+
+        for (int i = 0; i < aIdsList.size(); i += IN_LIST_CHUNK_SIZE) {
+            final var aChunk = aIdsList.subList(i, Math.min(i + IN_LIST_CHUNK_SIZE, aIdsList.size()));
+            this.productEntityRepository.findAllWithRelationsByIdIn(aChunk).stream()
+                    .map(ProductJpaEntity::toDomain)
+                    .forEach(aResult::add);
+        }
+
+        return aResult;
+    }
+
+    /**
+     * Same rows as {@link #findProductDetailsBySkus(Set)} with the id and version of their
+     * product, what the product details cache needs to discard what a newer write replaced.
+     */
+    @Transactional(readOnly = true)
+    public List<VersionedProductDetails> findVersionedProductDetailsBySkus(Set<String> aSkus) {
+        final var aResult = new ArrayList<VersionedProductDetails>(aSkus.size());
+        final var aSkusList = List.copyOf(aSkus);
+
+        for (int i = 0; i < aSkusList.size(); i += IN_LIST_CHUNK_SIZE) {
+            final var aChunk = aSkusList.subList(i, Math.min(i + IN_LIST_CHUNK_SIZE, aSkusList.size()));
+            aResult.addAll(this.productEntityRepository.findVersionedProductDetailsBySkus(aChunk));
+        }
+
+        return aResult;
+    }
+
+    /**
+     * Writes only what changed: the product row, guarded by its version, and the INSERT/DELETE
+     * of the images and attributes tracked by {@link Product#getChanges()}. Adding one image
+     * costs three statements instead of merging the whole graph.
+     */
+    @Transactional
     @Override
     public Product update(Product aProduct) {
-        final var aResult = save(aProduct);
+        final var aProductId = aProduct.getId().getValue();
+        final var aChanges = aProduct.getChanges();
+
+        // pending changes of this persistence context must reach the database before the statements
+        this.entityManager.flush();
+
+        final var aUpdated = this.entityManager.createNativeQuery(UPDATE_PRODUCT_SQL)
+                .setParameter(1, aProduct.getName())
+                .setParameter(2, aProduct.getDescription())
+                .setParameter(3, aProduct.getPrice())
+                .setParameter(4, aProduct.getCategoryId().getValue())
+                .setParameter(5, aProduct.getStatus().name())
+                .setParameter(6, aProduct.getBannerImage().map(ProductImage::getId).orElse(null))
+                .setParameter(7, aProduct.getUpdatedAt())
+                .setParameter(8, aProductId)
+                .setParameter(9, aProduct.getVersion())
+                .executeUpdate();
+
+        if (aUpdated == 0) {
+            throw new ObjectOptimisticLockingFailureException(ProductJpaEntity.class, aProductId);
+        }
+
+        if (aChanges.bannerImageChanged()) {
+            aProduct.getBannerImage()
+                    .filter(it -> !aChanges.getPreviousBannerImage().map(it::equals).orElse(false))
+                    .ifPresent(this::insertImage);
+            aChanges.getPreviousBannerImage()
+                    .filter(it -> !aProduct.getBannerImage().map(it::equals).orElse(false))
+                    .ifPresent(it -> execute(DELETE_IMAGE_SQL, it.getId()));
+        }
+
+        aChanges.removedImages().forEach(it -> {
+            execute(DELETE_IMAGE_RELATION_SQL, aProductId, it.getId());
+            execute(DELETE_IMAGE_SQL, it.getId());
+        });
+        aChanges.addedImages().forEach(it -> {
+            insertImage(it);
+            execute(INSERT_IMAGE_RELATION_SQL, aProductId, it.getId());
+        });
+
+        aChanges.removedAttributes().forEach(it -> {
+            execute(DELETE_ATTRIBUTES_SQL, aProductId, it.getSku());
+            execute(DELETE_SIZE_SQL, it.getSize().getId());
+        });
+        aChanges.addedAttributes().forEach(it -> insertAttributes(aProductId, it));
+
+        // the statements bypassed the managed entity, the next read must come from the database
+        this.entityManager.detach(this.entityManager.getReference(ProductJpaEntity.class, aProductId));
+
+        final var aResult = Product.with(
+                aProductId,
+                aProduct.getName(),
+                aProduct.getDescription(),
+                aProduct.getPrice(),
+                aProduct.getBannerImage().orElse(null),
+                aProduct.getImages(),
+                aProduct.getCategoryId().getValue(),
+                aProduct.getAttributes(),
+                aProduct.getStatus(),
+                aProduct.getCreatedAt(),
+                aProduct.getUpdatedAt(),
+                aProduct.getVersion() + 1
+        );
         log.info("updated product: {}", aResult);
         return aResult;
     }
@@ -71,6 +217,35 @@ public class ProductMySQLGateway implements ProductGateway {
         log.info("deleted product: {}", aProductID);
     }
 
+    private void insertImage(final ProductImage aImage) {
+        execute(INSERT_IMAGE_SQL, aImage.getId(), aImage.getName(), aImage.getLocation(), aImage.getUrl());
+    }
+
+    private void insertAttributes(final String aProductId, final ProductAttributes aAttributes) {
+        final var aColor = aAttributes.getColor();
+        final var aSize = aAttributes.getSize();
+
+        execute(INSERT_COLOR_IF_ABSENT_SQL, aColor.getId(), aColor.getColor());
+        execute(
+                INSERT_SIZE_SQL,
+                aSize.getId(),
+                aSize.getSize(),
+                aSize.getWeight(),
+                aSize.getHeight(),
+                aSize.getWidth(),
+                aSize.getLength()
+        );
+        execute(INSERT_ATTRIBUTES_SQL, aProductId, aColor.getId(), aSize.getId(), aAttributes.getSku());
+    }
+
+    private void execute(final String aSql, final Object... aParameters) {
+        final var aQuery = this.entityManager.createNativeQuery(aSql);
+        for (int i = 0; i < aParameters.length; i++) {
+            aQuery.setParameter(i + 1, aParameters[i]);
+        }
+        aQuery.executeUpdate();
+    }
+
     private Product save(final Product aProduct) {
         return this.productEntityRepository.saveAndFlush(ProductJpaEntity
                 .toEntity(aProduct)).toDomain();
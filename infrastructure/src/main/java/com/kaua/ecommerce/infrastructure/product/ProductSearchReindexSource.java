@@ -0,0 +1,85 @@
+package com.kaua.ecommerce.infrastructure.product;
+
+import com.kaua.ecommerce.domain.product.Product;
+import com.kaua.ecommerce.domain.product.ProductStatus;
+import com.kaua.ecommerce.infrastructure.product.persistence.ProductJpaEntityRepository;
+import com.kaua.ecommerce.infrastructure.product.persistence.elasticsearch.ProductElasticsearchEntity;
+import com.kaua.ecommerce.infrastructure.search.reindex.SearchReindexSource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+@Component
+public class ProductSearchReindexSource implements SearchReindexSource<Product, ProductElasticsearchEntity> {
+
+    private final ProductJpaEntityRepository productEntityRepository;
+    private final ProductMySQLGateway productGateway;
+    private final ProductElasticsearchInitializer productElasticsearchInitializer;
+
+    public ProductSearchReindexSource(
+            final ProductJpaEntityRepository productEntityRepository,
+            final ProductMySQLGateway productGateway,
+            final ProductElasticsearchInitializer productElasticsearchInitializer
+    ) {
+        this.productEntityRepository = Objects.requireNonNull(productEntityRepository);
+        this.productGateway = Objects.requireNonNull(productGateway);
+        this.productElasticsearchInitializer = Objects.requireNonNull(productElasticsearchInitializer);
+    }
+
+    @Override
+    public String alias() {
+        return ProductElasticsearchEntity.INDEX_NAME;
+    }
+
+    @Override
+    public Map<String, Object> settings() {
+        return this.productElasticsearchInitializer.settings();
+    }
+
+    @Override
+    public Document mapping() {
+        return this.productElasticsearchInitializer.mapping();
+    }
+
+    @Override
+    public long count() {
+        return this.productEntityRepository.count();
+    }
+
+    @Override
+    public List<String> findIdsAfter(final String aAfterId, final int aSize) {
+        return this.productEntityRepository.findIdsAfter(aAfterId, PageRequest.ofSize(aSize));
+    }
+
+    @Override
+    public List<String> findIdsUpdatedSince(final Instant aSince, final String aAfterId, final int aSize) {
+        return this.productEntityRepository.findIdsUpdatedSince(aSince, aAfterId, PageRequest.ofSize(aSize));
+    }
+
+    @Override
+    public List<Product> findAllByIds(final Collection<String> aIds) {
+        return this.productGateway.findAllByIds(Set.copyOf(aIds));
+    }
+
+    @Override
+    public String idOf(final Product aProduct) {
+        return aProduct.getId().getValue();
+    }
+
+    @Override
+    public boolean isSearchable(final Product aProduct) {
+        return aProduct.getStatus() != ProductStatus.DELETED;
+    }
+
+    @Override
+    public ProductElasticsearchEntity toDocument(final Product aProduct) {
+        return ProductElasticsearchEntity.toEntity(aProduct);
+    }
+}
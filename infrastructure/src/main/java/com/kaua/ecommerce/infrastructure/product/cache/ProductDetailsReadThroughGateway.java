@@ -0,0 +1,96 @@
+package com.kaua.ecommerce.infrastructure.product.cache;
+
+import com.kaua.ecommerce.application.gateways.ProductGateway;
+import com.kaua.ecommerce.application.gateways.responses.ProductDetails;
+import com.kaua.ecommerce.domain.product.Product;
+import com.kaua.ecommerce.domain.product.ProductColor;
+import com.kaua.ecommerce.infrastructure.product.ProductDetailsCacheGateway;
+import com.kaua.ecommerce.infrastructure.product.ProductMySQLGateway;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Answers the product details reads from the {@link ProductDetailsCacheGateway} and loads only
+ * the missing skus from MySQL, so the details page and the lines of a new order do not join
+ * three tables per sku. The cache is invalidated by the product events, the writes here go
+ * straight to MySQL.
+ */
+@Primary
+@Component
+public class ProductDetailsReadThroughGateway implements ProductGateway {
+
+    private final ProductMySQLGateway productGateway;
+    private final ProductDetailsCacheGateway productDetailsCacheGateway;
+
+    public ProductDetailsReadThroughGateway(
+            final ProductMySQLGateway productGateway,
+            final ProductDetailsCacheGateway productDetailsCacheGateway
+    ) {
+        this.productGateway = Objects.requireNonNull(productGateway);
+        this.productDetailsCacheGateway = Objects.requireNonNull(productDetailsCacheGateway);
+    }
+
+    @Override
+    public Product create(Product aProduct) {
+        return this.productGateway.create(aProduct);
+    }
+
+    @Override
+    public Optional<Product> findById(String aProductID) {
+        return this.productGateway.findById(aProductID);
+    }
+
+    @Override
+    public List<Product> findAllByIds(Set<String> aProductsIds) {
+        return this.productGateway.findAllByIds(aProductsIds);
+    }
+
+    @Override
+    public Optional<ProductColor> findColorByName(String aColorName) {
+        return this.productGateway.findColorByName(aColorName);
+    }
+
+    @Override
+    public Optional<ProductDetails> findProductDetailsBySku(String aSku) {
+        return Optional.ofNullable(findProductDetailsBySkus(Set.of(aSku)).get(aSku));
+    }
+
+    @Override
+    public Map<String, ProductDetails> findProductDetailsBySkus(Set<String> aSkus) {
+        final var aResult = new HashMap<String, ProductDetails>(aSkus.size());
+        final var aMissing = new HashSet<>(aSkus);
+
+        this.productDetailsCacheGateway.getAll(aSkus).values().forEach(it -> {
+            aResult.put(it.sku(), it.toProductDetails());
+            aMissing.remove(it.sku());
+        });
+
+        if (aMissing.isEmpty()) {
+            return aResult;
+        }
+
+        final var aLoaded = this.productGateway.findVersionedProductDetailsBySkus(aMissing);
+        this.productDetailsCacheGateway.saveAll(aLoaded);
+        aLoaded.forEach(it -> aResult.putIfAbsent(it.sku(), it.toProductDetails()));
+
+        return aResult;
+    }
+
+    @Override
+    public Product update(Product aProduct) {
+        return this.productGateway.update(aProduct);
+    }
+
+    @Override
+    public void delete(String aProductID) {
+        this.productGateway.delete(aProductID);
+    }
+}
@@ -0,0 +1,21 @@
+package com.kaua.ecommerce.infrastructure.product.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kaua.ecommerce.application.gateways.responses.ProductFacetedSearch;
+import com.kaua.ecommerce.domain.pagination.Pagination;
+
+import java.util.List;
+
+public record ListProductsWithFacetsResponse(
+        @JsonProperty("products") Pagination<ListProductsResponse> products,
+        @JsonProperty("facets") Facets facets
+) {
+
+    public record Facets(
+            @JsonProperty("categories") List<ProductFacetedSearch.FacetCount> categories,
+            @JsonProperty("colors") List<ProductFacetedSearch.FacetCount> colors,
+            @JsonProperty("sizes") List<ProductFacetedSearch.FacetCount> sizes,
+            @JsonProperty("prices") List<ProductFacetedSearch.FacetCount> prices
+    ) {
+    }
+}
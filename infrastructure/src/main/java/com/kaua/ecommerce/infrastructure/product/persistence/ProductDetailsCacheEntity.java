@@ -0,0 +1,115 @@
+package com.kaua.ecommerce.infrastructure.product.persistence;
+
+import jakarta.persistence.Id;
+import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.TimeToLive;
+
+import java.math.BigDecimal;
+
+@RedisHash(value = "product-details")
+public class ProductDetailsCacheEntity {
+
+    @Id
+    private String id;
+
+    private String productId;
+    private long version;
+    private BigDecimal price;
+    private double weight;
+    private double width;
+    private double height;
+    private double length;
+
+    @TimeToLive
+    private Long timeToLive;
+
+    public ProductDetailsCacheEntity() {}
+
+    private ProductDetailsCacheEntity(
+            final String id,
+            final String productId,
+            final long version,
+            final BigDecimal price,
+            final double weight,
+            final double width,
+            final double height,
+            final double length,
+            final Long timeToLive
+    ) {
+        this.id = id;
+        this.productId = productId;
+        this.version = version;
+        this.price = price;
+        this.weight = weight;
+        this.width = width;
+        this.height = height;
+        this.length = length;
+        this.timeToLive = timeToLive;
+    }
+
+    public static ProductDetailsCacheEntity toEntity(
+            final VersionedProductDetails aDetails,
+            final long aTimeToLiveSeconds
+    ) {
+        return new ProductDetailsCacheEntity(
+                aDetails.sku(),
+                aDetails.productId(),
+                aDetails.version(),
+                aDetails.price(),
+                aDetails.weight(),
+                aDetails.width(),
+                aDetails.height(),
+                aDetails.length(),
+                aTimeToLiveSeconds
+        );
+    }
+
+    public VersionedProductDetails toDomain() {
+        return new VersionedProductDetails(
+                getProductId(),
+                getVersion(),
+                getSku(),
+                getPrice(),
+                getWeight(),
+                getWidth(),
+                getHeight(),
+                getLength()
+        );
+    }
+
+    public String getSku() {
+        return id;
+    }
+
+    public String getProductId() {
+        return productId;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public double getWeight() {
+        return weight;
+    }
+
+    public double getWidth() {
+        return width;
+    }
+
+    public double getHeight() {
+        return height;
+    }
+
+    public double getLength() {
+        return length;
+    }
+
+    public Long getTimeToLive() {
+        return timeToLive;
+    }
+}
@@ -0,0 +1,6 @@
+package com.kaua.ecommerce.infrastructure.product.persistence;
+
+import org.springframework.data.repository.CrudRepository;
+
+public interface ProductDetailsCacheEntityRepository extends CrudRepository<ProductDetailsCacheEntity, String> {
+}
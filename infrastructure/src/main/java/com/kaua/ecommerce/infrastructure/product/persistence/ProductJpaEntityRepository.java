@@ -1,9 +1,13 @@
 package com.kaua.ecommerce.infrastructure.product.persistence;
 
 import com.kaua.ecommerce.application.gateways.responses.ProductDetails;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ProductJpaEntityRepository extends JpaRepository<ProductJpaEntity, String> {
@@ -23,4 +27,57 @@ public interface ProductJpaEntityRepository extends JpaRepository<ProductJpaEnti
              where pa.sku = :sku
             """)
     Optional<ProductDetails> findFirstProductDetailsBySku(String sku);
+
+    @Query("""
+             select new com.kaua.ecommerce.application.gateways.responses.ProductDetails(
+                pa.sku,
+                p.price,
+                ps.weight,
+                ps.width,
+                ps.height,
+                ps.length
+             )
+             from ProductJpaEntity p
+             inner join p.attributes pa
+             inner join pa.size ps
+             where pa.sku in :skus
+            """)
+    List<ProductDetails> findProductDetailsBySkus(Collection<String> skus);
+
+    @Query("""
+             select new com.kaua.ecommerce.infrastructure.product.persistence.VersionedProductDetails(
+                p.id,
+                p.version,
+                pa.sku,
+                p.price,
+                ps.weight,
+                ps.width,
+                ps.height,
+                ps.length
+             )
+             from ProductJpaEntity p
+             inner join p.attributes pa
+             inner join pa.size ps
+             where pa.sku in :skus
+            """)
+    List<VersionedProductDetails> findVersionedProductDetailsBySkus(Collection<String> skus);
+
+    @Query("""
+             select distinct p
+             from ProductJpaEntity p
+             left join fetch p.bannerImage
+             left join fetch p.attributes pa
+             left join fetch pa.color
+             left join fetch pa.size
+             left join fetch p.images pi
+             left join fetch pi.image
+             where p.id in :ids
+            """)
+    List<ProductJpaEntity> findAllWithRelationsByIdIn(Collection<String> ids);
+
+    @Query("select p.id from ProductJpaEntity p where p.id > :afterId order by p.id")
+    List<String> findIdsAfter(String afterId, Pageable pageable);
+
+    @Query("select p.id from ProductJpaEntity p where p.updatedAt >= :since and p.id > :afterId order by p.id")
+    List<String> findIdsUpdatedSince(Instant since, String afterId, Pageable pageable);
 }
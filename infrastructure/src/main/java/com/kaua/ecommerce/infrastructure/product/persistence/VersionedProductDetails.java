@@ -0,0 +1,21 @@
+package com.kaua.ecommerce.infrastructure.product.persistence;
+
+import com.kaua.ecommerce.application.gateways.responses.ProductDetails;
+
+import java.math.BigDecimal;
+
+public record VersionedProductDetails(
+        String productId,
+        long version,
+        String sku,
+        BigDecimal price,
+        double weight,
+        double width,
+        double height,
+        double length
+) {
+
+    public ProductDetails toProductDetails() {
+        return new ProductDetails(sku, price, weight, width, height, length);
+    }
+}
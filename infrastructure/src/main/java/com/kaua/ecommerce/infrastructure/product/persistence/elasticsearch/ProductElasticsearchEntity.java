@@ -15,9 +15,16 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-@Document(indexName = "products")
+@Document(indexName = ProductElasticsearchEntity.INDEX_NAME, createIndex = false)
 public class ProductElasticsearchEntity {
 
+    public static final String INDEX_NAME = "products";
+
+    // the edge n-gram sub field of the name and description, analyzed as in the index settings
+    public static final String AUTOCOMPLETE_FIELD = "autocomplete";
+    public static final String AUTOCOMPLETE_ANALYZER = "autocomplete";
+    public static final String AUTOCOMPLETE_SEARCH_ANALYZER = "autocomplete_search";
+
     @Id
     private String id;
 
@@ -1,9 +1,11 @@
 package com.kaua.ecommerce.infrastructure.product.presenter;
 
 import com.kaua.ecommerce.application.usecases.product.retrieve.get.GetProductByIdOutput;
+import com.kaua.ecommerce.application.usecases.product.search.retrieve.facets.ListProductsWithFacetsOutput;
 import com.kaua.ecommerce.application.usecases.product.search.retrieve.list.ListProductsOutput;
 import com.kaua.ecommerce.infrastructure.product.models.GetProductResponse;
 import com.kaua.ecommerce.infrastructure.product.models.ListProductsResponse;
+import com.kaua.ecommerce.infrastructure.product.models.ListProductsWithFacetsResponse;
 
 public final class ProductApiPresenter {
 
@@ -26,6 +28,18 @@ public final class ProductApiPresenter {
         );
     }
 
+    public static ListProductsWithFacetsResponse present(final ListProductsWithFacetsOutput aOutput) {
+        return new ListProductsWithFacetsResponse(
+                aOutput.products().map(ProductApiPresenter::present),
+                new ListProductsWithFacetsResponse.Facets(
+                        aOutput.categories(),
+                        aOutput.colors(),
+                        aOutput.sizes(),
+                        aOutput.prices()
+                )
+        );
+    }
+
     public static GetProductResponse present(final GetProductByIdOutput aOutput) {
         return new GetProductResponse(
                 aOutput.productId(),
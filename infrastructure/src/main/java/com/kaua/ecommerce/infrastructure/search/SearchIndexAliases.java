@@ -0,0 +1,115 @@
+package com.kaua.ecommerce.infrastructure.search;
+
+import com.kaua.ecommerce.domain.utils.InstantUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The search indexes are read and written through an alias pointing to a versioned index, e.g.
+ * {@code products -> products_v1700000000000}, so a rebuilt index can replace the current one
+ * with a single atomic alias swap.
+ */
+@Component
+public class SearchIndexAliases {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexAliases.class);
+
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    public SearchIndexAliases(final ElasticsearchOperations elasticsearchOperations) {
+        this.elasticsearchOperations = Objects.requireNonNull(elasticsearchOperations);
+    }
+
+    public void createAliasedIndexIfAbsent(
+            final String aAlias,
+            final Map<String, Object> aSettings,
+            final Document aMapping
+    ) {
+        if (exists(aAlias)) {
+            return;
+        }
+
+        final var aIndex = createIndex(aAlias, aSettings, aMapping);
+        this.elasticsearchOperations.indexOps(IndexCoordinates.of(aIndex)).alias(new AliasActions(
+                new AliasAction.Add(AliasActionParameters.builder()
+                        .withIndices(aIndex)
+                        .withAliases(aAlias)
+                        .build())
+        ));
+
+        log.info("Creating index: {} with alias: {}", aIndex, aAlias);
+    }
+
+    public String createIndex(
+            final String aAlias,
+            final Map<String, Object> aSettings,
+            final Document aMapping
+    ) {
+        final var aIndex = aAlias + "_v" + InstantUtils.now().toEpochMilli();
+        this.elasticsearchOperations.indexOps(IndexCoordinates.of(aIndex)).create(aSettings, aMapping);
+        return aIndex;
+    }
+
+    public boolean exists(final String aIndexOrAlias) {
+        return this.elasticsearchOperations.indexOps(IndexCoordinates.of(aIndexOrAlias)).exists();
+    }
+
+    public Set<String> indicesOf(final String aAlias) {
+        try {
+            return this.elasticsearchOperations.indexOps(IndexCoordinates.of(aAlias))
+                    .getAliases(aAlias)
+                    .keySet();
+        } catch (final RuntimeException e) {
+            // an unknown alias answers 404
+            return Set.of();
+        }
+    }
+
+    /**
+     * Points the alias to the new index and drops the previous ones in one request, readers see
+     * either the old or the new index. An index created with the alias name, before the indexes
+     * were aliased, is removed by the same request.
+     */
+    public void swap(final String aAlias, final String aNewIndex) {
+        final var aPreviousIndices = indicesOf(aAlias);
+        final var aActions = new ArrayList<AliasAction>();
+
+        aActions.add(new AliasAction.Add(AliasActionParameters.builder()
+                .withIndices(aNewIndex)
+                .withAliases(aAlias)
+                .build()));
+
+        if (aPreviousIndices.isEmpty() && exists(aAlias)) {
+            aActions.add(new AliasAction.RemoveIndex(AliasActionParameters.builder()
+                    .withIndices(aAlias)
+                    .build()));
+        }
+
+        aPreviousIndices.stream()
+                .filter(it -> !it.equals(aNewIndex))
+                .forEach(it -> aActions.add(new AliasAction.RemoveIndex(AliasActionParameters.builder()
+                        .withIndices(it)
+                        .build())));
+
+        this.elasticsearchOperations.indexOps(IndexCoordinates.of(aNewIndex))
+                .alias(new AliasActions(aActions.toArray(AliasAction[]::new)));
+
+        log.info("Alias {} swapped from {} to {}", aAlias, aPreviousIndices, aNewIndex);
+    }
+
+    public void refresh(final String aIndex) {
+        this.elasticsearchOperations.indexOps(IndexCoordinates.of(aIndex)).refresh();
+    }
+}
@@ -0,0 +1,119 @@
+package com.kaua.ecommerce.infrastructure.search.persistence;
+
+import com.kaua.ecommerce.domain.utils.InstantUtils;
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+@Table(name = "search_reindex_checkpoints")
+@Entity
+public class SearchReindexCheckpointJpaEntity {
+
+    @Id
+    @Column(name = "alias_name", nullable = false)
+    private String aliasName;
+
+    @Column(name = "target_index")
+    private String targetIndex;
+
+    @Column(name = "last_id")
+    private String lastId;
+
+    @Column(name = "processed", nullable = false)
+    private long processed;
+
+    @Column(name = "total", nullable = false)
+    private long total;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Status status;
+
+    @Column(name = "started_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant startedAt;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant updatedAt;
+
+    public SearchReindexCheckpointJpaEntity() {
+    }
+
+    private SearchReindexCheckpointJpaEntity(
+            final String aliasName,
+            final String targetIndex,
+            final long total,
+            final Instant startedAt
+    ) {
+        this.aliasName = aliasName;
+        this.targetIndex = targetIndex;
+        this.lastId = null;
+        this.processed = 0;
+        this.total = total;
+        this.status = Status.RUNNING;
+        this.startedAt = startedAt;
+        this.updatedAt = startedAt;
+    }
+
+    public static SearchReindexCheckpointJpaEntity start(
+            final String aAliasName,
+            final String aTargetIndex,
+            final long aTotal
+    ) {
+        return new SearchReindexCheckpointJpaEntity(aAliasName, aTargetIndex, aTotal, InstantUtils.now());
+    }
+
+    public SearchReindexCheckpointJpaEntity progress(final String aLastId, final long aWritten) {
+        this.lastId = aLastId;
+        this.processed += aWritten;
+        this.updatedAt = InstantUtils.now();
+        return this;
+    }
+
+    public SearchReindexCheckpointJpaEntity complete() {
+        this.status = Status.COMPLETED;
+        this.updatedAt = InstantUtils.now();
+        return this;
+    }
+
+    public boolean isRunning() {
+        return this.status == Status.RUNNING;
+    }
+
+    public String getAliasName() {
+        return aliasName;
+    }
+
+    public String getTargetIndex() {
+        return targetIndex;
+    }
+
+    public String getLastId() {
+        return lastId;
+    }
+
+    public long getProcessed() {
+        return processed;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public enum Status {
+        IDLE,
+        RUNNING,
+        COMPLETED
+    }
+}
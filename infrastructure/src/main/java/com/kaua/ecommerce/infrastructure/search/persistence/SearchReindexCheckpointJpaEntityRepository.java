@@ -0,0 +1,6 @@
+package com.kaua.ecommerce.infrastructure.search.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SearchReindexCheckpointJpaEntityRepository extends JpaRepository<SearchReindexCheckpointJpaEntity, String> {
+}
@@ -0,0 +1,79 @@
+package com.kaua.ecommerce.infrastructure.search.persistence;
+
+import com.kaua.ecommerce.domain.utils.InstantUtils;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Lease of the checkpoint row of an alias, held by the instance rebuilding it. The lease is
+ * claimed with a conditional update, which only one of the instances racing for it gets, and
+ * expires when its owner stops renewing it, e.g. after a crash.
+ */
+@Component
+public class SearchReindexLeaseMySQLGateway {
+
+    private static final String INSERT_SQL = "INSERT INTO search_reindex_checkpoints " +
+            "(alias_name, processed, total, status, started_at, updated_at, lease_owner, lease_until) " +
+            "VALUES (?, 0, 0, 'IDLE', ?, ?, ?, ?)";
+    private static final String CLAIM_SQL = "UPDATE search_reindex_checkpoints SET lease_owner = ?, lease_until = ? " +
+            "WHERE alias_name = ? AND (lease_owner IS NULL OR lease_owner = ? OR lease_until < ?)";
+    private static final String RENEW_SQL = "UPDATE search_reindex_checkpoints SET lease_until = ? " +
+            "WHERE alias_name = ? AND lease_owner = ?";
+    private static final String RELEASE_SQL = "UPDATE search_reindex_checkpoints SET lease_owner = NULL, lease_until = NULL " +
+            "WHERE alias_name = ? AND lease_owner = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SearchReindexLeaseMySQLGateway(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+    }
+
+    public boolean claim(final String aAlias, final String aOwner, final Duration aDuration) {
+        final var aNow = InstantUtils.now();
+        final var aUntil = Timestamp.from(aNow.plus(aDuration));
+
+        final var aClaimed = this.jdbcTemplate.update(
+                CLAIM_SQL,
+                aOwner,
+                aUntil,
+                aAlias,
+                aOwner,
+                Timestamp.from(aNow)
+        );
+        if (aClaimed > 0) {
+            return true;
+        }
+
+        // the first reindex of an alias has no row yet, the insert is the claim
+        try {
+            return this.jdbcTemplate.update(
+                    INSERT_SQL,
+                    aAlias,
+                    Timestamp.from(aNow),
+                    Timestamp.from(aNow),
+                    aOwner,
+                    aUntil
+            ) > 0;
+        } catch (final DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    public boolean renew(final String aAlias, final String aOwner, final Duration aDuration) {
+        return this.jdbcTemplate.update(
+                RENEW_SQL,
+                Timestamp.from(InstantUtils.now().plus(aDuration)),
+                aAlias,
+                aOwner
+        ) > 0;
+    }
+
+    public void release(final String aAlias, final String aOwner) {
+        this.jdbcTemplate.update(RELEASE_SQL, aAlias, aOwner);
+    }
+}
@@ -0,0 +1,37 @@
+package com.kaua.ecommerce.infrastructure.search.reindex;
+
+import org.springframework.data.elasticsearch.core.document.Document;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * What the {@link SearchReindexer} rebuilds an aliased index from: the ids of the items in
+ * MySQL in ascending order, so a page resumes after the last id written, and how an item
+ * becomes a document of the index.
+ */
+public interface SearchReindexSource<T, D> {
+
+    String alias();
+
+    Map<String, Object> settings();
+
+    Document mapping();
+
+    long count();
+
+    List<String> findIdsAfter(String aAfterId, int aSize);
+
+    List<String> findIdsUpdatedSince(Instant aSince, String aAfterId, int aSize);
+
+    List<T> findAllByIds(Collection<String> aIds);
+
+    String idOf(T aItem);
+
+    // an item that is not searchable, like a deleted product, is left out of the index
+    boolean isSearchable(T aItem);
+
+    D toDocument(T aItem);
+}
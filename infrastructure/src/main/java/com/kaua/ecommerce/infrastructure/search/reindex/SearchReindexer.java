@@ -0,0 +1,348 @@
+package com.kaua.ecommerce.infrastructure.search.reindex;
+
+import com.kaua.ecommerce.domain.utils.IdUtils;
+import com.kaua.ecommerce.domain.utils.InstantUtils;
+import com.kaua.ecommerce.infrastructure.search.SearchIndexAliases;
+import com.kaua.ecommerce.infrastructure.search.persistence.SearchReindexCheckpointJpaEntity;
+import com.kaua.ecommerce.infrastructure.search.persistence.SearchReindexCheckpointJpaEntityRepository;
+import com.kaua.ecommerce.infrastructure.search.persistence.SearchReindexLeaseMySQLGateway;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Rebuilds an aliased search index from MySQL without downtime: the items are copied page by
+ * page of ids into a new versioned index, the items changed meanwhile are copied again, the
+ * alias is swapped to the new index and the items changed until the swap are copied a last time.
+ * <p>
+ * Every page written is checkpointed, a reindex interrupted by a crash is resumed from its last
+ * page on the next startup. The indexes listed in {@code search.reindex.indexes} are rebuilt on
+ * every startup, the setting is meant to be set for one deploy. With many instances, the one
+ * claiming the lease of the checkpoint row rebuilds the alias and the others skip it; the lease
+ * is renewed with every page and a run that loses it stops before swapping the alias.
+ */
+@Component
+public class SearchReindexer implements ApplicationRunner, MeterBinder, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchReindexer.class);
+
+    private static final String VERSION_CONFLICT = "version_conflict_engine_exception";
+    private static final String FIRST_ID = "";
+
+    private final List<SearchReindexSource<?, ?>> sources;
+    private final SearchIndexAliases searchIndexAliases;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final SearchReindexCheckpointJpaEntityRepository checkpointRepository;
+    private final SearchReindexLeaseMySQLGateway leaseGateway;
+    private final String leaseOwner;
+    private final Duration leaseDuration;
+    private final Set<String> indexes;
+    private final int pageSize;
+    private final int parallelism;
+    private final int maxDocumentsPerSecond;
+    private final Duration catchUpLag;
+    private final ExecutorService reindexExecutor;
+    private final ExecutorService transformExecutor;
+
+    private final Map<String, AtomicLong> processed = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> totals = new ConcurrentHashMap<>();
+
+    public SearchReindexer(
+            final List<SearchReindexSource<?, ?>> sources,
+            final SearchIndexAliases searchIndexAliases,
+            final ElasticsearchOperations elasticsearchOperations,
+            final SearchReindexCheckpointJpaEntityRepository checkpointRepository,
+            final SearchReindexLeaseMySQLGateway leaseGateway,
+            @Value("${search.reindex.indexes:}") final String indexes,
+            @Value("${search.reindex.page-size:500}") final int pageSize,
+            @Value("${search.reindex.parallelism:4}") final int parallelism,
+            @Value("${search.reindex.max-documents-per-second:0}") final int maxDocumentsPerSecond,
+            @Value("${search.reindex.catch-up-lag:60000}") final long catchUpLagMillis,
+            @Value("${search.reindex.lease-duration:300000}") final long leaseDurationMillis
+    ) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be greater than 0");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be greater than 0");
+        }
+        this.sources = Objects.requireNonNull(sources);
+        this.searchIndexAliases = Objects.requireNonNull(searchIndexAliases);
+        this.elasticsearchOperations = Objects.requireNonNull(elasticsearchOperations);
+        this.checkpointRepository = Objects.requireNonNull(checkpointRepository);
+        this.leaseGateway = Objects.requireNonNull(leaseGateway);
+        this.leaseOwner = IdUtils.generateWithoutDash();
+        this.leaseDuration = Duration.ofMillis(leaseDurationMillis);
+        this.indexes = Arrays.stream(indexes.split(","))
+                .map(String::trim)
+                .filter(it -> !it.isEmpty())
+                .collect(Collectors.toSet());
+        this.pageSize = pageSize;
+        this.parallelism = parallelism;
+        this.maxDocumentsPerSecond = maxDocumentsPerSecond;
+        this.catchUpLag = Duration.ofMillis(catchUpLagMillis);
+        this.reindexExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            final var aThread = new Thread(runnable, "search-reindex");
+            aThread.setDaemon(true);
+            return aThread;
+        });
+        final var aThreadCount = new AtomicInteger();
+        this.transformExecutor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            final var aThread = new Thread(runnable, "search-reindex-transform-" + aThreadCount.incrementAndGet());
+            aThread.setDaemon(true);
+            return aThread;
+        });
+        this.sources.forEach(it -> {
+            this.processed.put(it.alias(), new AtomicLong());
+            this.totals.put(it.alias(), new AtomicLong());
+        });
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        this.reindexExecutor.execute(() -> this.sources.forEach(this::reindexSafely));
+    }
+
+    public <T, D> void reindex(final SearchReindexSource<T, D> aSource) {
+        final var aAlias = aSource.alias();
+
+        if (resumableCheckpoint(aAlias).isEmpty() && !this.indexes.contains(aAlias)) {
+            return;
+        }
+
+        if (!this.leaseGateway.claim(aAlias, this.leaseOwner, this.leaseDuration)) {
+            log.info("Reindex of {} skipped, another instance holds its lease", aAlias);
+            return;
+        }
+
+        try {
+            reindexClaimed(aSource);
+        } finally {
+            this.leaseGateway.release(aAlias, this.leaseOwner);
+        }
+    }
+
+    private <T, D> void reindexClaimed(final SearchReindexSource<T, D> aSource) {
+        // read again under the lease, the previous owner may have moved the checkpoint meanwhile
+        final var aCheckpoint = resumableCheckpoint(aSource.alias())
+                .map(it -> {
+                    log.info("Resuming reindex of {} into {} after id {}, {}/{} documents",
+                            aSource.alias(), it.getTargetIndex(), it.getLastId(), it.getProcessed(), it.getTotal());
+                    return it;
+                })
+                .orElseGet(() -> start(aSource));
+        final var aTarget = aCheckpoint.getTargetIndex();
+        this.totals.get(aSource.alias()).set(aCheckpoint.getTotal());
+        this.processed.get(aSource.alias()).set(aCheckpoint.getProcessed());
+
+        copy(aSource, aCheckpoint);
+
+        final var aSwapStartedAt = InstantUtils.now();
+        catchUp(aSource, aTarget, aCheckpoint.getStartedAt());
+
+        this.searchIndexAliases.refresh(aTarget);
+        renewLease(aSource.alias());
+        this.searchIndexAliases.swap(aSource.alias(), aTarget);
+
+        // writes made through the alias until the swap went to the previous index
+        catchUp(aSource, aTarget, aSwapStartedAt);
+
+        this.checkpointRepository.save(aCheckpoint.complete());
+        log.info("Reindex of {} into {} completed with {} documents",
+                aSource.alias(), aTarget, aCheckpoint.getProcessed());
+    }
+
+    private void renewLease(final String aAlias) {
+        if (!this.leaseGateway.renew(aAlias, this.leaseOwner, this.leaseDuration)) {
+            throw new IllegalStateException("Reindex of %s lost its lease to another instance".formatted(aAlias));
+        }
+    }
+
+    private void reindexSafely(final SearchReindexSource<?, ?> aSource) {
+        try {
+            reindex(aSource);
+        } catch (final RuntimeException e) {
+            log.error("Reindex of {} failed, it is resumed on the next startup", aSource.alias(), e);
+        }
+    }
+
+    private Optional<SearchReindexCheckpointJpaEntity> resumableCheckpoint(final String aAlias) {
+        return this.checkpointRepository.findById(aAlias)
+                .filter(SearchReindexCheckpointJpaEntity::isRunning)
+                .filter(it -> this.searchIndexAliases.exists(it.getTargetIndex()));
+    }
+
+    private SearchReindexCheckpointJpaEntity start(final SearchReindexSource<?, ?> aSource) {
+        final var aTarget = this.searchIndexAliases.createIndex(aSource.alias(), aSource.settings(), aSource.mapping());
+        final var aCheckpoint = SearchReindexCheckpointJpaEntity.start(aSource.alias(), aTarget, aSource.count());
+
+        log.info("Starting reindex of {} into {} with {} items", aSource.alias(), aTarget, aCheckpoint.getTotal());
+        return this.checkpointRepository.save(aCheckpoint);
+    }
+
+    private <T, D> void copy(final SearchReindexSource<T, D> aSource, final SearchReindexCheckpointJpaEntity aCheckpoint) {
+        final var aStartedAt = System.nanoTime();
+        var aWritten = 0L;
+        var aAfterId = aCheckpoint.getLastId() == null ? FIRST_ID : aCheckpoint.getLastId();
+
+        while (true) {
+            final var aIds = aSource.findIdsAfter(aAfterId, this.pageSize);
+            if (aIds.isEmpty()) {
+                break;
+            }
+
+            write(aSource, aCheckpoint.getTargetIndex(), aIds, false);
+            aAfterId = aIds.get(aIds.size() - 1);
+            aWritten += aIds.size();
+
+            renewLease(aSource.alias());
+            this.checkpointRepository.save(aCheckpoint.progress(aAfterId, aIds.size()));
+            this.processed.get(aSource.alias()).set(aCheckpoint.getProcessed());
+            log.info("Reindex of {} into {}: {}/{} items",
+                    aSource.alias(), aCheckpoint.getTargetIndex(), aCheckpoint.getProcessed(), aCheckpoint.getTotal());
+
+            throttle(aStartedAt, aWritten);
+        }
+    }
+
+    private <T, D> void catchUp(final SearchReindexSource<T, D> aSource, final String aTarget, final Instant aSince) {
+        final var aFrom = aSince.minus(this.catchUpLag);
+        var aAfterId = FIRST_ID;
+        var aCaughtUp = 0L;
+
+        while (true) {
+            final var aIds = aSource.findIdsUpdatedSince(aFrom, aAfterId, this.pageSize);
+            if (aIds.isEmpty()) {
+                break;
+            }
+
+            renewLease(aSource.alias());
+            write(aSource, aTarget, aIds, true);
+            aAfterId = aIds.get(aIds.size() - 1);
+            aCaughtUp += aIds.size();
+        }
+
+        log.info("Reindex of {} into {} caught up with {} items changed since {}", aSource.alias(), aTarget, aCaughtUp, aFrom);
+    }
+
+    private <T, D> void write(
+            final SearchReindexSource<T, D> aSource,
+            final String aTarget,
+            final List<String> aIds,
+            final boolean aDeleteMissing
+    ) {
+        final var aItems = aSource.findAllByIds(aIds);
+        final var aDocuments = transform(aSource, aItems);
+
+        if (!aDocuments.isEmpty()) {
+            bulkSave(aDocuments, aTarget);
+        }
+
+        if (aDeleteMissing) {
+            final var aMissingIds = new HashSet<>(aIds);
+            aItems.stream()
+                    .filter(aSource::isSearchable)
+                    .forEach(it -> aMissingIds.remove(aSource.idOf(it)));
+            aMissingIds.forEach(it -> this.elasticsearchOperations.delete(it, IndexCoordinates.of(aTarget)));
+        }
+    }
+
+    // the page is split in one chunk per transform thread
+    private <T, D> List<D> transform(final SearchReindexSource<T, D> aSource, final List<T> aItems) {
+        final var aChunkSize = Math.max(1, (aItems.size() + this.parallelism - 1) / this.parallelism);
+        final var aChunks = new ArrayList<CompletableFuture<List<D>>>();
+
+        for (int i = 0; i < aItems.size(); i += aChunkSize) {
+            final var aChunk = aItems.subList(i, Math.min(i + aChunkSize, aItems.size()));
+            aChunks.add(CompletableFuture.supplyAsync(() -> aChunk.stream()
+                    .filter(aSource::isSearchable)
+                    .map(aSource::toDocument)
+                    .toList(), this.transformExecutor));
+        }
+
+        return aChunks.stream()
+                .flatMap(it -> it.join().stream())
+                .toList();
+    }
+
+    // a page written again after a resume conflicts with the versions already indexed, the newer ones stay
+    private <D> void bulkSave(final List<D> aDocuments, final String aTarget) {
+        try {
+            this.elasticsearchOperations.save(aDocuments, IndexCoordinates.of(aTarget));
+        } catch (final BulkFailureException e) {
+            final var aFailures = e.getFailedDocuments().values().stream()
+                    .map(String::valueOf)
+                    .filter(it -> !it.contains(VERSION_CONFLICT))
+                    .count();
+
+            if (aFailures > 0) {
+                throw e;
+            }
+        }
+    }
+
+    private void throttle(final long aStartedAt, final long aWritten) {
+        if (this.maxDocumentsPerSecond <= 0) {
+            return;
+        }
+
+        final var aExpectedNanos = TimeUnit.SECONDS.toNanos(aWritten) / this.maxDocumentsPerSecond;
+        final var aAheadNanos = aExpectedNanos - (System.nanoTime() - aStartedAt);
+
+        if (aAheadNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(aAheadNanos);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Reindex interrupted", e);
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        this.processed.forEach((aAlias, aProcessed) -> Gauge.builder("search.reindex.processed", aProcessed, AtomicLong::doubleValue)
+                .description("Items written to the index being rebuilt")
+                .tag("alias", aAlias)
+                .register(registry));
+        this.totals.forEach((aAlias, aTotal) -> Gauge.builder("search.reindex.total", aTotal, AtomicLong::doubleValue)
+                .description("Items to write to the index being rebuilt")
+                .tag("alias", aAlias)
+                .register(registry));
+    }
+
+    @Override
+    public void destroy() {
+        this.reindexExecutor.shutdownNow();
+        this.transformExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,54 @@
+package com.kaua.ecommerce.infrastructure.utils;
+
+import com.kaua.ecommerce.domain.exceptions.DomainException;
+import com.kaua.ecommerce.domain.pagination.SearchQuery;
+import com.kaua.ecommerce.domain.validation.Error;
+import com.kaua.ecommerce.infrastructure.configurations.json.Json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque pagination cursors, the JSON of a {@link Cursor} in URL safe Base64. A cursor only
+ * continues the sort and direction it was taken from, anything else is an invalid cursor.
+ */
+public final class CursorCodec {
+
+    private CursorCodec() {
+    }
+
+    public static String encode(final Cursor aCursor) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Json.writeValueAsString(aCursor).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static <T extends Cursor> T decode(final SearchQuery aQuery, final Class<T> aType) {
+        final T aCursor;
+        try {
+            aCursor = Json.readValue(
+                    new String(Base64.getUrlDecoder().decode(aQuery.cursor()), StandardCharsets.UTF_8),
+                    aType
+            );
+        } catch (final RuntimeException e) {
+            throw invalidCursor();
+        }
+
+        if (aCursor == null || aCursor.sort() == null || aCursor.direction() == null
+                || !aCursor.sort().equals(aQuery.sort())
+                || !aCursor.direction().equalsIgnoreCase(aQuery.direction())) {
+            throw invalidCursor();
+        }
+        return aCursor;
+    }
+
+    public static DomainException invalidCursor() {
+        return DomainException.with(new Error("'cursor' is invalid for the given sort and direction"));
+    }
+
+    public interface Cursor {
+
+        String sort();
+
+        String direction();
+    }
+}
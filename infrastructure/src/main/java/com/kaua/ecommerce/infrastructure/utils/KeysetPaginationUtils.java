@@ -0,0 +1,164 @@
+package com.kaua.ecommerce.infrastructure.utils;
+
+import com.kaua.ecommerce.domain.pagination.Pagination;
+import com.kaua.ecommerce.domain.pagination.SearchQuery;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Keyset (seek) pagination over a JPA entity ordered by (sort property, id). The cursor carries
+ * the sort values of the last item of the page, the next page starts with a
+ * {@code WHERE (sort, id) > (last sort, last id)} on the index instead of skipping an offset,
+ * so every page costs the same. The sort property must not be nullable.
+ */
+public final class KeysetPaginationUtils {
+
+    private static final String ID_PROPERTY = "id";
+    private static final String DESC = "desc";
+
+    private KeysetPaginationUtils() {
+    }
+
+    public static <T, R> Pagination<R> find(
+            final EntityManager aEntityManager,
+            final Class<T> aEntityClass,
+            final Specification<T> aSpecification,
+            final SearchQuery aQuery,
+            final Function<T, R> aMapper
+    ) {
+        final var aPerPage = aQuery.perPage();
+        final var aDescending = DESC.equalsIgnoreCase(aQuery.direction());
+        final var aCb = aEntityManager.getCriteriaBuilder();
+
+        final var aCriteria = aCb.createQuery(aEntityClass);
+        final var aRoot = aCriteria.from(aEntityClass);
+        final var aPredicates = predicates(aSpecification, aRoot, aCriteria, aCb);
+
+        if (aQuery.isCursorQuery() && !aQuery.cursor().isBlank()) {
+            aPredicates.add(seek(aCb, aRoot, decode(aQuery), aDescending));
+        }
+
+        aCriteria.select(aRoot)
+                .where(aPredicates.toArray(Predicate[]::new))
+                .orderBy(
+                        aDescending ? aCb.desc(aRoot.get(aQuery.sort())) : aCb.asc(aRoot.get(aQuery.sort())),
+                        aDescending ? aCb.desc(aRoot.get(ID_PROPERTY)) : aCb.asc(aRoot.get(ID_PROPERTY))
+                );
+
+        final var aTypedQuery = aEntityManager.createQuery(aCriteria).setMaxResults(aPerPage + 1);
+        if (!aQuery.isCursorQuery()) {
+            aTypedQuery.setFirstResult(aQuery.page() * aPerPage);
+        }
+
+        // one row more than the page tells if there is a next one without counting
+        final var aRows = aTypedQuery.getResultList();
+        final var aHasNext = aRows.size() > aPerPage;
+        final var aItems = aHasNext ? aRows.subList(0, aPerPage) : aRows;
+        final var aNextCursor = aHasNext ? encode(aQuery, aItems.get(aItems.size() - 1)) : null;
+
+        final var aTotalItems = aQuery.skipTotal()
+                ? Pagination.NOT_COUNTED
+                : count(aEntityManager, aEntityClass, aSpecification);
+        final var aTotalPages = aQuery.skipTotal()
+                ? Pagination.NOT_COUNTED
+                : (int) Math.ceil(aTotalItems / (double) aPerPage);
+
+        return new Pagination<>(
+                aQuery.isCursorQuery() ? Pagination.NOT_NUMBERED : aQuery.page(),
+                aPerPage,
+                aTotalPages,
+                aTotalItems,
+                aItems.stream().map(aMapper).toList(),
+                aNextCursor
+        );
+    }
+
+    private static <T> long count(
+            final EntityManager aEntityManager,
+            final Class<T> aEntityClass,
+            final Specification<T> aSpecification
+    ) {
+        final var aCb = aEntityManager.getCriteriaBuilder();
+        final var aCriteria = aCb.createQuery(Long.class);
+        final var aRoot = aCriteria.from(aEntityClass);
+
+        aCriteria.select(aCb.count(aRoot))
+                .where(predicates(aSpecification, aRoot, aCriteria, aCb).toArray(Predicate[]::new));
+
+        return aEntityManager.createQuery(aCriteria).getSingleResult();
+    }
+
+    private static <T> List<Predicate> predicates(
+            final Specification<T> aSpecification,
+            final Root<T> aRoot,
+            final CriteriaQuery<?> aCriteria,
+            final CriteriaBuilder aCb
+    ) {
+        final var aPredicates = new ArrayList<Predicate>();
+        if (aSpecification != null) {
+            final var aPredicate = aSpecification.toPredicate(aRoot, aCriteria, aCb);
+            if (aPredicate != null) {
+                aPredicates.add(aPredicate);
+            }
+        }
+        return aPredicates;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Predicate seek(
+            final CriteriaBuilder aCb,
+            final Root<T> aRoot,
+            final Cursor aCursor,
+            final boolean aDescending
+    ) {
+        final Expression<Comparable> aSortPath = aRoot.get(aCursor.sort());
+        final Expression<String> aIdPath = aRoot.get(ID_PROPERTY);
+        final var aSortValue = (Comparable) convert(aCursor.value(), aSortPath.getJavaType());
+
+        final var aAfterSort = aDescending
+                ? aCb.lessThan(aSortPath, aSortValue)
+                : aCb.greaterThan(aSortPath, aSortValue);
+        final var aAfterId = aDescending
+                ? aCb.lessThan(aIdPath, aCursor.id())
+                : aCb.greaterThan(aIdPath, aCursor.id());
+
+        return aCb.or(aAfterSort, aCb.and(aCb.equal(aSortPath, aSortValue), aAfterId));
+    }
+
+    private static String encode(final SearchQuery aQuery, final Object aLastItem) {
+        final var aAccessor = PropertyAccessorFactory.forDirectFieldAccess(aLastItem);
+        return CursorCodec.encode(new Cursor(
+                aQuery.sort(),
+                aQuery.direction().toLowerCase(),
+                convert(aAccessor.getPropertyValue(aQuery.sort()), String.class),
+                Objects.toString(aAccessor.getPropertyValue(ID_PROPERTY))
+        ));
+    }
+
+    private static Cursor decode(final SearchQuery aQuery) {
+        final var aCursor = CursorCodec.decode(aQuery, Cursor.class);
+        if (aCursor.id() == null) {
+            throw CursorCodec.invalidCursor();
+        }
+        return aCursor;
+    }
+
+    private static <V> V convert(final Object aValue, final Class<V> aType) {
+        return ApplicationConversionService.getSharedInstance().convert(aValue, aType);
+    }
+
+    record Cursor(String sort, String direction, String value, String id) implements CursorCodec.Cursor {
+    }
+}
@@ -0,0 +1,152 @@
+package com.kaua.ecommerce.infrastructure.utils;
+
+import com.kaua.ecommerce.domain.pagination.Pagination;
+import com.kaua.ecommerce.domain.pagination.SearchQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.query.BaseQuery;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Cursor pagination over an Elasticsearch index with {@code search_after}. The hits are sorted by
+ * (sort field, id) and the cursor carries the sort values of the last hit, so a deep page costs
+ * as much as the first one instead of from + size hits per shard, and is not bounded by
+ * {@code max_result_window}.
+ * <p>
+ * The first page asked with {@link #withPointInTime(String, boolean)} opens a point in time, every
+ * page of the cursor then reads the same snapshot of the index. It is closed with the last page,
+ * or expires after the keep alive when the client stops scrolling.
+ */
+public final class SearchAfterPaginationUtils {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchAfterPaginationUtils.class);
+
+    private static final String ID_PROPERTY = "id";
+
+    // the first page of a cursor that opens a point in time, it is not a Base64 cursor
+    private static final String POINT_IN_TIME_CURSOR = "point-in-time";
+
+    private SearchAfterPaginationUtils() {
+    }
+
+    /**
+     * The cursor of a query over the index, the first page opens a point in time when asked to.
+     * Later pages carry their point in time in the cursor.
+     */
+    public static String withPointInTime(final String aCursor, final boolean aPointInTime) {
+        return aPointInTime && (aCursor == null || aCursor.isBlank())
+                ? POINT_IN_TIME_CURSOR
+                : aCursor;
+    }
+
+    public static <T, R> Pagination<R> find(
+            final ElasticsearchOperations aElasticsearchOperations,
+            final BaseQuery aSearch,
+            final Sort.Order aOrder,
+            final Class<T> aEntityClass,
+            final SearchQuery aQuery,
+            final Duration aKeepAlive,
+            final Function<T, R> aMapper
+    ) {
+        final var aPerPage = aQuery.perPage();
+        final var aOpenPointInTime = POINT_IN_TIME_CURSOR.equals(aQuery.cursor());
+        final var aCursor = aQuery.cursor().isBlank() || aOpenPointInTime ? null : decode(aQuery);
+
+        String aPointInTime = aCursor == null ? null : aCursor.pit();
+        if (aOpenPointInTime) {
+            aPointInTime = aElasticsearchOperations.openPointInTime(
+                    aElasticsearchOperations.getIndexCoordinatesFor(aEntityClass),
+                    aKeepAlive
+            );
+        }
+
+        // one hit more than the page tells if there is a next one
+        aSearch.setPageable(PageRequest.of(0, aPerPage + 1, Sort.by(
+                aOrder,
+                new Sort.Order(aOrder.getDirection(), ID_PROPERTY)
+        )));
+        aSearch.setTrackTotalHits(!aQuery.skipTotal());
+        if (aCursor != null) {
+            aSearch.setSearchAfter(aCursor.values());
+        }
+        if (aPointInTime != null) {
+            aSearch.setPointInTime(new Query.PointInTime(aPointInTime, aKeepAlive));
+        }
+
+        final var aResult = aElasticsearchOperations.search(aSearch, aEntityClass);
+
+        final var aHits = aResult.getSearchHits();
+        final var aHasNext = aHits.size() > aPerPage;
+        final var aItems = aHasNext ? aHits.subList(0, aPerPage) : aHits;
+
+        // the point in time id may change between requests, the latest one must be used
+        final var aNextPointInTime = aResult.getPointInTimeId() != null
+                ? aResult.getPointInTimeId()
+                : aPointInTime;
+
+        final String aNextCursor;
+        if (aHasNext) {
+            aNextCursor = encode(aQuery, aItems.get(aItems.size() - 1).getSortValues(), aNextPointInTime);
+        } else {
+            aNextCursor = null;
+            close(aElasticsearchOperations, aNextPointInTime);
+        }
+
+        final var aTotalItems = aQuery.skipTotal()
+                ? Pagination.NOT_COUNTED
+                : aResult.getTotalHits();
+        final var aTotalPages = aQuery.skipTotal()
+                ? Pagination.NOT_COUNTED
+                : (int) Math.ceil(aTotalItems / (double) aPerPage);
+
+        return new Pagination<>(
+                Pagination.NOT_NUMBERED,
+                aPerPage,
+                aTotalPages,
+                aTotalItems,
+                aItems.stream().map(SearchHit::getContent).map(aMapper).toList(),
+                aNextCursor
+        );
+    }
+
+    private static void close(final ElasticsearchOperations aElasticsearchOperations, final String aPointInTime) {
+        if (aPointInTime == null) {
+            return;
+        }
+
+        try {
+            aElasticsearchOperations.closePointInTime(aPointInTime);
+        } catch (final RuntimeException e) {
+            // it expires with the keep alive anyway
+            log.warn("Error on close point in time: {}", e.getMessage());
+        }
+    }
+
+    private static String encode(final SearchQuery aQuery, final List<Object> aSortValues, final String aPit) {
+        return CursorCodec.encode(new Cursor(
+                aQuery.sort(),
+                aQuery.direction().toLowerCase(),
+                aSortValues,
+                aPit
+        ));
+    }
+
+    private static Cursor decode(final SearchQuery aQuery) {
+        final var aCursor = CursorCodec.decode(aQuery, Cursor.class);
+        if (aCursor.values() == null || aCursor.values().isEmpty()) {
+            throw CursorCodec.invalidCursor();
+        }
+        return aCursor;
+    }
+
+    record Cursor(String sort, String direction, List<Object> values, String pit) implements CursorCodec.Cursor {
+    }
+}
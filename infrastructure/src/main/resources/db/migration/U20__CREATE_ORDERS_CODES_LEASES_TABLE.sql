@@ -0,0 +1 @@
+DROP TABLE orders_codes_leases;
@@ -0,0 +1,7 @@
+CREATE TABLE coupons_slots (
+    id VARCHAR(36) PRIMARY KEY NOT NULL,
+    coupon_id VARCHAR(36) NOT NULL,
+    FOREIGN KEY (coupon_id) REFERENCES coupons(id) ON DELETE CASCADE
+);
+
+ALTER TABLE coupons DROP COLUMN remaining_uses;
@@ -0,0 +1,2 @@
+DROP INDEX idx_inventories_movements_created_at ON inventories_movements;
+DROP TABLE inventories_movements_archive;
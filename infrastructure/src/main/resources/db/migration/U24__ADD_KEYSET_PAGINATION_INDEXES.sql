@@ -0,0 +1 @@
+DROP INDEX idx_inventories_product_id_sku ON inventories;
@@ -0,0 +1,2 @@
+DROP INDEX idx_products_updated_at ON products;
+DROP TABLE search_reindex_checkpoints;
@@ -0,0 +1,3 @@
+ALTER TABLE search_reindex_checkpoints DROP COLUMN lease_until;
+ALTER TABLE search_reindex_checkpoints DROP COLUMN lease_owner;
+ALTER TABLE search_reindex_checkpoints MODIFY target_index VARCHAR(150) NOT NULL;
@@ -0,0 +1,9 @@
+CREATE TABLE orders_codes_leases (
+    name VARCHAR(50) PRIMARY KEY NOT NULL,
+    next_value BIGINT NOT NULL
+);
+
+-- order codes are the year followed by the sequence + 1, so the next free sequence is the highest code suffix
+INSERT INTO orders_codes_leases (name, next_value)
+SELECT 'order_code', COALESCE(MAX(CAST(SUBSTRING(order_code, 5) AS DECIMAL(19, 0))), 0)
+FROM orders;
@@ -0,0 +1,7 @@
+ALTER TABLE coupons ADD COLUMN remaining_uses INT NULL;
+
+UPDATE coupons c
+SET c.remaining_uses = (SELECT COUNT(*) FROM coupons_slots s WHERE s.coupon_id = c.id)
+WHERE c.type = 'LIMITED';
+
+DROP TABLE coupons_slots;
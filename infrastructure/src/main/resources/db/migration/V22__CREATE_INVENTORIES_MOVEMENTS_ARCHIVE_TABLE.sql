@@ -0,0 +1,15 @@
+CREATE TABLE inventories_movements_archive (
+    id VARCHAR(36) PRIMARY KEY NOT NULL,
+    inventory_id VARCHAR(36) NOT NULL,
+    sku VARCHAR(255) NOT NULL,
+    quantity integer NOT NULL,
+    movement_type VARCHAR(100) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_inventories_movements_archive_sku_created_at
+ON inventories_movements_archive (sku, created_at);
+
+-- movements older than the retention are moved to the archive in created_at order
+CREATE INDEX idx_inventories_movements_created_at ON inventories_movements (created_at);
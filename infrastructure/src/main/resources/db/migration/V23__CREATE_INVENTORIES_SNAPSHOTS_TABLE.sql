@@ -0,0 +1,9 @@
+CREATE TABLE inventories_snapshots (
+    sku VARCHAR(255) NOT NULL,
+    quantity integer NOT NULL,
+    taken_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (sku, taken_at)
+);
+
+-- point in time queries read the movements of a sku after its nearest snapshot
+CREATE INDEX idx_inventories_movements_sku_created_at ON inventories_movements (sku, created_at);
@@ -0,0 +1,2 @@
+-- keyset pages of the inventories of a product seek and sort on the index, the sku is unique
+CREATE INDEX idx_inventories_product_id_sku ON inventories (product_id, sku);
@@ -0,0 +1,13 @@
+CREATE TABLE search_reindex_checkpoints (
+    alias_name VARCHAR(100) PRIMARY KEY NOT NULL,
+    target_index VARCHAR(150) NOT NULL,
+    last_id VARCHAR(36),
+    processed BIGINT NOT NULL,
+    total BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    started_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL
+);
+
+-- the reindex catches up with the products changed while it was copying them
+CREATE INDEX idx_products_updated_at ON products (updated_at);
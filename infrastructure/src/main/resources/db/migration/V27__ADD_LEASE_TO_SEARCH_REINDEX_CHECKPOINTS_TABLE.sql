@@ -0,0 +1,5 @@
+-- one instance at a time rebuilds an alias, the one holding the lease of its checkpoint row;
+-- the row is claimed before the new index exists, so the target index is not known yet
+ALTER TABLE search_reindex_checkpoints MODIFY target_index VARCHAR(150) NULL;
+ALTER TABLE search_reindex_checkpoints ADD COLUMN lease_owner VARCHAR(100);
+ALTER TABLE search_reindex_checkpoints ADD COLUMN lease_until DATETIME(6);
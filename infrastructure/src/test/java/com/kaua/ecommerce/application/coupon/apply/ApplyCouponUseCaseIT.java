@@ -8,15 +8,13 @@ import com.kaua.ecommerce.domain.coupon.Coupon;
 import com.kaua.ecommerce.infrastructure.IntegrationTest;
 import com.kaua.ecommerce.infrastructure.coupon.persistence.CouponJpaEntity;
 import com.kaua.ecommerce.infrastructure.coupon.persistence.CouponJpaEntityRepository;
-import com.kaua.ecommerce.infrastructure.coupon.slot.persistence.CouponSlotJpaEntity;
-import com.kaua.ecommerce.infrastructure.coupon.slot.persistence.CouponSlotJpaEntityRepository;
+import com.kaua.ecommerce.infrastructure.coupon.slot.CouponSlotMySQLGateway;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -29,7 +27,7 @@ public class ApplyCouponUseCaseIT {
     private ApplyCouponUseCase applyCouponUseCase;
 
     @Autowired
-    private CouponSlotJpaEntityRepository couponSlotJpaEntityRepository;
+    private CouponSlotMySQLGateway couponSlotGateway;
 
     @Autowired
     private CouponJpaEntityRepository couponJpaEntityRepository;
@@ -39,20 +37,14 @@ public class ApplyCouponUseCaseIT {
         final var aCoupon = Fixture.Coupons.limitedCouponActivated();
         this.couponJpaEntityRepository.save(CouponJpaEntity.toEntity(aCoupon));
 
-        final var aCouponSlotOne = Fixture.Coupons.generateValidCouponSlot(aCoupon);
-        final var aCouponSlotTwo = Fixture.Coupons.generateValidCouponSlot(aCoupon);
-
-        this.couponSlotJpaEntityRepository.saveAll(Set.of(
-                CouponSlotJpaEntity.toEntity(aCouponSlotOne),
-                CouponSlotJpaEntity.toEntity(aCouponSlotTwo)
-        ));
+        this.couponSlotGateway.createSlots(aCoupon.getId().getValue(), 2);
 
         final var aCouponCode = aCoupon.getCode().getValue();
 
         final var aCommand = ApplyCouponCommand.with(aCouponCode, 100f);
 
         Assertions.assertEquals(1, this.couponJpaEntityRepository.count());
-        Assertions.assertEquals(2, this.couponSlotJpaEntityRepository.count());
+        Assertions.assertEquals(2, this.couponSlotGateway.countByCouponId(aCoupon.getId().getValue()));
 
         final var aOutput = Assertions.assertDoesNotThrow(() ->
                 this.applyCouponUseCase.execute(aCommand));
@@ -61,7 +53,7 @@ public class ApplyCouponUseCaseIT {
         Assertions.assertEquals(aCoupon.getCode().getValue(), aOutput.couponCode());
 
         Assertions.assertEquals(1, this.couponJpaEntityRepository.count());
-        Assertions.assertEquals(1, this.couponSlotJpaEntityRepository.count());
+        Assertions.assertEquals(1, this.couponSlotGateway.countByCouponId(aCoupon.getId().getValue()));
     }
 
     @Test
@@ -74,7 +66,7 @@ public class ApplyCouponUseCaseIT {
         final var aCommand = ApplyCouponCommand.with(aCouponCode, 100f);
 
         Assertions.assertEquals(1, this.couponJpaEntityRepository.count());
-        Assertions.assertEquals(0, this.couponSlotJpaEntityRepository.count());
+        Assertions.assertEquals(0, this.couponSlotGateway.countByCouponId(aCoupon.getId().getValue()));
 
         final var aException = Assertions.assertThrows(CouponNoMoreAvailableException.class, () ->
                 this.applyCouponUseCase.execute(aCommand));
@@ -82,7 +74,7 @@ public class ApplyCouponUseCaseIT {
         Assertions.assertEquals("Coupon no more available", aException.getMessage());
 
         Assertions.assertEquals(1, this.couponJpaEntityRepository.count());
-        Assertions.assertEquals(0, this.couponSlotJpaEntityRepository.count());
+        Assertions.assertEquals(0, this.couponSlotGateway.countByCouponId(aCoupon.getId().getValue()));
     }
 
     @Test
@@ -94,7 +86,6 @@ public class ApplyCouponUseCaseIT {
         final var aCommand = ApplyCouponCommand.with(aCouponCode, 100f);
 
         Assertions.assertEquals(0, this.couponJpaEntityRepository.count());
-        Assertions.assertEquals(0, this.couponSlotJpaEntityRepository.count());
 
         final var aException = Assertions.assertThrows(Exception.class, () ->
                 this.applyCouponUseCase.execute(aCommand));
@@ -102,7 +93,6 @@ public class ApplyCouponUseCaseIT {
         Assertions.assertEquals(expectedErrorMessage, aException.getMessage());
 
         Assertions.assertEquals(0, this.couponJpaEntityRepository.count());
-        Assertions.assertEquals(0, this.couponSlotJpaEntityRepository.count());
     }
 
     @Test
@@ -110,13 +100,7 @@ public class ApplyCouponUseCaseIT {
         final var aCoupon = Fixture.Coupons.limitedCouponActivated();
         this.couponJpaEntityRepository.save(CouponJpaEntity.toEntity(aCoupon));
 
-        final var aCouponSlotOne = Fixture.Coupons.generateValidCouponSlot(aCoupon);
-        final var aCouponSlotTwo = Fixture.Coupons.generateValidCouponSlot(aCoupon);
-
-        this.couponSlotJpaEntityRepository.saveAll(Set.of(
-                CouponSlotJpaEntity.toEntity(aCouponSlotOne),
-                CouponSlotJpaEntity.toEntity(aCouponSlotTwo)
-        ));
+        this.couponSlotGateway.createSlots(aCoupon.getId().getValue(), 2);
 
         final var aCouponCode = aCoupon.getCode().getValue();
         final var aExecutions = 5;
@@ -128,7 +112,7 @@ public class ApplyCouponUseCaseIT {
         final var aCommand = ApplyCouponCommand.with(aCouponCode, 100f);
 
         Assertions.assertEquals(1, this.couponJpaEntityRepository.count());
-        Assertions.assertEquals(2, this.couponSlotJpaEntityRepository.count());
+        Assertions.assertEquals(2, this.couponSlotGateway.countByCouponId(aCoupon.getId().getValue()));
 
         ExecutorService executorService = Executors.newFixedThreadPool(aExecutions);
         List<Callable<Void>> tasks = new ArrayList<>();
@@ -155,7 +139,7 @@ public class ApplyCouponUseCaseIT {
         }
 
         Assertions.assertEquals(1, this.couponJpaEntityRepository.count());
-        Assertions.assertEquals(0, this.couponSlotJpaEntityRepository.count());
+        Assertions.assertEquals(0, this.couponSlotGateway.countByCouponId(aCoupon.getId().getValue()));
         Assertions.assertEquals(aExpectedSuccessExecution, aCountSuccessExecutionAtomic.get());
         Assertions.assertEquals(aExpectedErrorExecution, aCountErrorExecutionAtomic.get());
     }
@@ -4,7 +4,7 @@ import com.kaua.ecommerce.application.usecases.coupon.create.CreateCouponCommand
 import com.kaua.ecommerce.application.usecases.coupon.create.CreateCouponUseCase;
 import com.kaua.ecommerce.infrastructure.IntegrationTest;
 import com.kaua.ecommerce.infrastructure.coupon.persistence.CouponJpaEntityRepository;
-import com.kaua.ecommerce.infrastructure.coupon.slot.persistence.CouponSlotJpaEntityRepository;
+import com.kaua.ecommerce.infrastructure.coupon.slot.CouponSlotMySQLGateway;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,7 +19,7 @@ public class CreateCouponUseCaseIT {
     private CreateCouponUseCase createCouponUseCase;
 
     @Autowired
-    private CouponSlotJpaEntityRepository couponSlotJpaEntityRepository;
+    private CouponSlotMySQLGateway couponSlotGateway;
 
     @Autowired
     private CouponJpaEntityRepository couponJpaEntityRepository;
@@ -44,7 +44,6 @@ public class CreateCouponUseCaseIT {
         );
 
         Assertions.assertEquals(0, this.couponJpaEntityRepository.count());
-        Assertions.assertEquals(0, this.couponSlotJpaEntityRepository.count());
 
         final var aResult = this.createCouponUseCase.execute(aCommand).getRight();
 
@@ -52,7 +51,7 @@ public class CreateCouponUseCaseIT {
         Assertions.assertEquals(aCode, aResult.code());
 
         Assertions.assertEquals(1, this.couponJpaEntityRepository.count());
-        Assertions.assertEquals(0, this.couponSlotJpaEntityRepository.count());
+        Assertions.assertEquals(0, this.couponSlotGateway.countByCouponId(aResult.couponId()));
     }
 
     @Test
@@ -76,7 +75,6 @@ public class CreateCouponUseCaseIT {
         );
 
         Assertions.assertEquals(0, this.couponJpaEntityRepository.count());
-        Assertions.assertEquals(0, this.couponSlotJpaEntityRepository.count());
 
         final var aResult = this.createCouponUseCase.execute(aCommand).getRight();
 
@@ -84,6 +82,6 @@ public class CreateCouponUseCaseIT {
         Assertions.assertEquals(aCode, aResult.code());
 
         Assertions.assertEquals(1, this.couponJpaEntityRepository.count());
-        Assertions.assertEquals(10, this.couponSlotJpaEntityRepository.count());
+        Assertions.assertEquals(aMaxUses, this.couponSlotGateway.countByCouponId(aResult.couponId()));
     }
 }
@@ -5,13 +5,11 @@ import com.kaua.ecommerce.domain.Fixture;
 import com.kaua.ecommerce.infrastructure.IntegrationTest;
 import com.kaua.ecommerce.infrastructure.coupon.persistence.CouponJpaEntity;
 import com.kaua.ecommerce.infrastructure.coupon.persistence.CouponJpaEntityRepository;
-import com.kaua.ecommerce.infrastructure.coupon.slot.persistence.CouponSlotJpaEntity;
-import com.kaua.ecommerce.infrastructure.coupon.slot.persistence.CouponSlotJpaEntityRepository;
+import com.kaua.ecommerce.infrastructure.coupon.slot.CouponSlotMySQLGateway;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
-import java.util.Set;
 
 @IntegrationTest
 public class DeleteCouponUseCaseIT {
@@ -20,7 +18,7 @@ public class DeleteCouponUseCaseIT {
     private DeleteCouponUseCase deleteCouponUseCase;
 
     @Autowired
-    private CouponSlotJpaEntityRepository couponSlotJpaEntityRepository;
+    private CouponSlotMySQLGateway couponSlotGateway;
 
     @Autowired
     private CouponJpaEntityRepository couponJpaEntityRepository;
@@ -33,12 +31,12 @@ public class DeleteCouponUseCaseIT {
         this.couponJpaEntityRepository.save(CouponJpaEntity.toEntity(aCoupon));
 
         Assertions.assertEquals(1, this.couponJpaEntityRepository.count());
-        Assertions.assertEquals(0, this.couponSlotJpaEntityRepository.count());
+        Assertions.assertEquals(0, this.couponSlotGateway.countByCouponId(aCoupon.getId().getValue()));
 
         Assertions.assertDoesNotThrow(() -> this.deleteCouponUseCase.execute(aId));
 
         Assertions.assertEquals(0, this.couponJpaEntityRepository.count());
-        Assertions.assertEquals(0, this.couponSlotJpaEntityRepository.count());
+        Assertions.assertEquals(0, this.couponSlotGateway.countByCouponId(aCoupon.getId().getValue()));
     }
 
     @Test
@@ -46,22 +44,16 @@ public class DeleteCouponUseCaseIT {
         final var aCoupon = Fixture.Coupons.limitedCouponActivated();
         final var aId = aCoupon.getId().getValue();
 
-        final var aCouponSlotOne = Fixture.Coupons.generateValidCouponSlot(aCoupon);
-        final var aCouponSlotTwo = Fixture.Coupons.generateValidCouponSlot(aCoupon);
-
         this.couponJpaEntityRepository.save(CouponJpaEntity.toEntity(aCoupon));
 
-        this.couponSlotJpaEntityRepository.saveAll(Set.of(
-                CouponSlotJpaEntity.toEntity(aCouponSlotOne),
-                CouponSlotJpaEntity.toEntity(aCouponSlotTwo)
-        ));
+        this.couponSlotGateway.createSlots(aId, 2);
 
         Assertions.assertEquals(1, this.couponJpaEntityRepository.count());
-        Assertions.assertEquals(2, this.couponSlotJpaEntityRepository.count());
+        Assertions.assertEquals(2, this.couponSlotGateway.countByCouponId(aCoupon.getId().getValue()));
 
         Assertions.assertDoesNotThrow(() -> this.deleteCouponUseCase.execute(aId));
 
         Assertions.assertEquals(0, this.couponJpaEntityRepository.count());
-        Assertions.assertEquals(0, this.couponSlotJpaEntityRepository.count());
+        Assertions.assertEquals(0, this.couponSlotGateway.countByCouponId(aCoupon.getId().getValue()));
     }
 }
@@ -5,8 +5,7 @@ import com.kaua.ecommerce.domain.Fixture;
 import com.kaua.ecommerce.infrastructure.IntegrationTest;
 import com.kaua.ecommerce.infrastructure.coupon.persistence.CouponJpaEntity;
 import com.kaua.ecommerce.infrastructure.coupon.persistence.CouponJpaEntityRepository;
-import com.kaua.ecommerce.infrastructure.coupon.slot.persistence.CouponSlotJpaEntity;
-import com.kaua.ecommerce.infrastructure.coupon.slot.persistence.CouponSlotJpaEntityRepository;
+import com.kaua.ecommerce.infrastructure.coupon.slot.CouponSlotMySQLGateway;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,7 +17,7 @@ public class ValidateCouponUseCaseIT {
     private ValidateCouponUseCase validateCouponUseCase;
 
     @Autowired
-    private CouponSlotJpaEntityRepository couponSlotJpaEntityRepository;
+    private CouponSlotMySQLGateway couponSlotGateway;
 
     @Autowired
     private CouponJpaEntityRepository couponJpaEntityRepository;
@@ -26,11 +25,10 @@ public class ValidateCouponUseCaseIT {
     @Test
     void givenAValidCouponCodeWithValidCouponLimited_whenExecute_thenShouldReturnTrue() {
         final var aCoupon = Fixture.Coupons.limitedCouponActivated();
-        final var aCouponSlot = Fixture.Coupons.generateValidCouponSlot(aCoupon);
 
         this.couponJpaEntityRepository.save(CouponJpaEntity.toEntity(aCoupon));
 
-        this.couponSlotJpaEntityRepository.save(CouponSlotJpaEntity.toEntity(aCouponSlot));
+        this.couponSlotGateway.createSlots(aCoupon.getId().getValue(), 1);
 
         final var aOutput = this.validateCouponUseCase.execute(aCoupon.getCode().getValue());
 
@@ -0,0 +1,83 @@
+package com.kaua.ecommerce.application.inventory.adjust;
+
+import com.kaua.ecommerce.application.usecases.inventory.adjust.AdjustInventoriesQuantityLineStatus;
+import com.kaua.ecommerce.application.usecases.inventory.adjust.AdjustInventoriesQuantityMode;
+import com.kaua.ecommerce.application.usecases.inventory.adjust.AdjustInventoriesQuantityUseCase;
+import com.kaua.ecommerce.application.usecases.inventory.adjust.commands.AdjustInventoriesQuantityCommand;
+import com.kaua.ecommerce.application.usecases.inventory.adjust.commands.AdjustInventoriesQuantityCommandItem;
+import com.kaua.ecommerce.domain.inventory.Inventory;
+import com.kaua.ecommerce.domain.product.ProductID;
+import com.kaua.ecommerce.infrastructure.IntegrationTest;
+import com.kaua.ecommerce.infrastructure.inventory.movement.persistence.InventoryMovementJpaEntityRepository;
+import com.kaua.ecommerce.infrastructure.inventory.persistence.InventoryJpaEntity;
+import com.kaua.ecommerce.infrastructure.inventory.persistence.InventoryJpaEntityRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+@IntegrationTest
+public class AdjustInventoriesQuantityUseCaseIT {
+
+    @Autowired
+    private AdjustInventoriesQuantityUseCase adjustInventoriesQuantityUseCase;
+
+    @Autowired
+    private InventoryJpaEntityRepository inventoryJpaEntityRepository;
+
+    @Autowired
+    private InventoryMovementJpaEntityRepository inventoryMovementJpaRepository;
+
+    @BeforeEach
+    void setUp() {
+        final var aProductId = ProductID.unique().getValue();
+        this.inventoryJpaEntityRepository.saveAll(List.of(
+                InventoryJpaEntity.toEntity(Inventory.newInventory(aProductId, "sku-one", 10)),
+                InventoryJpaEntity.toEntity(Inventory.newInventory(aProductId, "sku-two", 2))
+        ));
+    }
+
+    @Test
+    void givenALineWithoutStockOnAllOrNothingMode_whenCallAdjust_shouldKeepAllQuantities() {
+        final var aCommand = AdjustInventoriesQuantityCommand.with(
+                AdjustInventoriesQuantityMode.ALL_OR_NOTHING,
+                List.of(
+                        AdjustInventoriesQuantityCommandItem.with("sku-one", 5),
+                        AdjustInventoriesQuantityCommandItem.with("sku-two", -3)
+                )
+        );
+
+        final var aOutput = this.adjustInventoriesQuantityUseCase.execute(aCommand).getRight();
+
+        Assertions.assertEquals(0, aOutput.appliedLines());
+        Assertions.assertEquals(AdjustInventoriesQuantityLineStatus.NOT_APPLIED, aOutput.lines().get(0).status());
+        Assertions.assertEquals(AdjustInventoriesQuantityLineStatus.REJECTED, aOutput.lines().get(1).status());
+
+        Assertions.assertEquals(10, this.inventoryJpaEntityRepository.findBySku("sku-one").get().getQuantity());
+        Assertions.assertEquals(2, this.inventoryJpaEntityRepository.findBySku("sku-two").get().getQuantity());
+        Assertions.assertEquals(0, this.inventoryMovementJpaRepository.count());
+    }
+
+    @Test
+    void givenALineWithoutStockOnBestEffortMode_whenCallAdjust_shouldApplyTheOtherLines() {
+        final var aCommand = AdjustInventoriesQuantityCommand.with(
+                AdjustInventoriesQuantityMode.BEST_EFFORT,
+                List.of(
+                        AdjustInventoriesQuantityCommandItem.with("sku-one", -4),
+                        AdjustInventoriesQuantityCommandItem.with("sku-two", -3)
+                )
+        );
+
+        final var aOutput = this.adjustInventoriesQuantityUseCase.execute(aCommand).getRight();
+
+        Assertions.assertEquals(1, aOutput.appliedLines());
+        Assertions.assertEquals(1, aOutput.rejectedLines());
+        Assertions.assertEquals(6, aOutput.lines().get(0).quantity());
+
+        Assertions.assertEquals(6, this.inventoryJpaEntityRepository.findBySku("sku-one").get().getQuantity());
+        Assertions.assertEquals(2, this.inventoryJpaEntityRepository.findBySku("sku-two").get().getQuantity());
+        Assertions.assertEquals(1, this.inventoryMovementJpaRepository.count());
+    }
+}
@@ -3,6 +3,8 @@ package com.kaua.ecommerce.application.inventory.decrease;
 import com.kaua.ecommerce.application.usecases.inventory.decrease.DecreaseInventoryQuantityCommand;
 import com.kaua.ecommerce.application.usecases.inventory.decrease.DecreaseInventoryQuantityUseCase;
 import com.kaua.ecommerce.domain.Fixture;
+import com.kaua.ecommerce.domain.inventory.Inventory;
+import com.kaua.ecommerce.domain.product.ProductID;
 import com.kaua.ecommerce.domain.inventory.movement.InventoryMovementStatus;
 import com.kaua.ecommerce.domain.utils.CommonErrorMessage;
 import com.kaua.ecommerce.infrastructure.IntegrationTest;
@@ -13,6 +15,13 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @IntegrationTest
 public class DecreaseInventoryQuantityUseCaseIT {
 
@@ -73,4 +82,47 @@ public class DecreaseInventoryQuantityUseCaseIT {
 
         Assertions.assertEquals(expectedErrorMessage, aOutput.getErrors().get(0).message());
     }
+
+    @Test
+    void givenManyConcurrentBuyersOfTheSameSku_whenDecreaseInventoryQuantity_shouldNeverOversell() throws Exception {
+        final var aStock = 100;
+        final var aBuyers = 16;
+        final var aPurchasesPerBuyer = 10;
+        final var aInventory = Inventory.newInventory(ProductID.unique().getValue(), "hot-sku", aStock);
+
+        this.inventoryJpaEntityRepository.save(InventoryJpaEntity.toEntity(aInventory));
+
+        final var aSucceeded = new AtomicInteger();
+        final var aRejected = new AtomicInteger();
+        final var aStart = new CountDownLatch(1);
+        final var aExecutor = Executors.newFixedThreadPool(aBuyers);
+        final var aFutures = new ArrayList<Future<?>>();
+
+        for (int i = 0; i < aBuyers; i++) {
+            aFutures.add(aExecutor.submit(() -> {
+                aStart.await();
+                for (int j = 0; j < aPurchasesPerBuyer; j++) {
+                    final var aResult = this.decreaseInventoryQuantityUseCase
+                            .execute(DecreaseInventoryQuantityCommand.with("hot-sku", 1));
+                    if (aResult.isRight()) {
+                        aSucceeded.incrementAndGet();
+                    } else {
+                        aRejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        aStart.countDown();
+        for (final var aFuture : aFutures) {
+            aFuture.get(60, TimeUnit.SECONDS);
+        }
+        aExecutor.shutdown();
+
+        Assertions.assertEquals(aStock, aSucceeded.get());
+        Assertions.assertEquals(aBuyers * aPurchasesPerBuyer - aStock, aRejected.get());
+        Assertions.assertEquals(0, this.inventoryJpaEntityRepository.findBySku("hot-sku").get().getQuantity());
+        Assertions.assertEquals(aStock, this.inventoryMovementJpaRepository.count());
+    }
 }
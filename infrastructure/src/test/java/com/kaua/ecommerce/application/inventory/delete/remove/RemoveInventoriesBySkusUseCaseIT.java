@@ -0,0 +1,54 @@
+package com.kaua.ecommerce.application.inventory.delete.remove;
+
+import com.kaua.ecommerce.application.usecases.inventory.delete.remove.RemoveInventoriesBySkusUseCase;
+import com.kaua.ecommerce.domain.Fixture;
+import com.kaua.ecommerce.domain.inventory.movement.InventoryMovementStatus;
+import com.kaua.ecommerce.infrastructure.IntegrationTest;
+import com.kaua.ecommerce.infrastructure.inventory.movement.persistence.InventoryMovementJpaEntityRepository;
+import com.kaua.ecommerce.infrastructure.inventory.persistence.InventoryJpaEntity;
+import com.kaua.ecommerce.infrastructure.inventory.persistence.InventoryJpaEntityRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Set;
+
+@IntegrationTest
+public class RemoveInventoriesBySkusUseCaseIT {
+
+    @Autowired
+    private InventoryJpaEntityRepository inventoryRepository;
+
+    @Autowired
+    private InventoryMovementJpaEntityRepository inventoryMovementRepository;
+
+    @Autowired
+    private RemoveInventoriesBySkusUseCase removeInventoriesBySkusUseCase;
+
+    @Test
+    void givenValidSkus_whenCallRemoveInventoriesBySkus_shouldRemoveThemAndRecordTheMovements() {
+        final var aInventoryOne = Fixture.Inventories.createInventoryByProduct(Fixture.Products.book());
+        final var aInventoryTwo = Fixture.Inventories.createInventoryByProduct(Fixture.Products.tshirt());
+        final var aInventoryKept = Fixture.Inventories.tshirtInventory();
+
+        this.inventoryRepository.save(InventoryJpaEntity.toEntity(aInventoryOne));
+        this.inventoryRepository.save(InventoryJpaEntity.toEntity(aInventoryTwo));
+        this.inventoryRepository.save(InventoryJpaEntity.toEntity(aInventoryKept));
+
+        Assertions.assertEquals(3, this.inventoryRepository.count());
+
+        Assertions.assertDoesNotThrow(() -> this.removeInventoriesBySkusUseCase.execute(Set.of(
+                aInventoryOne.getSku(),
+                aInventoryTwo.getSku(),
+                Fixture.createSku("invalid-sku")
+        )));
+
+        Assertions.assertEquals(1, this.inventoryRepository.count());
+        Assertions.assertTrue(this.inventoryRepository.findById(aInventoryKept.getId().getValue()).isPresent());
+
+        final var aMovements = this.inventoryMovementRepository.findAll();
+        Assertions.assertEquals(2, aMovements.size());
+        Assertions.assertTrue(aMovements.stream()
+                .allMatch(it -> it.getMovementType() == InventoryMovementStatus.REMOVED));
+    }
+}
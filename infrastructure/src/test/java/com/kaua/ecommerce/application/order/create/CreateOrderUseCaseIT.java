@@ -10,8 +10,7 @@ import com.kaua.ecommerce.domain.Fixture;
 import com.kaua.ecommerce.infrastructure.IntegrationTest;
 import com.kaua.ecommerce.infrastructure.coupon.persistence.CouponJpaEntity;
 import com.kaua.ecommerce.infrastructure.coupon.persistence.CouponJpaEntityRepository;
-import com.kaua.ecommerce.infrastructure.coupon.slot.persistence.CouponSlotJpaEntity;
-import com.kaua.ecommerce.infrastructure.coupon.slot.persistence.CouponSlotJpaEntityRepository;
+import com.kaua.ecommerce.infrastructure.coupon.slot.CouponSlotMySQLGateway;
 import com.kaua.ecommerce.infrastructure.order.persistence.OrderItemJpaEntityRepository;
 import com.kaua.ecommerce.infrastructure.order.persistence.OrderJpaEntityRepository;
 import org.junit.jupiter.api.Assertions;
@@ -23,6 +22,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
@@ -46,7 +46,7 @@ public class CreateOrderUseCaseIT {
     private CouponJpaEntityRepository couponJpaEntityRepository;
 
     @Autowired
-    private CouponSlotJpaEntityRepository couponSlotJpaEntityRepository;
+    private CouponSlotMySQLGateway couponSlotGateway;
 
     @MockBean
     private OrderCustomerGateway orderCustomerGateway;
@@ -64,11 +64,7 @@ public class CreateOrderUseCaseIT {
         final var aCoupon = Fixture.Coupons.limitedCouponActivated();
         this.couponJpaEntityRepository.save(CouponJpaEntity.toEntity(aCoupon));
 
-        final var aCouponSlotOne = Fixture.Coupons.generateValidCouponSlot(aCoupon);
-
-        this.couponSlotJpaEntityRepository.saveAll(Set.of(
-                CouponSlotJpaEntity.toEntity(aCouponSlotOne)
-        ));
+        this.couponSlotGateway.createSlots(aCoupon.getId().getValue(), 1);
 
         final var aCouponCode = aCoupon.getCode().getValue();
         final var aCustomerId = aCustomer.getAccountId();
@@ -101,8 +97,8 @@ public class CreateOrderUseCaseIT {
                         aCustomer.getAddress().get().getState()
                 ))).getMock();
 
-        Mockito.when(this.orderProductGateway.getProductDetailsBySku(Mockito.anyString()))
-                .thenReturn(Optional.of(new OrderProductGateway.OrderProductDetails(
+        Mockito.when(this.orderProductGateway.getProductDetailsBySkus(Mockito.anySet()))
+                .thenReturn(Map.of(aSkuCamiseta, new OrderProductGateway.OrderProductDetails(
                         aSkuCamiseta,
                         BigDecimal.valueOf(100.0),
                         10.0,
@@ -119,7 +115,7 @@ public class CreateOrderUseCaseIT {
                 ));
 
         Assertions.assertEquals(1, this.couponJpaEntityRepository.count());
-        Assertions.assertEquals(1, this.couponSlotJpaEntityRepository.count());
+        Assertions.assertEquals(1, this.couponSlotGateway.countByCouponId(aCoupon.getId().getValue()));
 
         ExecutorService executorService = Executors.newFixedThreadPool(aExecutions);
         List<Callable<Void>> tasks = new ArrayList<>();
@@ -155,7 +151,7 @@ public class CreateOrderUseCaseIT {
         }
 
         Assertions.assertEquals(1, this.couponJpaEntityRepository.count());
-        Assertions.assertEquals(0, this.couponSlotJpaEntityRepository.count());
+        Assertions.assertEquals(0, this.couponSlotGateway.countByCouponId(aCoupon.getId().getValue()));
         Assertions.assertEquals(1, this.orderJpaEntityRepository.count());
         Assertions.assertEquals(1, this.orderItemJpaEntityRepository.count());
         Assertions.assertEquals(aExpectedSuccessExecution, aCountSuccessExecutionAtomic.get());
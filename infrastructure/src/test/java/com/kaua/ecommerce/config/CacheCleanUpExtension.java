@@ -2,6 +2,8 @@ package com.kaua.ecommerce.config;
 
 import com.kaua.ecommerce.infrastructure.customer.address.persistence.AddressCacheEntityRepository;
 import com.kaua.ecommerce.infrastructure.customer.persistence.CustomerCacheEntityRepository;
+import com.kaua.ecommerce.infrastructure.inventory.persistence.InventoryCacheEntityRepository;
+import com.kaua.ecommerce.infrastructure.product.persistence.ProductDetailsCacheEntityRepository;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.springframework.data.repository.CrudRepository;
@@ -18,7 +20,9 @@ public class CacheCleanUpExtension implements BeforeEachCallback {
 
         cleanUp(List.of(
                 appContext.getBean(AddressCacheEntityRepository.class),
-                appContext.getBean(CustomerCacheEntityRepository.class)
+                appContext.getBean(CustomerCacheEntityRepository.class),
+                appContext.getBean(InventoryCacheEntityRepository.class),
+                appContext.getBean(ProductDetailsCacheEntityRepository.class)
         ));
     }
 
@@ -2,7 +2,6 @@ package com.kaua.ecommerce.config;
 
 import com.kaua.ecommerce.infrastructure.category.persistence.CategoryJpaEntityRepository;
 import com.kaua.ecommerce.infrastructure.coupon.persistence.CouponJpaEntityRepository;
-import com.kaua.ecommerce.infrastructure.coupon.slot.persistence.CouponSlotJpaEntityRepository;
 import com.kaua.ecommerce.infrastructure.customer.address.persistence.AddressJpaEntityRepository;
 import com.kaua.ecommerce.infrastructure.customer.persistence.CustomerJpaEntityRepository;
 import com.kaua.ecommerce.infrastructure.inventory.movement.persistence.InventoryMovementJpaEntityRepository;
@@ -37,7 +36,6 @@ public class JpaCleanUpExtension implements BeforeEachCallback {
                 appContext.getBean(AddressJpaEntityRepository.class),
                 appContext.getBean(InventoryJpaEntityRepository.class),
                 appContext.getBean(InventoryMovementJpaEntityRepository.class),
-                appContext.getBean(CouponSlotJpaEntityRepository.class),
                 appContext.getBean(CouponJpaEntityRepository.class),
                 appContext.getBean(OrderItemJpaEntityRepository.class),
                 appContext.getBean(OrderDeliveryJpaEntityRepository.class),
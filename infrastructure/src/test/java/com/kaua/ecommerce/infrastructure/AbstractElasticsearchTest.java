@@ -2,6 +2,8 @@ package com.kaua.ecommerce.infrastructure;
 
 import com.kaua.ecommerce.config.ElasticsearchTestContainer;
 import com.kaua.ecommerce.infrastructure.initializer.CategoryElasticsearchInitializer;
+import com.kaua.ecommerce.infrastructure.initializer.ProductElasticsearchInitializer;
+import com.kaua.ecommerce.infrastructure.search.SearchIndexAliases;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,7 +30,11 @@ import java.util.Collection;
 @DataElasticsearchTest
 @AutoConfigureDataRedis
 @ImportTestcontainers(ElasticsearchTestContainer.class)
-@Import(CategoryElasticsearchInitializer.class)
+@Import({
+        SearchIndexAliases.class,
+        CategoryElasticsearchInitializer.class,
+        ProductElasticsearchInitializer.class
+})
 @Testcontainers
 @Tag("integrationTest")
 public abstract class AbstractElasticsearchTest {
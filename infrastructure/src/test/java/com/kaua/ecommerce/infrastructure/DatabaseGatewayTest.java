@@ -2,6 +2,8 @@ package com.kaua.ecommerce.infrastructure;
 
 import com.kaua.ecommerce.config.DatabaseTestConfiguration;
 import com.kaua.ecommerce.config.JpaCleanUpExtension;
+import com.kaua.ecommerce.infrastructure.order.code.OrderCodeAllocator;
+import com.kaua.ecommerce.infrastructure.persistence.TextSearchSpecifications;
 import com.kaua.ecommerce.infrastructure.service.impl.MySQLEventDatabaseServiceImpl;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,7 +29,12 @@ import java.lang.annotation.*;
 )
 @DataJpaTest
 @ExtendWith(JpaCleanUpExtension.class)
-@Import({MySQLEventDatabaseServiceImpl.class, DatabaseTestConfiguration.class})
+@Import({
+        MySQLEventDatabaseServiceImpl.class,
+        OrderCodeAllocator.class,
+        TextSearchSpecifications.class,
+        DatabaseTestConfiguration.class
+})
 @AutoConfigureDataRedis
 @Tag("integrationTest")
 public @interface DatabaseGatewayTest {
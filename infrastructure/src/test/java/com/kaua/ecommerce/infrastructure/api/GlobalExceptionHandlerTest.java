@@ -1,6 +1,7 @@
 package com.kaua.ecommerce.infrastructure.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kaua.ecommerce.application.exceptions.GatewayTimeoutException;
 import com.kaua.ecommerce.application.exceptions.TransactionFailureException;
 import com.kaua.ecommerce.application.usecases.customer.retrieve.get.GetCustomerByAccountIdUseCase;
 import com.kaua.ecommerce.application.usecases.customer.update.address.UpdateCustomerAddressUseCase;
@@ -26,6 +27,8 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.time.Duration;
+
 import static org.hamcrest.Matchers.equalTo;
 
 @ControllerTest(controllers = CustomerAPI.class)
@@ -162,4 +165,24 @@ public class GlobalExceptionHandlerTest {
 
         Mockito.verify(updateCustomerCpfUseCase, Mockito.times(1)).execute(Mockito.any());
     }
+
+    @Test
+    void testThrowGatewayTimeoutException() throws Exception {
+        final var aAccountId = "123";
+
+        final var expectedErrorMessage = "OrderCustomerGateway did not respond within 100 ms";
+
+        Mockito.when(getCustomerByAccountIdUseCase.execute(Mockito.any()))
+                .thenThrow(GatewayTimeoutException.with("OrderCustomerGateway", Duration.ofMillis(100)));
+
+        final var request = MockMvcRequestBuilders.get("/v1/customers/{accountId}", aAccountId)
+                .accept(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isGatewayTimeout())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", equalTo(expectedErrorMessage)));
+
+        Mockito.verify(getCustomerByAccountIdUseCase, Mockito.times(1)).execute(Mockito.any());
+    }
 }
@@ -2,6 +2,11 @@ package com.kaua.ecommerce.infrastructure.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kaua.ecommerce.application.either.Either;
+import com.kaua.ecommerce.application.usecases.inventory.adjust.AdjustInventoriesQuantityMode;
+import com.kaua.ecommerce.application.usecases.inventory.adjust.AdjustInventoriesQuantityUseCase;
+import com.kaua.ecommerce.application.usecases.inventory.adjust.commands.AdjustInventoriesQuantityCommand;
+import com.kaua.ecommerce.application.usecases.inventory.adjust.outputs.AdjustInventoriesQuantityOutput;
+import com.kaua.ecommerce.application.usecases.inventory.adjust.outputs.AdjustInventoriesQuantityOutputLine;
 import com.kaua.ecommerce.application.usecases.inventory.create.CreateInventoryUseCase;
 import com.kaua.ecommerce.application.usecases.inventory.create.commands.CreateInventoryCommand;
 import com.kaua.ecommerce.application.usecases.inventory.create.outputs.CreateInventoryOutput;
@@ -15,18 +20,27 @@ import com.kaua.ecommerce.application.usecases.inventory.increase.IncreaseInvent
 import com.kaua.ecommerce.application.usecases.inventory.increase.IncreaseInventoryQuantityUseCase;
 import com.kaua.ecommerce.application.usecases.inventory.retrieve.get.GetInventoryBySkuOutput;
 import com.kaua.ecommerce.application.usecases.inventory.retrieve.get.GetInventoryBySkuUseCase;
+import com.kaua.ecommerce.application.usecases.inventory.retrieve.history.GetInventoryQuantityAtOutput;
+import com.kaua.ecommerce.application.usecases.inventory.retrieve.history.GetInventoryQuantityAtUseCase;
+import com.kaua.ecommerce.application.usecases.inventory.retrieve.history.ListInventoryMovementsBetweenOutput;
+import com.kaua.ecommerce.application.usecases.inventory.retrieve.history.ListInventoryMovementsBetweenUseCase;
 import com.kaua.ecommerce.application.usecases.inventory.retrieve.list.ListInventoriesByProductIdOutput;
 import com.kaua.ecommerce.application.usecases.inventory.retrieve.list.ListInventoriesByProductIdUseCase;
 import com.kaua.ecommerce.application.usecases.inventory.rollback.RollbackInventoryBySkuUseCase;
 import com.kaua.ecommerce.domain.Fixture;
 import com.kaua.ecommerce.domain.exceptions.NotFoundException;
 import com.kaua.ecommerce.domain.inventory.Inventory;
+import com.kaua.ecommerce.domain.inventory.movement.InventoryMovement;
+import com.kaua.ecommerce.domain.inventory.movement.InventoryMovementStatus;
 import com.kaua.ecommerce.domain.pagination.Pagination;
 import com.kaua.ecommerce.domain.product.ProductID;
 import com.kaua.ecommerce.domain.utils.CommonErrorMessage;
+import com.kaua.ecommerce.domain.utils.InstantUtils;
 import com.kaua.ecommerce.domain.validation.Error;
 import com.kaua.ecommerce.domain.validation.handler.NotificationHandler;
 import com.kaua.ecommerce.infrastructure.ControllerTest;
+import com.kaua.ecommerce.infrastructure.inventory.models.AdjustInventoriesQuantityInput;
+import com.kaua.ecommerce.infrastructure.inventory.models.AdjustInventoriesQuantityInputItem;
 import com.kaua.ecommerce.infrastructure.inventory.models.CreateInventoryInput;
 import com.kaua.ecommerce.infrastructure.inventory.models.CreateInventoryInputParams;
 import com.kaua.ecommerce.infrastructure.inventory.models.DecreaseInventoryQuantityInput;
@@ -78,12 +92,21 @@ public class InventoryAPITest {
     @MockBean
     private DecreaseInventoryQuantityUseCase decreaseInventoryQuantityUseCase;
 
+    @MockBean
+    private AdjustInventoriesQuantityUseCase adjustInventoriesQuantityUseCase;
+
     @MockBean
     private ListInventoriesByProductIdUseCase listInventoriesByProductIdUseCase;
 
     @MockBean
     private GetInventoryBySkuUseCase getInventoryBySkuUseCase;
 
+    @MockBean
+    private GetInventoryQuantityAtUseCase getInventoryQuantityAtUseCase;
+
+    @MockBean
+    private ListInventoryMovementsBetweenUseCase listInventoryMovementsBetweenUseCase;
+
     @Test
     void givenAValidInput_whenCallCreateInventory_thenReturnStatusOkAndIdAndSku() throws Exception {
         final var aInventory = Fixture.Inventories.tshirtInventory();
@@ -500,6 +523,38 @@ public class InventoryAPITest {
         ));
     }
 
+    @Test
+    void givenACursor_whenCallsListInventoriesByProductId_shouldPassTheCursorAndReturnTheNextCursor() throws Exception {
+        final var aInventory = Fixture.Inventories.tshirtInventory();
+        final var aProductId = aInventory.getProductId();
+        final var aCursor = "eyJzb3J0Ijoic2t1In0";
+        final var aNextCursor = "eyJzb3J0Ijoic2t1IiwiaWQiOiIyIn0";
+
+        final var aItems = List.of(ListInventoriesByProductIdOutput.from(aInventory));
+
+        Mockito.when(listInventoriesByProductIdUseCase.execute(Mockito.any()))
+                .thenReturn(new Pagination<>(0, 10, Pagination.NOT_COUNTED, Pagination.NOT_COUNTED, aItems, aNextCursor));
+
+        final var request = MockMvcRequestBuilders.get("/v1/inventories/list/{productId}", aProductId)
+                .queryParam("cursor", aCursor)
+                .queryParam("skipTotal", "true")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.total_items", equalTo(-1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.next_cursor", equalTo(aNextCursor)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items", hasSize(1)));
+
+        Mockito.verify(listInventoriesByProductIdUseCase, Mockito.times(1)).execute(argThat(query ->
+                Objects.equals(aCursor, query.searchQuery().cursor())
+                        && query.searchQuery().skipTotal()
+                        && Objects.equals(aProductId, query.productId())
+        ));
+    }
+
     @Test
     void givenAValidSku_whenCallGetInventoryBySku_thenReturnInventory() throws Exception {
         final var aInventory = Fixture.Inventories.tshirtInventory();
@@ -546,4 +601,129 @@ public class InventoryAPITest {
 
         Mockito.verify(getInventoryBySkuUseCase, Mockito.times(1)).execute(aSku);
     }
+
+    @Test
+    void givenAValidInput_whenCallAdjustInventoriesQuantity_thenReturnStatusOkAndLinesResult() throws Exception {
+        final var aInput = new AdjustInventoriesQuantityInput(
+                "best_effort",
+                List.of(
+                        new AdjustInventoriesQuantityInputItem("sku-one", 5),
+                        new AdjustInventoriesQuantityInputItem("sku-two", -3)
+                )
+        );
+
+        Mockito.when(adjustInventoriesQuantityUseCase.execute(Mockito.any()))
+                .thenReturn(Either.right(AdjustInventoriesQuantityOutput.from(
+                        AdjustInventoriesQuantityMode.BEST_EFFORT,
+                        List.of(
+                                AdjustInventoriesQuantityOutputLine.applied("sku-one", 5, 15),
+                                AdjustInventoriesQuantityOutputLine.rejected("sku-two", -3, "no stock")
+                        )
+                )));
+
+        final var request = MockMvcRequestBuilders.patch("/v1/inventories/adjust")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(aInput));
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.applied_lines", equalTo(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.rejected_lines", equalTo(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.lines", hasSize(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.lines[0].quantity", equalTo(15)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.lines[1].error", equalTo("no stock")));
+
+        final var cmdCaptor = ArgumentCaptor.forClass(AdjustInventoriesQuantityCommand.class);
+
+        Mockito.verify(adjustInventoriesQuantityUseCase, Mockito.times(1)).execute(cmdCaptor.capture());
+
+        final var actualCmd = cmdCaptor.getValue();
+
+        Assertions.assertEquals(AdjustInventoriesQuantityMode.BEST_EFFORT, actualCmd.mode());
+        Assertions.assertEquals(2, actualCmd.items().size());
+        Assertions.assertEquals("sku-two", actualCmd.items().get(1).sku());
+        Assertions.assertEquals(-3, actualCmd.items().get(1).delta());
+    }
+
+    @Test
+    void givenARejectedLineOnAllOrNothingMode_whenCallAdjustInventoriesQuantity_thenReturnUnprocessableEntity() throws Exception {
+        final var aInput = new AdjustInventoriesQuantityInput(
+                "ALL_OR_NOTHING",
+                List.of(new AdjustInventoriesQuantityInputItem("sku-one", -3))
+        );
+
+        Mockito.when(adjustInventoriesQuantityUseCase.execute(Mockito.any()))
+                .thenReturn(Either.right(AdjustInventoriesQuantityOutput.from(
+                        AdjustInventoriesQuantityMode.ALL_OR_NOTHING,
+                        List.of(AdjustInventoriesQuantityOutputLine.rejected("sku-one", -3, "no stock"))
+                )));
+
+        final var request = MockMvcRequestBuilders.patch("/v1/inventories/adjust")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(aInput));
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isUnprocessableEntity())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.applied_lines", equalTo(0)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.lines[0].status", equalTo("REJECTED")));
+    }
+
+    @Test
+    void givenAValidSkuAndInstant_whenCallGetInventoryQuantityAt_thenReturnQuantityAtTheInstant() throws Exception {
+        final var aSku = "sku-one";
+        final var aAt = InstantUtils.parse("2024-01-10T10:00:00Z");
+
+        Mockito.when(getInventoryQuantityAtUseCase.execute(Mockito.any()))
+                .thenReturn(GetInventoryQuantityAtOutput.from(aSku, 42, aAt));
+
+        final var request = MockMvcRequestBuilders.get("/v1/inventories/{sku}/quantity", aSku)
+                .queryParam("at", aAt.toString())
+                .accept(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.sku", equalTo(aSku)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.quantity", equalTo(42)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.at", equalTo(aAt.toString())));
+
+        Mockito.verify(getInventoryQuantityAtUseCase, Mockito.times(1)).execute(argThat(cmd ->
+                Objects.equals(aSku, cmd.sku()) && Objects.equals(aAt, cmd.at())));
+    }
+
+    @Test
+    void givenAValidSkuAndWindow_whenCallListInventoryMovementsBetween_thenReturnMovements() throws Exception {
+        final var aInventory = Fixture.Inventories.tshirtInventory();
+        final var aMovement = InventoryMovement.newInventoryMovement(
+                aInventory.getId(), aInventory.getSku(), 5, InventoryMovementStatus.OUT);
+        final var aFrom = "2024-01-01T00:00:00Z";
+        final var aTo = "2024-02-01T00:00:00Z";
+
+        Mockito.when(listInventoryMovementsBetweenUseCase.execute(Mockito.any()))
+                .thenReturn(List.of(ListInventoryMovementsBetweenOutput.from(aMovement)));
+
+        final var request = MockMvcRequestBuilders.get("/v1/inventories/{sku}/movements", aInventory.getSku())
+                .queryParam("from", aFrom)
+                .queryParam("to", aTo)
+                .queryParam("limit", "50")
+                .accept(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$", hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id", equalTo(aMovement.getId().getValue())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].movement_type", equalTo("OUT")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].quantity", equalTo(5)));
+
+        Mockito.verify(listInventoryMovementsBetweenUseCase, Mockito.times(1)).execute(argThat(cmd ->
+                Objects.equals(aInventory.getSku(), cmd.sku())
+                        && Objects.equals(InstantUtils.parse(aFrom), cmd.from())
+                        && Objects.equals(InstantUtils.parse(aTo), cmd.to())
+                        && cmd.limit() == 50));
+    }
 }
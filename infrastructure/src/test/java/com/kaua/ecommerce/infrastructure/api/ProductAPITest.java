@@ -19,6 +19,9 @@ import com.kaua.ecommerce.application.usecases.product.media.upload.UploadProduc
 import com.kaua.ecommerce.application.usecases.product.retrieve.details.GetProductDetailsBySkuUseCase;
 import com.kaua.ecommerce.application.usecases.product.retrieve.get.GetProductByIdOutput;
 import com.kaua.ecommerce.application.usecases.product.retrieve.get.GetProductByIdUseCase;
+import com.kaua.ecommerce.application.gateways.responses.ProductFacetedSearch;
+import com.kaua.ecommerce.application.usecases.product.search.retrieve.facets.ListProductsWithFacetsOutput;
+import com.kaua.ecommerce.application.usecases.product.search.retrieve.facets.ListProductsWithFacetsUseCase;
 import com.kaua.ecommerce.application.usecases.product.search.retrieve.list.ListProductsOutput;
 import com.kaua.ecommerce.application.usecases.product.search.retrieve.list.ListProductsUseCase;
 import com.kaua.ecommerce.application.usecases.product.update.UpdateProductCommand;
@@ -42,6 +45,7 @@ import com.kaua.ecommerce.infrastructure.ControllerTest;
 import com.kaua.ecommerce.infrastructure.exceptions.ImageSizeNotValidException;
 import com.kaua.ecommerce.infrastructure.exceptions.ImageTypeNotValidException;
 import com.kaua.ecommerce.infrastructure.product.models.*;
+import com.kaua.ecommerce.infrastructure.utils.SearchAfterPaginationUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -59,6 +63,7 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -93,6 +98,9 @@ public class ProductAPITest {
     @MockBean
     private ListProductsUseCase listProductsUseCase;
 
+    @MockBean
+    private ListProductsWithFacetsUseCase listProductsWithFacetsUseCase;
+
     @MockBean
     private RemoveProductImageUseCase removeProductImageUseCase;
 
@@ -1463,6 +1471,100 @@ public class ProductAPITest {
         ));
     }
 
+    @Test
+    void givenACursor_whenCallsListProducts_shouldPassTheCursorAndReturnTheNextCursor() throws Exception {
+        final var aProduct = Fixture.Products.book();
+        final var aCursor = "eyJzb3J0IjoibmFtZSJ9";
+        final var aNextCursor = "eyJzb3J0IjoibmFtZSIsInZhbHVlcyI6WyJCb29rIiwiMSJdfQ";
+
+        final var aItems = List.of(ListProductsOutput.from(aProduct));
+
+        Mockito.when(listProductsUseCase.execute(Mockito.any()))
+                .thenReturn(new Pagination<>(0, 10, Pagination.NOT_COUNTED, Pagination.NOT_COUNTED, aItems, aNextCursor));
+
+        final var request = MockMvcRequestBuilders.get("/v1/products")
+                .queryParam("cursor", aCursor)
+                .queryParam("skipTotal", "true")
+                .queryParam("pointInTime", "true")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.total_items", equalTo(-1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.next_cursor", equalTo(aNextCursor)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items", hasSize(1)));
+
+        Mockito.verify(listProductsUseCase, Mockito.times(1)).execute(argThat(query ->
+                Objects.equals(aCursor, query.cursor())
+                        && query.skipTotal()
+        ));
+    }
+
+    @Test
+    void givenPointInTimeWithoutACursor_whenCallsListProducts_shouldAskTheFirstPageOfAPointInTime() throws Exception {
+        Mockito.when(listProductsUseCase.execute(Mockito.any()))
+                .thenReturn(new Pagination<>(Pagination.NOT_NUMBERED, 10, 0, 0, List.of(), null));
+
+        final var request = MockMvcRequestBuilders.get("/v1/products")
+                .queryParam("pointInTime", "true")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        Mockito.verify(listProductsUseCase, Mockito.times(1)).execute(argThat(query ->
+                query.isCursorQuery()
+                        && Objects.equals(SearchAfterPaginationUtils.withPointInTime(null, true), query.cursor())
+        ));
+    }
+
+    @Test
+    void givenFacetFilters_whenCallsListProductsWithFacets_shouldReturnProductsAndFacetCounts() throws Exception {
+        final var aProduct = Fixture.Products.tshirt();
+        final var aCategoryId = aProduct.getCategoryId().getValue();
+
+        final var aItems = List.of(ListProductsOutput.from(aProduct));
+        final var aOutput = new ListProductsWithFacetsOutput(
+                new Pagination<>(0, 10, 1, 1, aItems),
+                List.of(new ProductFacetedSearch.FacetCount(aCategoryId, 1)),
+                List.of(new ProductFacetedSearch.FacetCount("RED", 1)),
+                List.of(new ProductFacetedSearch.FacetCount("M", 1)),
+                List.of(new ProductFacetedSearch.FacetCount("*-50.0", 1))
+        );
+
+        Mockito.when(listProductsWithFacetsUseCase.execute(Mockito.any())).thenReturn(aOutput);
+
+        final var request = MockMvcRequestBuilders.get("/v1/products/facets")
+                .queryParam("categoryId", aCategoryId)
+                .queryParam("color", "red")
+                .queryParam("size", "m", "g")
+                .queryParam("maxPrice", "50")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.products.total_items", equalTo(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.products.items[0].product_id", equalTo(aProduct.getId().getValue())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.facets.categories[0].value", equalTo(aCategoryId)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.facets.colors[0].value", equalTo("RED")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.facets.sizes[0].count", equalTo(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.facets.prices[0].value", equalTo("*-50.0")));
+
+        Mockito.verify(listProductsWithFacetsUseCase, Mockito.times(1)).execute(argThat(input ->
+                Objects.equals(Set.of(aCategoryId), input.categoryIds())
+                        && Objects.equals(Set.of("RED"), input.colors())
+                        && Objects.equals(Set.of("M", "G"), input.sizes())
+                        && input.minPrice() == null
+                        && new BigDecimal("50").compareTo(input.maxPrice()) == 0
+        ));
+    }
+
     @Test
     void givenAValidProductIdAndLocation_whenCallDeleteProductImage_thenShouldBeOk() throws Exception {
         final var aProductImage = Fixture.Products.productImage(ProductImageType.BANNER);
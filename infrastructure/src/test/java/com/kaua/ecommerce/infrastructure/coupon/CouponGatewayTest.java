@@ -276,6 +276,36 @@ public class CouponGatewayTest {
         Assertions.assertEquals(aCouponLimited.getCode().getValue(), actualResult.items().get(0).getCode().getValue());
     }
 
+    @Test
+    void givenACursorQueryWithSkipTotal_whenCallFindAll_shouldSeekAfterTheCursorWithoutCounting() {
+        final var aCodes = List.of("A_COUPON", "B_COUPON", "C_COUPON");
+        this.couponJpaRepository.saveAll(aCodes.stream()
+                .map(aCode -> Coupon.newCoupon(
+                        aCode,
+                        10.0f,
+                        5.0f,
+                        InstantUtils.now().plus(1, ChronoUnit.DAYS),
+                        true,
+                        CouponType.UNLIMITED
+                ))
+                .map(CouponJpaEntity::toEntity)
+                .toList());
+
+        final var aFirstPage = this.couponGateway.findAll(
+                new SearchQuery(0, 2, "", "code", "asc", new Period(null, null), "", true));
+        final var aSecondPage = this.couponGateway.findAll(
+                new SearchQuery(0, 2, "", "code", "asc", new Period(null, null), aFirstPage.nextCursor(), true));
+
+        Assertions.assertEquals(-1, aFirstPage.totalItems());
+        Assertions.assertEquals(-1, aFirstPage.totalPages());
+        Assertions.assertEquals(List.of("A_COUPON", "B_COUPON"), aFirstPage.items().stream()
+                .map(it -> it.getCode().getValue()).toList());
+        Assertions.assertNotNull(aFirstPage.nextCursor());
+        Assertions.assertEquals(List.of("C_COUPON"), aSecondPage.items().stream()
+                .map(it -> it.getCode().getValue()).toList());
+        Assertions.assertNull(aSecondPage.nextCursor());
+    }
+
     @Test
     void givenAValidQueryButHasNoData_whenCallFindAll_shouldReturnEmptyCoupons() {
         final var aPage = 0;
@@ -326,6 +356,29 @@ public class CouponGatewayTest {
         Assertions.assertEquals(aCouponUnlimited.getCode().getValue(), actualResult.items().get(0).getCode().getValue());
     }
 
+    @Test
+    void givenTermsInTheMiddleOfTheCode_whenCallFindAll_shouldReturnTheCouponsContainingThem() {
+        final var aCouponLimited = Fixture.Coupons.limitedCouponActivated();
+        final var aCouponUnlimited = Coupon.newCoupon(
+                "Z_FREE_SHIPPING50",
+                50.0f,
+                10.0f,
+                InstantUtils.now().plus(1, ChronoUnit.DAYS),
+                true,
+                CouponType.UNLIMITED
+        );
+        this.couponJpaRepository.saveAll(List.of(
+                CouponJpaEntity.toEntity(aCouponLimited),
+                CouponJpaEntity.toEntity(aCouponUnlimited)
+        ));
+
+        final var aQuery = new SearchQuery(0, 10, "shipping", "code", "ASC");
+        final var actualResult = this.couponGateway.findAll(aQuery);
+
+        Assertions.assertEquals(1, actualResult.totalItems());
+        Assertions.assertEquals(aCouponUnlimited.getCode().getValue(), actualResult.items().get(0).getCode().getValue());
+    }
+
     @Test
     void givenAValidQueryAndPeriodWithStartAndEndDate_whenCallFindAll_shouldReturnAPaginationOfCoupons() {
         final var aCouponLimited = Fixture.Coupons.limitedCouponActivated();
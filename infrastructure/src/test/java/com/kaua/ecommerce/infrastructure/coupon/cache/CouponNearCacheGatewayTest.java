@@ -0,0 +1,124 @@
+package com.kaua.ecommerce.infrastructure.coupon.cache;
+
+import com.kaua.ecommerce.application.gateways.CouponGateway;
+import com.kaua.ecommerce.domain.Fixture;
+import com.kaua.ecommerce.infrastructure.UnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+@UnitTest
+public class CouponNearCacheGatewayTest {
+
+    @Test
+    void givenACachedCoupon_whenCallFindByCode_thenShouldNotHitTheDatabaseAgain() {
+        final var aCoupon = Fixture.Coupons.limitedCouponActivated();
+        final var aCode = aCoupon.getCode().getValue();
+        final var aDelegate = Mockito.mock(CouponGateway.class);
+        Mockito.when(aDelegate.findByCode(aCode)).thenReturn(Optional.of(aCoupon));
+
+        final var aRegistry = new SimpleMeterRegistry();
+        final var aGateway = new CouponNearCacheGateway(aDelegate, new InMemoryBroadcaster(), 100, 60_000);
+        aGateway.bindTo(aRegistry);
+
+        Assertions.assertEquals(aCoupon, aGateway.findByCode(aCode).get());
+        Assertions.assertEquals(aCoupon, aGateway.findByCode(aCode).get());
+
+        Mockito.verify(aDelegate, Mockito.times(1)).findByCode(aCode);
+        Assertions.assertEquals(1, aRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        Assertions.assertEquals(1, aRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+        Assertions.assertEquals(0, aRegistry.get("cache.evictions").functionCounter().count());
+    }
+
+    @Test
+    void givenAnUnknownCode_whenCallFindByCode_thenShouldNotCacheTheMiss() {
+        final var aDelegate = Mockito.mock(CouponGateway.class);
+        Mockito.when(aDelegate.findByCode("unknown")).thenReturn(Optional.empty());
+
+        final var aGateway = new CouponNearCacheGateway(aDelegate, new InMemoryBroadcaster(), 100, 60_000);
+
+        Assertions.assertTrue(aGateway.findByCode("unknown").isEmpty());
+        Assertions.assertTrue(aGateway.findByCode("unknown").isEmpty());
+
+        Mockito.verify(aDelegate, Mockito.times(2)).findByCode("unknown");
+    }
+
+    @Test
+    void givenACachedCoupon_whenCallUpdate_thenShouldInvalidateAndBroadcast() {
+        final var aCoupon = Fixture.Coupons.limitedCouponActivated();
+        final var aCode = aCoupon.getCode().getValue();
+        final var aDelegate = Mockito.mock(CouponGateway.class);
+        final var aBroadcaster = new InMemoryBroadcaster();
+        Mockito.when(aDelegate.findByCode(aCode)).thenReturn(Optional.of(aCoupon));
+        Mockito.when(aDelegate.update(aCoupon)).thenReturn(aCoupon);
+
+        final var aGateway = new CouponNearCacheGateway(aDelegate, aBroadcaster, 100, 60_000);
+
+        aGateway.findByCode(aCode);
+        aGateway.update(aCoupon);
+        aGateway.findByCode(aCode);
+
+        Mockito.verify(aDelegate, Mockito.times(2)).findByCode(aCode);
+        Assertions.assertEquals(List.of(aCoupon.getId().getValue()), aBroadcaster.published);
+    }
+
+    @Test
+    void givenACachedCoupon_whenCallDeleteById_thenShouldInvalidate() {
+        final var aCoupon = Fixture.Coupons.limitedCouponActivated();
+        final var aCode = aCoupon.getCode().getValue();
+        final var aDelegate = Mockito.mock(CouponGateway.class);
+        Mockito.when(aDelegate.findByCode(aCode))
+                .thenReturn(Optional.of(aCoupon))
+                .thenReturn(Optional.empty());
+
+        final var aGateway = new CouponNearCacheGateway(aDelegate, new InMemoryBroadcaster(), 100, 60_000);
+
+        Assertions.assertTrue(aGateway.findByCode(aCode).isPresent());
+        aGateway.deleteById(aCoupon.getId().getValue());
+
+        Assertions.assertTrue(aGateway.findByCode(aCode).isEmpty());
+        Mockito.verify(aDelegate, Mockito.times(1)).deleteById(aCoupon.getId().getValue());
+    }
+
+    @Test
+    void givenTwoNodes_whenOneUpdatesACoupon_thenShouldInvalidateTheOtherNode() {
+        final var aCoupon = Fixture.Coupons.limitedCouponActivated();
+        final var aCode = aCoupon.getCode().getValue();
+        final var aDelegate = Mockito.mock(CouponGateway.class);
+        final var aBroadcaster = new InMemoryBroadcaster();
+        Mockito.when(aDelegate.findByCode(aCode)).thenReturn(Optional.of(aCoupon));
+        Mockito.when(aDelegate.update(aCoupon)).thenReturn(aCoupon);
+
+        final var aNodeOne = new CouponNearCacheGateway(aDelegate, aBroadcaster, 100, 60_000);
+        final var aNodeTwo = new CouponNearCacheGateway(aDelegate, aBroadcaster, 100, 60_000);
+
+        aNodeTwo.findByCode(aCode);
+        aNodeOne.update(aCoupon);
+        aNodeTwo.findByCode(aCode);
+
+        Mockito.verify(aDelegate, Mockito.times(2)).findByCode(aCode);
+    }
+
+    private static class InMemoryBroadcaster implements CouponCacheInvalidationBroadcaster {
+
+        private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+        private final List<String> published = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void publish(final String aCouponId) {
+            this.published.add(aCouponId);
+            this.listeners.forEach(it -> it.accept(aCouponId));
+        }
+
+        @Override
+        public void subscribe(final Consumer<String> aListener) {
+            this.listeners.add(aListener);
+        }
+    }
+}
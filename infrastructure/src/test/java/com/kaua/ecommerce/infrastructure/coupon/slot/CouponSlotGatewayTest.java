@@ -1,17 +1,16 @@
 package com.kaua.ecommerce.infrastructure.coupon.slot;
 
 import com.kaua.ecommerce.domain.Fixture;
+import com.kaua.ecommerce.domain.coupon.Coupon;
 import com.kaua.ecommerce.infrastructure.DatabaseGatewayTest;
 import com.kaua.ecommerce.infrastructure.coupon.persistence.CouponJpaEntity;
 import com.kaua.ecommerce.infrastructure.coupon.persistence.CouponJpaEntityRepository;
-import com.kaua.ecommerce.infrastructure.coupon.slot.persistence.CouponSlotJpaEntity;
-import com.kaua.ecommerce.infrastructure.coupon.slot.persistence.CouponSlotJpaEntityRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
-import java.util.Set;
-
 @DatabaseGatewayTest
 public class CouponSlotGatewayTest {
 
@@ -19,89 +18,59 @@ public class CouponSlotGatewayTest {
     private CouponSlotMySQLGateway couponSlotGateway;
 
     @Autowired
-    private CouponSlotJpaEntityRepository couponSlotJpaRepository;
+    private CouponJpaEntityRepository couponJpaRepository;
 
     @Autowired
-    private CouponJpaEntityRepository couponJpaRepository;
+    private EntityManager entityManager;
 
     @Test
-    void givenAValidCouponSlots_whenCallCreateInBatch_shouldReturnTheSameCouponSlots() {
+    void givenAValidCoupon_whenCallCreateSlots_shouldSetTheRemainingUses() {
         final var aCoupon = Fixture.Coupons.limitedCouponActivated();
-        final var aEntity = CouponJpaEntity.toEntity(aCoupon);
-        this.couponJpaRepository.save(aEntity);
-
-        final var aCouponSlot = Fixture.Coupons.generateValidCouponSlot(aCoupon);
-        final var anotherCouponSlot = Fixture.Coupons.generateValidCouponSlot(aCoupon);
-
-        final var couponSlots = Set.of(aCouponSlot, anotherCouponSlot);
+        this.couponJpaRepository.save(CouponJpaEntity.toEntity(aCoupon));
 
-        Assertions.assertEquals(0, this.couponSlotJpaRepository.count());
+        this.couponSlotGateway.createSlots(aCoupon.getId().getValue(), 2);
 
-        final var actualCouponSlots = this.couponSlotGateway.createInBatch(couponSlots);
-
-        Assertions.assertEquals(couponSlots, actualCouponSlots);
-        Assertions.assertEquals(2, this.couponSlotJpaRepository.count());
+        Assertions.assertEquals(2, remainingUses(aCoupon));
+    }
 
-        final var actualCouponSlot = this.couponSlotJpaRepository.findById(aCouponSlot.getSlotId()).get()
-                .toDomain();
+    @Test
+    void givenAMillionUses_whenCallCreateSlots_shouldIssueASingleStatement() {
+        final var aCoupon = Fixture.Coupons.limitedCouponActivated();
+        this.couponJpaRepository.saveAndFlush(CouponJpaEntity.toEntity(aCoupon));
 
-        Assertions.assertEquals(aCouponSlot.getSlotId(), actualCouponSlot.getSlotId());
+        final var aStatistics = this.entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        aStatistics.clear();
 
-        final var actualAnotherCouponSlot = this.couponSlotJpaRepository.findById(anotherCouponSlot.getSlotId()).get();
+        this.couponSlotGateway.createSlots(aCoupon.getId().getValue(), 1_000_000);
 
-        Assertions.assertEquals(anotherCouponSlot.getSlotId(), actualAnotherCouponSlot.getId());
+        Assertions.assertEquals(0, aStatistics.getEntityInsertCount());
+        Assertions.assertEquals(1, aStatistics.getPrepareStatementCount());
+        Assertions.assertEquals(1_000_000, remainingUses(aCoupon));
     }
 
     @Test
     void givenAValidCouponId_whenCallDeleteAllByCouponId_shouldDeleteAllCouponSlots() {
-        final var aCoupon = Fixture.Coupons.limitedCouponActivated();
-        final var aEntity = CouponJpaEntity.toEntity(aCoupon);
-        this.couponJpaRepository.save(aEntity);
-
-        final var aCouponSlot = Fixture.Coupons.generateValidCouponSlot(aCoupon);
-        final var anotherCouponSlot = Fixture.Coupons.generateValidCouponSlot(aCoupon);
-
-        this.couponSlotJpaRepository.saveAll(Set.of(
-                CouponSlotJpaEntity.toEntity(aCouponSlot),
-                CouponSlotJpaEntity.toEntity(anotherCouponSlot)
-        ));
-
-        Assertions.assertEquals(2, this.couponSlotJpaRepository.count());
+        final var aCoupon = givenACouponWithSlots(2);
 
         this.couponSlotGateway.deleteAllByCouponId(aCoupon.getId().getValue());
 
-        Assertions.assertEquals(0, this.couponSlotJpaRepository.count());
+        Assertions.assertEquals(0, remainingUses(aCoupon));
     }
 
     @Test
     void givenAValidCouponId_whenCallDeleteAllByCouponIdAndCouponSlotsDoesNotExist_shouldNotDeleteAnyCouponSlots() {
-        final var aCoupon = Fixture.Coupons.limitedCouponActivated();
-        final var aEntity = CouponJpaEntity.toEntity(aCoupon);
-        this.couponJpaRepository.save(aEntity);
-
-        final var aCouponSlot = Fixture.Coupons.generateValidCouponSlot(aCoupon);
-        final var anotherCouponSlot = Fixture.Coupons.generateValidCouponSlot(aCoupon);
-
-        this.couponSlotJpaRepository.saveAll(Set.of(
-                CouponSlotJpaEntity.toEntity(aCouponSlot),
-                CouponSlotJpaEntity.toEntity(anotherCouponSlot)
-        ));
-
-        Assertions.assertEquals(2, this.couponSlotJpaRepository.count());
+        final var aCoupon = givenACouponWithSlots(2);
 
         this.couponSlotGateway.deleteAllByCouponId("invalid-coupon-id");
 
-        Assertions.assertEquals(2, this.couponSlotJpaRepository.count());
+        Assertions.assertEquals(2, remainingUses(aCoupon));
     }
 
     @Test
     void givenAValidCouponId_whenCallExistsByCouponId_shouldReturnTrue() {
-        final var aCoupon = Fixture.Coupons.limitedCouponActivated();
-        final var aEntity = CouponJpaEntity.toEntity(aCoupon);
-        this.couponJpaRepository.save(aEntity);
-
-        final var aCouponSlot = Fixture.Coupons.generateValidCouponSlot(aCoupon);
-        this.couponSlotJpaRepository.save(CouponSlotJpaEntity.toEntity(aCouponSlot));
+        final var aCoupon = givenACouponWithSlots(1);
 
         final var actual = this.couponSlotGateway.existsByCouponId(aCoupon.getId().getValue());
 
@@ -110,12 +79,7 @@ public class CouponSlotGatewayTest {
 
     @Test
     void givenAnInvalidCouponId_whenCallExistsByCouponId_shouldReturnFalse() {
-        final var aCoupon = Fixture.Coupons.limitedCouponActivated();
-        final var aEntity = CouponJpaEntity.toEntity(aCoupon);
-        this.couponJpaRepository.save(aEntity);
-
-        final var aCouponSlot = Fixture.Coupons.generateValidCouponSlot(aCoupon);
-        this.couponSlotJpaRepository.save(CouponSlotJpaEntity.toEntity(aCouponSlot));
+        givenACouponWithSlots(1);
 
         final var actual = this.couponSlotGateway.existsByCouponId("invalid-coupon-id");
 
@@ -124,22 +88,39 @@ public class CouponSlotGatewayTest {
 
     @Test
     void givenAValidCouponId_whenCallDeleteFirstSlotByCouponId_shouldDeleteFirstCouponSlot() {
-        final var aCoupon = Fixture.Coupons.limitedCouponActivated();
-        final var aEntity = CouponJpaEntity.toEntity(aCoupon);
-        this.couponJpaRepository.save(aEntity);
+        final var aCoupon = givenACouponWithSlots(2);
 
-        final var aCouponSlot = Fixture.Coupons.generateValidCouponSlot(aCoupon);
-        final var anotherCouponSlot = Fixture.Coupons.generateValidCouponSlot(aCoupon);
+        Assertions.assertTrue(this.couponSlotGateway.deleteFirstSlotByCouponId(aCoupon.getId().getValue()));
 
-        this.couponSlotJpaRepository.saveAll(Set.of(
-                CouponSlotJpaEntity.toEntity(aCouponSlot),
-                CouponSlotJpaEntity.toEntity(anotherCouponSlot)
-        ));
+        Assertions.assertEquals(1, remainingUses(aCoupon));
+    }
+
+    @Test
+    void givenACouponWithoutSlots_whenCallDeleteFirstSlotByCouponId_shouldNotGoBelowZero() {
+        final var aCoupon = givenACouponWithSlots(0);
 
-        Assertions.assertEquals(2, this.couponSlotJpaRepository.count());
+        Assertions.assertFalse(this.couponSlotGateway.deleteFirstSlotByCouponId(aCoupon.getId().getValue()));
 
-        this.couponSlotGateway.deleteFirstSlotByCouponId(aCoupon.getId().getValue());
+        Assertions.assertEquals(0, remainingUses(aCoupon));
+    }
+
+    @Test
+    void givenMorePendingUsesThanSlots_whenCallDeleteSlotsByCouponId_shouldStopAtZero() {
+        final var aCoupon = givenACouponWithSlots(3);
+
+        this.couponSlotGateway.deleteSlotsByCouponId(aCoupon.getId().getValue(), 5);
+
+        Assertions.assertEquals(0, remainingUses(aCoupon));
+    }
+
+    private Coupon givenACouponWithSlots(final int aSlots) {
+        final var aCoupon = Fixture.Coupons.limitedCouponActivated();
+        this.couponJpaRepository.saveAndFlush(CouponJpaEntity.toEntity(aCoupon));
+        this.couponSlotGateway.createSlots(aCoupon.getId().getValue(), aSlots);
+        return aCoupon;
+    }
 
-        Assertions.assertEquals(1, this.couponSlotJpaRepository.count());
+    private long remainingUses(final Coupon aCoupon) {
+        return this.couponSlotGateway.countByCouponId(aCoupon.getId().getValue());
     }
 }
@@ -0,0 +1,187 @@
+package com.kaua.ecommerce.infrastructure.coupon.slot;
+
+import com.kaua.ecommerce.application.gateways.CouponSlotGateway;
+import com.kaua.ecommerce.infrastructure.UnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@UnitTest
+public class CouponSlotLeasingGatewayTest {
+
+    private static final String COUPON_ID = "coupon-id";
+
+    @Test
+    void givenACouponWithUses_whenCallDeleteFirstSlot_thenShouldServeTheLeasedBlocksFromMemory() {
+        final var aLeaser = new InMemoryCouponSlotLeaser(COUPON_ID, 25);
+        final var aGateway = new CouponSlotLeasingGateway(Mockito.mock(CouponSlotGateway.class), aLeaser, 10, 60_000);
+
+        for (int i = 0; i < 25; i++) {
+            Assertions.assertTrue(aGateway.deleteFirstSlotByCouponId(COUPON_ID));
+        }
+
+        Assertions.assertFalse(aGateway.deleteFirstSlotByCouponId(COUPON_ID));
+        Assertions.assertEquals(3, aGateway.getLeasedBlocks());
+        Assertions.assertEquals(4, aLeaser.leases.get());
+        Assertions.assertEquals(0, aLeaser.remaining(COUPON_ID));
+
+        aGateway.destroy();
+    }
+
+    @Test
+    void givenManyThreadsAndNodes_whenCallDeleteFirstSlot_thenShouldNeverOversell() throws Exception {
+        final var aUses = 1_000;
+        final var aLeaser = new InMemoryCouponSlotLeaser(COUPON_ID, aUses);
+        final var aNodes = new CouponSlotLeasingGateway[]{
+                new CouponSlotLeasingGateway(Mockito.mock(CouponSlotGateway.class), aLeaser, 100, 60_000),
+                new CouponSlotLeasingGateway(Mockito.mock(CouponSlotGateway.class), aLeaser, 100, 60_000)
+        };
+        final var aThreads = 16;
+        final var aAppliesPerThread = 100;
+
+        final var aApplied = new AtomicInteger();
+        final var aStart = new CountDownLatch(1);
+        final var aExecutor = Executors.newFixedThreadPool(aThreads);
+        final var aFutures = new ArrayList<Future<?>>();
+
+        for (int t = 0; t < aThreads; t++) {
+            final var aNode = aNodes[t % aNodes.length];
+            aFutures.add(aExecutor.submit(() -> {
+                aStart.await();
+                for (int i = 0; i < aAppliesPerThread; i++) {
+                    if (aNode.deleteFirstSlotByCouponId(COUPON_ID)) {
+                        aApplied.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        aStart.countDown();
+        for (final var aFuture : aFutures) {
+            aFuture.get(30, TimeUnit.SECONDS);
+        }
+        aExecutor.shutdown();
+
+        // a node may keep part of its last block when its threads are done
+        final var aLeftover = aNodes[0].leasedUses() + aNodes[1].leasedUses();
+        Assertions.assertEquals(aUses, aApplied.get() + aLeftover);
+        Assertions.assertEquals(0, aLeaser.remaining(COUPON_ID));
+
+        for (final var aNode : aNodes) {
+            aNode.destroy();
+        }
+
+        Assertions.assertEquals(aUses - aApplied.get(), aLeaser.remaining(COUPON_ID));
+    }
+
+    @Test
+    void givenALeaseWithLeftover_whenDestroy_thenShouldReturnTheLeftover() {
+        final var aLeaser = new InMemoryCouponSlotLeaser(COUPON_ID, 50);
+        final var aGateway = new CouponSlotLeasingGateway(Mockito.mock(CouponSlotGateway.class), aLeaser, 10, 60_000);
+
+        for (int i = 0; i < 3; i++) {
+            aGateway.deleteFirstSlotByCouponId(COUPON_ID);
+        }
+        Assertions.assertEquals(40, aLeaser.remaining(COUPON_ID));
+
+        aGateway.destroy();
+
+        Assertions.assertEquals(47, aLeaser.remaining(COUPON_ID));
+        Assertions.assertEquals(7, aGateway.getReleasedUses());
+    }
+
+    @Test
+    void givenAnExpiredLease_whenReleaseExpiredLeases_thenShouldReturnTheLeftoverAndLeaseAgainOnDemand() throws Exception {
+        final var aLeaser = new InMemoryCouponSlotLeaser(COUPON_ID, 50);
+        final var aGateway = new CouponSlotLeasingGateway(Mockito.mock(CouponSlotGateway.class), aLeaser, 10, 1);
+
+        aGateway.deleteFirstSlotByCouponId(COUPON_ID);
+        Thread.sleep(5);
+        aGateway.releaseExpiredLeases();
+
+        Assertions.assertEquals(49, aLeaser.remaining(COUPON_ID));
+        Assertions.assertEquals(0, aGateway.leasedUses());
+
+        Assertions.assertTrue(aGateway.deleteFirstSlotByCouponId(COUPON_ID));
+
+        aGateway.destroy();
+        Assertions.assertEquals(48, aLeaser.remaining(COUPON_ID));
+    }
+
+    @Test
+    void givenALeasedCoupon_whenCallDeleteAllByCouponId_thenShouldDiscardTheLeaseAndDelegate() {
+        final var aDelegate = Mockito.mock(CouponSlotGateway.class);
+        final var aLeaser = new InMemoryCouponSlotLeaser(COUPON_ID, 50);
+        final var aGateway = new CouponSlotLeasingGateway(aDelegate, aLeaser, 10, 60_000);
+
+        aGateway.deleteFirstSlotByCouponId(COUPON_ID);
+        aGateway.deleteAllByCouponId(COUPON_ID);
+
+        Mockito.verify(aDelegate, Mockito.times(1)).deleteAllByCouponId(COUPON_ID);
+        Assertions.assertEquals(0, aGateway.leasedUses());
+        Assertions.assertFalse(aGateway.existsByCouponId(COUPON_ID));
+
+        aGateway.destroy();
+        Assertions.assertEquals(0, aGateway.getReleasedUses());
+    }
+
+    @Test
+    void givenAMeterRegistry_whenBindGateway_thenShouldExposeLeasesMetrics() {
+        final var aRegistry = new SimpleMeterRegistry();
+        final var aGateway = new CouponSlotLeasingGateway(
+                Mockito.mock(CouponSlotGateway.class),
+                new InMemoryCouponSlotLeaser(COUPON_ID, 50),
+                10,
+                60_000
+        );
+        aGateway.bindTo(aRegistry);
+
+        aGateway.deleteFirstSlotByCouponId(COUPON_ID);
+
+        Assertions.assertEquals(1, aRegistry.get("coupons.slots.leases").functionCounter().count());
+        Assertions.assertEquals(9, aRegistry.get("coupons.slots.leased").gauge().value());
+
+        aGateway.destroy();
+
+        Assertions.assertEquals(9, aRegistry.get("coupons.slots.released").functionCounter().count());
+    }
+
+    private static class InMemoryCouponSlotLeaser implements CouponSlotLeaser {
+
+        private final Map<String, AtomicInteger> remaining = new ConcurrentHashMap<>();
+        private final AtomicInteger leases = new AtomicInteger();
+
+        private InMemoryCouponSlotLeaser(final String aCouponId, final int aUses) {
+            this.remaining.put(aCouponId, new AtomicInteger(aUses));
+        }
+
+        @Override
+        public synchronized int lease(final String aCouponId, final int aSize) {
+            this.leases.incrementAndGet();
+            final var aRemaining = this.remaining.get(aCouponId);
+            final var aGranted = Math.min(aRemaining.get(), aSize);
+            aRemaining.addAndGet(-aGranted);
+            return aGranted;
+        }
+
+        @Override
+        public void release(final String aCouponId, final int aQuantity) {
+            this.remaining.get(aCouponId).addAndGet(aQuantity);
+        }
+
+        private int remaining(final String aCouponId) {
+            return this.remaining.get(aCouponId).get();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.kaua.ecommerce.infrastructure.coupon.slot;
+
+import com.kaua.ecommerce.config.CacheTestConfiguration;
+import com.kaua.ecommerce.domain.coupon.Coupon;
+import com.kaua.ecommerce.domain.coupon.CouponType;
+import com.kaua.ecommerce.domain.utils.InstantUtils;
+import com.kaua.ecommerce.infrastructure.CacheGatewayTest;
+import com.kaua.ecommerce.infrastructure.coupon.persistence.CouponJpaEntity;
+import com.kaua.ecommerce.infrastructure.coupon.persistence.CouponJpaEntityRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@CacheGatewayTest
+@TestPropertySource(properties = {
+        "coupon.slots.store=redis",
+        "coupon.slots.reconcile-interval=3600000"
+})
+public class CouponSlotRedisGatewayTest extends CacheTestConfiguration {
+
+    @Autowired
+    private CouponSlotRedisGateway couponSlotGateway;
+
+    @Autowired
+    private CouponSlotMySQLGateway couponSlotMySQLGateway;
+
+    @Autowired
+    private CouponJpaEntityRepository couponJpaRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Test
+    void givenConcurrentApplies_whenCallDeleteFirstSlotByCouponId_thenShouldNeverOversell() throws Exception {
+        final var aSlots = 50;
+        final var aCoupon = givenACouponWithSlots(aSlots);
+        final var aCouponId = aCoupon.getId().getValue();
+
+        final var aThreads = 16;
+        final var aAppliesPerThread = 10;
+        final var aApplied = new AtomicInteger();
+        final var aStart = new CountDownLatch(1);
+        final var aExecutor = Executors.newFixedThreadPool(aThreads);
+        final var aFutures = new ArrayList<Future<?>>();
+
+        for (int t = 0; t < aThreads; t++) {
+            aFutures.add(aExecutor.submit(() -> {
+                aStart.await();
+                for (int i = 0; i < aAppliesPerThread; i++) {
+                    if (this.couponSlotGateway.deleteFirstSlotByCouponId(aCouponId)) {
+                        aApplied.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        aStart.countDown();
+        for (final var aFuture : aFutures) {
+            aFuture.get(30, TimeUnit.SECONDS);
+        }
+        aExecutor.shutdown();
+
+        Assertions.assertEquals(aSlots, aApplied.get());
+        Assertions.assertFalse(this.couponSlotGateway.existsByCouponId(aCouponId));
+        Assertions.assertEquals("0", this.redisTemplate.opsForValue()
+                .get(CouponSlotRedisGateway.remainingKey(aCouponId)));
+
+        this.couponSlotGateway.reconcile();
+
+        Assertions.assertEquals(0, this.couponSlotMySQLGateway.countByCouponId(aCouponId));
+        Assertions.assertEquals("0", this.redisTemplate.opsForValue()
+                .get(CouponSlotRedisGateway.pendingKey(aCouponId)));
+    }
+
+    @Test
+    void givenALostCounterWithPendingUses_whenCallDeleteFirstSlotByCouponId_thenShouldRebuildWithoutThePendingUses() {
+        final var aCoupon = givenACouponWithSlots(10);
+        final var aCouponId = aCoupon.getId().getValue();
+
+        Assertions.assertTrue(this.couponSlotGateway.deleteFirstSlotByCouponId(aCouponId));
+        Assertions.assertTrue(this.couponSlotGateway.deleteFirstSlotByCouponId(aCouponId));
+
+        this.redisTemplate.delete(CouponSlotRedisGateway.remainingKey(aCouponId));
+
+        Assertions.assertTrue(this.couponSlotGateway.deleteFirstSlotByCouponId(aCouponId));
+        Assertions.assertEquals("7", this.redisTemplate.opsForValue()
+                .get(CouponSlotRedisGateway.remainingKey(aCouponId)));
+
+        this.couponSlotGateway.reconcile();
+
+        Assertions.assertEquals(7, this.couponSlotMySQLGateway.countByCouponId(aCouponId));
+    }
+
+    @Test
+    void givenACouponWithSlots_whenCallDeleteAllByCouponId_thenShouldDeleteSlotsAndCounter() {
+        final var aCoupon = givenACouponWithSlots(3);
+        final var aCouponId = aCoupon.getId().getValue();
+
+        Assertions.assertTrue(this.couponSlotGateway.deleteFirstSlotByCouponId(aCouponId));
+
+        this.couponSlotGateway.deleteAllByCouponId(aCouponId);
+
+        Assertions.assertEquals(0, this.couponSlotMySQLGateway.countByCouponId(aCouponId));
+        Assertions.assertFalse(this.redisTemplate.hasKey(CouponSlotRedisGateway.remainingKey(aCouponId)));
+        Assertions.assertFalse(this.redisTemplate.hasKey(CouponSlotRedisGateway.pendingKey(aCouponId)));
+    }
+
+    private Coupon givenACouponWithSlots(final int aSlots) {
+        // a new coupon for each test, the counters of a coupon id outlive the database clean up
+        final var aCoupon = Coupon.newCoupon(
+                "SLOTS_" + aSlots,
+                10.0f,
+                0.0f,
+                InstantUtils.now().plus(1, ChronoUnit.DAYS),
+                true,
+                CouponType.LIMITED
+        );
+        this.couponJpaRepository.save(CouponJpaEntity.toEntity(aCoupon));
+        this.couponSlotGateway.createSlots(aCoupon.getId().getValue(), aSlots);
+        return aCoupon;
+    }
+}
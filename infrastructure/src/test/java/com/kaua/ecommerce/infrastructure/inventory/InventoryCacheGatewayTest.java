@@ -0,0 +1,135 @@
+package com.kaua.ecommerce.infrastructure.inventory;
+
+import com.kaua.ecommerce.config.CacheTestConfiguration;
+import com.kaua.ecommerce.domain.inventory.Inventory;
+import com.kaua.ecommerce.domain.inventory.InventoryID;
+import com.kaua.ecommerce.domain.product.ProductID;
+import com.kaua.ecommerce.infrastructure.CacheGatewayTest;
+import com.kaua.ecommerce.infrastructure.inventory.persistence.InventoryCacheEntityRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.convert.RedisConverter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+@CacheGatewayTest
+public class InventoryCacheGatewayTest extends CacheTestConfiguration {
+
+    @Autowired
+    private InventoryCacheGateway inventoryCacheGateway;
+
+    @Autowired
+    private InventoryCacheEntityRepository inventoryCacheRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private RedisConverter redisConverter;
+
+    @Test
+    void givenAValidInventory_whenCallSave_shouldStoreItInCacheBySku() {
+        final var aInventory = Inventory.newInventory(ProductID.unique().getValue(), "sku-cache-save", 10);
+
+        Assertions.assertEquals(0, this.inventoryCacheRepository.count());
+
+        this.inventoryCacheGateway.save(aInventory);
+
+        final var aEntity = this.inventoryCacheRepository.findById(aInventory.getSku()).get();
+        Assertions.assertEquals(aInventory.getId().getValue(), aEntity.getInventoryId());
+        Assertions.assertEquals(aInventory.getProductId(), aEntity.getProductId());
+        Assertions.assertEquals(aInventory.getQuantity(), aEntity.getQuantity());
+        Assertions.assertEquals(aInventory.getVersion(), aEntity.getVersion());
+        Assertions.assertTrue(aEntity.getTimeToLive() > 0);
+
+        final var aCached = this.inventoryCacheGateway.get(aInventory.getSku()).get();
+        Assertions.assertEquals(aInventory.getId().getValue(), aCached.getId().getValue());
+        Assertions.assertEquals(aInventory.getSku(), aCached.getSku());
+        Assertions.assertEquals(aInventory.getQuantity(), aCached.getQuantity());
+        Assertions.assertEquals(aInventory.getCreatedAt(), aCached.getCreatedAt());
+        Assertions.assertEquals(aInventory.getUpdatedAt(), aCached.getUpdatedAt());
+    }
+
+    @Test
+    void givenACachedInventory_whenCallSaveWithAnOlderVersion_shouldKeepTheNewerOne() {
+        final var aNewer = Inventory.with(InventoryID.unique().getValue(), "product-id", "sku-cache-version",
+                5, null, null, 3);
+        final var aOlder = Inventory.with(aNewer.getId().getValue(), "product-id", "sku-cache-version",
+                20, null, null, 2);
+
+        this.inventoryCacheGateway.save(aNewer);
+        this.inventoryCacheGateway.save(aOlder);
+
+        Assertions.assertEquals(5, this.inventoryCacheGateway.get("sku-cache-version").get().getQuantity());
+        Assertions.assertEquals(3, this.inventoryCacheRepository.findById("sku-cache-version").get().getVersion());
+    }
+
+    @Test
+    void givenANewerVersionSavedByAnotherNode_whenCallSaveWithAnOlderVersion_shouldKeepTheNewerOneInRedis() {
+        final var aNewer = Inventory.with(InventoryID.unique().getValue(), "product-id", "sku-cache-nodes",
+                5, null, null, 3);
+        final var aOlder = Inventory.with(aNewer.getId().getValue(), "product-id", "sku-cache-nodes",
+                20, null, null, 2);
+
+        newNode().save(aNewer);
+        // a node with nothing in its local cache, only Redis can reject the older version
+        newNode().save(aOlder);
+
+        final var aEntity = this.inventoryCacheRepository.findById("sku-cache-nodes").get();
+        Assertions.assertEquals(3, aEntity.getVersion());
+        Assertions.assertEquals(5, aEntity.getQuantity());
+        Assertions.assertTrue(aEntity.getTimeToLive() > 0);
+        Assertions.assertEquals(5, newNode().get("sku-cache-nodes").get().getQuantity());
+    }
+
+    @Test
+    void givenConcurrentSavesFromManyNodes_whenTheyInterleave_shouldKeepTheHighestVersionInRedis() {
+        final var aInventoryId = InventoryID.unique().getValue();
+        final var aExecutor = Executors.newFixedThreadPool(8);
+
+        try {
+            CompletableFuture.allOf(IntStream.rangeClosed(1, 50)
+                    .mapToObj(aVersion -> CompletableFuture.runAsync(() -> newNode().save(Inventory.with(
+                            aInventoryId, "product-id", "sku-cache-concurrent", aVersion, null, null, aVersion
+                    )), aExecutor))
+                    .toArray(CompletableFuture[]::new)).join();
+        } finally {
+            aExecutor.shutdown();
+        }
+
+        final var aEntity = this.inventoryCacheRepository.findById("sku-cache-concurrent").get();
+        Assertions.assertEquals(50, aEntity.getVersion());
+        Assertions.assertEquals(50, aEntity.getQuantity());
+    }
+
+    @Test
+    void givenACachedInventory_whenCallDelete_shouldRemoveItFromBothLevels() {
+        final var aInventory = Inventory.newInventory(ProductID.unique().getValue(), "sku-cache-delete", 10);
+        this.inventoryCacheGateway.save(aInventory);
+
+        this.inventoryCacheGateway.delete(aInventory.getSku());
+
+        Assertions.assertTrue(this.inventoryCacheGateway.get(aInventory.getSku()).isEmpty());
+        Assertions.assertEquals(0, this.inventoryCacheRepository.count());
+    }
+
+    @Test
+    void givenAnUnknownSku_whenCallGet_shouldReturnEmpty() {
+        Assertions.assertTrue(this.inventoryCacheGateway.get("sku-cache-unknown").isEmpty());
+    }
+
+    private InventoryCacheGateway newNode() {
+        return new InventoryCacheGateway(
+                this.inventoryCacheRepository,
+                this.redisTemplate,
+                this.redisConverter,
+                3600000,
+                10000,
+                1000
+        );
+    }
+}
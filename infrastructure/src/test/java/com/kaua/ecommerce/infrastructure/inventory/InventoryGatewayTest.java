@@ -1,17 +1,26 @@
 package com.kaua.ecommerce.infrastructure.inventory;
 
+import com.kaua.ecommerce.domain.exceptions.DomainException;
 import com.kaua.ecommerce.domain.inventory.Inventory;
 import com.kaua.ecommerce.domain.pagination.SearchQuery;
 import com.kaua.ecommerce.domain.product.ProductID;
 import com.kaua.ecommerce.infrastructure.DatabaseGatewayTest;
 import com.kaua.ecommerce.infrastructure.inventory.persistence.InventoryJpaEntity;
 import com.kaua.ecommerce.infrastructure.inventory.persistence.InventoryJpaEntityRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @DatabaseGatewayTest
 public class InventoryGatewayTest {
@@ -22,6 +31,9 @@ public class InventoryGatewayTest {
     @Autowired
     private InventoryJpaEntityRepository inventoryRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void givenAValidInventories_whenCallCreateInBatch_shouldPersistInventories() {
         final var aProductId = ProductID.unique().getValue();
@@ -143,6 +155,25 @@ public class InventoryGatewayTest {
         Assertions.assertEquals(0, this.inventoryRepository.count());
     }
 
+    @Test
+    void givenValidSkus_whenCallDeleteBySkus_shouldDeleteOnlyTheGivenSkus() {
+        final var aProductId = ProductID.unique().getValue();
+
+        this.inventoryRepository.saveAllAndFlush(List.of(
+                InventoryJpaEntity.toEntity(Inventory.newInventory(aProductId, "sku-one", 10)),
+                InventoryJpaEntity.toEntity(Inventory.newInventory(aProductId, "sku-two", 20)),
+                InventoryJpaEntity.toEntity(Inventory.newInventory(aProductId, "sku-three", 30))
+        ));
+
+        Assertions.assertEquals(3, this.inventoryRepository.count());
+
+        Assertions.assertDoesNotThrow(() -> this.inventoryGateway
+                .deleteBySkus(Set.of("sku-one", "sku-two", "unknown-sku")));
+
+        Assertions.assertEquals(1, this.inventoryRepository.count());
+        Assertions.assertTrue(this.inventoryRepository.findBySku("sku-three").isPresent());
+    }
+
     @Test
     void givenAnInvalidSku_whenCallDeleteBySku_shouldBeOk() {
         final var aSku = "sku";
@@ -308,4 +339,188 @@ public class InventoryGatewayTest {
         Assertions.assertEquals(aPerPage, actualResult.items().size());
         Assertions.assertEquals(aInventory.getSku(), actualResult.items().get(0).getSku());
     }
+
+    @Test
+    void givenACursorQuery_whenCallFindAllByProductId_shouldWalkAllPagesWithTheNextCursor() {
+        final var aInventories = IntStream.range(0, 5)
+                .mapToObj(i -> Inventory.newInventory("1", "sku-" + i, 10))
+                .toList();
+        this.inventoryRepository.saveAll(aInventories.stream().map(InventoryJpaEntity::toEntity).toList());
+        this.inventoryRepository.save(InventoryJpaEntity.toEntity(Inventory.newInventory("2", "sku-a", 10)));
+
+        final var aSkus = new ArrayList<String>();
+        var aCursor = "";
+        var aPages = 0;
+        while (aCursor != null) {
+            final var aQuery = new SearchQuery(0, 2, "", "sku", "asc", null, aCursor, true);
+            final var actualResult = this.inventoryGateway.findAllByProductId(aQuery, "1");
+
+            Assertions.assertEquals(-1, actualResult.currentPage());
+            Assertions.assertEquals(-1, actualResult.totalPages());
+            Assertions.assertEquals(-1, actualResult.totalItems());
+            actualResult.items().forEach(it -> aSkus.add(it.getSku()));
+            aCursor = actualResult.nextCursor();
+            aPages++;
+        }
+
+        Assertions.assertEquals(3, aPages);
+        Assertions.assertEquals(List.of("sku-0", "sku-1", "sku-2", "sku-3", "sku-4"), aSkus);
+    }
+
+    @Test
+    void givenACursorQueryDescWithTotal_whenCallFindAllByProductId_shouldReturnTheNextPageAndTheTotal() {
+        final var aInventories = IntStream.range(0, 3)
+                .mapToObj(i -> Inventory.newInventory("1", "sku-" + i, 10))
+                .toList();
+        this.inventoryRepository.saveAll(aInventories.stream().map(InventoryJpaEntity::toEntity).toList());
+
+        final var aFirstPage = this.inventoryGateway.findAllByProductId(
+                new SearchQuery(0, 2, "", "sku", "desc", null, "", false), "1");
+        final var aSecondPage = this.inventoryGateway.findAllByProductId(
+                new SearchQuery(0, 2, "", "sku", "desc", null, aFirstPage.nextCursor(), false), "1");
+
+        Assertions.assertEquals(3, aFirstPage.totalItems());
+        Assertions.assertEquals(2, aFirstPage.totalPages());
+        Assertions.assertEquals("sku-2", aFirstPage.items().get(0).getSku());
+        Assertions.assertEquals("sku-1", aFirstPage.items().get(1).getSku());
+        Assertions.assertEquals(1, aSecondPage.items().size());
+        Assertions.assertEquals("sku-0", aSecondPage.items().get(0).getSku());
+        Assertions.assertNull(aSecondPage.nextCursor());
+    }
+
+    @Test
+    void givenACursorOfAnotherSort_whenCallFindAllByProductId_shouldThrowDomainException() {
+        final var aInventories = IntStream.range(0, 3)
+                .mapToObj(i -> Inventory.newInventory("1", "sku-" + i, 10))
+                .toList();
+        this.inventoryRepository.saveAll(aInventories.stream().map(InventoryJpaEntity::toEntity).toList());
+
+        final var aCursor = this.inventoryGateway.findAllByProductId(
+                new SearchQuery(0, 2, "", "sku", "asc", null, "", true), "1").nextCursor();
+
+        final var aQuery = new SearchQuery(0, 2, "", "sku", "desc", null, aCursor, true);
+        Assertions.assertThrows(DomainException.class,
+                () -> this.inventoryGateway.findAllByProductId(aQuery, "1"));
+
+        final var aGarbageQuery = new SearchQuery(0, 2, "", "sku", "asc", null, "not-a-cursor", true);
+        Assertions.assertThrows(DomainException.class,
+                () -> this.inventoryGateway.findAllByProductId(aGarbageQuery, "1"));
+    }
+
+    @Test
+    void givenACursorWithoutDirection_whenCallFindAllByProductId_shouldThrowDomainException() {
+        final var aCursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"sort\":\"sku\",\"value\":\"sku-0\",\"id\":\"1\"}".getBytes(StandardCharsets.UTF_8));
+
+        final var aQuery = new SearchQuery(0, 2, "", "sku", "asc", null, aCursor, true);
+        final var actualException = Assertions.assertThrows(DomainException.class,
+                () -> this.inventoryGateway.findAllByProductId(aQuery, "1"));
+
+        Assertions.assertEquals("'cursor' is invalid for the given sort and direction",
+                actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenManyInventories_whenCallCreateInBatch_shouldInsertInBatchesWithoutSelects() {
+        final var aProductId = ProductID.unique().getValue();
+        final var aInventories = IntStream.range(0, 120)
+                .mapToObj(it -> Inventory.newInventory(aProductId, "sku-" + it, it))
+                .collect(Collectors.toSet());
+
+        final var aStatistics = this.entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        aStatistics.clear();
+
+        this.inventoryGateway.createInBatch(aInventories);
+        this.entityManager.flush();
+
+        Assertions.assertEquals(120, aStatistics.getEntityInsertCount());
+        Assertions.assertEquals(3, aStatistics.getPrepareStatementCount());
+        Assertions.assertEquals(120, this.inventoryRepository.count());
+    }
+
+    @Test
+    void givenAPersistedInventory_whenCallUpdate_shouldUpdateInsteadOfInsert() {
+        final var aInventory = Inventory.newInventory(ProductID.unique().getValue(), "sku-one", 10);
+        this.inventoryRepository.saveAndFlush(InventoryJpaEntity.toEntity(aInventory));
+
+        final var aUpdatedInventory = this.inventoryRepository.findById(aInventory.getId().getValue()).get()
+                .toDomain()
+                .increaseQuantity(5);
+
+        final var aStatistics = this.entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        aStatistics.clear();
+
+        this.inventoryGateway.update(aUpdatedInventory);
+        this.entityManager.flush();
+
+        Assertions.assertEquals(0, aStatistics.getEntityInsertCount());
+        Assertions.assertEquals(1, aStatistics.getEntityUpdateCount());
+        Assertions.assertEquals(15, this.inventoryRepository.findById(aInventory.getId().getValue()).get().getQuantity());
+    }
+
+    @Test
+    void givenAnInventoryWithEnoughQuantity_whenCallDecreaseQuantityBySku_shouldReturnTheNewQuantity() {
+        final var aInventory = Inventory.newInventory(ProductID.unique().getValue(), "sku-one", 10);
+        this.inventoryRepository.saveAndFlush(InventoryJpaEntity.toEntity(aInventory));
+
+        final var aNewQuantity = this.inventoryGateway.decreaseQuantityBySku("sku-one", 4);
+
+        Assertions.assertEquals(6, aNewQuantity.get());
+
+        final var aPersistedInventory = this.inventoryRepository.findBySku("sku-one").get();
+
+        Assertions.assertEquals(6, aPersistedInventory.getQuantity());
+        Assertions.assertEquals(aInventory.getVersion() + 1, aPersistedInventory.getVersion());
+        Assertions.assertFalse(aPersistedInventory.getUpdatedAt().isBefore(aInventory.getUpdatedAt()));
+    }
+
+    @Test
+    void givenAnInventoryWithoutEnoughQuantity_whenCallDecreaseQuantityBySku_shouldReturnEmptyAndKeepQuantity() {
+        final var aInventory = Inventory.newInventory(ProductID.unique().getValue(), "sku-one", 3);
+        this.inventoryRepository.saveAndFlush(InventoryJpaEntity.toEntity(aInventory));
+
+        final var aNewQuantity = this.inventoryGateway.decreaseQuantityBySku("sku-one", 4);
+
+        Assertions.assertTrue(aNewQuantity.isEmpty());
+        Assertions.assertEquals(3, this.inventoryRepository.findBySku("sku-one").get().getQuantity());
+    }
+
+    @Test
+    void givenANonExistentSku_whenCallDecreaseQuantityBySku_shouldReturnEmpty() {
+        Assertions.assertTrue(this.inventoryGateway.decreaseQuantityBySku("sku-one", 1).isEmpty());
+    }
+
+    @Test
+    void givenManySkus_whenCallAdjustQuantitiesBySkus_shouldApplyOnlyTheLinesWithEnoughQuantity() {
+        final var aProductId = ProductID.unique().getValue();
+        final var aInventoryOne = Inventory.newInventory(aProductId, "sku-one", 10);
+        final var aInventoryTwo = Inventory.newInventory(aProductId, "sku-two", 2);
+        this.inventoryRepository.saveAllAndFlush(List.of(
+                InventoryJpaEntity.toEntity(aInventoryOne),
+                InventoryJpaEntity.toEntity(aInventoryTwo)
+        ));
+
+        final var aAppliedSkus = this.inventoryGateway.adjustQuantitiesBySkus(Map.of(
+                "sku-one", 5,
+                "sku-two", -3,
+                "sku-three", 1
+        ));
+
+        Assertions.assertEquals(Set.of("sku-one"), aAppliedSkus);
+
+        final var aInventories = this.inventoryGateway.findBySkus(Set.of("sku-one", "sku-two", "sku-three"))
+                .stream()
+                .collect(Collectors.toMap(Inventory::getSku, Inventory::getQuantity));
+
+        Assertions.assertEquals(Map.of("sku-one", 15, "sku-two", 2), aInventories);
+    }
+
+    @Test
+    void givenAnEmptySkus_whenCallFindBySkus_shouldReturnEmptyList() {
+        Assertions.assertTrue(this.inventoryGateway.findBySkus(Set.of()).isEmpty());
+    }
 }
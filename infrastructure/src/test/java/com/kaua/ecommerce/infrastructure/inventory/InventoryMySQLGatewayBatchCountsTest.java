@@ -0,0 +1,58 @@
+package com.kaua.ecommerce.infrastructure.inventory;
+
+import com.kaua.ecommerce.infrastructure.UnitTest;
+import com.kaua.ecommerce.infrastructure.inventory.persistence.InventoryJpaEntityRepository;
+import com.kaua.ecommerce.infrastructure.persistence.TextSearchSpecifications;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@UnitTest
+public class InventoryMySQLGatewayBatchCountsTest {
+
+    private final JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+
+    private final InventoryMySQLGateway inventoryGateway = new InventoryMySQLGateway(
+            Mockito.mock(InventoryJpaEntityRepository.class),
+            this.jdbcTemplate,
+            Mockito.mock(EntityManager.class),
+            Mockito.mock(TextSearchSpecifications.class)
+    );
+
+    @Test
+    void givenARewrittenBatchWithoutCounts_whenCallAdjustQuantitiesBySkus_shouldReadTheAppliedSkusBack() {
+        Mockito.when(jdbcTemplate.batchUpdate(Mockito.anyString(), Mockito.anyCollection(), Mockito.anyInt(), Mockito.any()))
+                .thenReturn(new int[][]{{Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO}});
+        Mockito.when(jdbcTemplate.queryForList(Mockito.anyString(), Mockito.eq(String.class), Mockito.any(Object[].class)))
+                .thenReturn(List.of("sku-one"));
+
+        final var aAppliedSkus = this.inventoryGateway.adjustQuantitiesBySkus(Map.of(
+                "sku-one", 5,
+                "sku-two", -3
+        ));
+
+        Assertions.assertEquals(Set.of("sku-one"), aAppliedSkus);
+    }
+
+    @Test
+    void givenABatchWithCounts_whenCallAdjustQuantitiesBySkus_shouldNotQueryTheAppliedSkus() {
+        Mockito.when(jdbcTemplate.batchUpdate(Mockito.anyString(), Mockito.anyCollection(), Mockito.anyInt(), Mockito.any()))
+                .thenReturn(new int[][]{{1, 0}});
+
+        final var aAppliedSkus = this.inventoryGateway.adjustQuantitiesBySkus(Map.of(
+                "sku-one", 5,
+                "sku-two", -3
+        ));
+
+        Assertions.assertEquals(Set.of("sku-one"), aAppliedSkus);
+        Mockito.verify(jdbcTemplate, Mockito.never())
+                .queryForList(Mockito.anyString(), Mockito.eq(String.class), Mockito.any(Object[].class));
+    }
+}
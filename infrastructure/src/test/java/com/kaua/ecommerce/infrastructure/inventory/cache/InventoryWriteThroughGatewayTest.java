@@ -0,0 +1,113 @@
+package com.kaua.ecommerce.infrastructure.inventory.cache;
+
+import com.kaua.ecommerce.application.gateways.CacheGateway;
+import com.kaua.ecommerce.application.gateways.InventoryGateway;
+import com.kaua.ecommerce.domain.inventory.Inventory;
+import com.kaua.ecommerce.domain.product.ProductID;
+import com.kaua.ecommerce.infrastructure.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@UnitTest
+public class InventoryWriteThroughGatewayTest {
+
+    @SuppressWarnings("unchecked")
+    private final CacheGateway<Inventory> cacheGateway = Mockito.mock(CacheGateway.class);
+    private final InventoryGateway delegate = Mockito.mock(InventoryGateway.class);
+    private final InventoryWriteThroughGateway gateway = new InventoryWriteThroughGateway(delegate, cacheGateway);
+
+    @AfterEach
+    void cleanUp() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void givenAnUpdateOutsideATransaction_whenCallUpdate_shouldCacheTheStoredInventory() {
+        final var aInventory = Inventory.newInventory(ProductID.unique().getValue(), "sku-one", 10);
+        final var aStored = Inventory.with(aInventory.getId().getValue(), aInventory.getProductId(),
+                aInventory.getSku(), 15, aInventory.getCreatedAt(), aInventory.getUpdatedAt(), 1);
+
+        Mockito.when(delegate.update(aInventory)).thenReturn(aInventory);
+        Mockito.when(delegate.findBySkus(Set.of("sku-one"))).thenReturn(List.of(aStored));
+
+        this.gateway.update(aInventory);
+
+        Mockito.verify(cacheGateway, Mockito.times(1)).save(aStored);
+    }
+
+    @Test
+    void givenADecreaseInATransaction_whenCommitted_shouldRefreshTheCacheOnlyAfterTheCommit() {
+        final var aStored = Inventory.newInventory(ProductID.unique().getValue(), "sku-one", 4);
+
+        Mockito.when(delegate.decreaseQuantityBySku("sku-one", 1)).thenReturn(Optional.of(4));
+        Mockito.when(delegate.findBySkus(Set.of("sku-one"))).thenReturn(List.of(aStored));
+
+        TransactionSynchronizationManager.initSynchronization();
+        this.gateway.decreaseQuantityBySku("sku-one", 1);
+
+        Mockito.verifyNoInteractions(cacheGateway);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        Mockito.verify(cacheGateway, Mockito.times(1)).save(aStored);
+    }
+
+    @Test
+    void givenAnAdjustInATransaction_whenRolledBack_shouldNotTouchTheCache() {
+        Mockito.when(delegate.adjustQuantitiesBySkus(Map.of("sku-one", 5))).thenReturn(Set.of("sku-one"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        this.gateway.adjustQuantitiesBySkus(Map.of("sku-one", 5));
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        Mockito.verifyNoInteractions(cacheGateway);
+    }
+
+    @Test
+    void givenDeletedSkus_whenCallDeleteBySkus_shouldEvictThem() {
+        Mockito.when(delegate.findBySkus(Set.of("sku-one", "sku-two"))).thenReturn(List.of());
+
+        this.gateway.deleteBySkus(Set.of("sku-one", "sku-two"));
+
+        Mockito.verify(delegate, Mockito.times(1)).deleteBySkus(Set.of("sku-one", "sku-two"));
+        Mockito.verify(cacheGateway, Mockito.times(1)).delete("sku-one");
+        Mockito.verify(cacheGateway, Mockito.times(1)).delete("sku-two");
+        Mockito.verify(cacheGateway, Mockito.times(0)).save(Mockito.any());
+    }
+
+    @Test
+    void givenAProductWithInventories_whenCallCleanByProductId_shouldEvictItsSkus() {
+        final var aProductId = ProductID.unique().getValue();
+        final var aInventory = Inventory.newInventory(aProductId, "sku-one", 10);
+
+        Mockito.when(delegate.findByProductId(aProductId)).thenReturn(Set.of(aInventory));
+        Mockito.when(delegate.findBySkus(Set.of("sku-one"))).thenReturn(List.of());
+
+        this.gateway.cleanByProductId(aProductId);
+
+        Mockito.verify(delegate, Mockito.times(1)).cleanByProductId(aProductId);
+        Mockito.verify(cacheGateway, Mockito.times(1)).delete("sku-one");
+    }
+
+    @Test
+    void givenAFailedRefresh_whenCallDeleteBySku_shouldEvictInsteadOfFailing() {
+        Mockito.when(delegate.findBySkus(Set.of("sku-one"))).thenThrow(new IllegalStateException("database down"));
+
+        Assertions.assertDoesNotThrow(() -> this.gateway.deleteBySku("sku-one"));
+
+        Mockito.verify(cacheGateway, Mockito.times(1)).delete("sku-one");
+    }
+}
@@ -0,0 +1,134 @@
+package com.kaua.ecommerce.infrastructure.inventory.history;
+
+import com.kaua.ecommerce.domain.inventory.Inventory;
+import com.kaua.ecommerce.domain.inventory.InventoryID;
+import com.kaua.ecommerce.domain.inventory.movement.InventoryMovement;
+import com.kaua.ecommerce.domain.inventory.movement.InventoryMovementID;
+import com.kaua.ecommerce.domain.inventory.movement.InventoryMovementStatus;
+import com.kaua.ecommerce.domain.product.ProductID;
+import com.kaua.ecommerce.domain.utils.InstantUtils;
+import com.kaua.ecommerce.infrastructure.DatabaseGatewayTest;
+import com.kaua.ecommerce.infrastructure.inventory.movement.archive.InventoryMovementArchiveMySQLGateway;
+import com.kaua.ecommerce.infrastructure.inventory.movement.persistence.InventoryMovementJpaEntity;
+import com.kaua.ecommerce.infrastructure.inventory.movement.persistence.InventoryMovementJpaEntityRepository;
+import com.kaua.ecommerce.infrastructure.inventory.persistence.InventoryJpaEntity;
+import com.kaua.ecommerce.infrastructure.inventory.persistence.InventoryJpaEntityRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+@DatabaseGatewayTest
+public class InventoryHistoryGatewayTest {
+
+    @Autowired
+    private InventoryHistoryMySQLGateway inventoryHistoryGateway;
+
+    @Autowired
+    private InventoryMovementArchiveMySQLGateway archiveGateway;
+
+    @Autowired
+    private InventoryMovementJpaEntityRepository inventoryMovementRepository;
+
+    @Autowired
+    private InventoryJpaEntityRepository inventoryRepository;
+
+    @Test
+    void givenMovementsInAndOutOfTheWindow_whenCallSumMovementsBySkuBetween_shouldSumOnlyTheWindow() {
+        final var aStart = InstantUtils.parse("2024-01-01T00:00:00Z");
+        saveMovement("sku-sum", 10, InventoryMovementStatus.IN, aStart);
+        saveMovement("sku-sum", 3, InventoryMovementStatus.OUT, aStart.plus(1, ChronoUnit.DAYS));
+        saveMovement("sku-sum", 2, InventoryMovementStatus.REMOVED, aStart.plus(2, ChronoUnit.DAYS));
+        saveMovement("sku-sum", 7, InventoryMovementStatus.IN, aStart.plus(5, ChronoUnit.DAYS));
+
+        Assertions.assertEquals(5, this.inventoryHistoryGateway
+                .sumMovementsBySkuBetween("sku-sum", Instant.EPOCH, aStart.plus(3, ChronoUnit.DAYS)));
+        Assertions.assertEquals(-5, this.inventoryHistoryGateway
+                .sumMovementsBySkuBetween("sku-sum", aStart, aStart.plus(3, ChronoUnit.DAYS)));
+    }
+
+    @Test
+    void givenArchivedAndLiveMovements_whenCallFindMovementsBySkuBetween_shouldReturnBothOldestFirst() {
+        final var aStart = InstantUtils.now().minus(300, ChronoUnit.DAYS);
+        final var aArchived = saveMovement("sku-window", 10, InventoryMovementStatus.IN, aStart);
+        final var aLive = saveMovement("sku-window", 4, InventoryMovementStatus.OUT, InstantUtils.now().minus(1, ChronoUnit.DAYS));
+        saveMovement("sku-window", 1, InventoryMovementStatus.OUT, InstantUtils.now().plus(1, ChronoUnit.DAYS));
+        this.archiveGateway.archiveBefore(InstantUtils.now().minus(180, ChronoUnit.DAYS), 100);
+
+        final var aMovements = this.inventoryHistoryGateway.findMovementsBySkuBetween(
+                "sku-window", aStart, InstantUtils.now(), 10);
+
+        Assertions.assertEquals(
+                List.of(aArchived.getId(), aLive.getId()),
+                aMovements.stream().map(InventoryMovement::getId).toList()
+        );
+        Assertions.assertEquals(1, this.inventoryHistoryGateway.findMovementsBySkuBetween(
+                "sku-window", aStart, InstantUtils.now(), 1).size());
+    }
+
+    @Test
+    void givenMovements_whenCallTakeSnapshots_shouldStoreTheQuantityAndBuildOnTheLastSnapshot() {
+        final var aSku = "sku-snapshot";
+        final var aStart = InstantUtils.parse("2024-01-01T00:00:00Z");
+        this.inventoryRepository.saveAndFlush(InventoryJpaEntity.toEntity(
+                Inventory.newInventory(ProductID.unique().getValue(), aSku, 15)));
+        saveMovement(aSku, 20, InventoryMovementStatus.IN, aStart);
+        saveMovement(aSku, 5, InventoryMovementStatus.OUT, aStart.plus(1, ChronoUnit.DAYS));
+
+        final var aFirstAt = aStart.plus(2, ChronoUnit.DAYS);
+        Assertions.assertEquals(List.of(aSku), this.inventoryHistoryGateway.takeSnapshots("", aFirstAt, 10));
+
+        final var aFirst = this.inventoryHistoryGateway.findLastSnapshotBySkuAt(aSku, aFirstAt).get();
+        Assertions.assertEquals(15, aFirst.quantity());
+        Assertions.assertEquals(aFirstAt, aFirst.takenAt());
+
+        saveMovement(aSku, 3, InventoryMovementStatus.OUT, aStart.plus(3, ChronoUnit.DAYS));
+
+        final var aSecondAt = aStart.plus(4, ChronoUnit.DAYS);
+        this.inventoryHistoryGateway.takeSnapshots("", aSecondAt, 10);
+
+        Assertions.assertEquals(12, this.inventoryHistoryGateway
+                .findLastSnapshotBySkuAt(aSku, aSecondAt).get().quantity());
+        Assertions.assertEquals(15, this.inventoryHistoryGateway
+                .findLastSnapshotBySkuAt(aSku, aSecondAt.minusMillis(1)).get().quantity());
+        Assertions.assertTrue(this.inventoryHistoryGateway
+                .findLastSnapshotBySkuAt(aSku, aStart).isEmpty());
+    }
+
+    @Test
+    void givenNoMovementsSinceTheLastSnapshot_whenCallTakeSnapshots_shouldNotStoreANewOne() {
+        final var aSku = "sku-idle";
+        final var aStart = InstantUtils.parse("2024-01-01T00:00:00Z");
+        this.inventoryRepository.saveAndFlush(InventoryJpaEntity.toEntity(
+                Inventory.newInventory(ProductID.unique().getValue(), aSku, 10)));
+        saveMovement(aSku, 10, InventoryMovementStatus.IN, aStart);
+
+        this.inventoryHistoryGateway.takeSnapshots("", aStart.plus(1, ChronoUnit.DAYS), 10);
+        this.inventoryHistoryGateway.takeSnapshots("", aStart.plus(2, ChronoUnit.DAYS), 10);
+
+        Assertions.assertEquals(aStart.plus(1, ChronoUnit.DAYS), this.inventoryHistoryGateway
+                .findLastSnapshotBySkuAt(aSku, aStart.plus(2, ChronoUnit.DAYS)).get().takenAt());
+    }
+
+    private InventoryMovement saveMovement(
+            final String aSku,
+            final int aQuantity,
+            final InventoryMovementStatus aStatus,
+            final Instant aCreatedAt
+    ) {
+        final var aMovement = InventoryMovement.with(
+                InventoryMovementID.unique().getValue(),
+                InventoryID.unique().getValue(),
+                aSku,
+                aQuantity,
+                aStatus,
+                aCreatedAt,
+                aCreatedAt
+        );
+        this.inventoryMovementRepository.saveAndFlush(InventoryMovementJpaEntity.toEntity(aMovement));
+        return aMovement;
+    }
+}
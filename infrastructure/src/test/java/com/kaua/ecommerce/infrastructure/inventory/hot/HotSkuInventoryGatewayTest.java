@@ -0,0 +1,340 @@
+package com.kaua.ecommerce.infrastructure.inventory.hot;
+
+import com.kaua.ecommerce.application.adapters.TransactionManager;
+import com.kaua.ecommerce.application.adapters.responses.TransactionResult;
+import com.kaua.ecommerce.application.gateways.InventoryGateway;
+import com.kaua.ecommerce.application.gateways.InventoryMovementGateway;
+import com.kaua.ecommerce.domain.inventory.Inventory;
+import com.kaua.ecommerce.domain.inventory.movement.InventoryMovement;
+import com.kaua.ecommerce.domain.inventory.movement.InventoryMovementStatus;
+import com.kaua.ecommerce.domain.validation.Error;
+import com.kaua.ecommerce.infrastructure.UnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@UnitTest
+public class HotSkuInventoryGatewayTest {
+
+    private static final String SKU = "hot-sku";
+
+    @Test
+    void givenManyConcurrentBuyers_whenCallDecrease_thenShouldNeverOversellAndAccountEveryUnit() throws Exception {
+        final var aStock = 5_000;
+        final var aDatabase = new InMemoryStock(aStock);
+        final var aMovements = Mockito.mock(InventoryMovementGateway.class);
+        final var aWritten = new AtomicInteger();
+        Mockito.when(aMovements.createInBatch(Mockito.any())).thenAnswer(it -> {
+            final Set<InventoryMovement> aBatch = it.getArgument(0);
+            aBatch.forEach(aMovement -> aWritten.addAndGet(aMovement.getQuantity()));
+            return aBatch;
+        });
+
+        final var aGateway = newGateway(aDatabase.gateway, aMovements);
+        final var aThreads = 32;
+        final var aBuysPerThread = 300;
+
+        final var aSold = new AtomicInteger();
+        final var aStart = new CountDownLatch(1);
+        final var aExecutor = Executors.newFixedThreadPool(aThreads);
+        final var aFutures = new ArrayList<Future<?>>();
+
+        for (int t = 0; t < aThreads; t++) {
+            final var aQuantity = t % 3 + 1;
+            aFutures.add(aExecutor.submit(() -> {
+                aStart.await();
+                for (int i = 0; i < aBuysPerThread; i++) {
+                    if (aGateway.decreaseQuantityBySku(SKU, aQuantity)) {
+                        aSold.addAndGet(aQuantity);
+                    }
+                    Assertions.assertTrue(aGateway.availableQuantity() >= 0);
+                }
+                return null;
+            }));
+        }
+
+        aStart.countDown();
+        for (int i = 0; i < 5; i++) {
+            // flushes while selling, as the flush thread does
+            aGateway.flush();
+            Assertions.assertTrue(aDatabase.quantity.get() >= 0);
+        }
+        for (final var aFuture : aFutures) {
+            aFuture.get(30, TimeUnit.SECONDS);
+        }
+        aExecutor.shutdown();
+
+        // 32 threads buying 1, 2 or 3 units 300 times want 19_200 units, only the stock is sold
+        Assertions.assertTrue(aSold.get() <= aStock);
+        Assertions.assertTrue(aSold.get() > aStock - 3);
+        Assertions.assertEquals(aSold.get(), aGateway.getSoldQuantity());
+        Assertions.assertEquals(aStock - aSold.get(), aGateway.availableQuantity());
+
+        aGateway.destroy();
+
+        Assertions.assertEquals(aStock - aSold.get(), aDatabase.quantity.get());
+        Assertions.assertEquals(aSold.get(), aWritten.get());
+        Assertions.assertEquals(0, aGateway.unflushedQuantity());
+        Assertions.assertEquals(0, aGateway.getOversoldQuantity());
+    }
+
+    @Test
+    void givenAHotSku_whenFlush_thenShouldWriteTheNetDeltaAndOneMovement() {
+        final var aDatabase = new InMemoryStock(1_000);
+        final var aMovements = Mockito.mock(InventoryMovementGateway.class);
+        Mockito.when(aMovements.createInBatch(Mockito.any())).thenAnswer(it -> it.getArgument(0));
+        final var aGateway = newGateway(aDatabase.gateway, aMovements);
+
+        for (int i = 0; i < 150; i++) {
+            Assertions.assertTrue(aGateway.decreaseQuantityBySku(SKU, 1));
+        }
+
+        // preloaded from the current quantity, nothing is taken from the table before the flush
+        Assertions.assertEquals(1_000, aDatabase.quantity.get());
+        Assertions.assertEquals(850, aGateway.availableQuantity());
+        Assertions.assertEquals(150, aGateway.unflushedQuantity());
+
+        aGateway.flush();
+
+        Mockito.verify(aDatabase.gateway, Mockito.times(1)).decreaseQuantityBySku(SKU, 150);
+        Mockito.verify(aMovements, Mockito.times(1)).createInBatch(Mockito.argThat(it -> it.size() == 1
+                && it.iterator().next().getQuantity() == 150
+                && it.iterator().next().getStatus() == InventoryMovementStatus.OUT));
+        Assertions.assertEquals(850, aDatabase.quantity.get());
+        Assertions.assertEquals(850, aGateway.availableQuantity());
+        Assertions.assertEquals(0, aGateway.unflushedQuantity());
+        Assertions.assertEquals(150, aGateway.getFlushedQuantity());
+
+        aGateway.destroy();
+        Mockito.verify(aMovements, Mockito.times(1)).createInBatch(Mockito.any());
+    }
+
+    @Test
+    void givenAFailingFlush_whenFlushAgain_thenShouldWriteTheDeltaOfBoth() {
+        final var aDatabase = new InMemoryStock(100);
+        final var aMovements = Mockito.mock(InventoryMovementGateway.class);
+        Mockito.when(aMovements.createInBatch(Mockito.any()))
+                .thenThrow(new IllegalStateException("connection refused"))
+                .thenAnswer(it -> it.getArgument(0));
+        final var aTransactionManager = new RollbackTransactionManager(aDatabase);
+        final var aGateway = newGateway(aDatabase.gateway, aMovements, aTransactionManager);
+
+        Assertions.assertTrue(aGateway.decreaseQuantityBySku(SKU, 10));
+        aGateway.flush();
+
+        Assertions.assertEquals(100, aDatabase.quantity.get());
+        Assertions.assertEquals(10, aGateway.unflushedQuantity());
+
+        Assertions.assertTrue(aGateway.decreaseQuantityBySku(SKU, 5));
+        aGateway.flush();
+
+        Assertions.assertEquals(85, aDatabase.quantity.get());
+        Assertions.assertEquals(85, aGateway.availableQuantity());
+        Assertions.assertEquals(0, aGateway.unflushedQuantity());
+
+        aGateway.destroy();
+    }
+
+    @Test
+    void givenAChangeMadeByAnotherNode_whenFlush_thenShouldApplyItToTheInMemoryStock() {
+        final var aDatabase = new InMemoryStock(100);
+        final var aMovements = Mockito.mock(InventoryMovementGateway.class);
+        Mockito.when(aMovements.createInBatch(Mockito.any())).thenAnswer(it -> it.getArgument(0));
+        final var aGateway = newGateway(aDatabase.gateway, aMovements);
+
+        Assertions.assertTrue(aGateway.decreaseQuantityBySku(SKU, 10));
+        aDatabase.quantity.addAndGet(-30);
+        aGateway.flush();
+
+        Assertions.assertEquals(60, aDatabase.quantity.get());
+        Assertions.assertEquals(60, aGateway.availableQuantity());
+
+        aDatabase.quantity.addAndGet(40);
+        aGateway.flush();
+
+        Assertions.assertEquals(100, aGateway.availableQuantity());
+
+        aGateway.destroy();
+    }
+
+    @Test
+    void givenTwoNodesSellingTheSameUnits_whenFlush_thenTheTableShouldNotGoNegative() {
+        final var aDatabase = new InMemoryStock(10);
+        final var aMovements = Mockito.mock(InventoryMovementGateway.class);
+        Mockito.when(aMovements.createInBatch(Mockito.any())).thenAnswer(it -> it.getArgument(0));
+        final var aFirstNode = newGateway(aDatabase.gateway, aMovements);
+        final var aSecondNode = newGateway(aDatabase.gateway, aMovements);
+
+        Assertions.assertTrue(aFirstNode.decreaseQuantityBySku(SKU, 10));
+        Assertions.assertTrue(aSecondNode.decreaseQuantityBySku(SKU, 4));
+        Assertions.assertFalse(aFirstNode.decreaseQuantityBySku(SKU, 1));
+
+        aFirstNode.flush();
+        aSecondNode.flush();
+
+        Assertions.assertEquals(0, aDatabase.quantity.get());
+        Assertions.assertEquals(0, aFirstNode.getOversoldQuantity());
+        Assertions.assertEquals(4, aSecondNode.getOversoldQuantity());
+        Assertions.assertEquals(0, aSecondNode.availableQuantity());
+        Assertions.assertFalse(aSecondNode.decreaseQuantityBySku(SKU, 1));
+
+        aFirstNode.destroy();
+        aSecondNode.destroy();
+    }
+
+    @Test
+    void givenASkuNotHot_whenCallFindBySku_thenShouldReturnEmptyWithoutHittingTheDatabase() {
+        final var aInventoryGateway = Mockito.mock(InventoryGateway.class);
+        final var aGateway = newGateway(aInventoryGateway, Mockito.mock(InventoryMovementGateway.class));
+
+        Assertions.assertTrue(aGateway.findBySku("cold-sku").isEmpty());
+
+        Mockito.verify(aInventoryGateway, Mockito.never()).findBySku("cold-sku");
+        aGateway.destroy();
+    }
+
+    @Test
+    void givenAHotSkuNotInTheTable_whenCallDecrease_thenShouldNotHitTheDatabasePerRequest() {
+        final var aInventoryGateway = Mockito.mock(InventoryGateway.class);
+        Mockito.when(aInventoryGateway.findBySkus(Mockito.any())).thenReturn(List.of());
+        final var aGateway = newGateway(aInventoryGateway, Mockito.mock(InventoryMovementGateway.class));
+
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertTrue(aGateway.findBySku(SKU).isEmpty());
+            Assertions.assertFalse(aGateway.decreaseQuantityBySku(SKU, 1));
+        }
+
+        Mockito.verify(aInventoryGateway, Mockito.never()).findBySku(SKU);
+        Mockito.verify(aInventoryGateway, Mockito.atMost(2)).findBySkus(Mockito.any());
+        aGateway.destroy();
+    }
+
+    @Test
+    void givenAMeterRegistry_whenBindGateway_thenShouldExposeTheHotSkusMetrics() {
+        final var aRegistry = new SimpleMeterRegistry();
+        final var aDatabase = new InMemoryStock(100);
+        final var aMovements = Mockito.mock(InventoryMovementGateway.class);
+        Mockito.when(aMovements.createInBatch(Mockito.any())).thenAnswer(it -> it.getArgument(0));
+        final var aGateway = newGateway(aDatabase.gateway, aMovements);
+        aGateway.bindTo(aRegistry);
+
+        aGateway.decreaseQuantityBySku(SKU, 3);
+
+        Assertions.assertEquals(3, aRegistry.get("inventories.hot.sold").functionCounter().count());
+        Assertions.assertEquals(97, aRegistry.get("inventories.hot.available").gauge().value());
+        Assertions.assertEquals(3, aRegistry.get("inventories.hot.unflushed").gauge().value());
+
+        aGateway.flush();
+
+        Assertions.assertEquals(1, aRegistry.get("inventories.hot.flushes").functionCounter().count());
+        Assertions.assertEquals(3, aRegistry.get("inventories.hot.flushed").functionCounter().count());
+        Assertions.assertEquals(0, aRegistry.get("inventories.hot.oversold").functionCounter().count());
+        Assertions.assertEquals(0, aRegistry.get("inventories.hot.unflushed").gauge().value());
+
+        aGateway.destroy();
+    }
+
+    private static HotSkuInventoryGateway newGateway(
+            final InventoryGateway aInventoryGateway,
+            final InventoryMovementGateway aMovementGateway
+    ) {
+        return newGateway(aInventoryGateway, aMovementGateway, new DirectTransactionManager());
+    }
+
+    private static HotSkuInventoryGateway newGateway(
+            final InventoryGateway aInventoryGateway,
+            final InventoryMovementGateway aMovementGateway,
+            final TransactionManager aTransactionManager
+    ) {
+        // flushes only when called, the first flush preloads the stock
+        final var aGateway = new HotSkuInventoryGateway(
+                aInventoryGateway,
+                aMovementGateway,
+                aTransactionManager,
+                Set.of(SKU),
+                4,
+                3_600_000
+        );
+        aGateway.flush();
+        return aGateway;
+    }
+
+    private static class InMemoryStock {
+
+        private final AtomicInteger quantity;
+        private final InventoryGateway gateway = Mockito.mock(InventoryGateway.class);
+
+        private InMemoryStock(final int aQuantity) {
+            this.quantity = new AtomicInteger(aQuantity);
+            final var aInventory = Inventory.newInventory("product-id", SKU, aQuantity);
+
+            final Supplier<Inventory> aCurrent = () -> Inventory.with(
+                    aInventory.getId().getValue(),
+                    aInventory.getProductId(),
+                    SKU,
+                    this.quantity.get(),
+                    aInventory.getCreatedAt(),
+                    aInventory.getUpdatedAt(),
+                    aInventory.getVersion()
+            );
+
+            Mockito.when(this.gateway.findBySku(SKU)).thenAnswer(it -> Optional.of(aCurrent.get()));
+            Mockito.when(this.gateway.findBySkus(Mockito.any())).thenAnswer(it -> {
+                final Set<String> aSkus = it.getArgument(0);
+                return aSkus.contains(SKU) ? List.of(aCurrent.get()) : List.of();
+            });
+            Mockito.when(this.gateway.decreaseQuantityBySku(Mockito.eq(SKU), Mockito.anyInt())).thenAnswer(it -> {
+                final int aDecrease = it.getArgument(1);
+                while (true) {
+                    final var aCurrent = this.quantity.get();
+                    if (aCurrent < aDecrease) {
+                        return Optional.empty();
+                    }
+                    if (this.quantity.compareAndSet(aCurrent, aCurrent - aDecrease)) {
+                        return Optional.of(aCurrent - aDecrease);
+                    }
+                }
+            });
+        }
+    }
+
+    private static class DirectTransactionManager implements TransactionManager {
+
+        @Override
+        public <T> TransactionResult<T> execute(final Supplier<T> action) {
+            return TransactionResult.success(action.get());
+        }
+    }
+
+    private static class RollbackTransactionManager implements TransactionManager {
+
+        private final InMemoryStock stock;
+
+        private RollbackTransactionManager(final InMemoryStock aStock) {
+            this.stock = aStock;
+        }
+
+        @Override
+        public <T> TransactionResult<T> execute(final Supplier<T> action) {
+            final var aQuantity = this.stock.quantity.get();
+            try {
+                return TransactionResult.success(action.get());
+            } catch (final RuntimeException e) {
+                this.stock.quantity.set(aQuantity);
+                return TransactionResult.failure(new Error(e.getMessage()));
+            }
+        }
+    }
+}
@@ -6,11 +6,15 @@ import com.kaua.ecommerce.domain.inventory.movement.InventoryMovementStatus;
 import com.kaua.ecommerce.infrastructure.DatabaseGatewayTest;
 import com.kaua.ecommerce.infrastructure.inventory.movement.persistence.InventoryMovementJpaEntity;
 import com.kaua.ecommerce.infrastructure.inventory.movement.persistence.InventoryMovementJpaEntityRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @DatabaseGatewayTest
 public class InventoryMovementGatewayTest {
@@ -21,6 +25,9 @@ public class InventoryMovementGatewayTest {
     @Autowired
     private InventoryMovementJpaEntityRepository inventoryMovementRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void givenAValidInventoriesMovements_whenCallCreateInBatch_shouldPersistInventoriesMovements() {
         final var aInventoryId = InventoryID.unique();
@@ -151,4 +158,26 @@ public class InventoryMovementGatewayTest {
 
         Assertions.assertEquals(0, this.inventoryMovementRepository.count());
     }
+
+    @Test
+    void givenManyInventoriesMovements_whenCallCreateInBatch_shouldInsertInBatchesWithoutSelects() {
+        final var aInventoryId = InventoryID.unique();
+        final var aInventoriesMovements = IntStream.range(0, 120)
+                .mapToObj(it -> InventoryMovement.newInventoryMovement(
+                        aInventoryId, "sku-" + it, it + 1, InventoryMovementStatus.IN
+                ))
+                .collect(Collectors.toSet());
+
+        final var aStatistics = this.entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        aStatistics.clear();
+
+        this.inventoryMovementGateway.createInBatch(aInventoriesMovements);
+        this.entityManager.flush();
+
+        Assertions.assertEquals(120, aStatistics.getEntityInsertCount());
+        Assertions.assertEquals(3, aStatistics.getPrepareStatementCount());
+        Assertions.assertEquals(120, this.inventoryMovementRepository.count());
+    }
 }
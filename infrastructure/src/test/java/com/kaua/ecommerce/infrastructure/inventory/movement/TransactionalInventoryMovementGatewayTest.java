@@ -0,0 +1,138 @@
+package com.kaua.ecommerce.infrastructure.inventory.movement;
+
+import com.kaua.ecommerce.application.gateways.InventoryMovementGateway;
+import com.kaua.ecommerce.domain.inventory.InventoryID;
+import com.kaua.ecommerce.domain.inventory.movement.InventoryMovement;
+import com.kaua.ecommerce.domain.inventory.movement.InventoryMovementStatus;
+import com.kaua.ecommerce.infrastructure.UnitTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@UnitTest
+public class TransactionalInventoryMovementGatewayTest {
+
+    @Test
+    void givenNoTransaction_whenCallCreate_thenShouldInsertTheMovementRightAway() {
+        final var aGateway = Mockito.mock(InventoryMovementGateway.class);
+        final var aTransactionalGateway = new TransactionalInventoryMovementGateway(aGateway);
+        final var aMovement = newMovement();
+
+        Mockito.when(aGateway.create(aMovement)).thenReturn(aMovement);
+
+        Assertions.assertEquals(aMovement, aTransactionalGateway.create(aMovement));
+
+        Mockito.verify(aGateway, Mockito.times(1)).create(aMovement);
+        Mockito.verify(aGateway, Mockito.never()).createInBatch(Mockito.any());
+    }
+
+    @Test
+    void givenAnActiveTransaction_whenCallCreate_thenShouldWriteTheMovementsInOneBatchBeforeTheCommit() {
+        final var aGateway = new RecordingInventoryMovementGateway();
+        final var aTransactionalGateway = new TransactionalInventoryMovementGateway(aGateway);
+        final var aFirstMovement = newMovement();
+        final var aSecondMovement = newMovement();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            Assertions.assertEquals(aFirstMovement, aTransactionalGateway.create(aFirstMovement));
+            Assertions.assertEquals(aSecondMovement, aTransactionalGateway.create(aSecondMovement));
+            Assertions.assertEquals(0, aGateway.writtenMovements());
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(it -> it.beforeCommit(false));
+            Assertions.assertEquals(List.of(Set.of(aFirstMovement, aSecondMovement)), aGateway.batches);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        Assertions.assertEquals(1, aGateway.batches.size());
+        Assertions.assertNull(TransactionSynchronizationManager.getResource(aTransactionalGateway));
+    }
+
+    @Test
+    void givenAFailingStorage_whenCommitTheTransaction_thenShouldThrowBeforeTheCommit() {
+        final var aGateway = Mockito.mock(InventoryMovementGateway.class);
+        final var aTransactionalGateway = new TransactionalInventoryMovementGateway(aGateway);
+
+        Mockito.when(aGateway.createInBatch(Mockito.any())).thenThrow(new IllegalStateException("connection refused"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            aTransactionalGateway.create(newMovement());
+
+            Assertions.assertThrows(IllegalStateException.class, () -> TransactionSynchronizationManager
+                    .getSynchronizations()
+                    .forEach(it -> it.beforeCommit(false)));
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        Assertions.assertNull(TransactionSynchronizationManager.getResource(aTransactionalGateway));
+    }
+
+    @Test
+    void givenARolledBackTransaction_whenCallCreate_thenShouldNotWrite() {
+        final var aGateway = new RecordingInventoryMovementGateway();
+        final var aTransactionalGateway = new TransactionalInventoryMovementGateway(aGateway);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            aTransactionalGateway.create(newMovement());
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        Assertions.assertEquals(0, aGateway.writtenMovements());
+    }
+
+    private static InventoryMovement newMovement() {
+        return InventoryMovement.newInventoryMovement(InventoryID.unique(), "sku", 1, InventoryMovementStatus.OUT);
+    }
+
+    private static class RecordingInventoryMovementGateway implements InventoryMovementGateway {
+
+        private final List<Set<InventoryMovement>> batches = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Set<InventoryMovement> createInBatch(final Set<InventoryMovement> inventoryMovement) {
+            this.batches.add(Set.copyOf(inventoryMovement));
+            return inventoryMovement;
+        }
+
+        @Override
+        public InventoryMovement create(final InventoryMovement inventoryMovement) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<InventoryMovement> findBySkuAndCreatedAtDescAndStatusRemoved(final String sku) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void deleteById(final String id) {
+        }
+
+        private int writtenMovements() {
+            return this.batches.stream().mapToInt(Set::size).sum();
+        }
+    }
+}
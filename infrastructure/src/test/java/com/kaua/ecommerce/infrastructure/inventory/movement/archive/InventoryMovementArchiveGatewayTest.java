@@ -0,0 +1,83 @@
+package com.kaua.ecommerce.infrastructure.inventory.movement.archive;
+
+import com.kaua.ecommerce.domain.inventory.InventoryID;
+import com.kaua.ecommerce.domain.inventory.movement.InventoryMovement;
+import com.kaua.ecommerce.domain.inventory.movement.InventoryMovementID;
+import com.kaua.ecommerce.domain.inventory.movement.InventoryMovementStatus;
+import com.kaua.ecommerce.domain.utils.InstantUtils;
+import com.kaua.ecommerce.infrastructure.DatabaseGatewayTest;
+import com.kaua.ecommerce.infrastructure.inventory.movement.persistence.InventoryMovementJpaEntity;
+import com.kaua.ecommerce.infrastructure.inventory.movement.persistence.InventoryMovementJpaEntityRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+@DatabaseGatewayTest
+public class InventoryMovementArchiveGatewayTest {
+
+    @Autowired
+    private InventoryMovementArchiveMySQLGateway archiveGateway;
+
+    @Autowired
+    private InventoryMovementJpaEntityRepository inventoryMovementRepository;
+
+    @Test
+    void givenOldAndRecentMovements_whenCallArchiveBefore_shouldMoveOnlyTheOldOnes() {
+        final var aNow = InstantUtils.now();
+        final var aOldOne = saveMovement("sku-archive", aNow.minus(200, ChronoUnit.DAYS));
+        final var aOldTwo = saveMovement("sku-archive", aNow.minus(190, ChronoUnit.DAYS));
+        final var aRecent = saveMovement("sku-archive", aNow.minus(1, ChronoUnit.DAYS));
+
+        final var aArchived = this.archiveGateway.archiveBefore(aNow.minus(180, ChronoUnit.DAYS), 100);
+
+        Assertions.assertEquals(2, aArchived);
+        Assertions.assertEquals(1, this.inventoryMovementRepository.count());
+        Assertions.assertTrue(this.inventoryMovementRepository.existsById(aRecent.getId().getValue()));
+        Assertions.assertEquals(
+                List.of(aOldOne.getId().getValue(), aOldTwo.getId().getValue()),
+                this.archiveGateway.findArchivedIdsBySku("sku-archive")
+        );
+    }
+
+    @Test
+    void givenMoreOldMovementsThanTheLimit_whenCallArchiveBefore_shouldMoveTheOldestFirst() {
+        final var aNow = InstantUtils.now();
+        final var aOldest = saveMovement("sku-limit", aNow.minus(300, ChronoUnit.DAYS));
+        saveMovement("sku-limit", aNow.minus(250, ChronoUnit.DAYS));
+
+        final var aArchived = this.archiveGateway.archiveBefore(aNow.minus(180, ChronoUnit.DAYS), 1);
+
+        Assertions.assertEquals(1, aArchived);
+        Assertions.assertEquals(1, this.inventoryMovementRepository.count());
+        Assertions.assertEquals(
+                List.of(aOldest.getId().getValue()),
+                this.archiveGateway.findArchivedIdsBySku("sku-limit")
+        );
+    }
+
+    @Test
+    void givenNoOldMovements_whenCallArchiveBefore_shouldReturnZero() {
+        saveMovement("sku-recent", InstantUtils.now());
+
+        Assertions.assertEquals(0, this.archiveGateway.archiveBefore(InstantUtils.now().minus(180, ChronoUnit.DAYS), 100));
+        Assertions.assertEquals(1, this.inventoryMovementRepository.count());
+    }
+
+    private InventoryMovement saveMovement(final String aSku, final Instant aCreatedAt) {
+        final var aMovement = InventoryMovement.with(
+                InventoryMovementID.unique().getValue(),
+                InventoryID.unique().getValue(),
+                aSku,
+                10,
+                InventoryMovementStatus.IN,
+                aCreatedAt,
+                aCreatedAt
+        );
+        this.inventoryMovementRepository.saveAndFlush(InventoryMovementJpaEntity.toEntity(aMovement));
+        return aMovement;
+    }
+}
@@ -1,6 +1,6 @@
 package com.kaua.ecommerce.infrastructure.listeners;
 
-import com.kaua.ecommerce.application.usecases.inventory.delete.remove.RemoveInventoryBySkuUseCase;
+import com.kaua.ecommerce.application.usecases.inventory.delete.remove.RemoveInventoriesBySkusUseCase;
 import com.kaua.ecommerce.domain.Fixture;
 import com.kaua.ecommerce.domain.inventory.InventoryID;
 import com.kaua.ecommerce.domain.inventory.events.InventoryCreatedRollbackBySkusEvent;
@@ -28,6 +28,7 @@ import org.springframework.kafka.support.Acknowledgment;
 
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -38,7 +39,7 @@ import static org.mockito.ArgumentMatchers.eq;
 public class InventoryEventListenerTest extends AbstractEmbeddedKafkaTest {
 
     @MockBean
-    private RemoveInventoryBySkuUseCase removeInventoryBySkuUseCase;
+    private RemoveInventoriesBySkusUseCase removeInventoriesBySkusUseCase;
 
     @SpyBean
     private KafkaTemplate<String, Object> kafkaTemplate;
@@ -88,7 +89,7 @@ public class InventoryEventListenerTest extends AbstractEmbeddedKafkaTest {
         Mockito.doAnswer(t -> {
             latch.countDown();
             throw new RuntimeException("Error on remove inventory by sku use case");
-        }).when(removeInventoryBySkuUseCase).execute(Mockito.any());
+        }).when(removeInventoriesBySkusUseCase).execute(Mockito.any());
 
         Mockito.doAnswer(t -> {
             latch.countDown();
@@ -140,12 +141,12 @@ public class InventoryEventListenerTest extends AbstractEmbeddedKafkaTest {
             return null;
         }).when(aMockAcknowledgment).acknowledge();
 
-        final var aInventoryListener = new InventoryEventListener(removeInventoryBySkuUseCase, kafkaTemplate);
+        final var aInventoryListener = new InventoryEventListener(removeInventoriesBySkusUseCase, kafkaTemplate);
         aInventoryListener.onMessage(aMessage, aMockAcknowledgment, aMockMetadata);
 
         // then
         Assertions.assertTrue(aLatch.await(3, TimeUnit.MINUTES));
-        Mockito.verify(removeInventoryBySkuUseCase, Mockito.times(0))
+        Mockito.verify(removeInventoriesBySkusUseCase, Mockito.times(0))
                 .execute(Mockito.any());
     }
 
@@ -164,7 +165,7 @@ public class InventoryEventListenerTest extends AbstractEmbeddedKafkaTest {
         Mockito.doAnswer(t -> {
             latch.countDown();
             return null;
-        }).when(removeInventoryBySkuUseCase).execute(Mockito.any());
+        }).when(removeInventoriesBySkusUseCase).execute(Mockito.any());
 
         // when
         producer().send(new ProducerRecord<>(inventoryTopic, aMessage)).get(1, TimeUnit.MINUTES);
@@ -172,8 +173,8 @@ public class InventoryEventListenerTest extends AbstractEmbeddedKafkaTest {
         Assertions.assertTrue(latch.await(3, TimeUnit.MINUTES));
 
         // then
-        Mockito.verify(removeInventoryBySkuUseCase, Mockito.times(1))
-                .execute(Mockito.any());
+        Mockito.verify(removeInventoriesBySkusUseCase, Mockito.times(1))
+                .execute(Set.of(aInventory.getSku()));
     }
 
     @Test
@@ -187,7 +188,7 @@ public class InventoryEventListenerTest extends AbstractEmbeddedKafkaTest {
         producer().send(new ProducerRecord<>(inventoryTopic, aMessage)).get(1, TimeUnit.MINUTES);
 
         // then
-        Mockito.verify(removeInventoryBySkuUseCase, Mockito.times(0))
+        Mockito.verify(removeInventoriesBySkusUseCase, Mockito.times(0))
                 .execute(Mockito.any());
     }
 
@@ -217,12 +218,12 @@ public class InventoryEventListenerTest extends AbstractEmbeddedKafkaTest {
             return null;
         }).when(mockAcknowledgment).acknowledge();
 
-        final var aInventoryEventListener = new InventoryEventListener(removeInventoryBySkuUseCase, kafkaTemplate);
+        final var aInventoryEventListener = new InventoryEventListener(removeInventoriesBySkusUseCase, kafkaTemplate);
         aInventoryEventListener.onDltMessage(aMessage, mockAcknowledgment, mockMetadata);
 
         // then
         Assertions.assertTrue(aLatch.await(3, TimeUnit.MINUTES));
-        Mockito.verify(removeInventoryBySkuUseCase, Mockito.times(0))
+        Mockito.verify(removeInventoriesBySkusUseCase, Mockito.times(0))
                 .execute(Mockito.any());
     }
 }
@@ -0,0 +1,167 @@
+package com.kaua.ecommerce.infrastructure.listeners;
+
+import com.kaua.ecommerce.application.gateways.ProductGateway;
+import com.kaua.ecommerce.application.usecases.product.search.remove.RemoveProductUseCase;
+import com.kaua.ecommerce.application.usecases.product.search.save.SaveProductUseCase;
+import com.kaua.ecommerce.application.usecases.product.search.save.SaveProductsUseCase;
+import com.kaua.ecommerce.domain.Fixture;
+import com.kaua.ecommerce.domain.event.DomainEvent;
+import com.kaua.ecommerce.domain.product.Product;
+import com.kaua.ecommerce.domain.product.events.ProductCreatedEvent;
+import com.kaua.ecommerce.domain.product.events.ProductUpdatedEvent;
+import com.kaua.ecommerce.infrastructure.UnitTest;
+import com.kaua.ecommerce.infrastructure.configurations.json.Json;
+import com.kaua.ecommerce.infrastructure.listeners.models.MessageValue;
+import com.kaua.ecommerce.infrastructure.listeners.models.Operation;
+import com.kaua.ecommerce.infrastructure.listeners.models.Source;
+import com.kaua.ecommerce.infrastructure.listeners.models.ValuePayload;
+import com.kaua.ecommerce.infrastructure.outbox.OutboxEventEntity;
+import com.kaua.ecommerce.infrastructure.product.ProductDetailsCacheGateway;
+import com.kaua.ecommerce.infrastructure.service.EventValidationService;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.eq;
+
+@UnitTest
+public class ProductBatchEventListenerTest {
+
+    private final ProductGateway productGateway = Mockito.mock(ProductGateway.class);
+    private final SaveProductsUseCase saveProductsUseCase = Mockito.mock(SaveProductsUseCase.class);
+    private final SaveProductUseCase saveProductUseCase = Mockito.mock(SaveProductUseCase.class);
+    private final RemoveProductUseCase removeProductUseCase = Mockito.mock(RemoveProductUseCase.class);
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, Object> kafkaTemplate = Mockito.mock(KafkaTemplate.class);
+    private final EventValidationService eventValidationService = Mockito.mock(EventValidationService.class);
+    private final ProductDetailsCacheGateway productDetailsCacheGateway = Mockito.mock(ProductDetailsCacheGateway.class);
+    private final Acknowledgment ack = Mockito.mock(Acknowledgment.class);
+
+    @Test
+    void givenManyEventsOfTheSameProduct_whenReceiveTheBatch_shouldIndexOnlyTheLatestWithOneBulkRequest() {
+        final var aBook = Fixture.Products.book();
+        final var aBookRenamed = withNameAndVersion(aBook, "The book, second edition", 1);
+        final var aTshirt = Fixture.Products.tshirt();
+
+        final var aRecords = List.of(
+                aRecord(ProductCreatedEvent.from(aBook), Operation.CREATE, 0),
+                aRecord(ProductCreatedEvent.from(aTshirt), Operation.CREATE, 1),
+                aRecord(ProductUpdatedEvent.from(aBookRenamed), Operation.UPDATE, 2)
+        );
+
+        listener(true).onMessages(aRecords, ack);
+
+        final var aCaptor = productsCaptor();
+        Mockito.verify(saveProductsUseCase, Mockito.times(1)).execute(aCaptor.capture());
+        final var aIndexed = aCaptor.getValue();
+
+        Assertions.assertEquals(2, aIndexed.size());
+        Assertions.assertEquals(aBookRenamed.getName(), aIndexed.stream()
+                .filter(it -> it.getId().equals(aBook.getId()))
+                .findFirst().get().getName());
+
+        Mockito.verify(productDetailsCacheGateway, Mockito.times(1)).invalidate(aBook.getId().getValue(), 1);
+        Mockito.verifyNoInteractions(productGateway, saveProductUseCase, kafkaTemplate);
+        Mockito.verify(ack, Mockito.times(1)).acknowledge();
+    }
+
+    @Test
+    void givenEventsWithoutUsableSnapshot_whenReceiveTheBatch_shouldLoadTheProductsWithOneQuery() {
+        final var aBook = Fixture.Products.book();
+        final var aTshirt = Fixture.Products.tshirt();
+
+        final var aRecords = List.of(
+                aRecord(ProductUpdatedEvent.from(aBook), Operation.UPDATE, 0),
+                aRecord(ProductUpdatedEvent.from(aTshirt), Operation.UPDATE, 1),
+                aRecord(ProductUpdatedEvent.from(aBook), Operation.UPDATE, 2)
+        );
+
+        Mockito.when(productGateway.findAllByIds(Mockito.any())).thenReturn(List.of(aBook, aTshirt));
+
+        listener(false).onMessages(aRecords, ack);
+
+        Mockito.verify(productGateway, Mockito.times(1))
+                .findAllByIds(eq(Set.of(aBook.getId().getValue(), aTshirt.getId().getValue())));
+        Mockito.verify(productGateway, Mockito.never()).findById(Mockito.any());
+        Mockito.verify(saveProductsUseCase, Mockito.times(1)).execute(eq(List.of(aBook, aTshirt)));
+        Mockito.verify(ack, Mockito.times(1)).acknowledge();
+    }
+
+    @Test
+    void givenABulkRequestWithAFailedProduct_whenReceiveTheBatch_shouldSendOnlyItsEventToTheRetryTopic() {
+        final var aBook = Fixture.Products.book();
+        final var aTshirt = Fixture.Products.tshirt();
+
+        final var aBookRecord = aRecord(ProductCreatedEvent.from(aBook), Operation.CREATE, 0);
+        final var aTshirtRecord = aRecord(ProductCreatedEvent.from(aTshirt), Operation.CREATE, 1);
+
+        Mockito.when(saveProductsUseCase.execute(Mockito.any()))
+                .thenThrow(new BulkFailureException("Bulk operation has failures",
+                        Map.of(aTshirt.getId().getValue(), "version conflict")));
+
+        listener(true).onMessages(List.of(aBookRecord, aTshirtRecord), ack);
+
+        Mockito.verify(kafkaTemplate, Mockito.times(1)).send(eq("product-topic-retry-0"), eq(aTshirtRecord.value()));
+        Mockito.verify(kafkaTemplate, Mockito.never()).send(Mockito.any(), eq(aBookRecord.value()));
+        Mockito.verifyNoInteractions(saveProductUseCase);
+        Mockito.verify(ack, Mockito.times(1)).acknowledge();
+    }
+
+    private ProductBatchEventListener listener(final boolean useEventState) {
+        return new ProductBatchEventListener(
+                productGateway,
+                saveProductsUseCase,
+                saveProductUseCase,
+                removeProductUseCase,
+                kafkaTemplate,
+                eventValidationService,
+                productDetailsCacheGateway,
+                Mockito.mock(KafkaListenerEndpointRegistry.class),
+                "kafka-listener-products",
+                useEventState
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<Product>> productsCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+
+    private static ConsumerRecord<String, String> aRecord(
+            final DomainEvent aEvent,
+            final Operation aOperation,
+            final long aOffset
+    ) {
+        final var aOutboxEvent = OutboxEventEntity.from(aEvent);
+        final var aMessage = Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(aOutboxEvent, aOutboxEvent,
+                new Source("ecommerce-mysql", "ecommerce", "outbox"), aOperation)));
+        return new ConsumerRecord<>("product-topic", 0, aOffset, null, aMessage);
+    }
+
+    private static Product withNameAndVersion(final Product aProduct, final String aName, final long aVersion) {
+        return Product.with(
+                aProduct.getId().getValue(),
+                aName,
+                aProduct.getDescription(),
+                aProduct.getPrice(),
+                aProduct.getBannerImage().orElse(null),
+                aProduct.getImages(),
+                aProduct.getCategoryId().getValue(),
+                aProduct.getAttributes(),
+                aProduct.getStatus(),
+                aProduct.getCreatedAt(),
+                aProduct.getUpdatedAt(),
+                aVersion
+        );
+    }
+}
@@ -17,6 +17,7 @@ import com.kaua.ecommerce.infrastructure.listeners.models.Operation;
 import com.kaua.ecommerce.infrastructure.listeners.models.TestListenerDomainEvent;
 import com.kaua.ecommerce.infrastructure.listeners.models.ValuePayload;
 import com.kaua.ecommerce.infrastructure.outbox.OutboxEventEntity;
+import com.kaua.ecommerce.infrastructure.product.ProductDetailsCacheGateway;
 import com.kaua.ecommerce.infrastructure.service.EventValidationService;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
@@ -58,6 +59,9 @@ public class ProductEventListenerTest extends AbstractEmbeddedKafkaTest {
     @MockBean
     private EventValidationService eventValidationService;
 
+    @MockBean
+    private ProductDetailsCacheGateway productDetailsCacheGateway;
+
     @SpyBean
     private KafkaTemplate<String, Object> kafkaTemplate;
 
@@ -139,6 +143,7 @@ public class ProductEventListenerTest extends AbstractEmbeddedKafkaTest {
         Assertions.assertTrue(latch.await(3, TimeUnit.MINUTES));
 
         // then
+        Mockito.verify(productGateway, Mockito.never()).findById(Mockito.any());
         Mockito.verify(saveProductUseCase, Mockito.times(1)).execute(eq(aProduct));
     }
 
@@ -200,7 +205,43 @@ public class ProductEventListenerTest extends AbstractEmbeddedKafkaTest {
         Assertions.assertTrue(latch.await(3, TimeUnit.MINUTES));
 
         // then
-        Mockito.verify(productGateway, Mockito.times(1)).findById(Mockito.any());
+        Mockito.verify(productDetailsCacheGateway, Mockito.times(1))
+                .invalidate(aProduct.getId().getValue(), aProduct.getVersion());
+        Mockito.verify(productGateway, Mockito.never()).findById(Mockito.any());
+        Mockito.verify(saveProductUseCase, Mockito.times(1)).execute(Mockito.argThat(it ->
+                it.getId().equals(aProduct.getId())
+                        && it.getVersion() == aProduct.getVersion()
+                        && it.getAttributes().size() == aProduct.getAttributes().size()
+                        && it.getPrice().compareTo(aProduct.getPrice()) == 0));
+    }
+
+    @Test
+    void givenAProductUpdatedEventWithoutSnapshot_whenReceive_shouldIndexTheProductReadFromDatabase() throws Exception {
+        // given
+        final var aProduct = Fixture.Products.book();
+        final var aEvent = ProductUpdatedEvent.from(aProduct);
+        final var aProductEvent = new ProductUpdatedEvent(aEvent.id(), aEvent.aggregateName(), aEvent.eventType(),
+                aEvent.occurredOn(), aEvent.version(), null);
+        final var aOutboxEvent = OutboxEventEntity.from(aProductEvent);
+
+        final var aMessage = Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(aOutboxEvent, aOutboxEvent, aSource(), Operation.UPDATE)));
+
+        final var latch = new CountDownLatch(1);
+
+        Mockito.doReturn(Optional.of(aProduct)).when(productGateway).findById(Mockito.any());
+
+        Mockito.doAnswer(t -> {
+            latch.countDown();
+            return aProduct;
+        }).when(saveProductUseCase).execute(Mockito.any());
+
+        // when
+        producer().send(new ProducerRecord<>(productTopic, aMessage)).get(1, TimeUnit.MINUTES);
+
+        Assertions.assertTrue(latch.await(3, TimeUnit.MINUTES));
+
+        // then
+        Mockito.verify(productGateway, Mockito.times(1)).findById(aProduct.getId().getValue());
         Mockito.verify(saveProductUseCase, Mockito.times(1)).execute(eq(aProduct));
     }
 
@@ -260,6 +301,8 @@ public class ProductEventListenerTest extends AbstractEmbeddedKafkaTest {
         Assertions.assertTrue(latch.await(3, TimeUnit.MINUTES));
 
         // then
+        Mockito.verify(productDetailsCacheGateway, Mockito.times(1))
+                .invalidate(aProduct.getId().getValue(), aProduct.getVersion());
         Mockito.verify(removeProductUseCase, Mockito.times(1)).execute(aProduct.getId().getValue());
     }
 
@@ -328,7 +371,7 @@ public class ProductEventListenerTest extends AbstractEmbeddedKafkaTest {
         Mockito.doReturn(Optional.empty()).when(productGateway).findById(Mockito.any());
 
         // when
-        final var aProductEventListener = new ProductEventListener(productGateway, saveProductUseCase, removeProductUseCase, kafkaTemplate, eventValidationService);
+        final var aProductEventListener = new ProductEventListener(productGateway, saveProductUseCase, removeProductUseCase, kafkaTemplate, eventValidationService, productDetailsCacheGateway, false);
         aProductEventListener.onMessage(aMessage, null, buildMetadata());
 
         // then
@@ -347,7 +390,7 @@ public class ProductEventListenerTest extends AbstractEmbeddedKafkaTest {
         Mockito.doReturn(Optional.empty()).when(productGateway).findById(Mockito.any());
 
         // when
-        final var aProductEventListener = new ProductEventListener(productGateway, saveProductUseCase, removeProductUseCase, kafkaTemplate, eventValidationService);
+        final var aProductEventListener = new ProductEventListener(productGateway, saveProductUseCase, removeProductUseCase, kafkaTemplate, eventValidationService, productDetailsCacheGateway, false);
         aProductEventListener.onMessage(aMessage, null, buildMetadata());
 
         // then
@@ -375,7 +418,7 @@ public class ProductEventListenerTest extends AbstractEmbeddedKafkaTest {
         Mockito.when(mockMetadata.timestamp()).thenReturn(1L);
         Mockito.doNothing().when(mockAcknowledgment).acknowledge();
 
-        final var aProductEventListener = new ProductEventListener(productGateway, saveProductUseCase, removeProductUseCase, kafkaTemplate, eventValidationService);
+        final var aProductEventListener = new ProductEventListener(productGateway, saveProductUseCase, removeProductUseCase, kafkaTemplate, eventValidationService, productDetailsCacheGateway, false);
         aProductEventListener.onDltMessage(aMessage, mockAcknowledgment, mockMetadata);
 
         // then
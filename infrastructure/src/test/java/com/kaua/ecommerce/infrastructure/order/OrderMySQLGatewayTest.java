@@ -4,12 +4,16 @@ import com.kaua.ecommerce.domain.order.*;
 import com.kaua.ecommerce.domain.utils.IdUtils;
 import com.kaua.ecommerce.infrastructure.DatabaseGatewayTest;
 import com.kaua.ecommerce.infrastructure.order.persistence.*;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.math.BigDecimal;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @DatabaseGatewayTest
 public class OrderMySQLGatewayTest {
@@ -29,6 +33,9 @@ public class OrderMySQLGatewayTest {
     @Autowired
     private OrderItemJpaEntityRepository orderItemJpaEntityRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void givenAValidOrder_whenCreateOrder_thenOrderIsPersisted() {
         final var aCustomerId = "aCustomerId";
@@ -86,8 +93,11 @@ public class OrderMySQLGatewayTest {
 
     @Test
     void testCallOrderCount() {
-        final var aCount = this.orderMySQLGateway.count();
-        Assertions.assertEquals(0, aCount);
+        final var aFirstCount = this.orderMySQLGateway.count();
+        final var aSecondCount = this.orderMySQLGateway.count();
+
+        Assertions.assertTrue(aFirstCount >= 0);
+        Assertions.assertTrue(aSecondCount > aFirstCount);
     }
 
     @Test
@@ -115,4 +125,29 @@ public class OrderMySQLGatewayTest {
 
         Assertions.assertEquals(2, this.orderItemJpaEntityRepository.count());
     }
+
+    @Test
+    void givenManyOrderItems_whenCallCreateInBatch_thenInsertInBatchesWithoutSelects() {
+        final var aOrderItems = IntStream.range(0, 120)
+                .mapToObj(it -> OrderItem.create(
+                        "aOrderId",
+                        "aProductId",
+                        "aSku" + it,
+                        1,
+                        BigDecimal.valueOf(10.0)
+                ))
+                .collect(Collectors.toSet());
+
+        final var aStatistics = this.entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        aStatistics.clear();
+
+        this.orderMySQLGateway.createInBatch(aOrderItems);
+        this.entityManager.flush();
+
+        Assertions.assertEquals(120, aStatistics.getEntityInsertCount());
+        Assertions.assertEquals(3, aStatistics.getPrepareStatementCount());
+        Assertions.assertEquals(120, this.orderItemJpaEntityRepository.count());
+    }
 }
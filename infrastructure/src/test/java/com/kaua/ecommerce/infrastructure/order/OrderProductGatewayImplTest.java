@@ -1,18 +1,46 @@
 package com.kaua.ecommerce.infrastructure.order;
 
+import com.kaua.ecommerce.domain.Fixture;
 import com.kaua.ecommerce.infrastructure.IntegrationTest;
+import com.kaua.ecommerce.infrastructure.product.persistence.ProductJpaEntity;
+import com.kaua.ecommerce.infrastructure.product.persistence.ProductJpaEntityRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.math.RoundingMode;
+import java.util.Set;
+
 @IntegrationTest
 public class OrderProductGatewayImplTest {
 
     @Autowired
     private OrderProductGatewayImpl orderProductGatewayImpl;
 
+    @Autowired
+    private ProductJpaEntityRepository productJpaEntityRepository;
+
+    @Test
+    void givenValidSkus_whenCallGetProductDetailsBySkus_shouldReturnProductDetailsBySku() {
+        final var aProduct = Fixture.Products.tshirt();
+        this.productJpaEntityRepository.saveAndFlush(ProductJpaEntity.toEntity(aProduct));
+
+        final var aAttribute = aProduct.getAttributes().stream().findFirst().get();
+        final var aSku = aAttribute.getSku();
+
+        final var aOutput = this.orderProductGatewayImpl.getProductDetailsBySkus(Set.of(aSku, "sku-123"));
+
+        Assertions.assertEquals(1, aOutput.size());
+        Assertions.assertEquals(aSku, aOutput.get(aSku).sku());
+        Assertions.assertEquals(aProduct.getPrice().setScale(2, RoundingMode.HALF_UP), aOutput.get(aSku).price());
+        Assertions.assertEquals(aAttribute.getSize().getWeight(), aOutput.get(aSku).weight());
+        Assertions.assertEquals(aAttribute.getSize().getWidth(), aOutput.get(aSku).width());
+        Assertions.assertEquals(aAttribute.getSize().getHeight(), aOutput.get(aSku).height());
+        Assertions.assertEquals(aAttribute.getSize().getLength(), aOutput.get(aSku).length());
+    }
+
     @Test
-    void testReturnEmptyOptionalWhenGetProductDetailsBySku() {
-        Assertions.assertTrue(orderProductGatewayImpl.getProductDetailsBySku("sku-123").isEmpty());
+    void givenInvalidSkus_whenCallGetProductDetailsBySkus_shouldReturnEmptyMap() {
+        Assertions.assertTrue(this.orderProductGatewayImpl.getProductDetailsBySkus(Set.of("sku-123")).isEmpty());
     }
 }
@@ -0,0 +1,136 @@
+package com.kaua.ecommerce.infrastructure.order.code;
+
+import com.kaua.ecommerce.infrastructure.UnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@UnitTest
+public class OrderCodeAllocatorTest {
+
+    @Test
+    void givenAnAllocator_whenCallNext_thenShouldServeTheLeasedRangeFromMemory() {
+        final var aLeaser = new InMemoryOrderCodeLeaser();
+        final var aAllocator = new OrderCodeAllocator(aLeaser, 10, 3);
+
+        for (long i = 0; i < 10; i++) {
+            Assertions.assertEquals(i, aAllocator.next());
+        }
+
+        Assertions.assertEquals(10, aAllocator.next());
+        Assertions.assertEquals(2, aLeaser.leases.get());
+        Assertions.assertEquals(1, aAllocator.getSyncLeases());
+        Assertions.assertEquals(1, aAllocator.getAsyncLeases());
+
+        aAllocator.destroy();
+    }
+
+    @Test
+    void givenManyThreadsAndNodes_whenCallNext_thenShouldNeverRepeatACode() throws Exception {
+        final var aLeaser = new InMemoryOrderCodeLeaser();
+        final var aNodes = new OrderCodeAllocator[]{
+                new OrderCodeAllocator(aLeaser, 50, 10),
+                new OrderCodeAllocator(aLeaser, 50, 10)
+        };
+        final var aThreads = 16;
+        final var aCodesPerThread = 2_000;
+
+        final Set<Long> aCodes = ConcurrentHashMap.newKeySet();
+        final var aDuplicated = new AtomicBoolean(false);
+        final var aStart = new CountDownLatch(1);
+        final var aExecutor = Executors.newFixedThreadPool(aThreads);
+        final var aFutures = new ArrayList<Future<?>>();
+
+        for (int t = 0; t < aThreads; t++) {
+            final var aAllocator = aNodes[t % aNodes.length];
+            aFutures.add(aExecutor.submit(() -> {
+                aStart.await();
+                for (int i = 0; i < aCodesPerThread; i++) {
+                    if (!aCodes.add(aAllocator.next())) {
+                        aDuplicated.set(true);
+                    }
+                }
+                return null;
+            }));
+        }
+
+        aStart.countDown();
+        for (final var aFuture : aFutures) {
+            aFuture.get(30, TimeUnit.SECONDS);
+        }
+        aExecutor.shutdown();
+
+        Assertions.assertFalse(aDuplicated.get());
+        Assertions.assertEquals(aThreads * aCodesPerThread, aCodes.size());
+
+        for (final var aNode : aNodes) {
+            aNode.destroy();
+        }
+    }
+
+    @Test
+    void givenABackgroundLeaseFailure_whenRangeIsExhausted_thenShouldLeaseOnDemand() {
+        final var aLeaser = new InMemoryOrderCodeLeaser();
+        final var aFailNextLease = new AtomicBoolean(false);
+        final var aAllocator = new OrderCodeAllocator(aSize -> {
+            if (aFailNextLease.getAndSet(false)) {
+                throw new IllegalStateException("database is down");
+            }
+            return aLeaser.lease(aSize);
+        }, 5, 2);
+
+        Assertions.assertEquals(0, aAllocator.next());
+
+        aFailNextLease.set(true);
+        for (long i = 1; i < 5; i++) {
+            Assertions.assertEquals(i, aAllocator.next());
+        }
+
+        Assertions.assertEquals(5, aAllocator.next());
+        Assertions.assertEquals(1, aAllocator.getFailedLeases());
+        Assertions.assertEquals(2, aAllocator.getSyncLeases());
+        Assertions.assertEquals(0, aAllocator.getAsyncLeases());
+
+        aAllocator.destroy();
+    }
+
+    @Test
+    void givenAMeterRegistry_whenBindAllocator_thenShouldExposeLeasesMetrics() {
+        final var aRegistry = new SimpleMeterRegistry();
+        final var aAllocator = new OrderCodeAllocator(new InMemoryOrderCodeLeaser(), 10, 2);
+        aAllocator.bindTo(aRegistry);
+
+        aAllocator.next();
+
+        Assertions.assertEquals(1, aRegistry.get("orders.code.leases").tag("mode", "sync").functionCounter().count());
+        Assertions.assertEquals(0, aRegistry.get("orders.code.leases.failures").functionCounter().count());
+        Assertions.assertEquals(9, aRegistry.get("orders.code.remaining").gauge().value());
+        Assertions.assertEquals(1, aRegistry.get("orders.code.leases.time").functionTimer().count());
+
+        aAllocator.destroy();
+    }
+
+    private static class InMemoryOrderCodeLeaser implements OrderCodeLeaser {
+
+        private final AtomicLong nextValue = new AtomicLong();
+        private final AtomicInteger leases = new AtomicInteger();
+
+        @Override
+        public OrderCodeRange lease(final int aSize) {
+            this.leases.incrementAndGet();
+            final var aEnd = this.nextValue.addAndGet(aSize);
+            return OrderCodeRange.with(aEnd - aSize, aEnd);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.kaua.ecommerce.infrastructure.persistence;
+
+import com.kaua.ecommerce.domain.coupon.Coupon;
+import com.kaua.ecommerce.domain.coupon.CouponType;
+import com.kaua.ecommerce.domain.pagination.SearchQuery;
+import com.kaua.ecommerce.domain.utils.InstantUtils;
+import com.kaua.ecommerce.infrastructure.DatabaseGatewayTest;
+import com.kaua.ecommerce.infrastructure.coupon.CouponMySQLGateway;
+import com.kaua.ecommerce.infrastructure.coupon.persistence.CouponJpaEntity;
+import com.kaua.ecommerce.infrastructure.coupon.persistence.CouponJpaEntityRepository;
+import com.kaua.ecommerce.infrastructure.inventory.InventoryMySQLGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+// the full-text index only sees committed rows, the test can not run inside a rolled back transaction
+@Testcontainers(disabledWithoutDocker = true)
+@DatabaseGatewayTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class TextSearchSpecificationsMySQLTest {
+
+    private static final int SEEDED_INVENTORIES = 20_000;
+
+    @Container
+    private static final MySQLContainer<?> mysql = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+            .withDatabaseName("ecommerce");
+
+    @DynamicPropertySource
+    public static void mysqlProperties(final DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+        registry.add("spring.datasource.driver-class-name", mysql::getDriverClassName);
+        registry.add("spring.flyway.locations", () -> "classpath:db/migration,classpath:db/vendor/{vendor}");
+    }
+
+    @Autowired
+    private InventoryMySQLGateway inventoryGateway;
+
+    @Autowired
+    private CouponMySQLGateway couponGateway;
+
+    @Autowired
+    private CouponJpaEntityRepository couponJpaEntityRepository;
+
+    @Autowired
+    private TextSearchSpecifications textSearchSpecifications;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        final var aNow = Timestamp.from(Instant.now());
+        final var aRows = IntStream.range(0, SEEDED_INVENTORIES)
+                .mapToObj(i -> new Object[]{
+                        UUID.randomUUID().toString(),
+                        i < 10 ? "1" : "product-" + (i % 500),
+                        (i % 2 == 0 ? "tshirt-blue-" : "pants-black-") + i,
+                        10,
+                        aNow,
+                        aNow
+                })
+                .toList();
+
+        this.jdbcTemplate.batchUpdate(
+                "INSERT INTO inventories (id, product_id, sku, quantity, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+                aRows
+        );
+        this.jdbcTemplate.execute("ANALYZE TABLE inventories");
+    }
+
+    @Test
+    void givenMySQL_whenSearchSkusWithTerms_thenShouldMatchSubstringsThroughTheFullTextIndex() {
+        Assertions.assertTrue(this.textSearchSpecifications.isIndexed());
+
+        final var aQuery = new SearchQuery(0, 10, "blue", "sku", "asc");
+        final var actualResult = this.inventoryGateway.findAllByProductId(aQuery, "1");
+
+        Assertions.assertEquals(5, actualResult.totalItems());
+        Assertions.assertTrue(actualResult.items().stream().allMatch(it -> it.getSku().contains("blue")));
+
+        final var aShortQuery = new SearchQuery(0, 10, "p", "sku", "asc");
+        final var actualShortResult = this.inventoryGateway.findAllByProductId(aShortQuery, "1");
+
+        Assertions.assertEquals(5, actualShortResult.totalItems());
+        Assertions.assertTrue(actualShortResult.items().stream().allMatch(it -> it.getSku().startsWith("p")));
+    }
+
+    @Test
+    void givenTermsWithStopwordLetters_whenSearchWithTheFullTextIndex_thenShouldMatchAsTheLikeScan() {
+        // 'a' and 'i' are InnoDB stopwords, the ngram tokens holding them must still be indexed
+        final var aQuery = new SearchQuery(0, 10, "black", "sku", "asc");
+        final var actualResult = this.inventoryGateway.findAllByProductId(aQuery, "1");
+        final var aLikeTotal = this.jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM inventories WHERE product_id = '1' AND sku LIKE '%black%'",
+                Long.class
+        );
+
+        Assertions.assertEquals(5, aLikeTotal);
+        Assertions.assertEquals(aLikeTotal, actualResult.totalItems());
+
+        this.couponJpaEntityRepository.saveAll(Stream.of("BLACK_FRIDAY", "CYBER_MONDAY", "FRIDAY_DEALS")
+                .map(it -> Coupon.newCoupon(
+                        it,
+                        10.0f,
+                        0.0f,
+                        InstantUtils.now().plus(1, ChronoUnit.DAYS),
+                        true,
+                        CouponType.UNLIMITED
+                ))
+                .map(CouponJpaEntity::toEntity)
+                .toList());
+
+        final var aCouponQuery = new SearchQuery(0, 10, "friday", "code", "asc");
+        final var actualCoupons = this.couponGateway.findAll(aCouponQuery);
+
+        Assertions.assertEquals(List.of("BLACK_FRIDAY", "FRIDAY_DEALS"), actualCoupons.items().stream()
+                .map(it -> it.getCode().getValue())
+                .toList());
+    }
+
+    @Test
+    void givenASeededTable_whenExplainTheTermSearches_thenOnlyTheUpperLikeShouldScanTheTable() {
+        final var aUpperLike = explain("SELECT * FROM inventories WHERE UPPER(sku) LIKE '%BLUE-19%'");
+        final var aFullText = explain("SELECT * FROM inventories " +
+                "WHERE MATCH(sku) AGAINST('\"blue-19\"' IN BOOLEAN MODE) > 0");
+        final var aPrefix = explain("SELECT * FROM inventories WHERE sku LIKE 'tshirt-blue-19%'");
+
+        Assertions.assertEquals("ALL", aUpperLike.get("type"));
+        Assertions.assertNull(aUpperLike.get("key"));
+
+        Assertions.assertEquals("fulltext", aFullText.get("type"));
+        Assertions.assertEquals("ftx_inventories_sku", aFullText.get("key"));
+
+        Assertions.assertEquals("range", aPrefix.get("type"));
+        Assertions.assertEquals("sku", aPrefix.get("key"));
+        Assertions.assertTrue(((Number) aPrefix.get("rows")).longValue() < SEEDED_INVENTORIES / 10);
+    }
+
+    @Test
+    void givenMySQL_whenExplainTheCouponCodeSearch_thenShouldUseTheFullTextIndex() {
+        final var aFullText = explain("SELECT * FROM coupons " +
+                "WHERE MATCH(code) AGAINST('\"shipping\"' IN BOOLEAN MODE) > 0");
+
+        Assertions.assertEquals("fulltext", aFullText.get("type"));
+        Assertions.assertEquals("ftx_coupons_code", aFullText.get("key"));
+    }
+
+    private Map<String, Object> explain(final String aSql) {
+        final List<Map<String, Object>> aPlan = this.jdbcTemplate.queryForList("EXPLAIN " + aSql);
+        return aPlan.get(0);
+    }
+}
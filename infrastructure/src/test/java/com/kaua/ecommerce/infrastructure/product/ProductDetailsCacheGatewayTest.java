@@ -0,0 +1,87 @@
+package com.kaua.ecommerce.infrastructure.product;
+
+import com.kaua.ecommerce.config.CacheTestConfiguration;
+import com.kaua.ecommerce.domain.product.ProductID;
+import com.kaua.ecommerce.infrastructure.CacheGatewayTest;
+import com.kaua.ecommerce.infrastructure.product.persistence.ProductDetailsCacheEntityRepository;
+import com.kaua.ecommerce.infrastructure.product.persistence.VersionedProductDetails;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+@CacheGatewayTest
+public class ProductDetailsCacheGatewayTest extends CacheTestConfiguration {
+
+    @Autowired
+    private ProductDetailsCacheGateway productDetailsCacheGateway;
+
+    @Autowired
+    private ProductDetailsCacheEntityRepository productDetailsCacheRepository;
+
+    @Test
+    void givenValidProductDetails_whenCallSaveAll_shouldStoreThemInCacheBySku() {
+        final var aProductId = ProductID.unique().getValue();
+        final var aDetails = details(aProductId, "sku-details-save", 2, "10.50");
+
+        Assertions.assertEquals(0, this.productDetailsCacheRepository.count());
+
+        this.productDetailsCacheGateway.saveAll(List.of(aDetails));
+
+        final var aEntity = this.productDetailsCacheRepository.findById(aDetails.sku()).get();
+        Assertions.assertEquals(aProductId, aEntity.getProductId());
+        Assertions.assertEquals(2, aEntity.getVersion());
+        Assertions.assertEquals(0, aDetails.price().compareTo(aEntity.getPrice()));
+        Assertions.assertTrue(aEntity.getTimeToLive() > 0);
+
+        final var aCached = this.productDetailsCacheGateway.getAll(Set.of(aDetails.sku(), "sku-details-unknown"));
+        Assertions.assertEquals(1, aCached.size());
+        Assertions.assertEquals(aDetails, aCached.get(aDetails.sku()));
+    }
+
+    @Test
+    void givenCachedProductDetails_whenInvalidateWithANewerVersion_shouldMissAndRejectTheOlderDetails() {
+        final var aProductId = ProductID.unique().getValue();
+        final var aOlder = details(aProductId, "sku-details-invalidate", 1, "10.00");
+        final var aNewer = details(aProductId, "sku-details-invalidate", 2, "12.00");
+
+        this.productDetailsCacheGateway.saveAll(List.of(aOlder));
+        this.productDetailsCacheGateway.invalidate(aProductId, 2);
+
+        Assertions.assertTrue(this.productDetailsCacheGateway.getAll(Set.of(aOlder.sku())).isEmpty());
+
+        // a reader that loaded the row before the update can not put the old price back
+        this.productDetailsCacheGateway.saveAll(List.of(aOlder));
+        Assertions.assertTrue(this.productDetailsCacheGateway.getAll(Set.of(aOlder.sku())).isEmpty());
+
+        this.productDetailsCacheGateway.saveAll(List.of(aNewer));
+        Assertions.assertEquals(aNewer, this.productDetailsCacheGateway.getAll(Set.of(aOlder.sku())).get(aOlder.sku()));
+    }
+
+    @Test
+    void givenAnInvalidation_whenAnOlderInvalidationArrivesLater_shouldKeepTheNewerMinimumVersion() {
+        final var aProductId = ProductID.unique().getValue();
+        final var aOlder = details(aProductId, "sku-details-out-of-order", 1, "10.00");
+
+        this.productDetailsCacheGateway.invalidate(aProductId, 3);
+        this.productDetailsCacheGateway.invalidate(aProductId, 1);
+
+        this.productDetailsCacheGateway.saveAll(List.of(aOlder));
+
+        Assertions.assertTrue(this.productDetailsCacheGateway.getAll(Set.of(aOlder.sku())).isEmpty());
+        Assertions.assertEquals(0, this.productDetailsCacheRepository.count());
+    }
+
+    private static VersionedProductDetails details(
+            final String aProductId,
+            final String aSku,
+            final long aVersion,
+            final String aPrice
+    ) {
+        return new VersionedProductDetails(aProductId, aVersion, aSku, new BigDecimal(aPrice),
+                0.5, 10, 20, 30);
+    }
+}
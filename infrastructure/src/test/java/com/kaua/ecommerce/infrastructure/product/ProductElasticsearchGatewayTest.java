@@ -1,12 +1,17 @@
 package com.kaua.ecommerce.infrastructure.product;
 
+import com.kaua.ecommerce.application.gateways.commands.ProductFacetedSearchInput;
+import com.kaua.ecommerce.application.gateways.responses.ProductFacetedSearch;
 import com.kaua.ecommerce.domain.Fixture;
 import com.kaua.ecommerce.domain.category.CategoryID;
+import com.kaua.ecommerce.domain.exceptions.DomainException;
+import com.kaua.ecommerce.domain.pagination.Pagination;
 import com.kaua.ecommerce.domain.pagination.SearchQuery;
 import com.kaua.ecommerce.domain.product.*;
 import com.kaua.ecommerce.infrastructure.AbstractElasticsearchTest;
 import com.kaua.ecommerce.infrastructure.product.persistence.elasticsearch.ProductElasticsearchEntity;
 import com.kaua.ecommerce.infrastructure.product.persistence.elasticsearch.ProductElasticsearchEntityRepository;
+import com.kaua.ecommerce.infrastructure.utils.SearchAfterPaginationUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -15,6 +20,9 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
 import java.util.Set;
 
 public class ProductElasticsearchGatewayTest extends AbstractElasticsearchTest {
@@ -90,7 +98,9 @@ public class ProductElasticsearchGatewayTest extends AbstractElasticsearchTest {
     @CsvSource({
             "ca,0,10,1,1,1,Camiseta",
             "li,0,10,1,1,1,Livro",
-            "he,0,10,1,1,1,Headphone"
+            "he,0,10,1,1,1,Headphone",
+            "algod,0,10,1,1,1,Camiseta",
+            "livro tes,0,10,1,1,1,Livro"
     })
     void givenAValidTerm_whenCallFindAll_shouldReturnElementsFiltered(
             final String aTerm,
@@ -265,6 +275,148 @@ public class ProductElasticsearchGatewayTest extends AbstractElasticsearchTest {
         }
     }
 
+    @ParameterizedTest
+    @CsvSource({"false", "true"})
+    void givenACursorQuery_whenCallFindAll_shouldSearchAfterTheLastHitOfThePreviousPage(final boolean aPointInTime) {
+        this.productElasticsearchRepository.save(ProductElasticsearchEntity
+                .toEntity(Product.newProduct(
+                        "Camiseta",
+                        "Camiseta de algodão",
+                        new BigDecimal("10.00"),
+                        CategoryID.from("1"),
+                        Set.of(Fixture.Products.productAttributes("Camiseta"))
+                )));
+        this.productElasticsearchRepository.save(ProductElasticsearchEntity
+                .toEntity(Product.newProduct(
+                        "Livro",
+                        "Livro de teste",
+                        new BigDecimal("100.00"),
+                        CategoryID.from("1"),
+                        Set.of(Fixture.Products.productAttributes("Livro"))
+                )));
+        this.productElasticsearchRepository.save(ProductElasticsearchEntity.toEntity(Product.newProduct(
+                "Headphone",
+                null,
+                new BigDecimal("100.00"),
+                CategoryID.from("1"),
+                Set.of(ProductAttributes.create(
+                        ProductColor.with("Black"),
+                        ProductSize.with("G", 12.3, 10.0, 5.0, 0.5),
+                        "Headphone"
+                ))
+        )));
+
+        final var aFirstPage = this.productElasticsearchGateway.findAll(
+                new SearchQuery(0, 2, "", "name", "asc", null,
+                        SearchAfterPaginationUtils.withPointInTime("", aPointInTime), false));
+        final var aSecondPage = this.productElasticsearchGateway.findAll(
+                new SearchQuery(0, 2, "", "name", "asc", null,
+                        SearchAfterPaginationUtils.withPointInTime(aFirstPage.nextCursor(), aPointInTime), true));
+
+        Assertions.assertEquals(Pagination.NOT_NUMBERED, aFirstPage.currentPage());
+        Assertions.assertEquals(3, aFirstPage.totalItems());
+        Assertions.assertEquals(2, aFirstPage.totalPages());
+        Assertions.assertEquals(List.of("Camiseta", "Headphone"), aFirstPage.items().stream()
+                .map(Product::getName).toList());
+        Assertions.assertNotNull(aFirstPage.nextCursor());
+
+        Assertions.assertEquals(Pagination.NOT_COUNTED, aSecondPage.totalItems());
+        Assertions.assertEquals(List.of("Livro"), aSecondPage.items().stream()
+                .map(Product::getName).toList());
+        Assertions.assertNull(aSecondPage.nextCursor());
+    }
+
+    @Test
+    void givenACursorOfAnotherSort_whenCallFindAll_shouldThrowDomainException() {
+        final var aFirstPage = new SearchQuery(0, 1, "", "name", "asc", null, "", false);
+        this.productElasticsearchRepository.save(ProductElasticsearchEntity.toEntity(Fixture.Products.book()));
+        this.productElasticsearchRepository.save(ProductElasticsearchEntity.toEntity(Fixture.Products.tshirt()));
+
+        final var aCursor = this.productElasticsearchGateway.findAll(aFirstPage).nextCursor();
+        final var aQuery = new SearchQuery(0, 1, "", "created_at", "asc", null, aCursor, false);
+
+        Assertions.assertThrows(DomainException.class, () -> this.productElasticsearchGateway.findAll(aQuery));
+    }
+
+    @Test
+    void givenACursorWithoutDirection_whenCallFindAll_shouldThrowDomainException() {
+        final var aCursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"sort\":\"name\",\"values\":[\"Livro\",\"1\"]}".getBytes(StandardCharsets.UTF_8));
+        final var aQuery = new SearchQuery(0, 1, "", "name", "asc", null, aCursor, false);
+
+        Assertions.assertThrows(DomainException.class, () -> this.productElasticsearchGateway.findAll(aQuery));
+    }
+
+    @Test
+    void givenFacetFilters_whenCallFindAllWithFacets_shouldReturnFilteredProductsAndFacetCountsInOneSearch() {
+        this.productElasticsearchRepository.save(ProductElasticsearchEntity.toEntity(aProduct(
+                "Camiseta", "10.00", "1", "Red", "M")));
+        this.productElasticsearchRepository.save(ProductElasticsearchEntity.toEntity(aProduct(
+                "Livro", "100.00", "2", "Blue", "M")));
+        this.productElasticsearchRepository.save(ProductElasticsearchEntity.toEntity(aProduct(
+                "Headphone", "300.00", "1", "Black", "G")));
+
+        final var aQuery = new SearchQuery(0, 10, "", "name", "asc");
+
+        final var aByCategory = this.productElasticsearchGateway.findAllWithFacets(
+                ProductFacetedSearchInput.with(aQuery, Set.of("1"), null, null, null, null));
+
+        Assertions.assertEquals(2, aByCategory.products().totalItems());
+        Assertions.assertEquals(List.of("Camiseta", "Headphone"), aByCategory.products().items().stream()
+                .map(Product::getName).toList());
+        Assertions.assertEquals(List.of(new ProductFacetedSearch.FacetCount("1", 2)), aByCategory.categories());
+        Assertions.assertEquals(Set.of(
+                new ProductFacetedSearch.FacetCount("BLACK", 1),
+                new ProductFacetedSearch.FacetCount("RED", 1)
+        ), Set.copyOf(aByCategory.colors()));
+        Assertions.assertEquals(Set.of(
+                new ProductFacetedSearch.FacetCount("G", 1),
+                new ProductFacetedSearch.FacetCount("M", 1)
+        ), Set.copyOf(aByCategory.sizes()));
+        Assertions.assertEquals(List.of(1L, 0L, 0L, 1L, 0L), aByCategory.prices().stream()
+                .map(ProductFacetedSearch.FacetCount::count).toList());
+
+        final var aByColorAndPrice = this.productElasticsearchGateway.findAllWithFacets(
+                ProductFacetedSearchInput.with(aQuery, null, Set.of("black", "blue"), null, new BigDecimal("200"), null));
+
+        Assertions.assertEquals(1, aByColorAndPrice.products().totalItems());
+        Assertions.assertEquals("Headphone", aByColorAndPrice.products().items().get(0).getName());
+        Assertions.assertEquals(List.of(new ProductFacetedSearch.FacetCount("BLACK", 1)), aByColorAndPrice.colors());
+    }
+
+    @Test
+    void givenAColorRepeatedInTheSizesOfOneProduct_whenCallFindAllWithFacets_shouldOrderTheColorsByProducts() {
+        this.productElasticsearchRepository.save(ProductElasticsearchEntity.toEntity(Product.newProduct(
+                "Camiseta",
+                null,
+                new BigDecimal("10.00"),
+                CategoryID.from("1"),
+                Set.of(
+                        ProductAttributes.create(ProductColor.with("Red"), ProductSize.with("P", 1.0, 1.0, 1.0, 1.0), "Camiseta"),
+                        ProductAttributes.create(ProductColor.with("Red"), ProductSize.with("M", 1.0, 1.0, 1.0, 1.0), "Camiseta"),
+                        ProductAttributes.create(ProductColor.with("Red"), ProductSize.with("G", 1.0, 1.0, 1.0, 1.0), "Camiseta")
+                )
+        )));
+        this.productElasticsearchRepository.save(ProductElasticsearchEntity.toEntity(aProduct(
+                "Livro", "100.00", "1", "Blue", "M")));
+        this.productElasticsearchRepository.save(ProductElasticsearchEntity.toEntity(aProduct(
+                "Headphone", "300.00", "1", "Blue", "G")));
+
+        final var aQuery = new SearchQuery(0, 10, "", "name", "asc");
+        final var actualResult = this.productElasticsearchGateway.findAllWithFacets(
+                ProductFacetedSearchInput.with(aQuery, null, null, null, null, null));
+
+        Assertions.assertEquals(List.of(
+                new ProductFacetedSearch.FacetCount("BLUE", 2),
+                new ProductFacetedSearch.FacetCount("RED", 1)
+        ), actualResult.colors());
+        Assertions.assertEquals(List.of(
+                new ProductFacetedSearch.FacetCount("G", 2),
+                new ProductFacetedSearch.FacetCount("M", 2),
+                new ProductFacetedSearch.FacetCount("P", 1)
+        ), actualResult.sizes());
+    }
+
     @Test
     void testNotImplementedMethods() {
         Assertions.assertThrows(UnsupportedOperationException.class,
@@ -273,4 +425,24 @@ public class ProductElasticsearchGatewayTest extends AbstractElasticsearchTest {
         Assertions.assertThrows(UnsupportedOperationException.class,
                 () -> productElasticsearchGateway.findByIdNested(null));
     }
+
+    private static Product aProduct(
+            final String aName,
+            final String aPrice,
+            final String aCategoryId,
+            final String aColor,
+            final String aSize
+    ) {
+        return Product.newProduct(
+                aName,
+                null,
+                new BigDecimal(aPrice),
+                CategoryID.from(aCategoryId),
+                Set.of(ProductAttributes.create(
+                        ProductColor.with(aColor),
+                        ProductSize.with(aSize, 1.0, 1.0, 1.0, 1.0),
+                        aName
+                ))
+        );
+    }
 }
@@ -4,17 +4,23 @@ import com.kaua.ecommerce.domain.Fixture;
 import com.kaua.ecommerce.domain.category.CategoryID;
 import com.kaua.ecommerce.domain.product.*;
 import com.kaua.ecommerce.infrastructure.DatabaseGatewayTest;
+import com.kaua.ecommerce.infrastructure.product.persistence.ProductAttributesJpaEntity;
 import com.kaua.ecommerce.infrastructure.product.persistence.ProductColorJpaEntity;
 import com.kaua.ecommerce.infrastructure.product.persistence.ProductColorJpaEntityRepository;
 import com.kaua.ecommerce.infrastructure.product.persistence.ProductJpaEntity;
 import com.kaua.ecommerce.infrastructure.product.persistence.ProductJpaEntityRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.HashSet;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @DatabaseGatewayTest
 public class ProductGatewayTest {
@@ -28,6 +34,9 @@ public class ProductGatewayTest {
     @Autowired
     private ProductColorJpaEntityRepository productColorRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void givenAValidProduct_whenCallCreate_shouldPersistProduct() {
         final var aName = "Product Name";
@@ -122,6 +131,33 @@ public class ProductGatewayTest {
         Assertions.assertTrue(aProduct.isEmpty());
     }
 
+    @Test
+    void givenValidProductsIds_whenCallFindAllByIds_shouldReturnTheProductsWithTheirRelations() {
+        final var aBook = Fixture.Products.book();
+        aBook.addImage(Fixture.Products.productImage(ProductImageType.GALLERY));
+        aBook.changeBannerImage(Fixture.Products.productImage(ProductImageType.BANNER));
+        final var aTshirt = Fixture.Products.tshirt();
+
+        this.productRepository.saveAllAndFlush(Set.of(ProductJpaEntity.toEntity(aBook), ProductJpaEntity.toEntity(aTshirt)));
+        this.entityManager.clear();
+
+        final var actualResult = this.productGateway.findAllByIds(Set.of(
+                aBook.getId().getValue(),
+                aTshirt.getId().getValue(),
+                ProductID.unique().getValue()
+        ));
+
+        Assertions.assertEquals(2, actualResult.size());
+
+        final var aPersistedBook = actualResult.stream()
+                .filter(it -> it.getId().equals(aBook.getId()))
+                .findFirst().get();
+        Assertions.assertEquals(aBook.getName(), aPersistedBook.getName());
+        Assertions.assertTrue(aPersistedBook.getBannerImage().isPresent());
+        Assertions.assertEquals(1, aPersistedBook.getImages().size());
+        Assertions.assertEquals(aBook.getAttributes().size(), aPersistedBook.getAttributes().size());
+    }
+
     @Test
     void givenAValidColorName_whenCallFindColorByName_shouldReturnProductColor() {
         final var aProductColor = ProductColor.with("Red");
@@ -174,6 +210,103 @@ public class ProductGatewayTest {
         Assertions.assertEquals(aProduct.getUpdatedAt(), aPersistedProduct.getUpdatedAt());
     }
 
+    @Test
+    void givenAPersistedProduct_whenCallUpdateWithOneNewImage_shouldOnlyWriteTheProductAndTheImage() {
+        final var aProduct = Fixture.Products.tshirt();
+        final var aProductId = aProduct.getId().getValue();
+        final var aProductImage = Fixture.Products.productImage(ProductImageType.GALLERY);
+
+        this.productRepository.saveAndFlush(ProductJpaEntity.toEntity(aProduct));
+        this.entityManager.clear();
+
+        final var aLoadedProduct = this.productGateway.findById(aProductId).get();
+        aLoadedProduct.addImage(aProductImage);
+
+        final var aStatistics = this.entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        aStatistics.clear();
+
+        final var aUpdatedProduct = this.productGateway.update(aLoadedProduct);
+
+        // the product row, the image and its relation
+        Assertions.assertEquals(3, aStatistics.getPrepareStatementCount());
+        Assertions.assertEquals(aLoadedProduct.getVersion() + 1, aUpdatedProduct.getVersion());
+
+        final var aPersistedProduct = this.productRepository.findById(aProductId).get();
+
+        Assertions.assertEquals(1, aPersistedProduct.getVersion());
+        Assertions.assertEquals(Set.of(aProductImage), aPersistedProduct.getImagesToDomain());
+        Assertions.assertEquals(
+                aProduct.getAttributes().iterator().next().getSku(),
+                aPersistedProduct.getAttributes().iterator().next().getSku()
+        );
+        Assertions.assertEquals(aLoadedProduct.getUpdatedAt(), aPersistedProduct.getUpdatedAt());
+    }
+
+    @Test
+    void givenAPersistedProduct_whenCallUpdateWithRemovedChildren_shouldDeleteOnlyTheRemovedRows() {
+        final var aProduct = Fixture.Products.tshirt();
+        final var aProductId = aProduct.getId().getValue();
+        final var aGalleryImage = Fixture.Products.productImage(ProductImageType.GALLERY);
+        final var aBannerImage = Fixture.Products.productImage(ProductImageType.BANNER);
+        final var aNewBannerImage = Fixture.Products.productImage(ProductImageType.BANNER);
+        final var aPersistedAttributes = aProduct.getAttributes().iterator().next();
+        final var aNewAttributes = ProductAttributes.create(
+                aPersistedAttributes.getColor(),
+                ProductSize.with("G", 0.5, 0.5, 0.5, 0.5),
+                aProduct.getName()
+        );
+        aProduct.addImage(aGalleryImage);
+        aProduct.changeBannerImage(aBannerImage);
+
+        this.productRepository.saveAndFlush(ProductJpaEntity.toEntity(aProduct));
+        this.entityManager.clear();
+
+        final var aLoadedProduct = this.productGateway.findById(aProductId).get();
+        aLoadedProduct.removeImage(aGalleryImage.getLocation());
+        aLoadedProduct.changeBannerImage(aNewBannerImage);
+        aLoadedProduct.removeAttribute(aPersistedAttributes.getSku());
+        aLoadedProduct.addAttribute(aNewAttributes);
+
+        this.productGateway.update(aLoadedProduct);
+
+        final var aPersistedProduct = this.productRepository.findById(aProductId).get();
+
+        Assertions.assertTrue(aPersistedProduct.getImages().isEmpty());
+        Assertions.assertEquals(aNewBannerImage.getId(), aPersistedProduct.getBannerImage().get().getId());
+        Assertions.assertEquals(Set.of(aNewAttributes.getSku()), aPersistedProduct.getAttributes().stream()
+                .map(ProductAttributesJpaEntity::getSku)
+                .collect(Collectors.toSet()));
+        Assertions.assertEquals(1L, count("products_images"));
+        Assertions.assertEquals(1L, count("products_sizes"));
+        Assertions.assertEquals(1, this.productColorRepository.count());
+    }
+
+    @Test
+    void givenAStaleProduct_whenCallUpdate_shouldThrowOptimisticLockingFailure() {
+        final var aProduct = Fixture.Products.tshirt();
+        final var aProductId = aProduct.getId().getValue();
+
+        this.productRepository.saveAndFlush(ProductJpaEntity.toEntity(aProduct));
+        this.entityManager.clear();
+
+        final var aFirstCopy = this.productGateway.findById(aProductId).get();
+        final var aSecondCopy = this.productGateway.findById(aProductId).get();
+
+        this.productGateway.update(aFirstCopy.updateStatus(ProductStatus.INACTIVE));
+
+        Assertions.assertThrows(
+                ObjectOptimisticLockingFailureException.class,
+                () -> this.productGateway.update(aSecondCopy.updateStatus(ProductStatus.DELETED))
+        );
+    }
+
+    private long count(final String aTable) {
+        return ((Number) this.entityManager.createNativeQuery("SELECT COUNT(*) FROM " + aTable)
+                .getSingleResult()).longValue();
+    }
+
     @Test
     void givenAValidProductId_whenCallDelete_shouldBeOk() {
         final var aProduct = Fixture.Products.tshirt();
@@ -258,4 +391,79 @@ public class ProductGatewayTest {
         Assertions.assertEquals(aAttribute.getSize().getHeight(), aPersistedProductDetails.height());
         Assertions.assertEquals(aAttribute.getSize().getLength(), aPersistedProductDetails.length());
     }
+
+    @Test
+    void givenValidSkus_whenCallFindProductDetailsBySkus_shouldReturnProductDetailsBySku() {
+        final var aBook = Fixture.Products.book();
+        this.productRepository.saveAndFlush(ProductJpaEntity.toEntity(aBook));
+
+        final var aProduct = Fixture.Products.tshirt();
+        aProduct.addAttribute(Fixture.Products.productAttributes(aProduct.getName()));
+        this.productRepository.saveAndFlush(ProductJpaEntity.toEntity(aProduct));
+
+        final var aBookSku = aBook.getAttributes().stream().findFirst().get().getSku();
+        final var aProductSkus = aProduct.getAttributes().stream()
+                .map(ProductAttributes::getSku)
+                .toList();
+        final var aInvalidSku = "invalid-sku";
+
+        final var aSkus = new HashSet<>(aProductSkus);
+        aSkus.add(aBookSku);
+        aSkus.add(aInvalidSku);
+
+        final var aPersistedProductsDetails = this.productGateway.findProductDetailsBySkus(aSkus);
+
+        Assertions.assertEquals(aProductSkus.size() + 1, aPersistedProductsDetails.size());
+        Assertions.assertFalse(aPersistedProductsDetails.containsKey(aInvalidSku));
+        Assertions.assertEquals(
+                aBook.getPrice().setScale(2, RoundingMode.HALF_UP),
+                aPersistedProductsDetails.get(aBookSku).price()
+        );
+        aProduct.getAttributes().forEach(aAttribute -> {
+            final var aDetails = aPersistedProductsDetails.get(aAttribute.getSku());
+            Assertions.assertEquals(aAttribute.getSku(), aDetails.sku());
+            Assertions.assertEquals(aProduct.getPrice().setScale(2, RoundingMode.HALF_UP), aDetails.price());
+            Assertions.assertEquals(aAttribute.getSize().getWeight(), aDetails.weight());
+            Assertions.assertEquals(aAttribute.getSize().getWidth(), aDetails.width());
+            Assertions.assertEquals(aAttribute.getSize().getHeight(), aDetails.height());
+            Assertions.assertEquals(aAttribute.getSize().getLength(), aDetails.length());
+        });
+    }
+
+    @Test
+    void givenValidSkus_whenCallFindVersionedProductDetailsBySkus_shouldReturnTheProductIdAndVersion() {
+        final var aProduct = Fixture.Products.book();
+        this.productRepository.saveAndFlush(ProductJpaEntity.toEntity(aProduct));
+
+        final var aSku = aProduct.getAttributes().stream().findFirst().get().getSku();
+
+        final var actualResult = this.productGateway.findVersionedProductDetailsBySkus(Set.of(aSku, "invalid-sku"));
+
+        Assertions.assertEquals(1, actualResult.size());
+        Assertions.assertEquals(aProduct.getId().getValue(), actualResult.get(0).productId());
+        Assertions.assertEquals(aProduct.getVersion(), actualResult.get(0).version());
+        Assertions.assertEquals(
+                this.productGateway.findProductDetailsBySku(aSku).get(),
+                actualResult.get(0).toProductDetails()
+        );
+    }
+
+    @Test
+    void givenMoreSkusThanTheChunkSize_whenCallFindProductDetailsBySkus_shouldReturnAllFoundProductDetails() {
+        final var aProduct = Fixture.Products.tshirt();
+        this.productRepository.saveAndFlush(ProductJpaEntity.toEntity(aProduct));
+
+        final var aSku = aProduct.getAttributes().stream().findFirst().get().getSku();
+
+        final var aSkus = new HashSet<String>();
+        for (int i = 0; i < 1200; i++) {
+            aSkus.add("not-found-sku-" + i);
+        }
+        aSkus.add(aSku);
+
+        final var aPersistedProductsDetails = this.productGateway.findProductDetailsBySkus(aSkus);
+
+        Assertions.assertEquals(1, aPersistedProductsDetails.size());
+        Assertions.assertEquals(aSku, aPersistedProductsDetails.get(aSku).sku());
+    }
 }
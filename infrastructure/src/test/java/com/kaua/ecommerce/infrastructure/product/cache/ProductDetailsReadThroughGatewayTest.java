@@ -0,0 +1,58 @@
+package com.kaua.ecommerce.infrastructure.product.cache;
+
+import com.kaua.ecommerce.domain.product.ProductID;
+import com.kaua.ecommerce.infrastructure.UnitTest;
+import com.kaua.ecommerce.infrastructure.product.ProductDetailsCacheGateway;
+import com.kaua.ecommerce.infrastructure.product.ProductMySQLGateway;
+import com.kaua.ecommerce.infrastructure.product.persistence.VersionedProductDetails;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@UnitTest
+public class ProductDetailsReadThroughGatewayTest {
+
+    private final ProductMySQLGateway delegate = Mockito.mock(ProductMySQLGateway.class);
+    private final ProductDetailsCacheGateway cacheGateway = Mockito.mock(ProductDetailsCacheGateway.class);
+    private final ProductDetailsReadThroughGateway gateway = new ProductDetailsReadThroughGateway(delegate, cacheGateway);
+
+    @Test
+    void givenSomeCachedSkus_whenCallFindProductDetailsBySkus_shouldLoadAndCacheOnlyTheMissingOnes() {
+        final var aProductId = ProductID.unique().getValue();
+        final var aCached = details(aProductId, "sku-cached");
+        final var aLoaded = details(aProductId, "sku-loaded");
+
+        Mockito.when(cacheGateway.getAll(Set.of("sku-cached", "sku-loaded", "sku-unknown")))
+                .thenReturn(Map.of(aCached.sku(), aCached));
+        Mockito.when(delegate.findVersionedProductDetailsBySkus(Set.of("sku-loaded", "sku-unknown")))
+                .thenReturn(List.of(aLoaded));
+
+        final var actualResult = this.gateway.findProductDetailsBySkus(Set.of("sku-cached", "sku-loaded", "sku-unknown"));
+
+        Assertions.assertEquals(2, actualResult.size());
+        Assertions.assertEquals(aCached.toProductDetails(), actualResult.get("sku-cached"));
+        Assertions.assertEquals(aLoaded.toProductDetails(), actualResult.get("sku-loaded"));
+        Mockito.verify(cacheGateway, Mockito.times(1)).saveAll(List.of(aLoaded));
+    }
+
+    @Test
+    void givenACachedSku_whenCallFindProductDetailsBySku_shouldNotGoToTheDatabase() {
+        final var aCached = details(ProductID.unique().getValue(), "sku-cached");
+
+        Mockito.when(cacheGateway.getAll(Set.of("sku-cached"))).thenReturn(Map.of(aCached.sku(), aCached));
+
+        final var actualResult = this.gateway.findProductDetailsBySku("sku-cached");
+
+        Assertions.assertEquals(aCached.toProductDetails(), actualResult.get());
+        Mockito.verifyNoInteractions(delegate);
+    }
+
+    private static VersionedProductDetails details(final String aProductId, final String aSku) {
+        return new VersionedProductDetails(aProductId, 1, aSku, BigDecimal.TEN, 0.5, 10, 20, 30);
+    }
+}
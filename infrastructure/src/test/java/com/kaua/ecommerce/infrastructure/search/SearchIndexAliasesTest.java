@@ -0,0 +1,60 @@
+package com.kaua.ecommerce.infrastructure.search;
+
+import com.kaua.ecommerce.domain.Fixture;
+import com.kaua.ecommerce.infrastructure.AbstractElasticsearchTest;
+import com.kaua.ecommerce.infrastructure.product.persistence.elasticsearch.ProductElasticsearchEntity;
+import com.kaua.ecommerce.infrastructure.product.persistence.elasticsearch.ProductElasticsearchEntityRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+
+import java.util.List;
+import java.util.Set;
+
+public class SearchIndexAliasesTest extends AbstractElasticsearchTest {
+
+    @Autowired
+    private SearchIndexAliases searchIndexAliases;
+
+    @Autowired
+    private ProductElasticsearchInitializer productElasticsearchInitializer;
+
+    @Autowired
+    private ProductElasticsearchEntityRepository productElasticsearchRepository;
+
+    @Autowired
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Test
+    void givenTheInitializedIndexes_whenCallIndicesOf_shouldReturnTheVersionedIndexBehindTheAlias() {
+        final var actualIndices = this.searchIndexAliases.indicesOf(ProductElasticsearchEntity.INDEX_NAME);
+
+        Assertions.assertEquals(1, actualIndices.size());
+        Assertions.assertTrue(actualIndices.iterator().next().startsWith(ProductElasticsearchEntity.INDEX_NAME + "_v"));
+    }
+
+    @Test
+    void givenARebuiltIndex_whenCallSwap_shouldPointTheAliasToItAndDropThePreviousIndex() {
+        final var aAlias = ProductElasticsearchEntity.INDEX_NAME;
+        final var aPreviousIndices = this.searchIndexAliases.indicesOf(aAlias);
+        final var aProduct = Fixture.Products.book();
+
+        final var aNewIndex = this.searchIndexAliases.createIndex(
+                aAlias,
+                this.productElasticsearchInitializer.settings(),
+                this.productElasticsearchInitializer.mapping()
+        );
+        this.elasticsearchOperations.save(List.of(ProductElasticsearchEntity.toEntity(aProduct)), IndexCoordinates.of(aNewIndex));
+        this.searchIndexAliases.refresh(aNewIndex);
+
+        Assertions.assertEquals(0, this.productElasticsearchRepository.count());
+
+        this.searchIndexAliases.swap(aAlias, aNewIndex);
+
+        Assertions.assertEquals(Set.of(aNewIndex), this.searchIndexAliases.indicesOf(aAlias));
+        Assertions.assertEquals(1, this.productElasticsearchRepository.count());
+        aPreviousIndices.forEach(it -> Assertions.assertFalse(this.searchIndexAliases.exists(it)));
+    }
+}
@@ -0,0 +1,44 @@
+package com.kaua.ecommerce.infrastructure.search.persistence;
+
+import com.kaua.ecommerce.infrastructure.DatabaseGatewayTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+
+@DatabaseGatewayTest
+public class SearchReindexLeaseMySQLGatewayTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Autowired
+    private SearchReindexLeaseMySQLGateway leaseGateway;
+
+    @Test
+    void givenAnAliasWithoutCheckpoint_whenTwoInstancesClaim_shouldGrantTheLeaseToTheFirstOnly() {
+        Assertions.assertTrue(this.leaseGateway.claim("products-lease-first", "instance-a", LEASE));
+        Assertions.assertFalse(this.leaseGateway.claim("products-lease-first", "instance-b", LEASE));
+
+        Assertions.assertTrue(this.leaseGateway.renew("products-lease-first", "instance-a", LEASE));
+        Assertions.assertFalse(this.leaseGateway.renew("products-lease-first", "instance-b", LEASE));
+    }
+
+    @Test
+    void givenAReleasedLease_whenAnotherInstanceClaims_shouldGrantIt() {
+        Assertions.assertTrue(this.leaseGateway.claim("products-lease-released", "instance-a", LEASE));
+
+        this.leaseGateway.release("products-lease-released", "instance-a");
+
+        Assertions.assertTrue(this.leaseGateway.claim("products-lease-released", "instance-b", LEASE));
+        Assertions.assertFalse(this.leaseGateway.renew("products-lease-released", "instance-a", LEASE));
+    }
+
+    @Test
+    void givenAnExpiredLease_whenAnotherInstanceClaims_shouldTakeItOver() {
+        Assertions.assertTrue(this.leaseGateway.claim("products-lease-expired", "instance-a", Duration.ofMillis(-1)));
+
+        Assertions.assertTrue(this.leaseGateway.claim("products-lease-expired", "instance-b", LEASE));
+        Assertions.assertFalse(this.leaseGateway.renew("products-lease-expired", "instance-a", LEASE));
+    }
+}
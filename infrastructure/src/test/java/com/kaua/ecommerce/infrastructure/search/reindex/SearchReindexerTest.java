@@ -0,0 +1,237 @@
+package com.kaua.ecommerce.infrastructure.search.reindex;
+
+import com.kaua.ecommerce.infrastructure.UnitTest;
+import com.kaua.ecommerce.infrastructure.search.SearchIndexAliases;
+import com.kaua.ecommerce.infrastructure.search.persistence.SearchReindexCheckpointJpaEntity;
+import com.kaua.ecommerce.infrastructure.search.persistence.SearchReindexCheckpointJpaEntityRepository;
+import com.kaua.ecommerce.infrastructure.search.persistence.SearchReindexLeaseMySQLGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.StreamSupport;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.eq;
+
+@UnitTest
+public class SearchReindexerTest {
+
+    private static final String ALIAS = "products";
+    private static final String TARGET_INDEX = "products_v1";
+
+    private final SearchIndexAliases searchIndexAliases = Mockito.mock(SearchIndexAliases.class);
+    private final ElasticsearchOperations elasticsearchOperations = Mockito.mock(ElasticsearchOperations.class);
+    private final SearchReindexCheckpointJpaEntityRepository checkpointRepository = Mockito.mock(SearchReindexCheckpointJpaEntityRepository.class);
+    private final SearchReindexLeaseMySQLGateway leaseGateway = Mockito.mock(SearchReindexLeaseMySQLGateway.class);
+    private final InMemorySource source = new InMemorySource(List.of("id-1", "id-2", "id-3", "id-4", "id-5"));
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(leaseGateway.claim(eq(ALIAS), Mockito.any(), Mockito.any())).thenReturn(true);
+        Mockito.when(leaseGateway.renew(eq(ALIAS), Mockito.any(), Mockito.any())).thenReturn(true);
+    }
+
+    @Test
+    void givenAListedIndex_whenReindex_shouldCopyEveryPageIntoANewIndexAndSwapTheAlias() {
+        Mockito.when(checkpointRepository.findById(ALIAS)).thenReturn(Optional.empty());
+        Mockito.when(checkpointRepository.save(Mockito.any())).thenAnswer(returnsFirstArg());
+        Mockito.when(searchIndexAliases.createIndex(eq(ALIAS), Mockito.any(), Mockito.any())).thenReturn(TARGET_INDEX);
+
+        reindexer(ALIAS).reindex(source);
+
+        final var aWritten = writtenDocuments();
+        Assertions.assertEquals(List.of(2, 2, 1), aWritten.stream().map(List::size).toList());
+
+        final var aInOrder = Mockito.inOrder(searchIndexAliases);
+        aInOrder.verify(searchIndexAliases).createIndex(eq(ALIAS), Mockito.any(), Mockito.any());
+        aInOrder.verify(searchIndexAliases).swap(ALIAS, TARGET_INDEX);
+
+        final var aCheckpoint = ArgumentCaptor.forClass(SearchReindexCheckpointJpaEntity.class);
+        Mockito.verify(checkpointRepository, Mockito.atLeastOnce()).save(aCheckpoint.capture());
+        Assertions.assertEquals(SearchReindexCheckpointJpaEntity.Status.COMPLETED, aCheckpoint.getValue().getStatus());
+        Assertions.assertEquals(5, aCheckpoint.getValue().getProcessed());
+        Assertions.assertEquals("id-5", aCheckpoint.getValue().getLastId());
+    }
+
+    @Test
+    void givenAnInterruptedReindex_whenReindex_shouldResumeAfterTheLastCheckpointedId() {
+        final var aCheckpoint = SearchReindexCheckpointJpaEntity.start(ALIAS, TARGET_INDEX, 5).progress("id-3", 3);
+
+        Mockito.when(checkpointRepository.findById(ALIAS)).thenReturn(Optional.of(aCheckpoint));
+        Mockito.when(checkpointRepository.save(Mockito.any())).thenAnswer(returnsFirstArg());
+        Mockito.when(searchIndexAliases.exists(TARGET_INDEX)).thenReturn(true);
+
+        // not listed anymore, an unfinished reindex is resumed anyway
+        reindexer("").reindex(source);
+
+        Assertions.assertEquals(List.of(List.of("id-4", "id-5")), writtenDocuments().stream()
+                .map(it -> it.stream().map(doc -> doc.get("id")).toList())
+                .toList());
+        Mockito.verify(searchIndexAliases, Mockito.never()).createIndex(Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.verify(searchIndexAliases, Mockito.times(1)).swap(ALIAS, TARGET_INDEX);
+        Assertions.assertEquals(5, aCheckpoint.getProcessed());
+        Assertions.assertFalse(aCheckpoint.isRunning());
+    }
+
+    @Test
+    void givenItemsChangedDuringTheCopy_whenReindex_shouldWriteThemAgainAndDeleteTheRemovedOnes() {
+        Mockito.when(checkpointRepository.findById(ALIAS)).thenReturn(Optional.empty());
+        Mockito.when(checkpointRepository.save(Mockito.any())).thenAnswer(returnsFirstArg());
+        Mockito.when(searchIndexAliases.createIndex(eq(ALIAS), Mockito.any(), Mockito.any())).thenReturn(TARGET_INDEX);
+
+        source.changedIds = List.of("id-2", "id-removed");
+
+        reindexer(ALIAS).reindex(source);
+
+        // three pages copied, then the changed item before and after the swap
+        Assertions.assertEquals(5, writtenDocuments().size());
+        Mockito.verify(elasticsearchOperations, Mockito.times(2))
+                .delete(eq("id-removed"), eq(IndexCoordinates.of(TARGET_INDEX)));
+    }
+
+    @Test
+    void givenAnIndexNotListedAndNothingToResume_whenReindex_shouldDoNothing() {
+        Mockito.when(checkpointRepository.findById(ALIAS)).thenReturn(Optional.empty());
+
+        reindexer("categories").reindex(source);
+
+        Mockito.verifyNoInteractions(searchIndexAliases, elasticsearchOperations);
+        Mockito.verify(checkpointRepository, Mockito.never()).save(Mockito.any());
+    }
+
+    @Test
+    void givenALeaseHeldByAnotherInstance_whenReindex_shouldSkipTheAlias() {
+        Mockito.when(checkpointRepository.findById(ALIAS)).thenReturn(Optional.empty());
+        Mockito.when(leaseGateway.claim(eq(ALIAS), Mockito.any(), Mockito.any())).thenReturn(false);
+
+        reindexer(ALIAS).reindex(source);
+
+        Mockito.verifyNoInteractions(searchIndexAliases, elasticsearchOperations);
+        Mockito.verify(checkpointRepository, Mockito.never()).save(Mockito.any());
+        Mockito.verify(leaseGateway, Mockito.never()).release(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void givenALeaseLostDuringTheCopy_whenReindex_shouldStopBeforeTheSwapAndRelease() {
+        Mockito.when(checkpointRepository.findById(ALIAS)).thenReturn(Optional.empty());
+        Mockito.when(checkpointRepository.save(Mockito.any())).thenAnswer(returnsFirstArg());
+        Mockito.when(searchIndexAliases.createIndex(eq(ALIAS), Mockito.any(), Mockito.any())).thenReturn(TARGET_INDEX);
+        Mockito.when(leaseGateway.renew(eq(ALIAS), Mockito.any(), Mockito.any())).thenReturn(true, false);
+
+        final var aReindexer = reindexer(ALIAS);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> aReindexer.reindex(source));
+
+        Assertions.assertEquals(2, writtenDocuments().size());
+        Mockito.verify(searchIndexAliases, Mockito.never()).swap(Mockito.any(), Mockito.any());
+        Mockito.verify(leaseGateway, Mockito.times(1)).release(eq(ALIAS), Mockito.any());
+    }
+
+    private SearchReindexer reindexer(final String aIndexes) {
+        return new SearchReindexer(
+                List.of(source),
+                searchIndexAliases,
+                elasticsearchOperations,
+                checkpointRepository,
+                leaseGateway,
+                aIndexes,
+                2,
+                2,
+                0,
+                60_000,
+                300_000
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<Map<String, String>>> writtenDocuments() {
+        final var aCaptor = ArgumentCaptor.forClass(Iterable.class);
+        Mockito.verify(elasticsearchOperations, Mockito.atLeast(0))
+                .save(aCaptor.capture(), eq(IndexCoordinates.of(TARGET_INDEX)));
+        return aCaptor.getAllValues().stream()
+                .map(it -> StreamSupport.stream(((Iterable<Map<String, String>>) it).spliterator(), false).toList())
+                .toList();
+    }
+
+    private static class InMemorySource implements SearchReindexSource<String, Map<String, String>> {
+
+        private final List<String> ids;
+        private List<String> changedIds = List.of();
+
+        private InMemorySource(final List<String> ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        public String alias() {
+            return ALIAS;
+        }
+
+        @Override
+        public Map<String, Object> settings() {
+            return Map.of();
+        }
+
+        @Override
+        public Document mapping() {
+            return Document.create();
+        }
+
+        @Override
+        public long count() {
+            return this.ids.size();
+        }
+
+        @Override
+        public List<String> findIdsAfter(final String aAfterId, final int aSize) {
+            return page(this.ids, aAfterId, aSize);
+        }
+
+        @Override
+        public List<String> findIdsUpdatedSince(final Instant aSince, final String aAfterId, final int aSize) {
+            return page(this.changedIds, aAfterId, aSize);
+        }
+
+        @Override
+        public List<String> findAllByIds(final Collection<String> aIds) {
+            return aIds.stream().filter(this.ids::contains).toList();
+        }
+
+        @Override
+        public String idOf(final String aItem) {
+            return aItem;
+        }
+
+        @Override
+        public boolean isSearchable(final String aItem) {
+            return true;
+        }
+
+        @Override
+        public Map<String, String> toDocument(final String aItem) {
+            return Map.of("id", aItem);
+        }
+
+        private static List<String> page(final List<String> aIds, final String aAfterId, final int aSize) {
+            final var aPage = new ArrayList<String>();
+            for (final var aId : aIds) {
+                if (aId.compareTo(aAfterId) > 0 && aPage.size() < aSize) {
+                    aPage.add(aId);
+                }
+            }
+            return aPage;
+        }
+    }
+}